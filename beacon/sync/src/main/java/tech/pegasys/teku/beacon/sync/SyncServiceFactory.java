@@ -145,6 +145,7 @@ public class SyncServiceFactory {
         asyncRunnerFactory.create(HistoricalBlockSyncService.class.getSimpleName(), 1);
     return HistoricalBlockSyncService.create(
         spec,
+        timeProvider,
         metrics,
         storageUpdateChannel,
         asyncRunner,
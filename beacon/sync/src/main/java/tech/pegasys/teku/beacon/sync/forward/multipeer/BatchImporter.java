@@ -55,37 +55,65 @@ public class BatchImporter {
 
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
-        () -> {
-          SafeFuture<BlockImportResult> importResult =
-              importBlock(blocks.get(0), source.orElseThrow());
-          for (int i = 1; i < blocks.size(); i++) {
-            final SignedBeaconBlock block = blocks.get(i);
-            importResult =
-                importResult.thenCompose(
-                    previousResult -> {
-                      if (previousResult.isSuccessful()) {
-                        return importBlock(block, source.orElseThrow());
-                      } else {
-                        return SafeFuture.completedFuture(previousResult);
+        () ->
+            blockImporter
+                .importBlocks(blocks)
+                .thenCompose(
+                    maybeResults ->
+                        maybeResults
+                            .map(results -> importRemainingBlocks(blocks, results, source))
+                            .orElseGet(
+                                () -> importBlocksIndividually(blocks, source.orElseThrow())))
+                .thenApply(
+                    lastBlockImportResult -> {
+                      if (lastBlockImportResult.isSuccessful()) {
+                        return BatchImportResult.IMPORTED_ALL_BLOCKS;
+                      } else if (lastBlockImportResult.getFailureReason()
+                          == BlockImportResult.FailureReason.FAILED_EXECUTION_PAYLOAD_EXECUTION) {
+                        return BatchImportResult.SERVICE_OFFLINE;
                       }
-                    });
-          }
-          return importResult.thenApply(
-              lastBlockImportResult -> {
-                if (lastBlockImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                } else if (lastBlockImportResult.getFailureReason()
-                    == BlockImportResult.FailureReason.FAILED_EXECUTION_PAYLOAD_EXECUTION) {
-                  return BatchImportResult.SERVICE_OFFLINE;
+                      LOG.debug(
+                          "Failed to import batch {}: {}",
+                          batch,
+                          lastBlockImportResult.getFailureReason(),
+                          lastBlockImportResult.getFailureCause().orElse(null));
+                      return BatchImportResult.IMPORT_FAILED;
+                    }));
+  }
+
+  private SafeFuture<BlockImportResult> importRemainingBlocks(
+      final List<SignedBeaconBlock> blocks,
+      final List<BlockImportResult> results,
+      final Optional<SyncSource> source) {
+    final BlockImportResult lastResult = results.get(results.size() - 1);
+    if (!lastResult.isSuccessful() || results.size() == blocks.size()) {
+      return SafeFuture.completedFuture(lastResult);
+    }
+    // Only the leading blocks could be imported as a batch
+    return importBlocksIndividually(
+        blocks.subList(results.size(), blocks.size()), source.orElseThrow());
+  }
+
+  /**
+   * Import blocks one at a time, stopping at the first failure. Used for blocks that could not be
+   * imported as part of a batch so that the invalid block is identified.
+   */
+  private SafeFuture<BlockImportResult> importBlocksIndividually(
+      final List<SignedBeaconBlock> blocks, final SyncSource source) {
+    SafeFuture<BlockImportResult> importResult = importBlock(blocks.get(0), source);
+    for (int i = 1; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i);
+      importResult =
+          importResult.thenCompose(
+              previousResult -> {
+                if (previousResult.isSuccessful()) {
+                  return importBlock(block, source);
+                } else {
+                  return SafeFuture.completedFuture(previousResult);
                 }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastBlockImportResult.getFailureReason(),
-                    lastBlockImportResult.getFailureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
               });
-        });
+    }
+    return importResult;
   }
 
   private SafeFuture<BlockImportResult> importBlock(
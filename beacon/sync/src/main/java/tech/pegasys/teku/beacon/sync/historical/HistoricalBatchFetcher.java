@@ -15,8 +15,6 @@ package tech.pegasys.teku.beacon.sync.historical;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
@@ -26,23 +24,15 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.config.SpecConfig;
-import tech.pegasys.teku.spec.constants.Domain;
-import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
-import tech.pegasys.teku.spec.datastructures.state.Fork;
-import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -59,12 +49,10 @@ public class HistoricalBatchFetcher {
   private final UInt64 batchSize;
   private final int maxRequests;
 
-  private final Spec spec;
-  private final SafeFuture<BeaconBlockSummary> future = new SafeFuture<>();
+  private final SafeFuture<List<SignedBeaconBlock>> future = new SafeFuture<>();
   private final Deque<SignedBeaconBlock> blocksToImport = new ConcurrentLinkedDeque<>();
   private final AtomicInteger requestCount = new AtomicInteger(0);
-  private final AsyncBLSSignatureVerifier signatureVerificationService;
-  private final CombinedChainDataClient chainDataClient;
+  private final HistoricalBlockSignatureVerifier signatureVerifier;
 
   /**
    * @param storageUpdateChannel The storage channel where finalized blocks will be imported
@@ -106,9 +94,8 @@ public class HistoricalBatchFetcher {
       final UInt64 batchSize,
       final int maxRequests) {
     this.storageUpdateChannel = storageUpdateChannel;
-    this.signatureVerificationService = signatureVerifier;
-    this.chainDataClient = chainDataClient;
-    this.spec = spec;
+    this.signatureVerifier =
+        new HistoricalBlockSignatureVerifier(spec, chainDataClient, signatureVerifier);
     this.peer = peer;
     this.maxSlot = maxSlot;
     this.lastBlockRoot = lastBlockRoot;
@@ -123,6 +110,28 @@ public class HistoricalBatchFetcher {
    * @return A future that resolves with the earliest block pulled and saved.
    */
   public SafeFuture<BeaconBlockSummary> run() {
+    return fetchBlocks()
+        .thenCompose(
+            blocks -> {
+              final SignedBeaconBlock newEarliestBlock = blocks.get(0);
+              LOG.trace("Import batch of {} blocks", blocks.size());
+              return storageUpdateChannel
+                  .onFinalizedBlocks(blocks)
+                  .thenApply(
+                      __ -> {
+                        LOG.trace("Earliest block is now from slot {}", newEarliestBlock.getSlot());
+                        return newEarliestBlock;
+                      });
+            });
+  }
+
+  /**
+   * Fetch the batch of blocks up to {@link #maxSlot} and verify their signatures without saving
+   * them.
+   *
+   * @return A future that resolves with the verified blocks, ordered from earliest to latest.
+   */
+  public SafeFuture<List<SignedBeaconBlock>> fetchBlocks() {
     SafeFuture.asyncDoWhile(this::requestBlocksByRange)
         .thenCompose(
             __ -> {
@@ -144,8 +153,7 @@ public class HistoricalBatchFetcher {
     final Optional<SignedBeaconBlock> latestBlock = getLatestReceivedBlock();
 
     if (latestBlockCompletesBatch(latestBlock)) {
-      LOG.trace("Import batch of {} blocks", blocksToImport.size());
-      return importBatch();
+      return verifyBatch();
     } else if (latestBlockShouldCompleteBatch(latestBlock)) {
       // Nothing left to request but the batch is incomplete
       // It appears our peer is on a different chain
@@ -209,69 +217,11 @@ public class HistoricalBatchFetcher {
         .thenAccept(maybeBlock -> maybeBlock.ifPresent(blocksToImport::add));
   }
 
-  private SafeFuture<Void> importBatch() {
-    final SignedBeaconBlock newEarliestBlock = blocksToImport.getFirst();
-
-    return batchVerifyHistoricalBlockSignatures(blocksToImport)
-        .thenCompose(
-            validSignatures ->
-                storageUpdateChannel
-                    // send to signature verification then store
-                    // all pass, or if one fails we reject the entire response
-                    .onFinalizedBlocks(blocksToImport)
-                    .thenRun(
-                        () -> {
-                          LOG.trace(
-                              "Earliest block is now from slot {}", newEarliestBlock.getSlot());
-                          future.complete(newEarliestBlock);
-                        }));
-  }
-
-  SafeFuture<Void> batchVerifyHistoricalBlockSignatures(
-      final Collection<SignedBeaconBlock> blocks) {
-
-    return chainDataClient
-        .getBestState()
-        .orElseThrow()
-        .thenCompose(bestState -> batchVerifyHistoricalBlockSignature(blocks, bestState));
-  }
-
-  private SafeFuture<Void> batchVerifyHistoricalBlockSignature(
-      final Collection<SignedBeaconBlock> blocks, final BeaconState bestState) {
-    List<BLSSignature> signatures = new ArrayList<>();
-    List<Bytes> signingRoots = new ArrayList<>();
-    List<List<BLSPublicKey>> proposerPublicKeys = new ArrayList<>();
-
-    final Bytes32 genesisValidatorsRoot = bestState.getForkInfo().getGenesisValidatorsRoot();
-
-    blocks.forEach(
-        signedBlock -> {
-          final BeaconBlock block = signedBlock.getMessage();
-          if (block.getSlot().isGreaterThan(SpecConfig.GENESIS_SLOT)) {
-            final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot());
-            final Fork fork = spec.fork(epoch);
-            final Bytes32 domain =
-                spec.getDomain(Domain.BEACON_PROPOSER, epoch, fork, genesisValidatorsRoot);
-            signatures.add(signedBlock.getSignature());
-            signingRoots.add(spec.computeSigningRoot(block, domain));
-            BLSPublicKey proposerPublicKey =
-                spec.getValidatorPubKey(bestState, block.getProposerIndex())
-                    .orElseThrow(
-                        () ->
-                            new IllegalStateException(
-                                "Proposer has to be in the state since state is more recent than the block proposed"));
-            proposerPublicKeys.add(List.of(proposerPublicKey));
-          }
-        });
-
-    return signatureVerificationService
-        .verify(proposerPublicKeys, signingRoots, signatures)
-        .thenAccept(
-            signaturesValid -> {
-              if (!signaturesValid) {
-                throw new IllegalArgumentException("Batch signature verification failed");
-              }
-            });
+  private SafeFuture<Void> verifyBatch() {
+    // All signatures must be valid, or if one fails we reject the entire response
+    return signatureVerifier
+        .verify(blocksToImport)
+        .thenRun(() -> future.complete(List.copyOf(blocksToImport)));
   }
 
   private RequestParameters calculateRequestParams() {
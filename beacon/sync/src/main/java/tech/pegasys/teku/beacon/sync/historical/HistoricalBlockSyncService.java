@@ -16,20 +16,27 @@ package tech.pegasys.teku.beacon.sync.historical;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
@@ -37,6 +44,7 @@ import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -44,32 +52,44 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 /**
  * Service responsible for syncing missing historical blocks. Blocks are pulled in order from the
  * newest unknown block back to genesis.
+ *
+ * <p>Each round requests up to {@link #MAX_CONCURRENT_BATCHES} consecutive batches from different
+ * peers at the same time. The newest batch is anchored to the root of the earliest known block and
+ * the earlier batches are fetched speculatively then linked up by block root once all requests
+ * complete. Every linked batch is saved in a single storage update.
  */
 public class HistoricalBlockSyncService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
   private static final Duration RETRY_TIMEOUT = Duration.ofMinutes(1);
   private static final UInt64 BATCH_SIZE = UInt64.valueOf(50);
+  private static final int MAX_CONCURRENT_BATCHES = 4;
 
   private final Spec spec;
+  private final TimeProvider timeProvider;
   private final SettableGauge historicSyncGauge;
+  private final Counter importedBlocksCounter;
+  private final SettableGauge importRateGauge;
   private final StorageUpdateChannel storageUpdateChannel;
   private final AsyncRunner asyncRunner;
   private final P2PNetwork<Eth2Peer> network;
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final int maxConcurrentBatches;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
 
   private final AsyncBLSSignatureVerifier signatureVerifier;
+  private final HistoricalBlockSignatureVerifier historicalBlockSignatureVerifier;
   private volatile BeaconBlockSummary earliestBlock;
   final Set<NodeId> badPeerCache;
 
   @VisibleForTesting
   HistoricalBlockSyncService(
       final Spec spec,
+      final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final StorageUpdateChannel storageUpdateChannel,
       final AsyncRunner asyncRunner,
@@ -77,8 +97,10 @@ public class HistoricalBlockSyncService extends Service {
       final CombinedChainDataClient chainData,
       final SyncStateProvider syncStateProvider,
       final AsyncBLSSignatureVerifier signatureVerifier,
-      final UInt64 batchSize) {
+      final UInt64 batchSize,
+      final int maxConcurrentBatches) {
     this.spec = spec;
+    this.timeProvider = timeProvider;
     this.storageUpdateChannel = storageUpdateChannel;
 
     this.asyncRunner = asyncRunner;
@@ -86,7 +108,10 @@ public class HistoricalBlockSyncService extends Service {
     this.chainData = chainData;
     this.syncStateProvider = syncStateProvider;
     this.batchSize = batchSize;
+    this.maxConcurrentBatches = maxConcurrentBatches;
     this.signatureVerifier = signatureVerifier;
+    this.historicalBlockSignatureVerifier =
+        new HistoricalBlockSignatureVerifier(spec, chainData, signatureVerifier);
 
     this.badPeerCache =
         Collections.newSetFromMap(
@@ -103,10 +128,22 @@ public class HistoricalBlockSyncService extends Service {
             TekuMetricCategory.BEACON,
             "historical_block_sync_earliest_block",
             "The slot of the earliest block retrieved by the historical block sync service");
+    this.importedBlocksCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "historical_block_sync_imported_blocks_total",
+            "Total number of blocks imported by the historical block sync service");
+    this.importRateGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "historical_block_sync_blocks_per_second",
+            "The number of blocks per second imported by the most recent historical block sync round");
   }
 
   public static HistoricalBlockSyncService create(
       final Spec spec,
+      final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final StorageUpdateChannel storageUpdateChannel,
       final AsyncRunner asyncRunner,
@@ -116,6 +153,7 @@ public class HistoricalBlockSyncService extends Service {
       final SyncStateProvider syncStateProvider) {
     return new HistoricalBlockSyncService(
         spec,
+        timeProvider,
         metricsSystem,
         storageUpdateChannel,
         asyncRunner,
@@ -123,7 +161,8 @@ public class HistoricalBlockSyncService extends Service {
         chainData,
         syncStateProvider,
         signatureVerifier,
-        BATCH_SIZE);
+        BATCH_SIZE,
+        MAX_CONCURRENT_BATCHES);
   }
 
   @Override
@@ -177,11 +216,10 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
-          .alwaysRun(() -> requestInProgress.set(false))
-          .thenApply(__ -> true);
+      final List<Eth2Peer> peers = findPeers();
+      final SafeFuture<Void> request =
+          peers.isEmpty() ? waitToRetry() : requestBlocks(peers, blockParams.get());
+      return request.alwaysRun(() -> requestInProgress.set(false)).thenApply(__ -> true);
     } else {
       return SafeFuture.completedFuture(false);
     }
@@ -191,35 +229,132 @@ public class HistoricalBlockSyncService extends Service {
     return isRunning() && syncStateProvider.getCurrentSyncState().isInSync();
   }
 
-  private SafeFuture<Void> requestBlocks(final Eth2Peer peer, final MaxMissingBlockParams params) {
-    return createFetcher(peer, params)
-        .run()
+  private SafeFuture<Void> requestBlocks(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    final UInt64 startTimeMillis = timeProvider.getTimeInMillis();
+    final List<SafeFuture<Optional<List<SignedBeaconBlock>>>> batches = new ArrayList<>();
+    batches.add(handleBatchError(peers.get(0), createFetcher(peers.get(0), params).fetchBlocks()));
+
+    // Speculatively fetch the batches preceding the anchored batch from the other peers
+    UInt64 batchMaxSlot = params.getMaxSlot();
+    for (Eth2Peer peer : peers.subList(1, peers.size())) {
+      if (batchMaxSlot.isLessThan(batchSize)) {
+        // The previous batch already reaches genesis
+        break;
+      }
+      batchMaxSlot = batchMaxSlot.minus(batchSize);
+      final UInt64 count = batchMaxSlot.plus(1).min(batchSize);
+      final UInt64 startSlot = batchMaxSlot.plus(1).minus(count);
+      batches.add(
+          handleBatchError(
+              peer,
+              new HistoricalRangeFetcher(historicalBlockSignatureVerifier, peer, startSlot, count)
+                  .run()));
+    }
+
+    return SafeFuture.collectAll(batches.stream())
+        .thenApply(results -> linkBatches(peers, results))
+        .thenCompose(blocks -> importBlocks(blocks, params, startTimeMillis));
+  }
+
+  private SafeFuture<Optional<List<SignedBeaconBlock>>> handleBatchError(
+      final Eth2Peer peer, final SafeFuture<List<SignedBeaconBlock>> batch) {
+    return batch
+        .thenApply(Optional::of)
         .exceptionally(
             (err) -> {
               // We ran into trouble with this peer - ignore it for a while
               LOG.debug(
                   "Encountered a problem requesting historical blocks from peer: " + peer, err);
-              if (peer.isConnected()) {
-                // If we didn't disconnect the peer altogether, avoid making new requests for a
-                // while
-                badPeerCache.add(peer.getId());
-                logBadPeerCacheSize(true);
-              }
-              return null;
-            })
-        .thenAccept(
-            newValue -> {
-              if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
-                LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
-                earliestBlock = newValue;
+              markBadPeer(peer);
+              return Optional.empty();
+            });
+  }
+
+  /**
+   * Join the batches, newest first, into a single chain of blocks ending at the anchored batch.
+   * Stops at the first batch that failed, is empty or doesn't link up with the following batch.
+   *
+   * @return The linked blocks, ordered from earliest to latest.
+   */
+  private List<SignedBeaconBlock> linkBatches(
+      final List<Eth2Peer> peers, final List<Optional<List<SignedBeaconBlock>>> batches) {
+    final Deque<SignedBeaconBlock> linkedBlocks = new ArrayDeque<>();
+    if (batches.get(0).isEmpty()) {
+      return List.of();
+    }
+    linkedBlocks.addAll(batches.get(0).get());
+    for (int i = 1; i < batches.size() && batches.get(i).isPresent(); i++) {
+      // The anchored batch may have found its first block before its range, so ignore overlaps
+      final SignedBeaconBlock earliestBlock = linkedBlocks.getFirst();
+      final List<SignedBeaconBlock> batch =
+          batches.get(i).get().stream()
+              .filter(block -> block.getSlot().isLessThan(earliestBlock.getSlot()))
+              .collect(Collectors.toList());
+      if (batch.isEmpty()) {
+        // Let the next round fetch this range by root in case the blocks were withheld
+        break;
+      }
+      if (!batch.get(batch.size() - 1).getRoot().equals(earliestBlock.getParentRoot())) {
+        LOG.debug(
+            "Speculatively fetched historical blocks from peer {} do not link to block at slot {}",
+            peers.get(i),
+            earliestBlock.getSlot());
+        markBadPeer(peers.get(i));
+        break;
+      }
+      for (int j = batch.size() - 1; j >= 0; j--) {
+        linkedBlocks.addFirst(batch.get(j));
+      }
+    }
+    return List.copyOf(linkedBlocks);
+  }
+
+  private SafeFuture<Void> importBlocks(
+      final List<SignedBeaconBlock> blocks,
+      final MaxMissingBlockParams params,
+      final UInt64 startTimeMillis) {
+    if (blocks.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+    LOG.trace("Import batch of {} historical blocks", blocks.size());
+    return storageUpdateChannel
+        .onFinalizedBlocks(blocks)
+        .thenRun(
+            () -> {
+              final SignedBeaconBlock newEarliestBlock = blocks.get(0);
+              updateImportMetrics(blocks.size(), startTimeMillis);
+              if (newEarliestBlock.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
+                LOG.trace("Synced historical blocks to slot {}", newEarliestBlock.getSlot());
+                earliestBlock = newEarliestBlock;
                 updateSyncMetrics();
                 if (isSyncDone()) {
                   LOG.info("Historical block sync is complete");
                 }
               }
+            })
+        .exceptionally(
+            (err) -> {
+              LOG.warn("Failed to save historical blocks", err);
+              return null;
             });
   }
 
+  private void updateImportMetrics(final int blockCount, final UInt64 startTimeMillis) {
+    importedBlocksCounter.inc(blockCount);
+    final UInt64 elapsedMillis =
+        timeProvider.getTimeInMillis().minusMinZero(startTimeMillis).max(UInt64.ONE);
+    importRateGauge.set(blockCount * 1000.0 / elapsedMillis.doubleValue());
+  }
+
+  private void markBadPeer(final Eth2Peer peer) {
+    if (peer.isConnected()) {
+      // If we didn't disconnect the peer altogether, avoid making new requests for a while
+      badPeerCache.add(peer.getId());
+      logBadPeerCacheSize(true);
+    }
+  }
+
   private HistoricalBatchFetcher createFetcher(
       final Eth2Peer peer, final MaxMissingBlockParams params) {
     return new HistoricalBatchFetcher(
@@ -259,7 +394,7 @@ public class HistoricalBlockSyncService extends Service {
     return asyncRunner.getDelayedFuture(RETRY_TIMEOUT);
   }
 
-  private Optional<Eth2Peer> findPeer() {
+  private List<Eth2Peer> findPeers() {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
@@ -269,7 +404,8 @@ public class HistoricalBlockSyncService extends Service {
                     .getFinalizedCheckpoint()
                     .getEpochStartSlot(spec)
                     .isGreaterThan(earliestBlock.getSlot()))
-        .findAny();
+        .limit(maxConcurrentBatches)
+        .collect(Collectors.toList());
   }
 
   private void logBadPeerCacheSize(final boolean peerAdded) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+/**
+ * Speculatively fetches the blocks in a slot range before the root of the last block in the range
+ * is known. The blocks are checked to form a chain and their signatures are verified, but the
+ * caller is responsible for checking that the range links up with the blocks that follow it.
+ */
+class HistoricalRangeFetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final HistoricalBlockSignatureVerifier signatureVerifier;
+  private final Eth2Peer peer;
+  private final UInt64 startSlot;
+  private final UInt64 count;
+
+  private final Deque<SignedBeaconBlock> blocks = new ConcurrentLinkedDeque<>();
+
+  HistoricalRangeFetcher(
+      final HistoricalBlockSignatureVerifier signatureVerifier,
+      final Eth2Peer peer,
+      final UInt64 startSlot,
+      final UInt64 count) {
+    this.signatureVerifier = signatureVerifier;
+    this.peer = peer;
+    this.startSlot = startSlot;
+    this.count = count;
+  }
+
+  /**
+   * Fetch the blocks in the range.
+   *
+   * @return A future that resolves with the verified blocks, ordered from earliest to latest.
+   */
+  SafeFuture<List<SignedBeaconBlock>> run() {
+    LOG.trace("Speculatively request {} blocks from slot {} from {}", count, startSlot, peer);
+    return peer.requestBlocksByRange(startSlot, count, UInt64.ONE, this::processBlock)
+        .thenCompose(__ -> signatureVerifier.verify(blocks))
+        .thenApply(__ -> List.copyOf(blocks));
+  }
+
+  private SafeFuture<?> processBlock(final SignedBeaconBlock block) {
+    return SafeFuture.of(
+        () -> {
+          if (block.getSlot().isLessThan(startSlot)) {
+            throw new InvalidResponseException("Received block before the requested range.");
+          }
+          // Ignore any extra blocks after the requested range
+          if (block.getSlot().isGreaterThanOrEqualTo(startSlot.plus(count))) {
+            return SafeFuture.COMPLETE;
+          }
+          final SignedBeaconBlock previousBlock = blocks.peekLast();
+          if (previousBlock != null && !block.getParentRoot().equals(previousBlock.getRoot())) {
+            throw new InvalidResponseException(
+                "Expected block to descend from previously received block.");
+          }
+          blocks.addLast(block);
+          return SafeFuture.COMPLETE;
+        });
+  }
+}
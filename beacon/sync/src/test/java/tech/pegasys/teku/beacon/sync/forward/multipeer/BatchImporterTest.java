@@ -53,6 +53,8 @@ class BatchImporterTest {
   @BeforeEach
   public void setup() {
     when(batch.getSource()).thenReturn(Optional.of(syncSource));
+    when(blockImporter.importBlocks(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
   }
 
   @Test
@@ -80,6 +82,7 @@ class BatchImporterTest {
     blocks.clear();
 
     asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2, block3)));
 
     blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
@@ -111,6 +114,7 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2, block3)));
 
     blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
@@ -142,6 +146,7 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2)));
 
     blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
@@ -176,6 +181,7 @@ class BatchImporterTest {
     verifyNoInteractions(blockImporter);
 
     asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2)));
 
     blockImportedSuccessfully(block1, importResult1);
     assertThat(result).isNotDone();
@@ -192,6 +198,79 @@ class BatchImporterTest {
     verifyNoMoreInteractions(blockImporter);
   }
 
+  @Test
+  void shouldImportBlocksAsBatch() {
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final List<SignedBeaconBlock> blocks = List.of(block1, block2);
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(blockImporter.importBlocks(blocks)).thenReturn(importResult);
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(blockImporter);
+
+    asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(blocks));
+    assertThat(result).isNotDone();
+
+    importResult.complete(
+        Optional.of(
+            List.of(BlockImportResult.successful(block1), BlockImportResult.successful(block2))));
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+    verifyNoMoreInteractions(blockImporter);
+  }
+
+  @Test
+  void shouldReportFailureFromBatchImport() {
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final List<SignedBeaconBlock> blocks = List.of(block1, block2);
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(blockImporter.importBlocks(blocks))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    List.of(
+                        BlockImportResult.successful(block1),
+                        BlockImportResult.failedExecutionPayloadExecution(new Error())))));
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.SERVICE_OFFLINE);
+    ignoreFuture(verify(blockImporter).importBlocks(blocks));
+    verifyNoMoreInteractions(blockImporter);
+  }
+
+  @Test
+  void shouldImportBlocksIndividuallyAfterPartialBatchImport() {
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
+    final List<SignedBeaconBlock> blocks = List.of(block1, block2, block3);
+    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult3 = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(blocks);
+    when(blockImporter.importBlocks(blocks))
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(List.of(BlockImportResult.successful(block1)))));
+    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
+    when(blockImporter.importBlock(block3)).thenReturn(importResult3);
+
+    final SafeFuture<BatchImportResult> result = importer.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+    ignoreFuture(verify(blockImporter).importBlocks(blocks));
+
+    blockImportedSuccessfully(block2, importResult2);
+    assertThat(result).isNotDone();
+    blockImportedSuccessfully(block3, importResult3);
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+    verifyNoMoreInteractions(blockImporter);
+  }
+
   private void blockImportedSuccessfully(
       final SignedBeaconBlock block, final SafeFuture<BlockImportResult> importResult1) {
     ignoreFuture(verify(blockImporter).importBlock(block));
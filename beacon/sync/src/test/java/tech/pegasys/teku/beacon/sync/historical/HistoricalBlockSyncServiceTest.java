@@ -40,6 +40,7 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.peers.RespondingEth2Peer;
@@ -70,10 +71,13 @@ public class HistoricalBlockSyncServiceTest {
 
   private final SyncStateProvider syncStateProvider = mock(SyncStateProvider.class);
 
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
   private final UInt64 batchSize = UInt64.valueOf(5);
+  private final int maxConcurrentBatches = 3;
   private final HistoricalBlockSyncService service =
       new HistoricalBlockSyncService(
           spec,
+          timeProvider,
           metricsSystem,
           storageUpdateChannel,
           asyncRunner,
@@ -81,7 +85,8 @@ public class HistoricalBlockSyncServiceTest {
           storageSystem.combinedChainDataClient(),
           syncStateProvider,
           signatureVerificationService,
-          batchSize);
+          batchSize,
+          maxConcurrentBatches);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
 
@@ -311,6 +316,120 @@ public class HistoricalBlockSyncServiceTest {
     assertBlocksSaved(expectedBlocks);
   }
 
+  @Test
+  public void shouldRequestConsecutiveBatchesFromMultiplePeers() {
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final long epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem.chainBuilder().generateBlocksUpToSlot(slotsPerEpoch * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond
+    final List<RespondingEth2Peer> peers = createPeers(maxConcurrentBatches, epochHeight);
+    when(network.streamPeers()).thenAnswer(i -> peers.stream());
+
+    startService();
+
+    // Each peer should receive a request for a different batch
+    for (RespondingEth2Peer peer : peers) {
+      assertThat(peer.getOutstandingRequests()).isEqualTo(1);
+    }
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    // All batches should be saved together
+    final long expectedEarliestSlot =
+        anchor.getBlockSlot().longValue() + 1 - batchSize.longValue() * maxConcurrentBatches;
+    verify(storageUpdateChannel)
+        .onFinalizedBlocks(
+            storageSystem
+                .chainBuilder()
+                .streamBlocksAndStates(expectedEarliestSlot, anchor.getBlockSlot().longValue())
+                .map(SignedBlockAndState::getBlock)
+                .collect(Collectors.toList()));
+
+    finishSyncing(peers, expectedBlocks);
+  }
+
+  @Test
+  public void shouldOnlySaveBatchesThatLinkToEarliestBlock() {
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final long epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem.chainBuilder().generateBlocksUpToSlot(slotsPerEpoch * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond, with the second peer withholding the last block of its batch
+    final List<RespondingEth2Peer> peers = createPeers(maxConcurrentBatches, epochHeight);
+    final RespondingEth2Peer badPeer = peers.get(1);
+    badPeer.setBlockRequestFilter(
+        blocks -> blocks.subList(0, (int) Math.min(blocks.size(), batchSize.longValue() - 1)));
+    when(network.streamPeers()).thenAnswer(i -> peers.stream());
+
+    startService();
+    peers.forEach(RespondingEth2Peer::completePendingRequests);
+
+    // Only the anchored batch should be saved
+    verify(storageUpdateChannel)
+        .onFinalizedBlocks(
+            storageSystem
+                .chainBuilder()
+                .streamBlocksAndStates(
+                    anchor.getBlockSlot().longValue() + 1 - batchSize.longValue(),
+                    anchor.getBlockSlot().longValue())
+                .map(SignedBlockAndState::getBlock)
+                .collect(Collectors.toList()));
+    assertThat(service.badPeerCache).containsExactly(badPeer.getId());
+
+    finishSyncing(peers, expectedBlocks);
+  }
+
+  private List<RespondingEth2Peer> createPeers(final int count, final long epochHeight) {
+    return Stream.generate(
+            () -> {
+              final RespondingEth2Peer peer =
+                  RespondingEth2Peer.create(spec, storageSystem.chainBuilder());
+              peer.updateStatus(
+                  new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO),
+                  new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO));
+              return peer;
+            })
+        .limit(count)
+        .collect(Collectors.toList());
+  }
+
+  private void finishSyncing(
+      final List<RespondingEth2Peer> peers, final List<SignedBeaconBlock> expectedBlocks) {
+    final int maxRequests =
+        storageSystem.chainBuilder().getLatestSlot().dividedBy(batchSize).plus(1).intValue();
+    int requestCount = 0;
+    while (peers.stream().anyMatch(peer -> peer.getOutstandingRequests() > 0)
+        && requestCount <= maxRequests) {
+      peers.forEach(RespondingEth2Peer::completePendingRequests);
+      requestCount++;
+    }
+
+    assertServiceFinished();
+    assertBlocksSaved(expectedBlocks);
+  }
+
   private void finishSyncing(
       final RespondingEth2Peer peer, final List<SignedBeaconBlock> expectedBlocks) {
     final int maxRequests =
@@ -90,6 +90,7 @@ public class ValidatorApiHandlerIntegrationTest {
           combinedChainDataClient,
           syncStateProvider,
           blockFactory,
+          mock(BlockTemplateCache.class),
           blockImportChannel,
           blockGossipChannel,
           attestationPool,
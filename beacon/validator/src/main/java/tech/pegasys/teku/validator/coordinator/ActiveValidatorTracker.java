@@ -68,4 +68,8 @@ public class ActiveValidatorTracker implements SlotEventsChannel {
   public int getNumberOfValidatorsForEpoch(final UInt64 epoch) {
     return validatorsPerEpoch.getOrDefault(epoch, emptySet()).size();
   }
+
+  public boolean isValidatorActiveInEpoch(final int validatorIndex, final UInt64 epoch) {
+    return validatorsPerEpoch.getOrDefault(epoch, emptySet()).contains(validatorIndex);
+  }
 }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.validator.coordinator;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -23,6 +24,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBodyBuilder;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 
@@ -48,18 +50,64 @@ public class BlockFactory {
         blockSlotState.getSlot(),
         newSlot);
 
-    // Process empty slots up to the one before the new block slot
-    final UInt64 slotBeforeBlock = newSlot.minus(UInt64.ONE);
+    final Bytes32 parentRoot = getParentRoot(blockSlotState);
 
-    final Bytes32 parentRoot = spec.getBlockRootAtSlot(blockSlotState, slotBeforeBlock);
+    return createUnsignedBlock(
+        blockSlotState,
+        parentRoot,
+        operationSelector.createSelector(
+            parentRoot, blockSlotState, randaoReveal, optionalGraffiti),
+        blinded);
+  }
+
+  /**
+   * Selects the operations for a block at the slot of {@code blockSlotState} ahead of time, so only
+   * the randao reveal and graffiti need to be added when the block is requested.
+   */
+  public BlockTemplate createBlockTemplate(final BeaconState blockSlotState) {
+    return new BlockTemplate(
+        blockSlotState,
+        getParentRoot(blockSlotState),
+        operationSelector.selectOperations(blockSlotState));
+  }
+
+  public BeaconBlock createUnsignedBlock(
+      final BlockTemplate template,
+      final BLSSignature randaoReveal,
+      final Optional<Bytes32> optionalGraffiti,
+      final boolean blinded)
+      throws StateTransitionException {
+    final BeaconState blockSlotState = template.getBlockSlotState();
+    return createUnsignedBlock(
+        blockSlotState,
+        template.getParentRoot(),
+        operationSelector.createSelector(
+            template.getParentRoot(),
+            blockSlotState,
+            randaoReveal,
+            optionalGraffiti,
+            template.getOperations()),
+        blinded);
+  }
+
+  private Bytes32 getParentRoot(final BeaconState blockSlotState) {
+    final UInt64 slotBeforeBlock = blockSlotState.getSlot().minus(UInt64.ONE);
+    return spec.getBlockRootAtSlot(blockSlotState, slotBeforeBlock);
+  }
 
+  private BeaconBlock createUnsignedBlock(
+      final BeaconState blockSlotState,
+      final Bytes32 parentRoot,
+      final Consumer<BeaconBlockBodyBuilder> bodySelector,
+      final boolean blinded)
+      throws StateTransitionException {
+    final UInt64 newSlot = blockSlotState.getSlot();
     return spec.createNewUnsignedBlock(
             newSlot,
             spec.getBeaconProposerIndex(blockSlotState, newSlot),
             blockSlotState,
             parentRoot,
-            operationSelector.createSelector(
-                parentRoot, blockSlotState, randaoReveal, optionalGraffiti),
+            bodySelector,
             blinded)
         .getBlock();
   }
@@ -94,47 +94,87 @@ public class BlockOperationSelectorFactory {
       final BeaconState blockSlotState,
       final BLSSignature randaoReveal,
       final Optional<Bytes32> optionalGraffiti) {
-    return bodyBuilder -> {
-      final Eth1Data eth1Data = eth1DataCache.getEth1Vote(blockSlotState);
+    return createSelector(
+        parentRoot,
+        blockSlotState,
+        randaoReveal,
+        optionalGraffiti,
+        () -> selectOperations(blockSlotState));
+  }
 
-      SszList<Attestation> attestations =
-          attestationPool.getAttestationsForBlock(
-              blockSlotState,
-              new AttestationForkChecker(spec, blockSlotState),
-              spec.createAttestationWorthinessChecker(blockSlotState));
+  /**
+   * Creates a selector which uses operations previously selected by {@link
+   * #selectOperations(BeaconState)} for the same block slot state.
+   */
+  public Consumer<BeaconBlockBodyBuilder> createSelector(
+      final Bytes32 parentRoot,
+      final BeaconState blockSlotState,
+      final BLSSignature randaoReveal,
+      final Optional<Bytes32> optionalGraffiti,
+      final BlockOperations operations) {
+    return createSelector(
+        parentRoot, blockSlotState, randaoReveal, optionalGraffiti, () -> operations);
+  }
 
-      // Collect slashings to include
-      final Set<UInt64> exitedValidators = new HashSet<>();
-      final SszList<AttesterSlashing> attesterSlashings =
-          attesterSlashingPool.getItemsForBlock(
-              blockSlotState,
-              slashing -> !exitedValidators.containsAll(slashing.getIntersectingValidatorIndices()),
-              slashing -> exitedValidators.addAll(slashing.getIntersectingValidatorIndices()));
+  public BlockOperations selectOperations(final BeaconState blockSlotState) {
+    final Eth1Data eth1Data = eth1DataCache.getEth1Vote(blockSlotState);
 
-      final SszList<ProposerSlashing> proposerSlashings =
-          proposerSlashingPool.getItemsForBlock(
-              blockSlotState,
-              slashing ->
-                  !exitedValidators.contains(slashing.getHeader1().getMessage().getProposerIndex()),
-              slashing ->
-                  exitedValidators.add(slashing.getHeader1().getMessage().getProposerIndex()));
-
-      // Collect exits to include
-      final SszList<SignedVoluntaryExit> voluntaryExits =
-          voluntaryExitPool.getItemsForBlock(
-              blockSlotState,
-              exit -> !exitedValidators.contains(exit.getMessage().getValidatorIndex()),
-              exit -> exitedValidators.add(exit.getMessage().getValidatorIndex()));
+    SszList<Attestation> attestations =
+        attestationPool.getAttestationsForBlock(
+            blockSlotState,
+            new AttestationForkChecker(spec, blockSlotState),
+            spec.createAttestationWorthinessChecker(blockSlotState));
+
+    // Collect slashings to include
+    final Set<UInt64> exitedValidators = new HashSet<>();
+    final SszList<AttesterSlashing> attesterSlashings =
+        attesterSlashingPool.getItemsForBlock(
+            blockSlotState,
+            slashing -> !exitedValidators.containsAll(slashing.getIntersectingValidatorIndices()),
+            slashing -> exitedValidators.addAll(slashing.getIntersectingValidatorIndices()));
+
+    final SszList<ProposerSlashing> proposerSlashings =
+        proposerSlashingPool.getItemsForBlock(
+            blockSlotState,
+            slashing ->
+                !exitedValidators.contains(slashing.getHeader1().getMessage().getProposerIndex()),
+            slashing ->
+                exitedValidators.add(slashing.getHeader1().getMessage().getProposerIndex()));
+
+    // Collect exits to include
+    final SszList<SignedVoluntaryExit> voluntaryExits =
+        voluntaryExitPool.getItemsForBlock(
+            blockSlotState,
+            exit -> !exitedValidators.contains(exit.getMessage().getValidatorIndex()),
+            exit -> exitedValidators.add(exit.getMessage().getValidatorIndex()));
+
+    return new BlockOperations(
+        eth1Data,
+        attestations,
+        proposerSlashings,
+        attesterSlashings,
+        depositProvider.getDeposits(blockSlotState, eth1Data),
+        voluntaryExits);
+  }
+
+  private Consumer<BeaconBlockBodyBuilder> createSelector(
+      final Bytes32 parentRoot,
+      final BeaconState blockSlotState,
+      final BLSSignature randaoReveal,
+      final Optional<Bytes32> optionalGraffiti,
+      final Supplier<BlockOperations> operationsSupplier) {
+    return bodyBuilder -> {
+      final BlockOperations operations = operationsSupplier.get();
 
       bodyBuilder
           .randaoReveal(randaoReveal)
-          .eth1Data(eth1Data)
+          .eth1Data(operations.getEth1Data())
           .graffiti(optionalGraffiti.orElse(graffiti))
-          .attestations(attestations)
-          .proposerSlashings(proposerSlashings)
-          .attesterSlashings(attesterSlashings)
-          .deposits(depositProvider.getDeposits(blockSlotState, eth1Data))
-          .voluntaryExits(voluntaryExits)
+          .attestations(operations.getAttestations())
+          .proposerSlashings(operations.getProposerSlashings())
+          .attesterSlashings(operations.getAttesterSlashings())
+          .deposits(operations.getDeposits())
+          .voluntaryExits(operations.getVoluntaryExits())
           .syncAggregate(
               () ->
                   contributionPool.createSyncAggregateForBlock(
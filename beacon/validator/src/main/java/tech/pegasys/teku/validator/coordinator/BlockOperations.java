@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
+import tech.pegasys.teku.spec.datastructures.operations.Deposit;
+import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
+import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
+
+/** The operations selected from the pools for inclusion in a block built on a given state. */
+public class BlockOperations {
+  private final Eth1Data eth1Data;
+  private final SszList<Attestation> attestations;
+  private final SszList<ProposerSlashing> proposerSlashings;
+  private final SszList<AttesterSlashing> attesterSlashings;
+  private final SszList<Deposit> deposits;
+  private final SszList<SignedVoluntaryExit> voluntaryExits;
+
+  public BlockOperations(
+      final Eth1Data eth1Data,
+      final SszList<Attestation> attestations,
+      final SszList<ProposerSlashing> proposerSlashings,
+      final SszList<AttesterSlashing> attesterSlashings,
+      final SszList<Deposit> deposits,
+      final SszList<SignedVoluntaryExit> voluntaryExits) {
+    this.eth1Data = eth1Data;
+    this.attestations = attestations;
+    this.proposerSlashings = proposerSlashings;
+    this.attesterSlashings = attesterSlashings;
+    this.deposits = deposits;
+    this.voluntaryExits = voluntaryExits;
+  }
+
+  public Eth1Data getEth1Data() {
+    return eth1Data;
+  }
+
+  public SszList<Attestation> getAttestations() {
+    return attestations;
+  }
+
+  public SszList<ProposerSlashing> getProposerSlashings() {
+    return proposerSlashings;
+  }
+
+  public SszList<AttesterSlashing> getAttesterSlashings() {
+    return attesterSlashings;
+  }
+
+  public SszList<Deposit> getDeposits() {
+    return deposits;
+  }
+
+  public SszList<SignedVoluntaryExit> getVoluntaryExits() {
+    return voluntaryExits;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import com.google.common.base.MoreObjects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * The parts of a block that can be prepared before the proposer requests it: the state advanced to
+ * the block slot and the operations selected for inclusion. Only valid while the parent root is
+ * still the chain head.
+ */
+public class BlockTemplate {
+  private final BeaconState blockSlotState;
+  private final Bytes32 parentRoot;
+  private final BlockOperations operations;
+
+  public BlockTemplate(
+      final BeaconState blockSlotState,
+      final Bytes32 parentRoot,
+      final BlockOperations operations) {
+    this.blockSlotState = blockSlotState;
+    this.parentRoot = parentRoot;
+    this.operations = operations;
+  }
+
+  public UInt64 getSlot() {
+    return blockSlotState.getSlot();
+  }
+
+  public BeaconState getBlockSlotState() {
+    return blockSlotState;
+  }
+
+  public Bytes32 getParentRoot() {
+    return parentRoot;
+  }
+
+  public BlockOperations getOperations() {
+    return operations;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("slot", getSlot())
+        .add("parentRoot", parentRoot)
+        .toString();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
+import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.client.ChainHead;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Prepares a {@link BlockTemplate} for the next slot when one of the validators using this node is
+ * due to propose it.
+ *
+ * <p>Shortly before the slot starts the chain head state is advanced through the empty slot and the
+ * operations to include are selected, so that work is done before the proposer requests the block.
+ * The state is only advanced when the proposer is local, or can't be determined without advancing
+ * it because the slot is in a later epoch than the head state. The template is only used if the
+ * chain head hasn't changed since it was prepared.
+ */
+public class BlockTemplateCache implements SlotEventsChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final UInt64 PREPARATION_LEAD_TIME_MILLIS = UInt64.valueOf(1000);
+
+  static final String RESULT_REUSED = "reused";
+  static final String RESULT_HEAD_CHANGED = "head_changed";
+  static final String RESULT_UNAVAILABLE = "unavailable";
+
+  private final Spec spec;
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final CombinedChainDataClient combinedChainDataClient;
+  private final SyncStateProvider syncStateProvider;
+  private final ActiveValidatorTracker activeValidatorTracker;
+  private final BlockFactory blockFactory;
+  private final LabelledMetric<Counter> templateRequestCounter;
+
+  private volatile Optional<BlockTemplate> template = Optional.empty();
+
+  public BlockTemplateCache(
+      final Spec spec,
+      final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final CombinedChainDataClient combinedChainDataClient,
+      final SyncStateProvider syncStateProvider,
+      final ActiveValidatorTracker activeValidatorTracker,
+      final BlockFactory blockFactory) {
+    this.spec = spec;
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.combinedChainDataClient = combinedChainDataClient;
+    this.syncStateProvider = syncStateProvider;
+    this.activeValidatorTracker = activeValidatorTracker;
+    this.blockFactory = blockFactory;
+    this.templateRequestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "block_template_requests_total",
+            "Number of block production requests by whether a prepared block template was used",
+            "result");
+  }
+
+  @Override
+  public void onSlot(final UInt64 slot) {
+    template = template.filter(existing -> existing.getSlot().isGreaterThanOrEqualTo(slot));
+
+    final Optional<UInt64> genesisTime = combinedChainDataClient.getGenesisTime();
+    if (genesisTime.isEmpty()) {
+      return;
+    }
+    final UInt64 nextSlot = slot.increment();
+    final UInt64 preparationTimeMillis =
+        spec.getSlotStartTimeMillis(nextSlot, secondsToMillis(genesisTime.get()))
+            .minusMinZero(PREPARATION_LEAD_TIME_MILLIS);
+    final Duration delay =
+        Duration.ofMillis(
+            preparationTimeMillis.minusMinZero(timeProvider.getTimeInMillis()).longValue());
+    asyncRunner
+        .runAfterDelay(() -> prepareTemplate(nextSlot), delay)
+        .finish(error -> LOG.warn("Failed to prepare block template for slot {}", nextSlot, error));
+  }
+
+  SafeFuture<Void> prepareTemplate(final UInt64 slot) {
+    if (!syncStateProvider.getCurrentSyncState().isInSync()) {
+      return SafeFuture.COMPLETE;
+    }
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    if (activeValidatorTracker.getNumberOfValidatorsForEpoch(epoch) == 0) {
+      // No validators are using this node so there won't be a block to produce
+      return SafeFuture.COMPLETE;
+    }
+    final Optional<ChainHead> chainHead = combinedChainDataClient.getChainHead();
+    if (chainHead.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+    final Bytes32 headRoot = chainHead.get().getRoot();
+    if (combinedChainDataClient.isOptimisticBlock(headRoot)) {
+      return SafeFuture.COMPLETE;
+    }
+    return chainHead
+        .get()
+        .getState()
+        .thenCompose(
+            headState -> {
+              // Within the head state's epoch the proposer is known without processing the empty
+              // slots, so only advance the state when a local validator will use it
+              if (spec.getCurrentEpoch(headState).equals(epoch)
+                  && !isLocalProposer(headState, slot, epoch)) {
+                return SafeFuture.COMPLETE;
+              }
+              return combinedChainDataClient
+                  .getStateAtSlotExact(slot, headRoot)
+                  .thenAccept(
+                      maybeBlockSlotState ->
+                          maybeBlockSlotState
+                              .filter(
+                                  blockSlotState -> isLocalProposer(blockSlotState, slot, epoch))
+                              .ifPresent(this::createTemplate));
+            });
+  }
+
+  /**
+   * Returns the template prepared for {@code slot} if it was built on the current chain head.
+   *
+   * <p>Should only be called once the fork choice has been updated for block production.
+   */
+  public Optional<BlockTemplate> getTemplate(final UInt64 slot) {
+    final Optional<BlockTemplate> maybeTemplate =
+        template.filter(existing -> existing.getSlot().equals(slot));
+    if (maybeTemplate.isEmpty()) {
+      templateRequestCounter.labels(RESULT_UNAVAILABLE).inc();
+      return Optional.empty();
+    }
+    final Bytes32 parentRoot = maybeTemplate.get().getParentRoot();
+    if (!combinedChainDataClient.getBestBlockRoot().equals(Optional.of(parentRoot))) {
+      LOG.debug("Discarding block template for slot {} as the chain head has changed", slot);
+      templateRequestCounter.labels(RESULT_HEAD_CHANGED).inc();
+      return Optional.empty();
+    }
+    templateRequestCounter.labels(RESULT_REUSED).inc();
+    return maybeTemplate;
+  }
+
+  private boolean isLocalProposer(
+      final BeaconState blockSlotState, final UInt64 slot, final UInt64 epoch) {
+    final int proposerIndex = spec.getBeaconProposerIndex(blockSlotState, slot);
+    return activeValidatorTracker.isValidatorActiveInEpoch(proposerIndex, epoch);
+  }
+
+  private void createTemplate(final BeaconState blockSlotState) {
+    final BlockTemplate newTemplate = blockFactory.createBlockTemplate(blockSlotState);
+    LOG.debug("Prepared block template {}", newTemplate);
+    template = Optional.of(newTemplate);
+  }
+}
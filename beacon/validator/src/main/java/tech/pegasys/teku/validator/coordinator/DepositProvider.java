@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.coordinator;
 
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,6 +24,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -40,6 +42,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DepositUtil;
 import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
 import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
@@ -49,9 +52,13 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
 
   private final RecentChainData recentChainData;
   private final Eth1DataCache eth1DataCache;
-  private final MerkleTree depositMerkleTree;
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel;
+  private MerkleTree depositMerkleTree;
 
   private final NavigableMap<UInt64, DepositWithIndex> depositNavigableMap = new TreeMap<>();
+  // Eth1 blocks with deposits which are not yet part of the finalized deposit snapshot, keyed by
+  // the number of deposits up to and including the block
+  private final NavigableMap<UInt64, DepositBlock> unfinalizedDepositBlocks = new TreeMap<>();
   private final Counter depositCounter;
   private final Spec spec;
   private final DepositsSchemaCache depositsSchemaCache = new DepositsSchemaCache();
@@ -61,9 +68,11 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
       MetricsSystem metricsSystem,
       RecentChainData recentChainData,
       final Eth1DataCache eth1DataCache,
+      final Eth1DepositStorageChannel eth1DepositStorageChannel,
       final Spec spec) {
     this.recentChainData = recentChainData;
     this.eth1DataCache = eth1DataCache;
+    this.eth1DepositStorageChannel = eth1DepositStorageChannel;
     this.spec = spec;
     depositUtil = new DepositUtil(spec);
     depositMerkleTree =
@@ -89,12 +98,41 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
               depositMerkleTree.add(deposit.getData().hashTreeRoot());
             });
     depositCounter.inc(event.getDeposits().size());
-    eth1DataCache.onBlockWithDeposit(
-        event.getBlockTimestamp(),
+    final Eth1Data eth1Data =
         new Eth1Data(
             depositMerkleTree.getRoot(),
             UInt64.valueOf(depositMerkleTree.getNumberOfLeaves()),
-            event.getBlockHash()));
+            event.getBlockHash());
+    unfinalizedDepositBlocks.put(
+        eth1Data.getDepositCount(),
+        new DepositBlock(event.getBlockNumber(), event.getBlockTimestamp(), eth1Data));
+    eth1DataCache.onBlockWithDeposit(event.getBlockTimestamp(), eth1Data);
+  }
+
+  @Override
+  public synchronized void onInitialDepositTreeSnapshot(final DepositTreeSnapshot snapshot) {
+    final MerkleTree restoredMerkleTree =
+        OptimizedMerkleTree.fromFinalizedSubtreeRoots(
+            spec.getGenesisSpecConfig().getDepositContractTreeDepth(),
+            snapshot.getDepositCount().intValue(),
+            snapshot.getFinalized());
+    if (!restoredMerkleTree.getRoot().equals(snapshot.getDepositRoot())) {
+      throw new IllegalStateException(
+          "Deposit tree restored from snapshot has root "
+              + restoredMerkleTree.getRoot()
+              + " but expected "
+              + snapshot.getDepositRoot());
+    }
+    LOG.info(
+        "Restored {} finalized deposits up to Eth1 block {} from snapshot",
+        snapshot.getDepositCount(),
+        snapshot.getBlockNumber());
+    depositMerkleTree = restoredMerkleTree;
+    depositCounter.inc(snapshot.getDepositCount().longValue());
+    eth1DataCache.onBlockWithDeposit(
+        snapshot.getBlockTimestamp(),
+        new Eth1Data(
+            snapshot.getDepositRoot(), snapshot.getDepositCount(), snapshot.getBlockHash()));
   }
 
   @Override
@@ -116,6 +154,30 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
 
   private synchronized void pruneDeposits(final UInt64 fromIndex) {
     depositNavigableMap.headMap(fromIndex, false).clear();
+    updateFinalizedDepositSnapshot(fromIndex);
+  }
+
+  /**
+   * Collapses the deposit tree up to the last Eth1 block whose deposits have all been included in
+   * the finalized state and persists it, so later restarts only replay deposits after that block.
+   */
+  private void updateFinalizedDepositSnapshot(final UInt64 finalizedDepositCount) {
+    final Map.Entry<UInt64, DepositBlock> lastFinalizedBlock =
+        unfinalizedDepositBlocks.floorEntry(finalizedDepositCount);
+    if (lastFinalizedBlock == null) {
+      return;
+    }
+    final DepositBlock block = lastFinalizedBlock.getValue();
+    unfinalizedDepositBlocks.headMap(lastFinalizedBlock.getKey(), true).clear();
+    depositMerkleTree.pruneFinalizedLeaves(lastFinalizedBlock.getKey().intValue());
+    eth1DepositStorageChannel.storeFinalizedDepositSnapshot(
+        new DepositTreeSnapshot(
+            depositMerkleTree.getFinalizedSubtreeRoots(),
+            block.eth1Data.getDepositRoot(),
+            block.eth1Data.getDepositCount(),
+            block.blockNumber,
+            block.eth1Data.getBlockHash(),
+            block.blockTimestamp));
   }
 
   @Override
@@ -200,6 +262,19 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
         .collect(depositsSchema.collector());
   }
 
+  private static class DepositBlock {
+    private final UInt64 blockNumber;
+    private final UInt64 blockTimestamp;
+    private final Eth1Data eth1Data;
+
+    private DepositBlock(
+        final UInt64 blockNumber, final UInt64 blockTimestamp, final Eth1Data eth1Data) {
+      this.blockNumber = blockNumber;
+      this.blockTimestamp = blockTimestamp;
+      this.eth1Data = eth1Data;
+    }
+  }
+
   private static class DepositsSchemaCache {
     private SszListSchema<Deposit, ?> cachedSchema;
 
@@ -104,6 +104,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   private final CombinedChainDataClient combinedChainDataClient;
   private final SyncStateProvider syncStateProvider;
   private final BlockFactory blockFactory;
+  private final BlockTemplateCache blockTemplateCache;
   private final BlockImportChannel blockImportChannel;
   private final BlockGossipChannel blockGossipChannel;
   private final AggregatingAttestationPool attestationPool;
@@ -124,6 +125,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final CombinedChainDataClient combinedChainDataClient,
       final SyncStateProvider syncStateProvider,
       final BlockFactory blockFactory,
+      final BlockTemplateCache blockTemplateCache,
       final BlockImportChannel blockImportChannel,
       final BlockGossipChannel blockGossipChannel,
       final AggregatingAttestationPool attestationPool,
@@ -142,6 +144,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     this.combinedChainDataClient = combinedChainDataClient;
     this.syncStateProvider = syncStateProvider;
     this.blockFactory = blockFactory;
+    this.blockTemplateCache = blockTemplateCache;
     this.blockImportChannel = blockImportChannel;
     this.blockGossipChannel = blockGossipChannel;
     this.attestationPool = attestationPool;
@@ -282,6 +285,11 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
         .prepareForBlockProduction(slot)
         .thenCompose(
             __ -> {
+              final Optional<BlockTemplate> template = blockTemplateCache.getTemplate(slot);
+              if (template.isPresent()) {
+                return SafeFuture.of(
+                    () -> createBlockFromTemplate(template.get(), randaoReveal, graffiti, blinded));
+              }
               final SafeFuture<Optional<BeaconState>> blockSlotStateFuture =
                   combinedChainDataClient.getStateAtSlotExact(slot);
               return blockSlotStateFuture.thenApplyChecked(
@@ -301,15 +309,28 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       return Optional.empty();
     }
     final BeaconState blockSlotState = maybeBlockSlotState.get();
-    final Bytes32 parentRoot = spec.getBlockRootAtSlot(blockSlotState, slot.minus(1));
+    checkParentNotOptimistic(spec.getBlockRootAtSlot(blockSlotState, slot.minus(1)), slot);
+    return Optional.of(
+        blockFactory.createUnsignedBlock(blockSlotState, slot, randaoReveal, graffiti, blinded));
+  }
+
+  private Optional<BeaconBlock> createBlockFromTemplate(
+      final BlockTemplate template,
+      final BLSSignature randaoReveal,
+      final Optional<Bytes32> graffiti,
+      final boolean blinded)
+      throws StateTransitionException {
+    checkParentNotOptimistic(template.getParentRoot(), template.getSlot());
+    return Optional.of(blockFactory.createUnsignedBlock(template, randaoReveal, graffiti, blinded));
+  }
+
+  private void checkParentNotOptimistic(final Bytes32 parentRoot, final UInt64 slot) {
     if (combinedChainDataClient.isOptimisticBlock(parentRoot)) {
       LOG.warn(
           "Unable to produce block at slot {} because parent has optimistically validated payload",
           slot);
       throw new NodeSyncingException();
     }
-    return Optional.of(
-        blockFactory.createUnsignedBlock(blockSlotState, slot, randaoReveal, graffiti, blinded));
   }
 
   @Override
@@ -105,6 +105,15 @@ class BlockFactoryTest {
         .createSyncAggregateForBlock(UInt64.ONE, block.getParentRoot());
   }
 
+  @Test
+  void shouldCreateBlockFromTemplate() throws Exception {
+    final BeaconBlock block =
+        assertBlockCreated(1, TestSpecFactory.createMinimalAltair(), false, false, true);
+    verify(attestationsPool).getAttestationsForBlock(any(), any(), any());
+    verify(syncCommitteeContributionPool)
+        .createSyncAggregateForBlock(UInt64.ONE, block.getParentRoot());
+  }
+
   @Test
   void shouldIncludeExecutionPayloadWhenBellatrixIsActive() throws Exception {
     final BeaconBlock block =
@@ -269,6 +278,16 @@ class BlockFactoryTest {
   private BeaconBlock assertBlockCreated(
       final int blockSlot, final Spec spec, final boolean isMevBoostEnabled, final boolean blinded)
       throws StateTransitionException {
+    return assertBlockCreated(blockSlot, spec, isMevBoostEnabled, blinded, false);
+  }
+
+  private BeaconBlock assertBlockCreated(
+      final int blockSlot,
+      final Spec spec,
+      final boolean isMevBoostEnabled,
+      final boolean blinded,
+      final boolean useTemplate)
+      throws StateTransitionException {
     final UInt64 newSlot = UInt64.valueOf(blockSlot);
     final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
     final BeaconBlockBodyLists blockBodyLists = BeaconBlockBodyLists.ofSpec(spec);
@@ -339,8 +358,14 @@ class BlockFactoryTest {
         .thenAnswer(invocation -> createEmptySyncAggregate(spec));
 
     final BeaconBlock block =
-        blockFactory.createUnsignedBlock(
-            blockSlotState, newSlot, randaoReveal, Optional.empty(), blinded);
+        useTemplate
+            ? blockFactory.createUnsignedBlock(
+                blockFactory.createBlockTemplate(blockSlotState),
+                randaoReveal,
+                Optional.empty(),
+                blinded)
+            : blockFactory.createUnsignedBlock(
+                blockSlotState, newSlot, randaoReveal, Optional.empty(), blinded);
 
     assertThat(block).isNotNull();
     assertThat(block.getSlot()).isEqualTo(newSlot);
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beacon.sync.events.SyncState;
+import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
+import tech.pegasys.teku.core.ChainBuilder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.ChainHead;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+class BlockTemplateCacheTest {
+  private static final UInt64 SLOT = UInt64.valueOf(25);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final CombinedChainDataClient chainDataClient = mock(CombinedChainDataClient.class);
+  private final SyncStateProvider syncStateProvider = mock(SyncStateProvider.class);
+  private final ActiveValidatorTracker activeValidatorTracker = mock(ActiveValidatorTracker.class);
+  private final BlockFactory blockFactory = mock(BlockFactory.class);
+
+  private final UInt64 epoch = spec.computeEpochAtSlot(SLOT);
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+  private final ChainHead chainHead = mock(ChainHead.class);
+  private BeaconState genesisState;
+  private BeaconState blockSlotState;
+  private int proposerIndex;
+  private BlockTemplate template;
+
+  private final BlockTemplateCache blockTemplateCache =
+      new BlockTemplateCache(
+          spec,
+          metricsSystem,
+          asyncRunner,
+          timeProvider,
+          chainDataClient,
+          syncStateProvider,
+          activeValidatorTracker,
+          blockFactory);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+    genesisState = chainBuilder.generateGenesis().getState();
+    blockSlotState = spec.processSlots(genesisState, SLOT);
+    proposerIndex = spec.getBeaconProposerIndex(blockSlotState, SLOT);
+    template = new BlockTemplate(blockSlotState, headRoot, mock(BlockOperations.class));
+
+    when(syncStateProvider.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
+    when(chainDataClient.getGenesisTime()).thenReturn(Optional.of(UInt64.ZERO));
+    when(chainDataClient.getBestBlockRoot()).thenReturn(Optional.of(headRoot));
+    withChainHeadState(spec.processSlots(genesisState, SLOT.minus(1)));
+    when(chainDataClient.getStateAtSlotExact(SLOT, headRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(blockSlotState)));
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(epoch)).thenReturn(1);
+    when(activeValidatorTracker.isValidatorActiveInEpoch(proposerIndex, epoch)).thenReturn(true);
+    when(blockFactory.createBlockTemplate(blockSlotState)).thenReturn(template);
+  }
+
+  @Test
+  void shouldPrepareTemplateOneSecondBeforeSlotStarts() {
+    final UInt64 preparationTimeMillis =
+        spec.getSlotStartTimeMillis(SLOT, UInt64.ZERO)
+            .minus(BlockTemplateCache.PREPARATION_LEAD_TIME_MILLIS);
+    blockTemplateCache.onSlot(SLOT.minus(1));
+
+    timeProvider.advanceTimeByMillis(preparationTimeMillis.longValue() - 1);
+    asyncRunner.executeDueActions();
+    verify(blockFactory, never()).createBlockTemplate(any());
+
+    timeProvider.advanceTimeByMillis(1);
+    asyncRunner.executeDueActions();
+    verify(blockFactory).createBlockTemplate(blockSlotState);
+  }
+
+  @Test
+  void shouldReuseTemplateWhenHeadIsUnchanged() {
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    assertThat(blockTemplateCache.getTemplate(SLOT)).contains(template);
+    assertRequestCount(BlockTemplateCache.RESULT_REUSED, 1);
+  }
+
+  @Test
+  void shouldNotUseTemplateWhenHeadHasChanged() {
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+    when(chainDataClient.getBestBlockRoot())
+        .thenReturn(Optional.of(dataStructureUtil.randomBytes32()));
+
+    assertThat(blockTemplateCache.getTemplate(SLOT)).isEmpty();
+    assertRequestCount(BlockTemplateCache.RESULT_HEAD_CHANGED, 1);
+  }
+
+  @Test
+  void shouldNotUseTemplateForDifferentSlot() {
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    assertThat(blockTemplateCache.getTemplate(SLOT.plus(1))).isEmpty();
+    assertRequestCount(BlockTemplateCache.RESULT_UNAVAILABLE, 1);
+  }
+
+  @Test
+  void shouldDropTemplateOnceSlotHasPassed() {
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    blockTemplateCache.onSlot(SLOT.plus(1));
+
+    assertThat(blockTemplateCache.getTemplate(SLOT)).isEmpty();
+  }
+
+  @Test
+  void shouldNotPrepareTemplateWhenProposerIsNotLocal() {
+    when(activeValidatorTracker.isValidatorActiveInEpoch(proposerIndex, epoch)).thenReturn(false);
+
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    verify(blockFactory, never()).createBlockTemplate(any());
+    assertThat(blockTemplateCache.getTemplate(SLOT)).isEmpty();
+    assertRequestCount(BlockTemplateCache.RESULT_UNAVAILABLE, 1);
+  }
+
+  @Test
+  void shouldNotAdvanceStateWhenNoValidatorsAreActive() {
+    when(activeValidatorTracker.getNumberOfValidatorsForEpoch(epoch)).thenReturn(0);
+
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    verify(chainDataClient, never()).getStateAtSlotExact(any(), any());
+  }
+
+  @Test
+  void shouldNotPrepareTemplateWhenSyncing() {
+    when(syncStateProvider.getCurrentSyncState()).thenReturn(SyncState.SYNCING);
+
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    verify(chainDataClient, never()).getStateAtSlotExact(any(), any());
+  }
+
+  @Test
+  void shouldNotPrepareTemplateWhenHeadIsOptimistic() {
+    when(chainDataClient.isOptimisticBlock(headRoot)).thenReturn(true);
+
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    verify(chainDataClient, never()).getStateAtSlotExact(any(), any());
+  }
+
+  @Test
+  void shouldNotAdvanceStateWhenHeadStateShowsProposerIsNotLocal() {
+    when(activeValidatorTracker.isValidatorActiveInEpoch(proposerIndex, epoch)).thenReturn(false);
+
+    assertThat(blockTemplateCache.prepareTemplate(SLOT)).isCompleted();
+
+    verify(chainDataClient, never()).getStateAtSlotExact(any(), any());
+    verify(blockFactory, never()).createBlockTemplate(any());
+  }
+
+  @Test
+  void shouldAdvanceStateToFindProposerWhenSlotIsInNextEpoch() throws Exception {
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+    final BeaconState epochStartState = spec.processSlots(genesisState, epochStartSlot);
+    final int epochStartProposerIndex =
+        spec.getBeaconProposerIndex(epochStartState, epochStartSlot);
+    withChainHeadState(spec.processSlots(genesisState, epochStartSlot.minus(1)));
+    when(chainDataClient.getStateAtSlotExact(epochStartSlot, headRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(epochStartState)));
+    when(activeValidatorTracker.isValidatorActiveInEpoch(epochStartProposerIndex, epoch))
+        .thenReturn(true);
+
+    assertThat(blockTemplateCache.prepareTemplate(epochStartSlot)).isCompleted();
+
+    verify(blockFactory).createBlockTemplate(epochStartState);
+  }
+
+  private void withChainHeadState(final BeaconState headState) {
+    when(chainHead.getRoot()).thenReturn(headRoot);
+    when(chainHead.getState()).thenReturn(SafeFuture.completedFuture(headState));
+    when(chainDataClient.getChainHead()).thenReturn(Optional.of(chainHead));
+  }
+
+  private void assertRequestCount(final String result, final long expected) {
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.VALIDATOR, "block_template_requests_total")
+                .getValue(result))
+        .isEqualTo(expected);
+  }
+}
@@ -15,8 +15,10 @@ package tech.pegasys.teku.validator.coordinator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +29,8 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -48,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.util.DepositUtil;
 import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
 import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class DepositProviderTest {
@@ -57,6 +62,8 @@ public class DepositProviderTest {
   private final RecentChainData recentChainData = mock(RecentChainData.class);
   private final BeaconState state = mock(BeaconState.class);
   private final Eth1DataCache eth1DataCache = mock(Eth1DataCache.class);
+  private final Eth1DepositStorageChannel eth1DepositStorageChannel =
+      mock(Eth1DepositStorageChannel.class);
   private List<tech.pegasys.teku.ethereum.pow.api.Deposit> allSeenDepositsList;
   private DepositProvider depositProvider;
   private Eth1Data randomEth1Data;
@@ -71,8 +78,7 @@ public class DepositProviderTest {
     spec = TestSpecFactory.createPhase0(specConfig);
     depositUtil = new DepositUtil(spec);
     dataStructureUtil = new DataStructureUtil(spec);
-    depositProvider =
-        new DepositProvider(new StubMetricsSystem(), recentChainData, eth1DataCache, spec);
+    depositProvider = createDepositProvider(eth1DataCache);
     depositMerkleTree =
         new OptimizedMerkleTree(spec.getGenesisSpecConfig().getDepositContractTreeDepth());
     mockStateEth1DataVotes();
@@ -159,6 +165,64 @@ public class DepositProviderTest {
     assertThat(depositProvider.getDepositMapSize()).isEqualTo(10);
   }
 
+  @Test
+  void shouldNotStoreDepositSnapshotWhenNoCompleteBlockIsFinalized() {
+    setup(16);
+    mockDepositsFromBlock(1, 0, 10);
+    finalizeDepositIndex(5);
+
+    verify(eth1DepositStorageChannel, never()).storeFinalizedDepositSnapshot(any());
+  }
+
+  @Test
+  void shouldStoreSnapshotOfLastFinalizedDepositBlock() {
+    setup(16);
+    final DepositsFromBlockEvent block1 = mockDepositsFromBlock(1, 0, 10);
+    final Bytes32 block1DepositRoot = depositMerkleTree.getRoot();
+    mockDepositsFromBlock(2, 10, 20);
+
+    finalizeDepositIndex(15);
+
+    final DepositTreeSnapshot snapshot = captureStoredSnapshot();
+    assertThat(snapshot.getDepositCount()).isEqualTo(UInt64.valueOf(10));
+    assertThat(snapshot.getDepositRoot()).isEqualTo(block1DepositRoot);
+    assertThat(snapshot.getBlockNumber()).isEqualTo(block1.getBlockNumber());
+    assertThat(snapshot.getBlockHash()).isEqualTo(block1.getBlockHash());
+    assertThat(snapshot.getBlockTimestamp()).isEqualTo(block1.getBlockTimestamp());
+
+    // Proofs for deposits after the finalized ones are still available
+    mockEth1DataDepositCount(20);
+    final SszList<Deposit> deposits = depositProvider.getDeposits(state, randomEth1Data);
+    assertThat(deposits).hasSize(5);
+    checkThatDepositProofIsValid(deposits);
+  }
+
+  @Test
+  void shouldRestoreDepositTreeFromSnapshot() {
+    setup(16);
+    mockDepositsFromBlock(1, 0, 10);
+    final DepositsFromBlockEvent block2 = mockDepositsFromBlock(2, 10, 20);
+    final DepositsFromBlockEvent block3 = mockDepositsFromBlock(3, 20, 25);
+    finalizeDepositIndex(20);
+    final DepositTreeSnapshot snapshot = captureStoredSnapshot();
+    assertThat(snapshot.getBlockNumber()).isEqualTo(block2.getBlockNumber());
+
+    final Eth1DataCache restoredEth1DataCache = mock(Eth1DataCache.class);
+    final DepositProvider restoredDepositProvider = createDepositProvider(restoredEth1DataCache);
+    restoredDepositProvider.onInitialDepositTreeSnapshot(snapshot);
+    restoredDepositProvider.onDepositsFromBlock(block3);
+
+    verify(restoredEth1DataCache)
+        .onBlockWithDeposit(
+            block2.getBlockTimestamp(),
+            new Eth1Data(
+                snapshot.getDepositRoot(), snapshot.getDepositCount(), block2.getBlockHash()));
+    mockEth1DataDepositCount(25);
+    final SszList<Deposit> deposits = restoredDepositProvider.getDeposits(state, randomEth1Data);
+    assertThat(deposits).hasSize(5);
+    checkThatDepositProofIsValid(deposits);
+  }
+
   @Test
   void shouldDelegateOnEth1BlockToEth1DataCache() {
     setup(16);
@@ -266,6 +330,44 @@ public class DepositProviderTest {
                 .isTrue());
   }
 
+  private DepositProvider createDepositProvider(final Eth1DataCache eth1DataCache) {
+    return new DepositProvider(
+        new StubMetricsSystem(), recentChainData, eth1DataCache, eth1DepositStorageChannel, spec);
+  }
+
+  private DepositsFromBlockEvent mockDepositsFromBlock(
+      final long blockNumber, final int startIndex, final int endIndex) {
+    allSeenDepositsList.subList(startIndex, endIndex).stream()
+        .map(depositUtil::convertDepositEventToOperationDeposit)
+        .map(Deposit::getData)
+        .map(DepositData::hashTreeRoot)
+        .forEachOrdered(depositMerkleTree::add);
+
+    final DepositsFromBlockEvent event =
+        DepositsFromBlockEvent.create(
+            UInt64.valueOf(blockNumber),
+            dataStructureUtil.randomBytes32(),
+            UInt64.valueOf(blockNumber * 12),
+            allSeenDepositsList.subList(startIndex, endIndex).stream());
+    depositProvider.onDepositsFromBlock(event);
+    return event;
+  }
+
+  private void finalizeDepositIndex(final int depositIndex) {
+    final Bytes32 finalizedBlockRoot = dataStructureUtil.randomBytes32();
+    mockStateEth1DepositIndex(depositIndex);
+    when(recentChainData.retrieveBlockState(eq(finalizedBlockRoot)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, finalizedBlockRoot), false);
+  }
+
+  private DepositTreeSnapshot captureStoredSnapshot() {
+    final ArgumentCaptor<DepositTreeSnapshot> snapshotCaptor =
+        ArgumentCaptor.forClass(DepositTreeSnapshot.class);
+    verify(eth1DepositStorageChannel).storeFinalizedDepositSnapshot(snapshotCaptor.capture());
+    return snapshotCaptor.getValue();
+  }
+
   private void createDepositEvents(int n) {
     allSeenDepositsList =
         IntStream.range(0, n)
@@ -111,6 +111,7 @@ class ValidatorApiHandlerTest {
   private final CombinedChainDataClient chainDataClient = mock(CombinedChainDataClient.class);
   private final SyncStateProvider syncStateProvider = mock(SyncStateProvider.class);
   private final BlockFactory blockFactory = mock(BlockFactory.class);
+  private final BlockTemplateCache blockTemplateCache = mock(BlockTemplateCache.class);
   private final AggregatingAttestationPool attestationPool = mock(AggregatingAttestationPool.class);
   private final AttestationManager attestationManager = mock(AttestationManager.class);
   private final AttestationTopicSubscriber attestationTopicSubscriptions =
@@ -137,6 +138,7 @@ class ValidatorApiHandlerTest {
           chainDataClient,
           syncStateProvider,
           blockFactory,
+          blockTemplateCache,
           blockImportChannel,
           blockGossipChannel,
           attestationPool,
@@ -387,6 +389,7 @@ class ValidatorApiHandlerTest {
             chainDataClient,
             syncStateProvider,
             blockFactory,
+            blockTemplateCache,
             blockImportChannel,
             blockGossipChannel,
             attestationPool,
@@ -467,6 +470,47 @@ class ValidatorApiHandlerTest {
     assertThat(result).isCompletedWithValue(Optional.of(createdBlock));
   }
 
+  @Test
+  public void createUnsignedBlock_shouldCreateBlockFromPreparedTemplate() throws Exception {
+    final UInt64 newSlot = UInt64.valueOf(25);
+    final BeaconState blockSlotState = dataStructureUtil.randomBeaconState(newSlot);
+    final BlockTemplate template =
+        new BlockTemplate(
+            blockSlotState, dataStructureUtil.randomBytes32(), mock(BlockOperations.class));
+    final BLSSignature randaoReveal = dataStructureUtil.randomSignature();
+    final BeaconBlock createdBlock = dataStructureUtil.randomBeaconBlock(newSlot.longValue());
+
+    when(blockTemplateCache.getTemplate(newSlot)).thenReturn(Optional.of(template));
+    when(blockFactory.createUnsignedBlock(template, randaoReveal, Optional.empty(), false))
+        .thenReturn(createdBlock);
+
+    final SafeFuture<Optional<BeaconBlock>> result =
+        validatorApiHandler.createUnsignedBlock(newSlot, randaoReveal, Optional.empty(), false);
+
+    assertThat(result).isCompletedWithValue(Optional.of(createdBlock));
+    verify(chainDataClient, never()).getStateAtSlotExact(any());
+  }
+
+  @Test
+  public void createUnsignedBlock_shouldNotUseTemplateWhenParentBlockIsOptimistic() {
+    final UInt64 newSlot = UInt64.valueOf(25);
+    final BlockTemplate template =
+        new BlockTemplate(
+            dataStructureUtil.randomBeaconState(newSlot),
+            dataStructureUtil.randomBytes32(),
+            mock(BlockOperations.class));
+    when(blockTemplateCache.getTemplate(newSlot)).thenReturn(Optional.of(template));
+    when(chainDataClient.isOptimisticBlock(template.getParentRoot())).thenReturn(true);
+
+    final SafeFuture<Optional<BeaconBlock>> result =
+        validatorApiHandler.createUnsignedBlock(
+            newSlot, dataStructureUtil.randomSignature(), Optional.empty(), false);
+
+    assertThat(result).isCompletedExceptionally();
+    assertThatThrownBy(result::get).hasRootCauseInstanceOf(NodeSyncingException.class);
+    verifyNoInteractions(blockFactory);
+  }
+
   @Test
   public void createAttestationData_shouldFailWhenNodeIsSyncing() {
     nodeIsSyncing();
@@ -22,13 +22,17 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONS
 import java.io.IOException;
 import okhttp3.Response;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.v2.debug.GetStateResponseV2;
+import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.api.schema.Version;
 import tech.pegasys.teku.api.schema.altair.BeaconStateAltair;
 import tech.pegasys.teku.api.schema.phase0.BeaconStatePhase0;
 import tech.pegasys.teku.beaconrestapi.AbstractDataBackedRestAPIIntegrationTest;
 import tech.pegasys.teku.beaconrestapi.handlers.v2.debug.GetState;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
 public class GetStateIntegrationTest extends AbstractDataBackedRestAPIIntegrationTest {
   @Test
@@ -65,6 +69,28 @@ public class GetStateIntegrationTest extends AbstractDataBackedRestAPIIntegratio
     assertThat(response.header(HEADER_CONSENSUS_VERSION)).isEqualTo(Version.altair.name());
   }
 
+  @ParameterizedTest
+  @EnumSource(
+      value = SpecMilestone.class,
+      names = {"PHASE0", "ALTAIR", "BELLATRIX"})
+  public void shouldStreamSameJsonAsApiSchemaSerialization(final SpecMilestone milestone)
+      throws IOException {
+    startRestAPIAtGenesis(milestone);
+    createBlocksAtSlots(1, 2);
+    final ObjectAndMetaData<BeaconState> state =
+        dataProvider.getChainDataProvider().getBeaconState("head").join().orElseThrow();
+    final String expected =
+        jsonProvider.objectToJSON(
+            new GetStateResponseV2(
+                Version.fromMilestone(milestone),
+                state.isExecutionOptimisticForApi(),
+                state.getData()));
+
+    final Response response = get("head", HEADER_ACCEPT_JSON);
+    assertThat(response.code()).isEqualTo(SC_OK);
+    assertThat(response.body().string()).isEqualTo(expected);
+  }
+
   public Response get(final String stateIdIdString, final String contentType) throws IOException {
     return getResponse(GetState.ROUTE.replace("{state_id}", stateIdIdString), contentType);
   }
@@ -20,18 +20,25 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCE
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Iterators;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import java.io.ByteArrayInputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.commonjava.mimeparse.MIMEParse;
+import org.eclipse.jetty.server.Request;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+import tech.pegasys.teku.infrastructure.json.StreamingJsonInputStream;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public abstract class AbstractHandler implements Handler {
@@ -52,6 +59,14 @@ public abstract class AbstractHandler implements Handler {
     }
   }
 
+  /** Returns true if the request body is SSZ encoded rather than JSON. */
+  protected boolean isSszRequestBody(final Context ctx) {
+    return Optional.ofNullable(ctx.contentType())
+        .map(contentType -> contentType.split(";", 2)[0].trim())
+        .filter(HEADER_ACCEPT_OCTET::equalsIgnoreCase)
+        .isPresent();
+  }
+
   protected <T> void handleOptionalResult(
       final Context ctx, SafeFuture<Optional<T>> future, final int missingStatus) {
     handleOptionalResult(
@@ -117,6 +132,64 @@ public abstract class AbstractHandler implements Handler {
             }));
   }
 
+  /**
+   * Writes the result as JSON produced incrementally by the writers returned from the processor, so
+   * that large responses never need to be held in memory as a single string.
+   */
+  protected <T> void handleOptionalStreamingResult(
+      final Context ctx,
+      final SafeFuture<Optional<T>> future,
+      final ResultStreamProcessor<T> resultProcessor,
+      final int missingStatus) {
+    ctx.future(
+        future.thenApplyChecked(
+            result -> {
+              if (result.isPresent()) {
+                return new StreamingJsonInputStream(
+                    jsonProvider.getObjectMapper().getFactory(),
+                    resultProcessor.process(ctx, result.get()),
+                    error -> abortStreamingResponse(ctx, error));
+              } else {
+                ctx.status(missingStatus);
+                return BadRequest.serialize(jsonProvider, missingStatus, "Not found");
+              }
+            }));
+  }
+
+  private void abortStreamingResponse(final Context ctx, final Throwable error) {
+    LOG.error("Failed to write response for {}", ctx.path(), error);
+    // The status and part of the body may already have been sent, so abort the connection instead
+    // of letting the response complete normally with a truncated body.
+    final Request request = Request.getBaseRequest(ctx.req);
+    if (request != null) {
+      request.getHttpChannel().abort(error);
+    }
+  }
+
+  /**
+   * Creates writers for a {@code {"execution_optimistic": ..., "data": [...]}} response where each
+   * element of the data array is serialized by its own writer as the stream is consumed.
+   */
+  protected Iterator<JsonWriter> dataArrayWriters(
+      final Boolean executionOptimistic, final Stream<?> data) {
+    final ObjectMapper objectMapper = jsonProvider.getObjectMapper();
+    return Iterators.concat(
+        Iterators.singletonIterator(
+            gen -> {
+              gen.writeStartObject();
+              if (executionOptimistic != null) {
+                gen.writeBooleanField("execution_optimistic", executionOptimistic);
+              }
+              gen.writeArrayFieldStart("data");
+            }),
+        data.<JsonWriter>map(element -> gen -> objectMapper.writeValue(gen, element)).iterator(),
+        Iterators.singletonIterator(
+            gen -> {
+              gen.writeEndArray();
+              gen.writeEndObject();
+            }));
+  }
+
   protected <T> void handleOptionalSszResult(
       final Context ctx,
       SafeFuture<Optional<T>> future,
@@ -178,6 +251,12 @@ public abstract class AbstractHandler implements Handler {
     Optional<ByteArrayInputStream> process(Context context, T result) throws Exception;
   }
 
+  @FunctionalInterface
+  public interface ResultStreamProcessor<T> {
+    // Process result, returning the writers that produce the JSON response in order
+    Iterator<JsonWriter> process(Context context, T result) throws Exception;
+  }
+
   @FunctionalInterface
   public interface SszFilenameFromResult<T> {
     String getFilename(T result) throws Exception;
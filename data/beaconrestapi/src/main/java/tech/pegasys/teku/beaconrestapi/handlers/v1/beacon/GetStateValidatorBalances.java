@@ -24,7 +24,6 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_NOT_FOU
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -33,9 +32,11 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -44,6 +45,7 @@ import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
 import tech.pegasys.teku.beaconrestapi.ListQueryParameterUtils;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
@@ -94,17 +96,14 @@ public class GetStateValidatorBalances extends AbstractHandler implements Handle
         queryParameters.containsKey(PARAM_ID)
             ? ListQueryParameterUtils.getParameterAsStringList(ctx.queryParamMap(), PARAM_ID)
             : Collections.emptyList();
-    final SafeFuture<Optional<ObjectAndMetaData<List<ValidatorBalanceResponse>>>> future =
-        chainDataProvider.getStateValidatorBalances(pathParamMap.get(PARAM_STATE_ID), validators);
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
+    final SafeFuture<Optional<ObjectAndMetaData<Stream<ValidatorBalanceResponse>>>> future =
+        chainDataProvider.getStateValidatorBalancesStream(
+            pathParamMap.get(PARAM_STATE_ID), validators);
+    handleOptionalStreamingResult(ctx, future, this::handleResult, SC_NOT_FOUND);
   }
 
-  private Optional<String> handleResult(
-      Context ctx, final ObjectAndMetaData<List<ValidatorBalanceResponse>> response)
-      throws JsonProcessingException {
-    return Optional.of(
-        jsonProvider.objectToJSON(
-            new GetStateValidatorBalancesResponse(
-                response.isExecutionOptimisticForApi(), response.getData())));
+  private Iterator<JsonWriter> handleResult(
+      Context ctx, final ObjectAndMetaData<Stream<ValidatorBalanceResponse>> response) {
+    return dataArrayWriters(response.isExecutionOptimisticForApi(), response.getData());
   }
 }
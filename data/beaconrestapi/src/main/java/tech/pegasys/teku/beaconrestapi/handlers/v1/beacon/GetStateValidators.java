@@ -27,7 +27,6 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SERVICE_UNA
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.STATUS;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
 import io.javalin.plugin.openapi.annotations.OpenApi;
@@ -35,10 +34,12 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -48,6 +49,7 @@ import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.beaconrestapi.ListQueryParameterUtils;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
@@ -116,19 +118,15 @@ public class GetStateValidators extends AbstractHandler {
 
     final Set<ValidatorStatus> statusFilter = stateValidatorsUtil.parseStatusFilter(queryParamMap);
 
-    SafeFuture<Optional<ObjectAndMetaData<List<ValidatorResponse>>>> future =
-        chainDataProvider.getStateValidators(
+    SafeFuture<Optional<ObjectAndMetaData<Stream<ValidatorResponse>>>> future =
+        chainDataProvider.getStateValidatorsStream(
             pathParamMap.getOrDefault(PARAM_STATE_ID, "head"), validators, statusFilter);
 
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
+    handleOptionalStreamingResult(ctx, future, this::handleResult, SC_NOT_FOUND);
   }
 
-  private Optional<String> handleResult(
-      Context ctx, final ObjectAndMetaData<List<ValidatorResponse>> response)
-      throws JsonProcessingException {
-    return Optional.of(
-        jsonProvider.objectToJSON(
-            new GetStateValidatorsResponse(
-                response.isExecutionOptimisticForApi(), response.getData())));
+  private Iterator<JsonWriter> handleResult(
+      Context ctx, final ObjectAndMetaData<Stream<ValidatorResponse>> response) {
+    return dataArrayWriters(response.isExecutionOptimisticForApi(), response.getData());
   }
 }
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_INTERNAL_ERROR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_OK;
@@ -29,6 +30,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
@@ -58,10 +60,14 @@ public class PostAttestation extends AbstractHandler {
       tags = {TAG_BEACON, TAG_VALIDATOR_REQUIRED},
       requestBody =
           @OpenApiRequestBody(
-              content = {@OpenApiContent(from = Attestation.class, isArray = true)}),
+              content = {
+                @OpenApiContent(from = Attestation.class, isArray = true),
+                @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+              }),
       description =
           "Submit signed attestations to the beacon node to be validated and submitted if valid.\n\n"
-              + "This endpoint does not protected against slashing.",
+              + "This endpoint does not protected against slashing.\n\n"
+              + "Use Content-Type `application/octet-stream` to submit an SSZ encoded list.",
       responses = {
         @OpenApiResponse(
             status = RES_OK,
@@ -75,10 +81,14 @@ public class PostAttestation extends AbstractHandler {
   @Override
   public void handle(final Context ctx) throws Exception {
     try {
-      final List<Attestation> attestations =
-          Arrays.asList(parseRequestBody(ctx.body(), Attestation[].class));
-      final SafeFuture<Optional<PostDataFailureResponse>> future =
-          provider.submitAttestations(attestations);
+      final SafeFuture<Optional<PostDataFailureResponse>> future;
+      if (isSszRequestBody(ctx)) {
+        future = provider.submitSszAttestations(Bytes.wrap(ctx.bodyAsBytes()));
+      } else {
+        final List<Attestation> attestations =
+            Arrays.asList(parseRequestBody(ctx.body(), Attestation[].class));
+        future = provider.submitAttestations(attestations);
+      }
 
       handlePostDataResult(ctx, future);
     } catch (final IllegalArgumentException e) {
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_INTERNAL_ERROR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_OK;
@@ -29,6 +30,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
@@ -58,12 +60,16 @@ public class PostSyncCommittees extends AbstractHandler {
       tags = {TAG_BEACON, TAG_VALIDATOR_REQUIRED},
       requestBody =
           @OpenApiRequestBody(
-              content = {@OpenApiContent(from = SyncCommitteeMessage.class, isArray = true)}),
+              content = {
+                @OpenApiContent(from = SyncCommitteeMessage.class, isArray = true),
+                @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+              }),
       description =
           "Submits sync committee message objects to the node.\n\n"
               + "Sync committee messages are not present in phase0, but are required for Altair networks.\n\n"
               + "If a sync committee message is validated successfully the node MUST publish that sync committee message on all applicable subnets.\n\n"
-              + "If one or more sync committee messages fail validation the node MUST return a 400 error with details of which sync committee messages have failed, and why.",
+              + "If one or more sync committee messages fail validation the node MUST return a 400 error with details of which sync committee messages have failed, and why.\n\n"
+              + "Use Content-Type `application/octet-stream` to submit an SSZ encoded list.",
       responses = {
         @OpenApiResponse(
             status = RES_OK,
@@ -77,10 +83,14 @@ public class PostSyncCommittees extends AbstractHandler {
   @Override
   public void handle(final Context ctx) throws Exception {
     try {
-      final List<SyncCommitteeMessage> messages =
-          Arrays.asList(parseRequestBody(ctx.body(), SyncCommitteeMessage[].class));
-      final SafeFuture<Optional<PostDataFailureResponse>> future =
-          provider.submitCommitteeSignatures(messages);
+      final SafeFuture<Optional<PostDataFailureResponse>> future;
+      if (isSszRequestBody(ctx)) {
+        future = provider.submitSszCommitteeSignatures(Bytes.wrap(ctx.bodyAsBytes()));
+      } else {
+        final List<SyncCommitteeMessage> messages =
+            Arrays.asList(parseRequestBody(ctx.body(), SyncCommitteeMessage[].class));
+        future = provider.submitCommitteeSignatures(messages);
+      }
 
       handlePostDataResult(ctx, future);
 
@@ -28,7 +28,8 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_SERVICE
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SERVICE_UNAVAILABLE;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_DEBUG;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.Iterators;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -37,6 +38,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.io.ByteArrayInputStream;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
@@ -44,13 +46,14 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.response.SszResponse;
 import tech.pegasys.teku.api.response.v1.debug.GetStateResponse;
-import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.api.schema.Version;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+import tech.pegasys.teku.infrastructure.ssz.schema.json.SszJsonWriters;
 import tech.pegasys.teku.provider.JsonProvider;
-import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 
 public class GetState extends AbstractHandler implements Handler {
   private static final String OAPI_ROUTE = "/eth/v1/debug/beacon/states/:state_id";
@@ -101,9 +104,9 @@ public class GetState extends AbstractHandler implements Handler {
     } else {
       // accept header is not octet, could be anything else, or even not set - our default return is
       // json.
-      final SafeFuture<Optional<ObjectAndMetaData<BeaconState>>> future =
-          chainDataProvider.getBeaconState(pathParamMap.get(PARAM_STATE_ID));
-      handleOptionalResult(ctx, future, this::handleJsonResult, SC_NOT_FOUND);
+      final SafeFuture<Optional<StateAndMetaData>> future =
+          chainDataProvider.getBeaconStateAndMetadata(pathParamMap.get(PARAM_STATE_ID));
+      handleOptionalStreamingResult(ctx, future, this::handleJsonResult, SC_NOT_FOUND);
     }
   }
 
@@ -116,19 +119,28 @@ public class GetState extends AbstractHandler implements Handler {
     return Optional.of(response.byteStream);
   }
 
-  private Optional<String> handleJsonResult(
-      Context ctx, final ObjectAndMetaData<BeaconState> response) throws JsonProcessingException {
+  private Iterator<JsonWriter> handleJsonResult(Context ctx, final StateAndMetaData response) {
     final Version version = Version.fromMilestone(response.getMilestone());
     if (!version.equals(Version.phase0)) {
       ctx.status(SC_BAD_REQUEST);
-      return Optional.of(
-          BadRequest.badRequest(
-              jsonProvider,
+      final BadRequest badRequest =
+          new BadRequest(
+              SC_BAD_REQUEST,
               String.format(
                   "Slot %s is not a phase0 slot, please fetch via /eth/v2/debug/states",
-                  response.getData().slot)));
+                  response.getData().getSlot()));
+      return Iterators.singletonIterator(
+          gen -> jsonProvider.getObjectMapper().writeValue(gen, badRequest));
     }
-    return Optional.of(
-        jsonProvider.objectToJSON(new GetStateResponse(version, response.getData())));
+    // The phase0 SSZ JSON representation matches GetStateResponse, so the state can be written
+    // directly from its backing tree without first converting it to the API schema objects.
+    return Iterators.concat(
+        Iterators.singletonIterator(
+            gen -> {
+              gen.writeStartObject();
+              gen.writeFieldName("data");
+            }),
+        SszJsonWriters.containerWriters(response.getData()),
+        Iterators.singletonIterator(JsonGenerator::writeEndObject));
   }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 
 import static java.util.Arrays.asList;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_INTERNAL_ERROR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_OK;
@@ -29,6 +30,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
@@ -61,9 +63,13 @@ public class PostAggregateAndProofs extends AbstractHandler implements Handler {
       tags = {TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED},
       requestBody =
           @OpenApiRequestBody(
-              content = {@OpenApiContent(from = SignedAggregateAndProof.class, isArray = true)}),
+              content = {
+                @OpenApiContent(from = SignedAggregateAndProof.class, isArray = true),
+                @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+              }),
       description =
-          "Verifies given aggregate and proofs and publishes it on appropriate gossipsub topic.",
+          "Verifies given aggregate and proofs and publishes it on appropriate gossipsub topic.\n\n"
+              + "Use Content-Type `application/octet-stream` to submit an SSZ encoded list.",
       responses = {
         @OpenApiResponse(status = RES_OK, description = "Successfully published aggregate."),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied."),
@@ -72,11 +78,14 @@ public class PostAggregateAndProofs extends AbstractHandler implements Handler {
   @Override
   public void handle(Context ctx) throws Exception {
     try {
-      final SignedAggregateAndProof[] signedAggregateAndProofs =
-          parseRequestBody(ctx.body(), SignedAggregateAndProof[].class);
-
-      final SafeFuture<Optional<PostDataFailureResponse>> future =
-          provider.sendAggregateAndProofs(asList(signedAggregateAndProofs));
+      final SafeFuture<Optional<PostDataFailureResponse>> future;
+      if (isSszRequestBody(ctx)) {
+        future = provider.sendSszAggregateAndProofs(Bytes.wrap(ctx.bodyAsBytes()));
+      } else {
+        final SignedAggregateAndProof[] signedAggregateAndProofs =
+            parseRequestBody(ctx.body(), SignedAggregateAndProof[].class);
+        future = provider.sendAggregateAndProofs(asList(signedAggregateAndProofs));
+      }
 
       handlePostDataResult(ctx, future);
     } catch (IllegalArgumentException e) {
@@ -28,7 +28,8 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_SERVICE
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SERVICE_UNAVAILABLE;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_DEBUG;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.Iterators;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -37,6 +38,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.io.ByteArrayInputStream;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
@@ -44,12 +46,16 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.response.SszResponse;
 import tech.pegasys.teku.api.response.v2.debug.GetStateResponseV2;
-import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.api.schema.Version;
+import tech.pegasys.teku.api.schema.bellatrix.ExecutionPayloadHeader;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+import tech.pegasys.teku.infrastructure.ssz.schema.json.SszJsonWriters;
 import tech.pegasys.teku.provider.JsonProvider;
-import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateFields;
 
 public class GetState extends AbstractHandler implements Handler {
   private static final String OAPI_ROUTE = "/eth/v2/debug/beacon/states/:state_id";
@@ -98,9 +104,9 @@ public class GetState extends AbstractHandler implements Handler {
     } else {
       // accept header is not octet, could be anything else, or even not set - our default return is
       // json.
-      final SafeFuture<Optional<ObjectAndMetaData<BeaconState>>> future =
-          chainDataProvider.getBeaconState(pathParamMap.get(PARAM_STATE_ID));
-      handleOptionalResult(ctx, future, this::handleJsonResult, SC_NOT_FOUND);
+      final SafeFuture<Optional<StateAndMetaData>> future =
+          chainDataProvider.getBeaconStateAndMetadata(pathParamMap.get(PARAM_STATE_ID));
+      handleOptionalStreamingResult(ctx, future, this::handleJsonResult, SC_NOT_FOUND);
     }
   }
 
@@ -114,13 +120,45 @@ public class GetState extends AbstractHandler implements Handler {
     return Optional.of(response.byteStream);
   }
 
-  private Optional<String> handleJsonResult(
-      Context ctx, final ObjectAndMetaData<BeaconState> response) throws JsonProcessingException {
+  private Iterator<JsonWriter> handleJsonResult(
+      final Context ctx, final StateAndMetaData response) {
     final Version version = Version.fromMilestone(response.getMilestone());
+    final Boolean executionOptimistic = response.isExecutionOptimisticForApi();
     ctx.header(HEADER_CONSENSUS_VERSION, version.name());
-    return Optional.of(
-        jsonProvider.objectToJSON(
-            new GetStateResponseV2(
-                version, response.isExecutionOptimisticForApi(), response.getData())));
+    // Matches the GetStateResponseV2 serialization, but writes the state straight from its backing
+    // tree rather than converting it to the API schema objects first.
+    return Iterators.concat(
+        Iterators.singletonIterator(
+            gen -> {
+              gen.writeStartObject();
+              gen.writeStringField("version", version.name());
+              if (executionOptimistic != null) {
+                gen.writeBooleanField("execution_optimistic", executionOptimistic);
+              }
+              gen.writeFieldName("data");
+            }),
+        SszJsonWriters.containerWriters(response.getData(), getApiFieldWriters(response.getData())),
+        Iterators.singletonIterator(JsonGenerator::writeEndObject));
+  }
+
+  /**
+   * The API schema writes {@code base_fee_per_gas} as a hex quantity while the SSZ type definition
+   * uses a decimal string, so the execution payload header is written via the API schema.
+   */
+  private Map<String, JsonWriter> getApiFieldWriters(final BeaconState state) {
+    return state
+        .toVersionBellatrix()
+        .map(
+            bellatrix ->
+                Map.<String, JsonWriter>of(
+                    BeaconStateFields.LATEST_EXECUTION_PAYLOAD_HEADER.getSszFieldName(),
+                    gen ->
+                        jsonProvider
+                            .getObjectMapper()
+                            .writeValue(
+                                gen,
+                                new ExecutionPayloadHeader(
+                                    bellatrix.getLatestExecutionPayloadHeader()))))
+        .orElse(Map.of());
   }
 }
@@ -14,9 +14,14 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v2.validator;
 
 import static tech.pegasys.teku.beaconrestapi.EthereumTypes.SIGNATURE_TYPE;
+import static tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler.ACCEPT_ALL;
+import static tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler.getContentType;
 import static tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler.routeWithBracedParameters;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.GRAFFITI;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RANDAO_REVEAL;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.RES_INTERNAL_ERROR;
@@ -34,12 +39,14 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import java.io.ByteArrayInputStream;
 import java.util.Optional;
 import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.response.v2.validator.GetNewBlockResponseV2;
+import tech.pegasys.teku.api.schema.Version;
 import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
 import tech.pegasys.teku.beaconrestapi.SchemaDefinitionCache;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -100,7 +107,8 @@ public class GetNewBlock extends MigratingEndpointAdapter {
       summary = "Produce unsigned block",
       tags = {TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED},
       description =
-          "Requests a beacon node to produce a valid block, which can then be signed by a validator.",
+          "Requests a beacon node to produce a valid block, which can then be signed by a validator.\n\n"
+              + "Use Accept header to select `application/octet-stream` if SSZ response type is required.",
       pathParams = {
         @OpenApiParam(
             name = SLOT,
@@ -116,14 +124,35 @@ public class GetNewBlock extends MigratingEndpointAdapter {
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetNewBlockResponseV2.class)),
+            content = {
+              @OpenApiContent(from = GetNewBlockResponseV2.class),
+              @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied"),
         @OpenApiResponse(status = RES_INTERNAL_ERROR),
         @OpenApiResponse(status = RES_SERVICE_UNAVAILABLE, description = SERVICE_UNAVAILABLE)
       })
   @Override
   public void handle(final Context ctx) throws Exception {
-    adapt(ctx);
+    final Optional<String> maybeAcceptHeader = Optional.ofNullable(ctx.header(HEADER_ACCEPT));
+    if (getContentType(ACCEPT_ALL, maybeAcceptHeader).equalsIgnoreCase(HEADER_ACCEPT_OCTET)) {
+      handleSszRequest(ctx);
+    } else {
+      adapt(ctx);
+    }
+  }
+
+  private void handleSszRequest(final Context ctx) {
+    ctx.future(
+        produceBlock(new RestApiRequest(ctx, getMetadata()))
+            .thenApply(
+                block -> {
+                  ctx.contentType(HEADER_ACCEPT_OCTET);
+                  ctx.header(
+                      HEADER_CONSENSUS_VERSION,
+                      Version.fromMilestone(provider.getMilestoneAtSlot(block.getSlot())).name());
+                  return new ByteArrayInputStream(block.sszSerialize().toArrayUnsafe());
+                }));
   }
 
   private static EndpointMetadata getEndpointMetaData(
@@ -156,19 +185,22 @@ public class GetNewBlock extends MigratingEndpointAdapter {
 
   @Override
   public void handleRequest(RestApiRequest request) throws JsonProcessingException {
+    request.respondAsync(produceBlock(request).thenApply(AsyncApiResponse::respondOk));
+  }
+
+  private SafeFuture<BeaconBlock> produceBlock(final RestApiRequest request) {
     final UInt64 slot = request.getPathParameter(PARAM_SLOT);
     final BLSSignature randao = request.getQueryParameter(PARAM_RANDAO);
     final Optional<Bytes32> graffiti = request.getOptionalQueryParameter(PARAM_GRAFFITI);
-    final SafeFuture<Optional<BeaconBlock>> result =
-        provider.getUnsignedBeaconBlockAtSlot(slot, randao, graffiti, false);
-    request.respondAsync(
-        result.thenApply(
+    return provider
+        .getUnsignedBeaconBlockAtSlot(slot, randao, graffiti, false)
+        .thenApply(
             maybeBlock -> {
               if (maybeBlock.isEmpty()) {
                 throw new ChainDataUnavailableException();
               }
-              return AsyncApiResponse.respondOk(maybeBlock.get());
-            }));
+              return maybeBlock.get();
+            });
   }
 
   private static SerializableOneOfTypeDefinition<BeaconBlock> getBlockSchemaDefinition(
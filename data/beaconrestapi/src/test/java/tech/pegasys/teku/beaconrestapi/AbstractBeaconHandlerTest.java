@@ -19,6 +19,10 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
@@ -51,7 +55,7 @@ public abstract class AbstractBeaconHandlerTest {
   private final ArgumentCaptor<String> stringArgs = ArgumentCaptor.forClass(String.class);
 
   @SuppressWarnings("unchecked")
-  private final ArgumentCaptor<SafeFuture<String>> args = ArgumentCaptor.forClass(SafeFuture.class);
+  private final ArgumentCaptor<SafeFuture<?>> args = ArgumentCaptor.forClass(SafeFuture.class);
 
   protected final ChainDataProvider chainDataProvider = mock(ChainDataProvider.class);
   protected final ValidatorDataProvider validatorDataProvider = mock(ValidatorDataProvider.class);
@@ -103,8 +107,16 @@ public abstract class AbstractBeaconHandlerTest {
 
   protected String getResultString() {
     verify(context).future(args.capture());
-    SafeFuture<String> future = args.getValue();
+    SafeFuture<?> future = args.getValue();
     AssertionsForClassTypes.assertThat(future).isCompleted();
-    return future.join();
+    final Object result = future.join();
+    if (result instanceof InputStream) {
+      try (InputStream in = (InputStream) result) {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return (String) result;
   }
 }
@@ -20,6 +20,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorBalancesResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
@@ -37,10 +38,10 @@ public class GetStateValidatorBalancesTest extends AbstractBeaconHandlerTest {
   public void shouldGetValidatorBalancesFromState() throws Exception {
     when(context.pathParamMap()).thenReturn(Map.of("state_id", "head"));
     when(context.queryParamMap()).thenReturn(Map.of("id", List.of("1", "2", "3,4")));
-    when(chainDataProvider.getStateValidatorBalances("head", List.of("1", "2", "3", "4")))
+    when(chainDataProvider.getStateValidatorBalancesStream("head", List.of("1", "2", "3", "4")))
         .thenReturn(
             SafeFuture.completedFuture(
-                Optional.of(withMetaData(List.of(validatorBalanceResponse)))));
+                Optional.of(withMetaData(Stream.of(validatorBalanceResponse)))));
     handler.handle(context);
     GetStateValidatorBalancesResponse response =
         getResponseFromFuture(GetStateValidatorBalancesResponse.class);
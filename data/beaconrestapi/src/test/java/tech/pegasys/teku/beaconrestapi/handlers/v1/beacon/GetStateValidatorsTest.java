@@ -25,6 +25,7 @@ import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
@@ -60,9 +61,10 @@ public class GetStateValidatorsTest extends AbstractBeaconHandlerTest {
   public void shouldGetValidatorFromState() throws Exception {
     when(context.pathParamMap()).thenReturn(Map.of("state_id", "head"));
     when(context.queryParamMap()).thenReturn(Map.of("id", List.of("1", "2", "3,4")));
-    when(chainDataProvider.getStateValidators("head", List.of("1", "2", "3", "4"), emptySet()))
+    when(chainDataProvider.getStateValidatorsStream(
+            "head", List.of("1", "2", "3", "4"), emptySet()))
         .thenReturn(
-            SafeFuture.completedFuture(Optional.of(withMetaData(List.of(validatorResponse)))));
+            SafeFuture.completedFuture(Optional.of(withMetaData(Stream.of(validatorResponse)))));
     handler.handle(context);
     GetStateValidatorsResponse response = getResponseFromFuture(GetStateValidatorsResponse.class);
     assertThat(response.data).containsExactly(validatorResponse);
@@ -72,7 +74,7 @@ public class GetStateValidatorsTest extends AbstractBeaconHandlerTest {
   public void shouldGetNotFoundForMissingState() throws Exception {
     when(context.pathParamMap()).thenReturn(Map.of("state_id", "1"));
     when(context.queryParamMap()).thenReturn(Map.of("id", List.of("1")));
-    when(chainDataProvider.getStateValidators("1", List.of("1"), emptySet()))
+    when(chainDataProvider.getStateValidatorsStream("1", List.of("1"), emptySet()))
         .thenReturn(SafeFuture.completedFuture(Optional.empty()));
     handler.handle(context);
     verify(context).status(SC_NOT_FOUND);
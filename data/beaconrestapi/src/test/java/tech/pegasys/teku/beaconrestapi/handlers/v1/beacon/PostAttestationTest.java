@@ -18,6 +18,7 @@ import static javax.servlet.http.HttpServletResponse.SC_OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +26,7 @@ import io.javalin.http.Context;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -62,6 +64,19 @@ public class PostAttestationTest {
     verify(context).status(SC_OK);
   }
 
+  @Test
+  void shouldBeAbleToSubmitSszAttestations() throws Exception {
+    final Bytes ssz = Bytes.fromHexString("0x01020304");
+    when(provider.submitSszAttestations(ssz))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    when(context.contentType()).thenReturn("application/octet-stream");
+    when(context.bodyAsBytes()).thenReturn(ssz.toArrayUnsafe());
+    handler.handle(context);
+
+    verify(context).status(SC_OK);
+    verify(provider, never()).submitAttestations(any());
+  }
+
   @Test
   void shouldReportInvalidAttestations() throws Exception {
     final PostDataFailureResponse failureResponse =
@@ -33,6 +33,7 @@ import org.apache.tuweni.bytes.Bytes48;
 import tech.pegasys.teku.api.schema.BLSPubKey;
 import tech.pegasys.teku.api.schema.PublicKeyException;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.data.signingrecord.SigningRecordJournal;
 import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.data.slashinginterchange.Metadata;
 import tech.pegasys.teku.data.slashinginterchange.SigningHistory;
@@ -45,11 +46,20 @@ public class SlashingProtectionExporter {
   private final List<SigningHistory> signingHistoryList = new ArrayList<>();
   private Bytes32 genesisValidatorsRoot = null;
   private final SyncDataAccessor syncDataAccessor;
+  // Records written by a slashing protection journal which may not be in the yml files yet
+  private final Map<String, ValidatorSigningRecord> journalRecords = new HashMap<>();
   protected final Path slashProtectionPath;
 
   public SlashingProtectionExporter(final Path slashProtectionPath) {
     this.slashProtectionPath = slashProtectionPath;
     this.syncDataAccessor = SyncDataAccessor.create(slashProtectionPath);
+    try {
+      SigningRecordJournal.readRecords(slashProtectionPath)
+          .forEach(
+              (publicKey, record) -> journalRecords.put(publicKey.toUnprefixedHexString(), record));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read slashing protection journal", e);
+    }
   }
 
   // returns a map of errors and the associated keys.
@@ -57,23 +67,48 @@ public class SlashingProtectionExporter {
     File slashingProtectionRecords = slashProtectionPath.toFile();
     final Map<BLSPublicKey, String> importErrors = new HashMap<>();
     for (File currentFile : slashingProtectionRecords.listFiles()) {
-      final Optional<String> maybeError = readSlashProtectionFile(currentFile, infoLogger);
-      maybeError.ifPresent(
-          error -> {
-            final BLSPublicKey key =
-                BLSPublicKey.fromBytesCompressed(
-                    Bytes48.fromHexString(currentFile.getName().replace(".yml", "")));
-            importErrors.put(key, error);
-          });
+      if (!SigningRecordJournal.isJournalFile(currentFile.getName())) {
+        exportSlashProtectionFile(currentFile, infoLogger, importErrors);
+      }
+    }
+    // Validators which have only signed since the journal was last checkpointed have no file yet
+    for (String pubkey : journalRecords.keySet()) {
+      final File file = slashProtectionPath.resolve(pubkey + ".yml").toFile();
+      if (!file.exists()) {
+        exportSlashProtectionFile(file, infoLogger, importErrors);
+      }
     }
     return importErrors;
   }
 
+  private void exportSlashProtectionFile(
+      final File file,
+      final Consumer<String> infoLogger,
+      final Map<BLSPublicKey, String> importErrors) {
+    final Optional<String> maybeError = readSlashProtectionFile(file, infoLogger);
+    maybeError.ifPresent(
+        error -> {
+          final BLSPublicKey key =
+              BLSPublicKey.fromBytesCompressed(
+                  Bytes48.fromHexString(file.getName().replace(".yml", "")));
+          importErrors.put(key, error);
+        });
+  }
+
+  protected boolean hasJournalRecord(final BLSPublicKey publicKey) {
+    return journalRecords.containsKey(publicKey.toBytesCompressed().toUnprefixedHexString());
+  }
+
   // returns an error if there was one
   Optional<String> readSlashProtectionFile(final File file, final Consumer<String> infoLogger) {
     try {
+      final String pubkey = file.getName().substring(0, file.getName().length() - ".yml".length());
       Optional<ValidatorSigningRecord> maybeRecord =
           syncDataAccessor.read(file.toPath()).map(ValidatorSigningRecord::fromBytes);
+      final ValidatorSigningRecord journalRecord = journalRecords.get(pubkey.toLowerCase());
+      if (journalRecord != null) {
+        maybeRecord = Optional.of(maybeRecord.map(journalRecord::merge).orElse(journalRecord));
+      }
       if (maybeRecord.isEmpty()) {
         return Optional.of("Failed to read from file " + file.getName());
       }
@@ -92,7 +127,6 @@ public class SlashingProtectionExporter {
         }
       }
 
-      final String pubkey = file.getName().substring(0, file.getName().length() - ".yml".length());
       infoLogger.accept("Exporting " + pubkey);
       signingHistoryList.add(
           new SigningHistory(BLSPubKey.fromHexString(pubkey), validatorSigningRecord));
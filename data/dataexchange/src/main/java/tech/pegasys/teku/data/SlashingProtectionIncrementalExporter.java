@@ -26,14 +26,14 @@ public class SlashingProtectionIncrementalExporter extends SlashingProtectionExp
   }
 
   public boolean haveSlashingProtectionData(final BLSPublicKey publicKey) {
-    return getSlashingProtectionFileForKey(publicKey).exists();
+    return getSlashingProtectionFileForKey(publicKey).exists() || hasJournalRecord(publicKey);
   }
 
   // returns an error on failure to read, otherwise empty string.
   public Optional<String> addPublicKeyToExport(
       final BLSPublicKey publicKey, final Consumer<String> infoLogger) {
     final File slashingProtectionFile = getSlashingProtectionFileForKey(publicKey);
-    if (slashingProtectionFile.exists()) {
+    if (slashingProtectionFile.exists() || hasJournalRecord(publicKey)) {
       return readSlashProtectionFile(slashingProtectionFile, infoLogger);
     }
     return Optional.empty();
@@ -26,14 +26,17 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.teku.api.schema.BLSPubKey;
 import tech.pegasys.teku.cli.OSUtils;
+import tech.pegasys.teku.data.signingrecord.SigningRecordJournal;
 import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.data.slashinginterchange.Metadata;
 import tech.pegasys.teku.data.slashinginterchange.SignedBlock;
@@ -199,6 +202,48 @@ public class SlashingProtectionExporterTest {
     assertThat(signingHistory.signedAttestations).isEmpty();
   }
 
+  @Test
+  void shouldMergeJournaledRecordIntoExport(@TempDir Path tempDir) throws Exception {
+    usingResourceFile("slashProtectionWithGenesisRoot.yml", tempDir);
+    writeJournal(
+        tempDir,
+        new ValidatorSigningRecord(
+            validatorsRoot, UInt64.valueOf(400), UInt64.valueOf(50), UInt64.valueOf(1800)));
+
+    final SlashingProtectionExporter exporter = new SlashingProtectionExporter(tempDir);
+    assertThat(exporter.initialise(log::add)).isEmpty();
+    assertThat(log).containsExactly("Exporting " + pubkey);
+
+    final SlashingProtectionInterchangeFormat parsedData =
+        jsonProvider.jsonToObject(
+            exporter.getPrettyJson(), SlashingProtectionInterchangeFormat.class);
+    assertThat(parsedData).isEqualTo(getExportData(validatorsRoot, 400, 51, 1800));
+  }
+
+  @Test
+  void shouldExportValidatorOnlyPresentInJournal(@TempDir Path tempDir) throws Exception {
+    writeJournal(
+        tempDir,
+        new ValidatorSigningRecord(
+            validatorsRoot, UInt64.valueOf(327), UInt64.valueOf(51), UInt64.valueOf(1741)));
+
+    final SlashingProtectionExporter exporter = new SlashingProtectionExporter(tempDir);
+    assertThat(exporter.initialise(log::add)).isEmpty();
+    assertThat(log).containsExactly("Exporting " + pubkey);
+
+    final SlashingProtectionInterchangeFormat parsedData =
+        jsonProvider.jsonToObject(
+            exporter.getPrettyJson(), SlashingProtectionInterchangeFormat.class);
+    assertThat(parsedData).isEqualTo(getExportData(validatorsRoot, 327, 51, 1741));
+  }
+
+  private void writeJournal(final Path tempDir, final ValidatorSigningRecord record)
+      throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(Bytes.fromHexString(pubkey), record));
+    }
+  }
+
   private File usingResourceFile(final String resourceFileName, final Path tempDir)
       throws URISyntaxException, IOException {
     final Path tempFile = tempDir.resolve(pubkey + ".yml").toAbsolutePath();
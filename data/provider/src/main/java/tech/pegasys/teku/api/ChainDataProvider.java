@@ -28,10 +28,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -59,6 +61,8 @@ import tech.pegasys.teku.api.stateselector.StateSelectorFactory;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -76,6 +80,10 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ChainDataProvider {
   private static final Logger LOG = LogManager.getLogger();
+  // Enough for the head, justified and finalized states plus one historic state being queried.
+  private static final int VALIDATOR_REGISTRY_INDEX_CACHE_SIZE = 4;
+  // Smaller queries read directly from the state rather than building a column of the registry.
+  private static final int VALIDATOR_REGISTRY_INDEX_MIN_QUERY_SIZE = 1024;
   private final BlockSelectorFactory defaultBlockSelectorFactory;
   private final StateSelectorFactory defaultStateSelectorFactory;
   private final Spec spec;
@@ -83,6 +91,8 @@ public class ChainDataProvider {
   private final SchemaObjectProvider schemaObjectProvider;
 
   private final RecentChainData recentChainData;
+  private final Cache<Bytes32, ValidatorRegistryIndex> validatorRegistryIndexCache =
+      LRUCache.create(VALIDATOR_REGISTRY_INDEX_CACHE_SIZE);
 
   public ChainDataProvider(
       final Spec spec,
@@ -316,14 +326,37 @@ public class ChainDataProvider {
     return fromState(stateIdParam, state -> getValidatorBalancesFromState(state, validators));
   }
 
+  /**
+   * Like {@link #getStateValidatorBalances(String, List)} but the balances are created lazily as
+   * the returned stream is consumed, so large responses can be written without materialising every
+   * entry first.
+   */
+  public SafeFuture<Optional<ObjectAndMetaData<Stream<ValidatorBalanceResponse>>>>
+      getStateValidatorBalancesStream(final String stateIdParam, final List<String> validators) {
+    return fromState(stateIdParam, state -> streamValidatorBalancesFromState(state, validators));
+  }
+
   @VisibleForTesting
   List<ValidatorBalanceResponse> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
+    return streamValidatorBalancesFromState(state, validators).collect(Collectors.toList());
+  }
+
+  private Stream<ValidatorBalanceResponse> streamValidatorBalancesFromState(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators) {
+    if (!shouldUseValidatorRegistryIndex(validators)) {
+      return getValidatorSelector(state, validators)
+          .mapToObj(index -> ValidatorBalanceResponse.fromState(state, index))
+          .flatMap(Optional::stream);
+    }
+    final ValidatorRegistryIndex registryIndex = getValidatorRegistryIndex(state);
+    final IntFunction<UInt64> balances = registryIndex.getBalances(state);
     return getValidatorSelector(state, validators)
-        .mapToObj(index -> ValidatorBalanceResponse.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(Collectors.toList());
+        .filter(registryIndex::isValidIndex)
+        .mapToObj(
+            index -> new ValidatorBalanceResponse(UInt64.valueOf(index), balances.apply(index)));
   }
 
   public Optional<Bytes32> getStateRootFromBlockRoot(final Bytes32 blockRoot) {
@@ -374,17 +407,36 @@ public class ChainDataProvider {
         stateIdParam, state -> getFilteredValidatorList(state, validators, statusFilter));
   }
 
+  /**
+   * Like {@link #getStateValidators(String, List, Set)} but the validators are created lazily as
+   * the returned stream is consumed.
+   */
+  public SafeFuture<Optional<ObjectAndMetaData<Stream<ValidatorResponse>>>>
+      getStateValidatorsStream(
+          final String stateIdParam,
+          final List<String> validators,
+          final Set<ValidatorStatus> statusFilter) {
+    return fromState(
+        stateIdParam, state -> streamFilteredValidators(state, validators, statusFilter));
+  }
+
   @VisibleForTesting
   List<ValidatorResponse> getFilteredValidatorList(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
+    return streamFilteredValidators(state, validators, statusFilter).collect(toList());
+  }
+
+  private Stream<ValidatorResponse> streamFilteredValidators(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
+      final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
     return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
+        .filter(getStatusPredicate(state, validators, statusFilter))
         .mapToObj(index -> ValidatorResponse.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .collect(toList());
+        .flatMap(Optional::stream);
   }
 
   public SafeFuture<Optional<ObjectAndMetaData<ValidatorResponse>>> getStateValidator(
@@ -459,11 +511,30 @@ public class ChainDataProvider {
 
   private IntPredicate getStatusPredicate(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
+    if (statusFilter.isEmpty()) {
+      return i -> true;
+    }
+    if (!shouldUseValidatorRegistryIndex(validators)) {
+      final UInt64 epoch = spec.getCurrentEpoch(state);
+      return i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    }
+    final ValidatorRegistryIndex registryIndex = getValidatorRegistryIndex(state);
+    final IntFunction<ValidatorStatus> statuses = registryIndex.getStatuses(state);
+    return i -> registryIndex.isValidIndex(i) && statusFilter.contains(statuses.apply(i));
+  }
+
+  private boolean shouldUseValidatorRegistryIndex(final List<String> validators) {
+    return validators.isEmpty() || validators.size() >= VALIDATOR_REGISTRY_INDEX_MIN_QUERY_SIZE;
+  }
+
+  private ValidatorRegistryIndex getValidatorRegistryIndex(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state) {
+    final int validatorCount = state.getValidators().size();
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    return validatorRegistryIndexCache.get(
+        state.hashTreeRoot(), __ -> new ValidatorRegistryIndex(validatorCount, epoch));
   }
 
   private IntStream getValidatorSelector(
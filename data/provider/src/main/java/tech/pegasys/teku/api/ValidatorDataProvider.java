@@ -75,6 +75,7 @@ import tech.pegasys.teku.validator.api.SendSignedBlockResult;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.api.ValidatorApiSszSchemas;
 
 public class ValidatorDataProvider {
   private static final Logger LOG = LogManager.getLogger();
@@ -88,6 +89,7 @@ public class ValidatorDataProvider {
   private final ValidatorApiChannel validatorApiChannel;
   private final CombinedChainDataClient combinedChainDataClient;
   private final SchemaObjectProvider schemaObjectProvider;
+  private final ValidatorApiSszSchemas sszSchemas;
 
   private static final int SC_INTERNAL_ERROR = 500;
   private static final int SC_ACCEPTED = 202;
@@ -101,6 +103,7 @@ public class ValidatorDataProvider {
     this.validatorApiChannel = validatorApiChannel;
     this.combinedChainDataClient = combinedChainDataClient;
     this.schemaObjectProvider = new SchemaObjectProvider(spec);
+    this.sszSchemas = new ValidatorApiSszSchemas(spec);
     this.spec = spec;
   }
 
@@ -177,6 +180,12 @@ public class ValidatorDataProvider {
         .thenApply(this::convertToPostDataFailureResponse);
   }
 
+  public SafeFuture<Optional<PostDataFailureResponse>> submitSszAttestations(final Bytes ssz) {
+    return validatorApiChannel
+        .sendSignedAttestations(sszSchemas.deserializeAttestations(ssz))
+        .thenApply(this::convertToPostDataFailureResponse);
+  }
+
   public SignedBeaconBlock parseBlock(final JsonProvider jsonProvider, final String jsonBlock)
       throws JsonProcessingException {
     final ObjectMapper mapper = jsonProvider.getObjectMapper();
@@ -250,6 +259,13 @@ public class ValidatorDataProvider {
         .thenApply(this::convertToPostDataFailureResponse);
   }
 
+  public SafeFuture<Optional<PostDataFailureResponse>> submitSszCommitteeSignatures(
+      final Bytes ssz) {
+    return validatorApiChannel
+        .sendSyncCommitteeMessages(sszSchemas.deserializeSyncCommitteeMessages(ssz))
+        .thenApply(this::convertToPostDataFailureResponse);
+  }
+
   private Optional<PostDataFailureResponse> convertToPostDataFailureResponse(
       final List<SubmitDataError> errors) {
     if (errors.isEmpty()) {
@@ -281,6 +297,12 @@ public class ValidatorDataProvider {
         .thenApply(this::convertToPostDataFailureResponse);
   }
 
+  public SafeFuture<Optional<PostDataFailureResponse>> sendSszAggregateAndProofs(final Bytes ssz) {
+    return validatorApiChannel
+        .sendAggregateAndProofs(sszSchemas.deserializeAggregateAndProofs(ssz))
+        .thenApply(this::convertToPostDataFailureResponse);
+  }
+
   public void subscribeToBeaconCommittee(final List<BeaconCommitteeSubscriptionRequest> requests) {
     validatorApiChannel.subscribeToBeaconCommittee(
         requests.stream()
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.function.IntFunction;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Columnar copy of the validator registry of a single state, used to answer large validator
+ * queries with array scans rather than walking the SSZ tree for every request.
+ *
+ * <p>Each column is built from the state passed in the first time it is needed. The index doesn't
+ * keep a reference to the state, so caching it doesn't keep the state alive, but it must only be
+ * used with the state it was created for. Statuses are calculated for the epoch supplied at
+ * creation.
+ */
+class ValidatorRegistryIndex {
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final int validatorCount;
+  private final UInt64 epoch;
+  private byte[] statuses;
+  private long[] balances;
+
+  ValidatorRegistryIndex(final int validatorCount, final UInt64 epoch) {
+    this.validatorCount = validatorCount;
+    this.epoch = epoch;
+  }
+
+  public int getValidatorCount() {
+    return validatorCount;
+  }
+
+  public boolean isValidIndex(final int validatorIndex) {
+    return validatorIndex >= 0 && validatorIndex < validatorCount;
+  }
+
+  public synchronized IntFunction<ValidatorStatus> getStatuses(final BeaconState state) {
+    if (statuses == null) {
+      statuses = calculateStatuses(state.getValidators());
+    }
+    final byte[] column = statuses;
+    return validatorIndex -> STATUSES[column[validatorIndex]];
+  }
+
+  public synchronized IntFunction<UInt64> getBalances(final BeaconState state) {
+    if (balances == null) {
+      balances = readBalances(state.getBalances());
+    }
+    final long[] column = balances;
+    return validatorIndex -> UInt64.fromLongBits(column[validatorIndex]);
+  }
+
+  private byte[] calculateStatuses(final SszList<Validator> validators) {
+    final byte[] result = new byte[validatorCount];
+    for (int i = 0; i < validatorCount; i++) {
+      result[i] =
+          (byte)
+              ValidatorResponse.getValidatorStatus(epoch, validators.get(i), FAR_FUTURE_EPOCH)
+                  .ordinal();
+    }
+    return result;
+  }
+
+  private long[] readBalances(final SszUInt64List balanceList) {
+    final long[] result = new long[validatorCount];
+    for (int i = 0; i < validatorCount; i++) {
+      result[i] = balanceList.getElement(i).longValue();
+    }
+    return result;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorRegistryIndexTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil data = new DataStructureUtil(spec);
+  private final BeaconState state = data.randomBeaconState(64);
+  private final UInt64 epoch = spec.getCurrentEpoch(state);
+  private final ValidatorRegistryIndex index = new ValidatorRegistryIndex(64, epoch);
+
+  @Test
+  void shouldMatchStatusesFromState() {
+    assertThat(index.getValidatorCount()).isEqualTo(64);
+    final IntFunction<ValidatorStatus> statuses = index.getStatuses(state);
+    for (int i = 0; i < 64; i++) {
+      final ValidatorStatus expected =
+          ValidatorResponse.getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH);
+      assertThat(statuses.apply(i)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldMatchBalancesFromState() {
+    final IntFunction<UInt64> balances = index.getBalances(state);
+    for (int i = 0; i < 64; i++) {
+      assertThat(balances.apply(i)).isEqualTo(state.getBalances().getElement(i));
+    }
+  }
+
+  @Test
+  void isValidIndex_shouldRejectIndicesOutsideRegistry() {
+    assertThat(index.isValidIndex(0)).isTrue();
+    assertThat(index.isValidIndex(63)).isTrue();
+    assertThat(index.isValidIndex(64)).isFalse();
+    assertThat(index.isValidIndex(-1)).isFalse();
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.signingrecord;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Append-only journal of {@link ValidatorSigningRecord} updates, allowing updates for many
+ * validators to be made durable with a single sync.
+ *
+ * <p>The journal lives alongside the per-validator YAML files in the slashing protection directory
+ * and those files remain the interchange format. Records in the journal are merged over the YAML
+ * files when read and are folded back into them when the journal is checkpointed.
+ *
+ * <p>Each entry is a 4 byte length, then the 48 byte compressed validator public key followed by
+ * the serialized record, then a 4 byte CRC32 of the key and record. An incomplete entry at the end
+ * of a journal, left by a crash before it was synced, is ignored when reading.
+ *
+ * <p>Not thread safe.
+ */
+public class SigningRecordJournal implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String JOURNAL_FILE_NAME = "signing-records.journal";
+  static final String ROTATED_JOURNAL_FILE_NAME = JOURNAL_FILE_NAME + ".old";
+  static final int PUBLIC_KEY_SIZE = 48;
+  private static final int LENGTH_SIZE = Integer.BYTES;
+  private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+  private final Path journalFile;
+  private final Path rotatedJournalFile;
+  private FileChannel channel;
+  private int entryCount = 0;
+  private boolean failed = false;
+
+  private SigningRecordJournal(final Path directory, final FileChannel channel) {
+    this.journalFile = directory.resolve(JOURNAL_FILE_NAME);
+    this.rotatedJournalFile = directory.resolve(ROTATED_JOURNAL_FILE_NAME);
+    this.channel = channel;
+  }
+
+  /**
+   * Open the journal in the specified directory for writing, creating it if required. New entries
+   * are appended after any existing content.
+   *
+   * @param directory the slashing protection directory
+   * @return the opened journal
+   * @throws IOException if the journal can't be opened
+   */
+  public static SigningRecordJournal open(final Path directory) throws IOException {
+    return new SigningRecordJournal(directory, openChannel(directory.resolve(JOURNAL_FILE_NAME)));
+  }
+
+  private static FileChannel openChannel(final Path file) throws IOException {
+    final FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    channel.position(channel.size());
+    return channel;
+  }
+
+  public static boolean isJournalFile(final String fileName) {
+    return fileName.equals(JOURNAL_FILE_NAME) || fileName.equals(ROTATED_JOURNAL_FILE_NAME);
+  }
+
+  /**
+   * Append records to the journal and sync them to disk. If this fails, any partially written
+   * entries are removed so that later entries can still be read.
+   *
+   * @param records the updated record for each validator, keyed by compressed public key
+   * @throws IOException if the records could not be written and synced
+   */
+  public void append(final Map<Bytes, ValidatorSigningRecord> records) throws IOException {
+    if (failed) {
+      throw new IOException("Unable to write to slashing protection journal after earlier failure");
+    }
+    final ByteBuffer buffer = serialize(records);
+    final long startPosition = channel.position();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+    } catch (final IOException e) {
+      try {
+        channel.truncate(startPosition);
+        channel.position(startPosition);
+      } catch (final IOException truncateError) {
+        // A partial entry would hide any entries written after it, so stop accepting writes
+        failed = true;
+        e.addSuppressed(truncateError);
+      }
+      throw e;
+    }
+    entryCount += records.size();
+  }
+
+  /** @return the number of entries appended since the journal was opened or last rotated */
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * Move the current journal aside so it can be checkpointed and start a new, empty journal. The
+   * rotated journal continues to be read until {@link #deleteRotated()} is called.
+   *
+   * @throws IOException if the journal can't be rotated
+   */
+  public void rotate() throws IOException {
+    checkState(
+        !Files.exists(rotatedJournalFile), "Previous journal has not finished checkpointing");
+    channel.close();
+    Files.move(journalFile, rotatedJournalFile, StandardCopyOption.ATOMIC_MOVE);
+    channel = openChannel(journalFile);
+    entryCount = 0;
+  }
+
+  /**
+   * Delete the rotated journal, once all of its records have been written to the validator record
+   * files.
+   *
+   * @throws IOException if the rotated journal can't be deleted
+   */
+  public void deleteRotated() throws IOException {
+    Files.deleteIfExists(rotatedJournalFile);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Read the latest record for each validator from the journals in the specified directory,
+   * including any rotated journal which has not yet been checkpointed.
+   *
+   * @param directory the slashing protection directory
+   * @return the latest journaled record for each validator, keyed by compressed public key
+   * @throws IOException if the journal can't be read
+   */
+  public static Map<Bytes, ValidatorSigningRecord> readRecords(final Path directory)
+      throws IOException {
+    final Map<Bytes, ValidatorSigningRecord> records = new HashMap<>();
+    for (Path file :
+        List.of(
+            directory.resolve(ROTATED_JOURNAL_FILE_NAME), directory.resolve(JOURNAL_FILE_NAME))) {
+      if (Files.exists(file)) {
+        deserialize(file, Files.readAllBytes(file), records);
+      }
+    }
+    return records;
+  }
+
+  /**
+   * Delete all journals in the specified directory. Must only be called once their records have
+   * been written to the validator record files.
+   *
+   * @param directory the slashing protection directory
+   * @throws IOException if the journals can't be deleted
+   */
+  public static void delete(final Path directory) throws IOException {
+    Files.deleteIfExists(directory.resolve(ROTATED_JOURNAL_FILE_NAME));
+    Files.deleteIfExists(directory.resolve(JOURNAL_FILE_NAME));
+  }
+
+  static ByteBuffer serialize(final Map<Bytes, ValidatorSigningRecord> records) {
+    final List<Bytes> entries = new ArrayList<>(records.size());
+    int totalSize = 0;
+    for (Map.Entry<Bytes, ValidatorSigningRecord> record : records.entrySet()) {
+      checkArgument(record.getKey().size() == PUBLIC_KEY_SIZE, "Invalid public key");
+      final Bytes entry = Bytes.wrap(record.getKey(), record.getValue().toBytes());
+      entries.add(entry);
+      totalSize += LENGTH_SIZE + entry.size() + CHECKSUM_SIZE;
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+    for (Bytes entry : entries) {
+      final byte[] data = entry.toArrayUnsafe();
+      buffer.putInt(data.length);
+      buffer.put(data);
+      buffer.putInt(checksum(data, 0, data.length));
+    }
+    return buffer.flip();
+  }
+
+  static void deserialize(
+      final Path file, final byte[] data, final Map<Bytes, ValidatorSigningRecord> records) {
+    final ByteBuffer buffer = ByteBuffer.wrap(data);
+    while (buffer.hasRemaining()) {
+      final int entryStart = buffer.position();
+      if (buffer.remaining() < LENGTH_SIZE) {
+        logIncompleteEntry(file, entryStart);
+        return;
+      }
+      final int length = buffer.getInt();
+      if (length < PUBLIC_KEY_SIZE || buffer.remaining() < length + CHECKSUM_SIZE) {
+        logIncompleteEntry(file, entryStart);
+        return;
+      }
+      final int offset = buffer.position();
+      buffer.position(offset + length);
+      if (buffer.getInt() != checksum(data, offset, length)) {
+        logIncompleteEntry(file, entryStart);
+        return;
+      }
+      final Bytes publicKey = Bytes.wrap(data, offset, PUBLIC_KEY_SIZE).copy();
+      final ValidatorSigningRecord record =
+          ValidatorSigningRecord.fromBytes(
+              Bytes.wrap(data, offset + PUBLIC_KEY_SIZE, length - PUBLIC_KEY_SIZE));
+      records.merge(publicKey, record, ValidatorSigningRecord::merge);
+    }
+  }
+
+  private static void logIncompleteEntry(final Path file, final int position) {
+    // Entries are only relied on once synced so an incomplete entry was never used to sign
+    LOG.warn("Ignoring incomplete slashing protection journal entry in {} at {}", file, position);
+  }
+
+  private static int checksum(final byte[] data, final int offset, final int length) {
+    final CRC32 crc = new CRC32();
+    crc.update(data, offset, length);
+    return (int) crc.getValue();
+  }
+}
@@ -139,6 +139,29 @@ public class ValidatorSigningRecord {
     return Optional.empty();
   }
 
+  /**
+   * Combine this record with another record for the same validator, keeping the highest value of
+   * each field. Anything that is unsafe to sign according to either record is unsafe to sign
+   * according to the result.
+   *
+   * @param other the record to combine with this one
+   * @return a record at least as restrictive as both this record and {@code other}
+   */
+  public ValidatorSigningRecord merge(final ValidatorSigningRecord other) {
+    return new ValidatorSigningRecord(
+        genesisValidatorsRoot != null ? genesisValidatorsRoot : other.genesisValidatorsRoot,
+        max(blockSlot, other.blockSlot),
+        max(attestationSourceEpoch, other.attestationSourceEpoch),
+        max(attestationTargetEpoch, other.attestationTargetEpoch));
+  }
+
+  private static UInt64 max(final UInt64 a, final UInt64 b) {
+    if (isNeverSigned(a)) {
+      return b;
+    }
+    return isNeverSigned(b) ? a : a.max(b);
+  }
+
   private boolean isSafeSourceEpoch(final UInt64 sourceEpoch) {
     return isNeverSigned(attestationSourceEpoch)
         || attestationSourceEpoch.isLessThanOrEqualTo(sourceEpoch);
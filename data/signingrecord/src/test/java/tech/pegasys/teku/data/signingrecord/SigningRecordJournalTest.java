@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data.signingrecord;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class SigningRecordJournalTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x1234");
+  private static final Bytes VALIDATOR_1 = Bytes.repeat((byte) 1, 48);
+  private static final Bytes VALIDATOR_2 = Bytes.repeat((byte) 2, 48);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldReadEmptyRecordsWhenNoJournalExists() throws IOException {
+    assertThat(SigningRecordJournal.readRecords(tempDir)).isEmpty();
+  }
+
+  @Test
+  void shouldReadLatestRecordForEachValidator() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3), VALIDATOR_2, record(5, 6, 7)));
+      journal.append(Map.of(VALIDATOR_1, record(2, 2, 4)));
+      assertThat(journal.getEntryCount()).isEqualTo(3);
+    }
+
+    assertThat(SigningRecordJournal.readRecords(tempDir))
+        .isEqualTo(Map.of(VALIDATOR_1, record(2, 2, 4), VALIDATOR_2, record(5, 6, 7)));
+  }
+
+  @Test
+  void shouldAppendToExistingJournal() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3)));
+    }
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_2, record(5, 6, 7)));
+    }
+
+    assertThat(SigningRecordJournal.readRecords(tempDir))
+        .isEqualTo(Map.of(VALIDATOR_1, record(1, 2, 3), VALIDATOR_2, record(5, 6, 7)));
+  }
+
+  @Test
+  void shouldIgnoreIncompleteEntryAtEndOfJournal() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3)));
+    }
+    final Bytes partialEntry =
+        Bytes.wrap(SigningRecordJournal.serialize(Map.of(VALIDATOR_2, record(5, 6, 7))).array())
+            .slice(0, 30);
+    Files.write(
+        tempDir.resolve(SigningRecordJournal.JOURNAL_FILE_NAME),
+        partialEntry.toArrayUnsafe(),
+        StandardOpenOption.APPEND);
+
+    assertThat(SigningRecordJournal.readRecords(tempDir))
+        .isEqualTo(Map.of(VALIDATOR_1, record(1, 2, 3)));
+  }
+
+  @Test
+  void shouldIgnoreEntryWithInvalidChecksum() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3)));
+    }
+    final byte[] corruptEntry =
+        SigningRecordJournal.serialize(Map.of(VALIDATOR_2, record(5, 6, 7))).array();
+    corruptEntry[corruptEntry.length - 1] ^= 1;
+    Files.write(
+        tempDir.resolve(SigningRecordJournal.JOURNAL_FILE_NAME),
+        corruptEntry,
+        StandardOpenOption.APPEND);
+
+    assertThat(SigningRecordJournal.readRecords(tempDir))
+        .isEqualTo(Map.of(VALIDATOR_1, record(1, 2, 3)));
+  }
+
+  @Test
+  void shouldIncludeRotatedJournalUntilDeleted() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3), VALIDATOR_2, record(5, 6, 7)));
+      journal.rotate();
+      assertThat(journal.getEntryCount()).isZero();
+      journal.append(Map.of(VALIDATOR_1, record(2, 2, 4)));
+
+      assertThat(SigningRecordJournal.readRecords(tempDir))
+          .isEqualTo(Map.of(VALIDATOR_1, record(2, 2, 4), VALIDATOR_2, record(5, 6, 7)));
+
+      journal.deleteRotated();
+      assertThat(SigningRecordJournal.readRecords(tempDir))
+          .isEqualTo(Map.of(VALIDATOR_1, record(2, 2, 4)));
+    }
+  }
+
+  @Test
+  void shouldDeleteAllJournals() throws IOException {
+    try (SigningRecordJournal journal = SigningRecordJournal.open(tempDir)) {
+      journal.append(Map.of(VALIDATOR_1, record(1, 2, 3)));
+      journal.rotate();
+      journal.append(Map.of(VALIDATOR_2, record(5, 6, 7)));
+    }
+
+    SigningRecordJournal.delete(tempDir);
+
+    assertThat(SigningRecordJournal.readRecords(tempDir)).isEmpty();
+    assertThat(tempDir).isEmptyDirectory();
+  }
+
+  private ValidatorSigningRecord record(
+      final long blockSlot, final long sourceEpoch, final long targetEpoch) {
+    return new ValidatorSigningRecord(
+        GENESIS_VALIDATORS_ROOT,
+        UInt64.valueOf(blockSlot),
+        UInt64.valueOf(sourceEpoch),
+        UInt64.valueOf(targetEpoch));
+  }
+}
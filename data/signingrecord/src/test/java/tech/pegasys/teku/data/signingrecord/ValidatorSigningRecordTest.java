@@ -160,6 +160,32 @@ class ValidatorSigningRecordTest {
         attestationArguments(">", ">", startingRecord, 5, 7, allowed(1, 5, 7)));
   }
 
+  @Test
+  void mergeShouldKeepHighestValueOfEachField() {
+    final ValidatorSigningRecord record1 =
+        new ValidatorSigningRecord(
+            GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5), UInt64.valueOf(2), UInt64.valueOf(3));
+    final ValidatorSigningRecord record2 =
+        new ValidatorSigningRecord(null, UInt64.valueOf(3), UInt64.valueOf(4), UInt64.valueOf(1));
+    final ValidatorSigningRecord expected =
+        new ValidatorSigningRecord(
+            GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5), UInt64.valueOf(4), UInt64.valueOf(3));
+
+    assertThat(record1.merge(record2)).isEqualTo(expected);
+    assertThat(record2.merge(record1)).isEqualTo(expected);
+  }
+
+  @Test
+  void mergeShouldKeepSignedValuesOverNeverSigned() {
+    final ValidatorSigningRecord neverSigned = new ValidatorSigningRecord(GENESIS_VALIDATORS_ROOT);
+    final ValidatorSigningRecord signed =
+        new ValidatorSigningRecord(
+            GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5), UInt64.valueOf(2), UInt64.valueOf(3));
+
+    assertThat(neverSigned.merge(signed)).isEqualTo(signed);
+    assertThat(signed.merge(neverSigned)).isEqualTo(signed);
+  }
+
   private static Optional<ValidatorSigningRecord> disallowed() {
     return Optional.empty();
   }
@@ -39,6 +39,7 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigLoader;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
@@ -46,10 +47,10 @@ import tech.pegasys.teku.spec.executionengine.ExecutionEngineChannel;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
-import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
@@ -85,12 +86,21 @@ public class EpochTransitionBenchmark {
   @Param({"400000"})
   int validatorsCount = 400000;
 
+  @Param({"false", "true"})
+  boolean parallelEpochProcessingEnabled = false;
+
   @Setup(Level.Trial)
   public void init() throws Exception {
-    spec = TestSpecFactory.createMainnetAltair();
     AbstractBlockProcessor.blsVerifyDeposit = false;
 
-    spec = TestSpecFactory.createMainnetAltair();
+    spec =
+        TestSpecFactory.createAltair(
+            SpecConfigLoader.loadConfig(
+                Eth2Network.MAINNET.configName(),
+                builder ->
+                    builder
+                        .altairBuilder(altair -> altair.altairForkEpoch(UInt64.ZERO))
+                        .parallelEpochProcessingEnabled(parallelEpochProcessingEnabled)));
     String blocksFile =
         "/blocks/blocks_epoch_"
             + spec.getSlotsPerEpoch(UInt64.ZERO)
@@ -160,6 +170,20 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  @Benchmark
+  public void createValidatorStatuses(Blackhole bh) {
+    bh.consume(
+        spec.getGenesisSpec()
+            .getValidatorStatusFactory()
+            .createValidatorStatuses(preEpochTransitionState));
+  }
+
+  @Benchmark
+  public void getRewardAndPenaltyDeltas(Blackhole bh) {
+    bh.consume(
+        epochProcessor.getRewardAndPenaltyDeltas(preEpochTransitionState, validatorStatuses));
+  }
+
   @Benchmark
   public void processRewardsAndPenalties(Blackhole bh) {
     try {
@@ -174,9 +198,12 @@ public class EpochTransitionBenchmark {
     final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
     int validatorsSize = preEpochTransitionMutableState.getValidators().size();
     for (int i = 0; i < validatorsSize; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
       balances.setElement(
-          i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
+          i,
+          balances
+              .getElement(i)
+              .plus(UInt64.fromLongBits(attestationDeltas.getRewardLongBits(i)))
+              .minusMinZero(UInt64.fromLongBits(attestationDeltas.getPenaltyLongBits(i))));
     }
   }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.ethereum.forkchoice.ForkChoiceStrategy;
+import tech.pegasys.teku.ethereum.forkchoice.ProtoArray;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Measures {@link ForkChoiceStrategy#applyPendingVotes} at mainnet validator counts. Each
+ * invocation moves the votes of one slot's worth of validators to a new block, mirroring the work
+ * done before block production. Run with {@code -prof gc} to check per-validator allocations.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ForkChoiceDeltasBenchmark {
+
+  private static final int BLOCK_COUNT = 64;
+  private static final int SLOTS_PER_EPOCH = 32;
+  private static final UInt64 EFFECTIVE_BALANCE = UInt64.valueOf(32_000_000_000L);
+
+  @Param({"500000"})
+  int validatorCount;
+
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private final StubVoteUpdater voteUpdater = new StubVoteUpdater();
+  private final List<Bytes32> blockRoots = new ArrayList<>();
+  private ForkChoiceStrategy forkChoiceStrategy;
+  private List<UInt64> balances;
+  private Checkpoint checkpoint;
+  private int slot;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final ProtoArray protoArray =
+        ProtoArray.builder().justifiedEpoch(UInt64.ZERO).finalizedEpoch(UInt64.ZERO).build();
+    Bytes32 parentRoot = Bytes32.ZERO;
+    for (int i = 0; i < BLOCK_COUNT; i++) {
+      final Bytes32 blockRoot = Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1));
+      protoArray.onBlock(
+          UInt64.valueOf(i),
+          blockRoot,
+          parentRoot,
+          blockRoot,
+          UInt64.ZERO,
+          UInt64.ZERO,
+          Bytes32.ZERO,
+          false);
+      blockRoots.add(blockRoot);
+      parentRoot = blockRoot;
+    }
+    forkChoiceStrategy = ForkChoiceStrategy.initialize(spec, protoArray);
+    checkpoint = new Checkpoint(UInt64.ZERO, blockRoots.get(0));
+    balances = Collections.nCopies(validatorCount, EFFECTIVE_BALANCE);
+
+    for (int validatorIndex = 0; validatorIndex < validatorCount; validatorIndex++) {
+      voteUpdater.putVote(
+          UInt64.valueOf(validatorIndex),
+          new VoteTracker(Bytes32.ZERO, blockRoots.get(validatorIndex % BLOCK_COUNT), UInt64.ZERO));
+    }
+    applyVotes();
+  }
+
+  @Benchmark
+  public void applyPendingVotes(final Blackhole bh) {
+    slot++;
+    final Bytes32 newHead = blockRoots.get(slot % BLOCK_COUNT);
+    final UInt64 epoch = UInt64.valueOf(slot / SLOTS_PER_EPOCH + 1);
+    for (int validatorIndex = slot % SLOTS_PER_EPOCH;
+        validatorIndex < validatorCount;
+        validatorIndex += SLOTS_PER_EPOCH) {
+      final UInt64 index = UInt64.valueOf(validatorIndex);
+      final VoteTracker vote = voteUpdater.getVote(index);
+      voteUpdater.putVote(index, new VoteTracker(vote.getCurrentRoot(), newHead, epoch));
+    }
+    bh.consume(applyVotes());
+  }
+
+  private Bytes32 applyVotes() {
+    return forkChoiceStrategy.applyPendingVotes(
+        voteUpdater, Optional.empty(), checkpoint, checkpoint, balances, UInt64.ZERO);
+  }
+}
@@ -33,8 +33,13 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64List;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 
+/**
+ * Measures access to and copying of {@link TransitionCaches} populated for a mainnet sized
+ * validator registry. Run with {@code -prof gc} to check the heap allocated by each copy.
+ */
 @Fork(1)
 @State(Scope.Thread)
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -75,9 +80,7 @@ public class TransitionCachesBenchmark {
     for (int validatorIdx = 0; validatorIdx < validatorsCount; validatorIdx++) {
       BLSPublicKey publicKey =
           BLSPublicKey.fromBytesCompressed(Bytes48.leftPad(Bytes.ofUnsignedInt(validatorIdx)));
-      fullCache
-          .getValidatorsPubKeys()
-          .invalidateWithNewValue(UInt64.valueOf(validatorIdx), publicKey);
+      fullCache.getValidatorsPubKeys().get(validatorIdx, __ -> publicKey);
       fullCache.getValidatorIndexCache().invalidateWithNewValue(publicKey, validatorIdx);
     }
 
@@ -86,7 +89,18 @@ public class TransitionCachesBenchmark {
     fullCache.getTotalActiveBalance().invalidateWithNewValue(UInt64.ONE, UInt64.ZERO);
     fullCache.getCommitteeShuffle().invalidateWithNewValue(Bytes32.random(), SOME_INT_LIST);
     fullCache.getCommitteeShuffle().invalidateWithNewValue(Bytes32.random(), SOME_INT_LIST);
-    fullCache.getEffectiveBalances().invalidateWithNewValue(UInt64.ONE, List.of(UInt64.ONE));
+    fullCache
+        .getEffectiveBalances()
+        .invalidateWithNewValue(UInt64.ONE, UInt64List.wrap(new long[validatorsCount]));
+  }
+
+  @Benchmark
+  public void getValidatorPubKeyBench(Blackhole bh) {
+    counter++;
+    if (counter >= validatorsCount) {
+      counter = 0;
+    }
+    bh.consume(fullCache.getValidatorsPubKeys().getCached((int) counter));
   }
 
   @Benchmark
@@ -91,6 +91,17 @@ public abstract class SszAbstractContainerBenchmark<TView extends SszData> {
     iterateData(container1, bh);
   }
 
+  @Benchmark
+  public void benchDeserializeLazy(Blackhole bh) {
+    bh.consume(getContainerType().sszDeserializeLazy(aContainerSsz));
+  }
+
+  @Benchmark
+  public void benchDeserializeLazyAndIterate(Blackhole bh) {
+    TView container1 = getContainerType().sszDeserializeLazy(aContainerSsz);
+    iterateData(container1, bh);
+  }
+
   @Benchmark
   public void benchDeserializeAndSerialize(Blackhole bh) {
     TView container = getContainerType().sszDeserialize(aContainerSsz);
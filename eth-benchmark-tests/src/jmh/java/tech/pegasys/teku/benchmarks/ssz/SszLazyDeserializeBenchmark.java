@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockSchema;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares eager and lazy deserialization of a block when only the fields needed to decide whether
+ * to ignore a gossip message are read. Run with {@code -prof gc} to compare allocations.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SszLazyDeserializeBenchmark {
+
+  private static final Spec spec = TestSpecFactory.createMainnetAltair();
+  private static final DataStructureUtil dataStructureUtil = new DataStructureUtil(1, spec);
+
+  private final SignedBeaconBlockSchema schema =
+      spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema();
+  private final Bytes blockSsz =
+      dataStructureUtil.randomSignedBeaconBlock(100, Bytes32.random()).sszSerialize();
+
+  @Benchmark
+  public void readHeaderFields(Blackhole bh) {
+    readHeaderFields(schema.sszDeserialize(blockSsz), bh);
+  }
+
+  @Benchmark
+  public void readHeaderFieldsLazy(Blackhole bh) {
+    readHeaderFields(schema.sszDeserializeLazy(blockSsz), bh);
+  }
+
+  @Benchmark
+  public void hashTreeRoot(Blackhole bh) {
+    bh.consume(schema.sszDeserialize(blockSsz).getRoot());
+  }
+
+  @Benchmark
+  public void hashTreeRootLazy(Blackhole bh) {
+    bh.consume(schema.sszDeserializeLazy(blockSsz).getRoot());
+  }
+
+  private void readHeaderFields(final SignedBeaconBlock signedBlock, final Blackhole bh) {
+    final BeaconBlock block = signedBlock.getMessage();
+    bh.consume(block.getSlot());
+    bh.consume(block.getProposerIndex());
+    bh.consume(block.getParentRoot());
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateDiffStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6DiffSchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SnapshotSchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
+
+/**
+ * Compares the finalized state storage modes when an archive node stores one state per epoch.
+ * Snapshot storage stores every state in full, tree storage stores new tree nodes only and diff
+ * storage stores a full snapshot every {@link #SNAPSHOT_FREQUENCY} slots plus a diff per epoch. The
+ * disk footprint of each mode is printed during setup.
+ */
+@Threads(1)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FinalizedStateStorageBenchmark {
+
+  private static final int VALIDATOR_COUNT = 32_768;
+  private static final int EPOCH_COUNT = 128;
+  private static final long SNAPSHOT_FREQUENCY = 2048;
+
+  private final Spec spec = TestSpecFactory.createMainnetAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(1, spec);
+
+  @Param({"SNAPSHOT", "TREE", "DIFF"})
+  String storageMode;
+
+  private StoredStates<?> storedStates;
+  private final List<UInt64> storedSlots = new ArrayList<>();
+  private int nextQuery = 0;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    switch (storageMode) {
+      case "SNAPSHOT":
+        storedStates =
+            new StoredStates<>(
+                new V6SnapshotSchemaFinalized(spec),
+                new V4FinalizedStateSnapshotStorageLogic(spec.getSlotsPerEpoch(UInt64.ZERO)));
+        break;
+      case "TREE":
+        storedStates =
+            new StoredStates<>(
+                new V6TreeSchemaFinalized(spec),
+                new V4FinalizedStateTreeStorageLogic(new StubMetricsSystem(), spec, 10_000));
+        break;
+      case "DIFF":
+        storedStates =
+            new StoredStates<>(
+                new V6DiffSchemaFinalized(spec),
+                new V4FinalizedStateDiffStorageLogic(spec, SNAPSHOT_FREQUENCY));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown storage mode: " + storageMode);
+    }
+
+    BeaconState state =
+        dataStructureUtil
+            .randomBeaconState(VALIDATOR_COUNT, 100)
+            .updated(mutableState -> mutableState.setSlot(UInt64.ZERO));
+    for (int epoch = 0; epoch < EPOCH_COUNT; epoch++) {
+      storedStates.store(state);
+      storedSlots.add(state.getSlot());
+      state = processEpoch(state);
+    }
+    System.out.printf(
+        "%n%s storage: %d states, %d bytes%n",
+        storageMode, storedSlots.size(), storedStates.getStoredBytes());
+  }
+
+  @Benchmark
+  public void loadFinalizedState(final Blackhole bh) {
+    final UInt64 slot = storedSlots.get(nextQuery);
+    nextQuery = (nextQuery + 1) % storedSlots.size();
+    final BeaconState state = storedStates.load(slot).orElseThrow();
+    // Make sure the state is actually materialised, not just its root
+    bh.consume(state.getBalances().getElement(VALIDATOR_COUNT - 1));
+  }
+
+  /** Simulates the state changes of an epoch: rewards for every validator and new roots */
+  private BeaconState processEpoch(final BeaconState state) {
+    return state.updated(
+        mutableState -> {
+          final UInt64 slot = mutableState.getSlot().plus(spec.getSlotsPerEpoch(UInt64.ZERO));
+          mutableState.setSlot(slot);
+          final SszMutableUInt64List balances = mutableState.getBalances();
+          for (int i = 0; i < balances.size(); i++) {
+            balances.setElement(i, balances.getElement(i).plus(10_000 + i % 1_000));
+          }
+          final int rootsSize = mutableState.getBlockRoots().size();
+          for (int i = 0; i < spec.getSlotsPerEpoch(UInt64.ZERO); i++) {
+            final int index = slot.plus(i).mod(rootsSize).intValue();
+            mutableState.getBlockRoots().setElement(index, dataStructureUtil.randomBytes32());
+            mutableState.getStateRoots().setElement(index, dataStructureUtil.randomBytes32());
+          }
+        });
+  }
+
+  private static class StoredStates<S extends SchemaFinalized> {
+    private final S schema;
+    private final V4FinalizedStateStorageLogic<S> logic;
+    private final MockKvStoreInstance db;
+
+    private StoredStates(final S schema, final V4FinalizedStateStorageLogic<S> logic) {
+      this.schema = schema;
+      this.logic = logic;
+      this.db = MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    }
+
+    void store(final BeaconState state) {
+      final FinalizedStateUpdater<S> updater = logic.updater();
+      try (final KvStoreTransaction transaction = db.startTransaction()) {
+        updater.addFinalizedState(db, transaction, schema, state);
+        transaction.commit();
+      }
+      updater.commit();
+    }
+
+    Optional<BeaconState> load(final UInt64 slot) {
+      return logic.getLatestAvailableFinalizedState(db, schema, slot);
+    }
+
+    long getStoredBytes() {
+      long total = 0;
+      for (KvStoreColumn<?, ?> column : schema.getAllColumns()) {
+        total += getStoredBytes(column);
+      }
+      return total;
+    }
+
+    private <K, V> long getStoredBytes(final KvStoreColumn<K, V> column) {
+      long total = 0;
+      for (Map.Entry<K, V> entry : db.getAll(column).entrySet()) {
+        total += column.getKeySerializer().serialize(entry.getKey()).length;
+        total += column.getValueSerializer().serialize(entry.getValue()).length;
+      }
+      return total;
+    }
+  }
+}
@@ -22,6 +22,10 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
@@ -35,6 +39,12 @@ public class BeaconStateBenchmark {
   private static final DataStructureUtil dataStructureUtil =
       new DataStructureUtil(0, TestSpecFactory.createDefault()).withPubKeyGenerator(() -> pubkey);
   private static final BeaconState beaconState = dataStructureUtil.randomBeaconState(32 * 1024);
+  // Roughly the share of validators whose effective balance changes in an epoch transition
+  private static final int UPDATED_VALIDATOR_STEP = 64;
+
+  static {
+    beaconState.hashTreeRoot();
+  }
 
   @Benchmark
   @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -83,4 +93,43 @@ public class BeaconStateBenchmark {
             });
     bh.consume(stateW.hashTreeRoot());
   }
+
+  /**
+   * Updates some validators and hashes the state, re-using the cached hashes of unchanged groups of
+   * validators.
+   */
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void updateValidatorsAndHash(Blackhole bh) {
+    bh.consume(updateValidators().hashTreeRoot());
+  }
+
+  /**
+   * Updates the same validators as {@link #updateValidatorsAndHash(Blackhole)} but hashes the
+   * validators list from scratch, as was done before partial re-hashing.
+   */
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void updateValidatorsAndFullHash(Blackhole bh) {
+    final SszList<Validator> validators = updateValidators().getValidators();
+    final TreeNode uncachedTree =
+        validators.getSchema().sszDeserializeTree(SszReader.fromBytes(validators.sszSerialize()));
+    bh.consume(uncachedTree.hashTreeRoot());
+  }
+
+  private BeaconState updateValidators() {
+    return beaconState.updated(
+        state -> {
+          final SszMutableList<Validator> validators = state.getValidators();
+          for (int i = 0; i < validators.size(); i += UPDATED_VALIDATOR_STEP) {
+            final Validator validator = validators.get(i);
+            validators.set(
+                i,
+                validator.withEffectiveBalance(
+                    validator.getEffectiveBalance().plus(UInt64.valueOf(1_000_000_000L))));
+          }
+        });
+  }
 }
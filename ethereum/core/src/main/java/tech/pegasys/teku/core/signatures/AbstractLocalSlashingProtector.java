@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.signatures;
+
+import com.google.common.util.concurrent.Striped;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Base for slashing protectors which keep a signing record file per validator in a local
+ * directory.
+ *
+ * <p>Checks are serialised per validator using a striped lock so that checks for different
+ * validators can proceed in parallel. Records are cached in memory once loaded.
+ */
+abstract class AbstractLocalSlashingProtector implements SlashingProtector {
+  private static final int LOCK_STRIPES = 256;
+
+  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords =
+      new ConcurrentHashMap<>();
+  private final Striped<Lock> validatorLocks = Striped.lock(LOCK_STRIPES);
+
+  protected final SyncDataAccessor dataAccessor;
+  protected final Path slashingProtectionBaseDir;
+
+  protected AbstractLocalSlashingProtector(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir) {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignBlock(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
+    return updateSigningRecord(
+        validator,
+        genesisValidatorsRoot,
+        signingRecord -> signingRecord.maySignBlock(genesisValidatorsRoot, slot));
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final UInt64 sourceEpoch,
+      final UInt64 targetEpoch) {
+    return updateSigningRecord(
+        validator,
+        genesisValidatorsRoot,
+        signingRecord ->
+            signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
+  }
+
+  /**
+   * Makes an updated signing record durable. Called while holding the lock for the validator, so
+   * updates for a validator are stored in order.
+   *
+   * @param validator the validator the record belongs to
+   * @param record the updated record
+   * @return a future which completes once the record has been durably stored
+   * @throws IOException if the record can't be stored
+   */
+  protected abstract SafeFuture<Void> storeSigningRecord(
+      BLSPublicKey validator, ValidatorSigningRecord record) throws IOException;
+
+  private SafeFuture<Boolean> updateSigningRecord(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final Function<ValidatorSigningRecord, Optional<ValidatorSigningRecord>> check) {
+    return SafeFuture.of(
+        () -> {
+          final Lock lock = validatorLocks.get(validator);
+          lock.lock();
+          try {
+            final Optional<ValidatorSigningRecord> newRecord =
+                check.apply(loadOrCreateSigningRecord(validator, genesisValidatorsRoot));
+            if (newRecord.isEmpty()) {
+              return SafeFuture.completedFuture(false);
+            }
+            final SafeFuture<Void> stored = storeSigningRecord(validator, newRecord.get());
+            signingRecords.put(validator, newRecord.get());
+            return stored.thenApply(__ -> true);
+          } finally {
+            lock.unlock();
+          }
+        });
+  }
+
+  @Override
+  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    final ValidatorSigningRecord record = signingRecords.get(validator);
+    if (record != null) {
+      return Optional.of(record);
+    }
+    final Lock lock = validatorLocks.get(validator);
+    lock.lock();
+    try {
+      return loadSigningRecord(validator);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<ValidatorSigningRecord> loadSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    final ValidatorSigningRecord record = signingRecords.get(validator);
+    if (record != null) {
+      return Optional.of(record);
+    }
+    final Optional<ValidatorSigningRecord> loaded =
+        dataAccessor
+            .read(validatorRecordPath(slashingProtectionBaseDir, validator.toBytesCompressed()))
+            .map(ValidatorSigningRecord::fromBytes);
+    loaded.ifPresent(signingRecord -> signingRecords.put(validator, signingRecord));
+    return loaded;
+  }
+
+  private ValidatorSigningRecord loadOrCreateSigningRecord(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) throws IOException {
+    return loadSigningRecord(validator)
+        .orElseGet(() -> new ValidatorSigningRecord(genesisValidatorsRoot));
+  }
+
+  protected static Path validatorRecordPath(final Path baseDir, final Bytes publicKey) {
+    return baseDir.resolve(publicKey.toUnprefixedHexString() + ".yml");
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.data.signingrecord.SigningRecordJournal;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+
+/**
+ * Slashing protector which records signing record updates in a {@link SigningRecordJournal} so the
+ * updates for many validators can be made durable with a single sync, rather than syncing each
+ * validator's record file individually.
+ *
+ * <p>Checks for different validators only contend on a striped lock. Updated records are queued and
+ * written to the journal by a single commit task which picks up everything queued while the
+ * previous commit was syncing. The result of a check is only released once the journal containing
+ * its update has been synced.
+ *
+ * <p>The per-validator record files remain the interchange format. Existing journals are folded
+ * into them on startup and the journal is periodically rotated and checkpointed back into them.
+ */
+public class JournalingSlashingProtector extends AbstractLocalSlashingProtector {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int DEFAULT_CHECKPOINT_THRESHOLD = 50_000;
+
+  private final AsyncRunner asyncRunner;
+  private final int checkpointThreshold;
+
+  private final Object commitLock = new Object();
+  // Guarded by commitLock
+  private final SigningRecordJournal journal;
+  private Map<BLSPublicKey, ValidatorSigningRecord> uncheckpointedRecords = new HashMap<>();
+  private boolean checkpointInProgress = false;
+  private boolean rotatedJournalPending = false;
+
+  // Guarded by this
+  private List<PendingUpdate> pendingUpdates = new ArrayList<>();
+  private boolean commitScheduled = false;
+
+  @VisibleForTesting
+  JournalingSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner,
+      final SigningRecordJournal journal,
+      final int checkpointThreshold) {
+    super(dataAccessor, slashingProtectionBaseDir);
+    this.asyncRunner = asyncRunner;
+    this.journal = journal;
+    this.checkpointThreshold = checkpointThreshold;
+  }
+
+  /**
+   * Create a protector for the specified directory, first writing any records left in an existing
+   * journal to the validator record files.
+   */
+  public static JournalingSlashingProtector create(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner)
+      throws IOException {
+    final Map<Bytes, ValidatorSigningRecord> journaledRecords =
+        SigningRecordJournal.readRecords(slashingProtectionBaseDir);
+    if (!journaledRecords.isEmpty()) {
+      LOG.info("Restoring {} slashing protection records from journal", journaledRecords.size());
+      for (Map.Entry<Bytes, ValidatorSigningRecord> entry : journaledRecords.entrySet()) {
+        writeMergedRecord(
+            dataAccessor,
+            validatorRecordPath(slashingProtectionBaseDir, entry.getKey()),
+            entry.getValue());
+      }
+    }
+    SigningRecordJournal.delete(slashingProtectionBaseDir);
+    return new JournalingSlashingProtector(
+        dataAccessor,
+        slashingProtectionBaseDir,
+        asyncRunner,
+        SigningRecordJournal.open(slashingProtectionBaseDir),
+        DEFAULT_CHECKPOINT_THRESHOLD);
+  }
+
+  @Override
+  protected SafeFuture<Void> storeSigningRecord(
+      final BLSPublicKey validator, final ValidatorSigningRecord record) {
+    return queueUpdate(validator, record);
+  }
+
+  private SafeFuture<Void> queueUpdate(
+      final BLSPublicKey validator, final ValidatorSigningRecord record) {
+    final PendingUpdate update = new PendingUpdate(validator, record);
+    final boolean scheduleCommit;
+    synchronized (this) {
+      pendingUpdates.add(update);
+      scheduleCommit = !commitScheduled;
+      commitScheduled = true;
+    }
+    if (scheduleCommit) {
+      asyncRunner.runAsync(this::commitPendingUpdates).reportExceptions();
+    }
+    return update.committed;
+  }
+
+  private void commitPendingUpdates() {
+    synchronized (commitLock) {
+      // Collect updates only once any previous commit has finished so they all share one sync
+      final List<PendingUpdate> updates;
+      synchronized (this) {
+        updates = pendingUpdates;
+        pendingUpdates = new ArrayList<>();
+        commitScheduled = false;
+      }
+      final Map<Bytes, ValidatorSigningRecord> records = new LinkedHashMap<>();
+      updates.forEach(
+          update -> {
+            records.put(update.validator.toBytesCompressed(), update.record);
+            uncheckpointedRecords.put(update.validator, update.record);
+          });
+      try {
+        journal.append(records);
+      } catch (final Exception e) {
+        LOG.error("Failed to write slashing protection journal", e);
+        updates.forEach(update -> update.committed.completeExceptionally(e));
+        return;
+      }
+      updates.forEach(update -> update.committed.complete(null));
+      if (journal.getEntryCount() >= checkpointThreshold && !checkpointInProgress) {
+        startCheckpoint();
+      }
+    }
+  }
+
+  private void startCheckpoint() {
+    // A rotated journal left by a failed checkpoint is kept until its records are written
+    if (!rotatedJournalPending) {
+      try {
+        journal.rotate();
+      } catch (final IOException e) {
+        LOG.error("Failed to rotate slashing protection journal", e);
+        return;
+      }
+      rotatedJournalPending = true;
+    }
+    final Map<BLSPublicKey, ValidatorSigningRecord> records = uncheckpointedRecords;
+    uncheckpointedRecords = new HashMap<>();
+    checkpointInProgress = true;
+    asyncRunner
+        .runAsync(() -> checkpoint(records))
+        .finish(error -> onCheckpointFailed(records, error));
+  }
+
+  private void checkpoint(final Map<BLSPublicKey, ValidatorSigningRecord> records)
+      throws IOException {
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry : records.entrySet()) {
+      writeMergedRecord(
+          dataAccessor,
+          validatorRecordPath(slashingProtectionBaseDir, entry.getKey().toBytesCompressed()),
+          entry.getValue());
+    }
+    synchronized (commitLock) {
+      journal.deleteRotated();
+      rotatedJournalPending = false;
+      checkpointInProgress = false;
+    }
+  }
+
+  private void onCheckpointFailed(
+      final Map<BLSPublicKey, ValidatorSigningRecord> records, final Throwable error) {
+    LOG.error(
+        "Failed to checkpoint slashing protection journal. Will retry with the next checkpoint",
+        error);
+    synchronized (commitLock) {
+      // Any record updated since the checkpoint started is newer so takes precedence
+      records.forEach(uncheckpointedRecords::putIfAbsent);
+      checkpointInProgress = false;
+    }
+  }
+
+  /**
+   * Merges with the existing file rather than replacing it so that records imported while the
+   * update was only in the journal are kept.
+   */
+  private static void writeMergedRecord(
+      final SyncDataAccessor dataAccessor, final Path path, final ValidatorSigningRecord record)
+      throws IOException {
+    final ValidatorSigningRecord mergedRecord =
+        dataAccessor
+            .read(path)
+            .map(ValidatorSigningRecord::fromBytes)
+            .map(existingRecord -> existingRecord.merge(record))
+            .orElse(record);
+    dataAccessor.syncedWrite(path, mergedRecord.toBytes());
+  }
+
+  private static class PendingUpdate {
+    private final BLSPublicKey validator;
+    private final ValidatorSigningRecord record;
+    private final SafeFuture<Void> committed = new SafeFuture<>();
+
+    private PendingUpdate(final BLSPublicKey validator, final ValidatorSigningRecord record) {
+      this.validator = validator;
+      this.record = record;
+    }
+  }
+}
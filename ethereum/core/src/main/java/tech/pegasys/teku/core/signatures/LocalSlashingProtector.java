@@ -15,98 +15,31 @@ package tech.pegasys.teku.core.signatures;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
-import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
-public class LocalSlashingProtector implements SlashingProtector {
-
-  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords = new HashMap<>();
-
-  private final SyncDataAccessor dataAccessor;
-  private final Path slashingProtectionBaseDir;
+/**
+ * Slashing protector which stores a signing record file per validator and syncs it before allowing
+ * each signing.
+ *
+ * <p>Checks are serialised per validator using a striped lock so that checks for different
+ * validators, including the synced write of their records, can proceed in parallel.
+ */
+public class LocalSlashingProtector extends AbstractLocalSlashingProtector {
 
   public LocalSlashingProtector(
       final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir) {
-    this.dataAccessor = dataAccessor;
-    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
-  }
-
-  @Override
-  public synchronized SafeFuture<Boolean> maySignBlock(
-      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
-    return SafeFuture.of(
-        () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(validator, signingRecord.maySignBlock(genesisValidatorsRoot, slot));
-        });
-  }
-
-  @Override
-  public synchronized SafeFuture<Boolean> maySignAttestation(
-      final BLSPublicKey validator,
-      final Bytes32 genesisValidatorsRoot,
-      final UInt64 sourceEpoch,
-      final UInt64 targetEpoch) {
-    return SafeFuture.of(
-        () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(
-              validator,
-              signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
-        });
-  }
-
-  private Boolean handleResult(
-      final BLSPublicKey validator, final Optional<ValidatorSigningRecord> newRecord)
-      throws IOException {
-    if (newRecord.isEmpty()) {
-      return false;
-    }
-    writeSigningRecord(validator, newRecord.get());
-    return true;
+    super(dataAccessor, slashingProtectionBaseDir);
   }
 
   @Override
-  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
-      throws IOException {
-    ValidatorSigningRecord record = signingRecords.get(validator);
-    if (record != null) {
-      return Optional.of(record);
-    }
-    Optional<ValidatorSigningRecord> loaded =
-        dataAccessor.read(validatorRecordPath(validator)).map(ValidatorSigningRecord::fromBytes);
-    loaded.ifPresent(signingRecord -> signingRecords.put(validator, signingRecord));
-    return loaded;
-  }
-
-  private ValidatorSigningRecord loadOrCreateSigningRecord(
-      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) throws IOException {
-    Optional<ValidatorSigningRecord> record = getSigningRecord(validator);
-    return record.orElseGet(
-        () -> {
-          ValidatorSigningRecord newRecord = new ValidatorSigningRecord(genesisValidatorsRoot);
-          signingRecords.put(validator, newRecord);
-          return newRecord;
-        });
-  }
-
-  private void writeSigningRecord(final BLSPublicKey validator, final ValidatorSigningRecord record)
-      throws IOException {
-    dataAccessor.syncedWrite(validatorRecordPath(validator), record.toBytes());
-    signingRecords.put(validator, record);
-  }
-
-  private Path validatorRecordPath(final BLSPublicKey validator) {
-    return slashingProtectionBaseDir.resolve(
-        validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  protected SafeFuture<Void> storeSigningRecord(
+      final BLSPublicKey validator, final ValidatorSigningRecord record) throws IOException {
+    dataAccessor.syncedWrite(
+        validatorRecordPath(slashingProtectionBaseDir, validator.toBytesCompressed()),
+        record.toBytes());
+    return SafeFuture.COMPLETE;
   }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.core.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.data.signingrecord.SigningRecordJournal;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class JournalingSlashingProtectorTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  private final BLSPublicKey validator1 = dataStructureUtil.randomPublicKey();
+  private final BLSPublicKey validator2 = dataStructureUtil.randomPublicKey();
+
+  @TempDir Path baseDir;
+  private SyncDataAccessor dataAccessor;
+  private JournalingSlashingProtector slashingProtector;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dataAccessor = SyncDataAccessor.create(baseDir);
+    slashingProtector = JournalingSlashingProtector.create(dataAccessor, baseDir, asyncRunner);
+  }
+
+  @Test
+  void shouldNotAllowSigningUntilJournalIsSynced() throws IOException {
+    final SafeFuture<Boolean> result =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    assertThat(result).isNotDone();
+    assertThat(SigningRecordJournal.readRecords(baseDir)).isEmpty();
+
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(true);
+    assertThat(SigningRecordJournal.readRecords(baseDir))
+        .isEqualTo(Map.of(validator1.toBytesCompressed(), blockRecord(3)));
+  }
+
+  @Test
+  void shouldCommitUpdatesForMultipleValidatorsTogether() throws IOException {
+    final SafeFuture<Boolean> result1 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    final SafeFuture<Boolean> result2 =
+        slashingProtector.maySignAttestation(
+            validator2, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(1), UInt64.valueOf(2));
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result1).isCompletedWithValue(true);
+    assertThatSafeFuture(result2).isCompletedWithValue(true);
+    assertThat(SigningRecordJournal.readRecords(baseDir))
+        .isEqualTo(
+            Map.of(
+                validator1.toBytesCompressed(),
+                blockRecord(3),
+                validator2.toBytesCompressed(),
+                new ValidatorSigningRecord(
+                    GENESIS_VALIDATORS_ROOT, UInt64.ZERO, UInt64.valueOf(1), UInt64.valueOf(2))));
+  }
+
+  @Test
+  void shouldRejectSlashableBlockWhilePreviousBlockIsBeingCommitted() {
+    final SafeFuture<Boolean> result1 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    final SafeFuture<Boolean> result2 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+
+    assertThatSafeFuture(result2).isCompletedWithValue(false);
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result1).isCompletedWithValue(true);
+  }
+
+  @Test
+  void shouldNotJournalRejectedSigning() throws IOException {
+    Files.write(recordFile(validator1), blockRecord(5).toBytes().toArrayUnsafe());
+
+    assertThatSafeFuture(
+            slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5)))
+        .isCompletedWithValue(false);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    assertThat(SigningRecordJournal.readRecords(baseDir)).isEmpty();
+  }
+
+  @Test
+  void shouldFailSigningWhenJournalCannotBeWritten() throws IOException {
+    final SigningRecordJournal journal = mock(SigningRecordJournal.class);
+    doThrow(new IOException("Disk full")).when(journal).append(any());
+    slashingProtector =
+        new JournalingSlashingProtector(dataAccessor, baseDir, asyncRunner, journal, 10);
+
+    final SafeFuture<Boolean> result =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(IOException.class);
+  }
+
+  @Test
+  void shouldRestoreJournaledRecordsToRecordFilesOnStartup() throws IOException {
+    Files.write(recordFile(validator1), attestationRecord(2, 10, 11).toBytes().toArrayUnsafe());
+    try (SigningRecordJournal journal = SigningRecordJournal.open(baseDir)) {
+      journal.append(
+          Map.of(
+              validator1.toBytesCompressed(),
+              attestationRecord(4, 9, 10),
+              validator2.toBytesCompressed(),
+              blockRecord(7)));
+    }
+
+    slashingProtector = JournalingSlashingProtector.create(dataAccessor, baseDir, asyncRunner);
+
+    assertThat(readRecordFile(validator1)).contains(attestationRecord(4, 10, 11));
+    assertThat(readRecordFile(validator2)).contains(blockRecord(7));
+    assertThat(SigningRecordJournal.readRecords(baseDir)).isEmpty();
+    assertThat(slashingProtector.getSigningRecord(validator2)).contains(blockRecord(7));
+  }
+
+  @Test
+  void shouldCheckpointJournalToRecordFiles() throws IOException {
+    slashingProtector =
+        new JournalingSlashingProtector(
+            dataAccessor, baseDir, asyncRunner, SigningRecordJournal.open(baseDir), 2);
+
+    final SafeFuture<Boolean> result1 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    final SafeFuture<Boolean> result2 =
+        slashingProtector.maySignBlock(validator2, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4));
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result1).isCompletedWithValue(true);
+    assertThatSafeFuture(result2).isCompletedWithValue(true);
+    assertThat(readRecordFile(validator1)).isEmpty();
+
+    // Signing continues while the checkpoint is pending
+    final SafeFuture<Boolean> result3 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5));
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result3).isCompletedWithValue(true);
+
+    assertThat(readRecordFile(validator1)).contains(blockRecord(3));
+    assertThat(readRecordFile(validator2)).contains(blockRecord(4));
+    assertThat(SigningRecordJournal.readRecords(baseDir))
+        .isEqualTo(Map.of(validator1.toBytesCompressed(), blockRecord(5)));
+  }
+
+  @Test
+  void shouldRetryCheckpointAfterFailure() throws IOException {
+    final SyncDataAccessor failingDataAccessor = spy(dataAccessor);
+    doThrow(new IOException("Disk full"))
+        .doCallRealMethod()
+        .when(failingDataAccessor)
+        .syncedWrite(any(), any());
+    slashingProtector =
+        new JournalingSlashingProtector(
+            failingDataAccessor, baseDir, asyncRunner, SigningRecordJournal.open(baseDir), 2);
+
+    final SafeFuture<Boolean> result1 =
+        slashingProtector.maySignBlock(validator1, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3));
+    final SafeFuture<Boolean> result2 =
+        slashingProtector.maySignBlock(validator2, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4));
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result1).isCompletedWithValue(true);
+    assertThatSafeFuture(result2).isCompletedWithValue(true);
+
+    // First checkpoint fails so the records must stay in the journal
+    asyncRunner.executeQueuedActions();
+    assertThat(readRecordFile(validator1)).isEmpty();
+    assertThat(readRecordFile(validator2)).isEmpty();
+    assertThat(SigningRecordJournal.readRecords(baseDir))
+        .isEqualTo(
+            Map.of(
+                validator1.toBytesCompressed(), blockRecord(3),
+                validator2.toBytesCompressed(), blockRecord(4)));
+
+    // Next checkpoint includes the records from the failed one
+    signBlockAndCommit(validator1, 5);
+    signBlockAndCommit(validator1, 6);
+    asyncRunner.executeQueuedActions();
+    assertThat(readRecordFile(validator1)).contains(blockRecord(6));
+    assertThat(readRecordFile(validator2)).contains(blockRecord(4));
+
+    // Later checkpoints rotate the journal again
+    signBlockAndCommit(validator2, 7);
+    asyncRunner.executeQueuedActions();
+    assertThat(readRecordFile(validator2)).contains(blockRecord(7));
+    assertThat(SigningRecordJournal.readRecords(baseDir)).isEmpty();
+  }
+
+  private void signBlockAndCommit(final BLSPublicKey validator, final long slot) {
+    final SafeFuture<Boolean> result =
+        slashingProtector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(slot));
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result).isCompletedWithValue(true);
+  }
+
+  private Path recordFile(final BLSPublicKey validator) {
+    return baseDir.resolve(validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  private Optional<ValidatorSigningRecord> readRecordFile(final BLSPublicKey validator)
+      throws IOException {
+    return dataAccessor.read(recordFile(validator)).map(ValidatorSigningRecord::fromBytes);
+  }
+
+  private ValidatorSigningRecord blockRecord(final long slot) {
+    return new ValidatorSigningRecord(
+        GENESIS_VALIDATORS_ROOT,
+        UInt64.valueOf(slot),
+        ValidatorSigningRecord.NEVER_SIGNED,
+        ValidatorSigningRecord.NEVER_SIGNED);
+  }
+
+  private ValidatorSigningRecord attestationRecord(
+      final long slot, final long sourceEpoch, final long targetEpoch) {
+    return new ValidatorSigningRecord(
+        GENESIS_VALIDATORS_ROOT,
+        UInt64.valueOf(slot),
+        UInt64.valueOf(sourceEpoch),
+        UInt64.valueOf(targetEpoch));
+  }
+}
@@ -50,15 +50,16 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
   private final ReadWriteLock balancesLock = new ReentrantReadWriteLock();
   private final Spec spec;
   private final ProtoArray protoArray;
+  private final ProtoArrayVoteStore voteStore = new ProtoArrayVoteStore();
 
-  private List<UInt64> balances;
+  private long[] balances;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
   private UInt64 proposerBoostAmount = UInt64.ZERO;
 
   private ForkChoiceStrategy(Spec spec, ProtoArray protoArray, List<UInt64> balances) {
     this.spec = spec;
     this.protoArray = protoArray;
-    this.balances = balances;
+    this.balances = ProtoArrayScoreCalculator.toBalancesArray(balances);
   }
 
   public static ForkChoiceStrategy initialize(final Spec spec, final ProtoArray protoArray) {
@@ -108,13 +109,17 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     votesLock.writeLock().lock();
     balancesLock.writeLock().lock();
     try {
+      final long[] newBalances =
+          ProtoArrayScoreCalculator.toBalancesArray(justifiedStateEffectiveBalances);
       LongList deltas =
           ProtoArrayScoreCalculator.computeDeltas(
               voteUpdater,
+              voteStore,
               getTotalTrackedNodeCount(),
-              protoArray::getIndexByRoot,
+              protoArray.getIndicesVersion(),
+              protoArray::getIndexByRootOrUnknown,
               balances,
-              justifiedStateEffectiveBalances,
+              newBalances,
               this.proposerBoostRoot,
               proposerBoostRoot,
               this.proposerBoostAmount,
@@ -122,7 +127,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
 
       protoArray.applyScoreChanges(
           deltas, justifiedCheckpoint.getEpoch(), finalizedCheckpoint.getEpoch());
-      balances = justifiedStateEffectiveBalances;
+      balances = newBalances;
       this.proposerBoostRoot = proposerBoostRoot;
       this.proposerBoostAmount = proposerBoostAmount;
 
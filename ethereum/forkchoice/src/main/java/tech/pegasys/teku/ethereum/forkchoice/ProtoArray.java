@@ -86,6 +86,14 @@ public class ProtoArray {
     return indices.get(root);
   }
 
+  int getIndexByRootOrUnknown(final Bytes32 root) {
+    return indices.getIndexOrUnknown(root);
+  }
+
+  long getIndicesVersion() {
+    return indices.getVersion();
+  }
+
   public Optional<ProtoNode> getProtoNode(final Bytes32 root) {
     return indices
         .get(root)
@@ -21,8 +21,16 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 
 public class ProtoArrayIndices {
+  public static final int UNKNOWN_INDEX = -1;
+
   private final Object2IntMap<Bytes32> rootIndices = new Object2IntOpenHashMap<>();
 
+  /**
+   * Incremented whenever an existing root to index mapping is removed or changed so that cached
+   * index lookups can be invalidated. Adding new roots doesn't invalidate existing mappings.
+   */
+  private long version = 0;
+
   public boolean contains(final Bytes32 root) {
     return rootIndices.containsKey(root);
   }
@@ -35,8 +43,19 @@ public class ProtoArrayIndices {
     return Optional.ofNullable(rootIndices.getOrDefault(root, null));
   }
 
+  /**
+   * Primitive variant of {@link #get(Bytes32)} which avoids boxing on hot paths.
+   *
+   * @param root the block root to look up
+   * @return the index of the node or {@link #UNKNOWN_INDEX} if the root is not known
+   */
+  public int getIndexOrUnknown(final Bytes32 root) {
+    return rootIndices.getOrDefault(root, UNKNOWN_INDEX);
+  }
+
   public void remove(final Bytes32 root) {
     rootIndices.removeInt(root);
+    version++;
   }
 
   public void offsetIndices(final int finalizedIndex) {
@@ -46,6 +65,11 @@ public class ProtoArrayIndices {
           checkState(newIndex >= 0, "ProtoArray: New array index less than 0.");
           return newIndex;
         });
+    version++;
+  }
+
+  public long getVersion() {
+    return version;
   }
 
   public Object2IntMap<Bytes32> getRootIndices() {
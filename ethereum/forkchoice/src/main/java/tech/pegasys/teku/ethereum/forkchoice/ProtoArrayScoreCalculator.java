@@ -17,15 +17,16 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
 import static java.lang.Math.toIntExact;
+import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayIndices.UNKNOWN_INDEX;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64List;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
@@ -38,6 +39,10 @@ class ProtoArrayScoreCalculator {
    * <p>The deltas are formed by a change between `oldBalances` and `newBalances`, and/or a change
    * of vote in `votes`.
    *
+   * <p>Validators are processed in a primitive loop, reusing node indices cached in {@code
+   * voteStore} so that no per-validator allocation is required unless the validator's vote actually
+   * moved.
+   *
    * <p>## Errors
    *
    * <ul>
@@ -48,37 +53,62 @@ class ProtoArrayScoreCalculator {
    */
   static LongList computeDeltas(
       VoteUpdater store,
+      ProtoArrayVoteStore voteStore,
       int protoArraySize,
-      Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      List<UInt64> oldBalances,
-      List<UInt64> newBalances,
+      long indicesVersion,
+      ToIntFunction<Bytes32> getIndexByRoot,
+      long[] oldBalances,
+      long[] newBalances,
       Optional<Bytes32> previousProposerBoostRoot,
       Optional<Bytes32> newProposerBoostRoot,
       UInt64 previousBoostAmount,
       UInt64 newBoostAmount) {
-    LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
-
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    final long[] deltas = new long[protoArraySize];
+
+    final int highestVotedValidatorIndex =
+        toIntExact(store.getHighestVotedValidatorIndex().longValue());
+    voteStore.prepare(highestVotedValidatorIndex + 1, indicesVersion);
+    for (int validatorIndex = 0; validatorIndex <= highestVotedValidatorIndex; validatorIndex++) {
+      computeDelta(
+          store, voteStore, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex);
+    }
 
     previousProposerBoostRoot.ifPresent(
-        root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
+        root ->
+            subtractBalance(
+                deltas, getIndexByRoot.applyAsInt(root), previousBoostAmount.longValue()));
     newProposerBoostRoot.ifPresent(
-        root -> addBalance(getIndexByRoot, deltas, root, newBoostAmount));
-    return deltas;
+        root -> addBalance(deltas, getIndexByRoot.applyAsInt(root), newBoostAmount.longValue()));
+    return LongArrayList.wrap(deltas);
+  }
+
+  /**
+   * Converts a list of balances to the primitive form used by {@link #computeDeltas}.
+   *
+   * @param balances the balances to convert
+   * @return the balances as a long array
+   */
+  static long[] toBalancesArray(final List<UInt64> balances) {
+    if (balances instanceof UInt64List) {
+      // Balances are only read so the cached array can be used directly
+      return ((UInt64List) balances).toLongArrayUnsafe();
+    }
+    final long[] result = new long[balances.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = balances.get(i).longValue();
+    }
+    return result;
   }
 
   private static void computeDelta(
       final VoteUpdater store,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final List<UInt64> oldBalances,
-      final List<UInt64> newBalances,
-      final LongList deltas,
-      final UInt64 validatorIndex) {
-    VoteTracker vote = store.getVote(validatorIndex);
+      final ProtoArrayVoteStore voteStore,
+      final ToIntFunction<Bytes32> getIndexByRoot,
+      final long[] oldBalances,
+      final long[] newBalances,
+      final long[] deltas,
+      final int validatorIndex) {
+    final VoteTracker vote = store.getVote(validatorIndex);
 
     // There is no need to create a score change if the validator has never voted
     // or both their votes are for the zero hash (alias to the genesis block).
@@ -86,65 +116,59 @@ class ProtoArrayScoreCalculator {
       return;
     }
 
-    int validatorIndexInt = toIntExact(validatorIndex.longValue());
     // If the validator was not included in the oldBalances (i.e. it did not exist yet)
     // then say its balance was zero.
-    UInt64 oldBalance =
-        oldBalances.size() > validatorIndexInt ? oldBalances.get(validatorIndexInt) : UInt64.ZERO;
+    final long oldBalance = oldBalances.length > validatorIndex ? oldBalances[validatorIndex] : 0;
 
     // If the validator vote is not known in the newBalances, then use a balance of zero.
     // It is possible that there is a vote for an unknown validator if we change our
     // justified state to a new state with a higher epoch that is on a different fork
     // because that may have on-boarded less validators than the prior fork.
-    UInt64 newBalance =
-        newBalances.size() > validatorIndexInt ? newBalances.get(validatorIndexInt) : UInt64.ZERO;
+    final long newBalance = newBalances.length > validatorIndex ? newBalances[validatorIndex] : 0;
 
-    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
-      subtractBalance(getIndexByRoot, deltas, vote.getCurrentRoot(), oldBalance);
-      addBalance(getIndexByRoot, deltas, vote.getNextRoot(), newBalance);
+    final boolean voteChanged = !vote.getCurrentRoot().equals(vote.getNextRoot());
+    if (!voteChanged && oldBalance == newBalance) {
+      return;
+    }
 
-      VoteTracker newVote =
+    if (!voteStore.isResolved(validatorIndex, vote)) {
+      voteStore.update(
+          validatorIndex,
+          vote,
+          getIndexByRoot.applyAsInt(vote.getCurrentRoot()),
+          getIndexByRoot.applyAsInt(vote.getNextRoot()));
+    }
+    final int nextNodeIndex = voteStore.getNextNodeIndex(validatorIndex);
+    subtractBalance(deltas, voteStore.getCurrentNodeIndex(validatorIndex), oldBalance);
+    addBalance(deltas, nextNodeIndex, newBalance);
+
+    if (voteChanged) {
+      final VoteTracker newVote =
           new VoteTracker(vote.getNextRoot(), vote.getNextRoot(), vote.getNextEpoch());
-      store.putVote(validatorIndex, newVote);
+      store.putVote(UInt64.valueOf(validatorIndex), newVote);
+      voteStore.update(validatorIndex, newVote, nextNodeIndex, nextNodeIndex);
     }
   }
 
   private static void addBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
-      final Bytes32 targetRoot,
-      final UInt64 balanceToAdd) {
+      final long[] deltas, final int nextDeltaIndex, final long balanceToAdd) {
     // We ignore the vote if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            nextDeltaIndex -> {
-              checkState(
-                  nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-              long delta = addExact(deltas.getLong(nextDeltaIndex), balanceToAdd.longValue());
-              deltas.set(nextDeltaIndex.intValue(), delta);
-            });
+    if (nextDeltaIndex == UNKNOWN_INDEX) {
+      return;
+    }
+    checkState(nextDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nextDeltaIndex] = addExact(deltas[nextDeltaIndex], balanceToAdd);
   }
 
   private static void subtractBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
-      final Bytes32 targetRoot,
-      final UInt64 balanceToRemove) {
-
+      final long[] deltas, final int currentDeltaIndex, final long balanceToRemove) {
     // We ignore the change if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            currentDeltaIndex -> {
-              checkState(
-                  currentDeltaIndex < deltas.size(),
-                  "ProtoArrayForkChoice: Invalid node delta index");
-              long delta =
-                  subtractExact(deltas.getLong(currentDeltaIndex), balanceToRemove.longValue());
-              deltas.set(currentDeltaIndex.intValue(), delta);
-            });
+    if (currentDeltaIndex == UNKNOWN_INDEX) {
+      return;
+    }
+    checkState(currentDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[currentDeltaIndex] = subtractExact(deltas[currentDeltaIndex], balanceToRemove);
   }
 }
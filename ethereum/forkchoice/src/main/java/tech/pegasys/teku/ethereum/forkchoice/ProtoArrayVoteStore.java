@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.forkchoice;
+
+import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayIndices.UNKNOWN_INDEX;
+
+import java.util.Arrays;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+/**
+ * Primitive, validator-index keyed store of the proto array node indices that each validator's
+ * current and next vote resolve to.
+ *
+ * <p>The {@link tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater} remains the source of
+ * truth for votes, which are persisted by block root. This store only caches the result of
+ * resolving those roots to node indices so that computing deltas doesn't need a hash lookup per
+ * validator. An entry is valid while the {@link VoteTracker} instance it was resolved from is still
+ * the validator's vote and the proto array indices haven't been pruned or removed since.
+ *
+ * <p>Only fully resolved votes are cached. Roots which are unknown to the proto array may become
+ * known when new blocks are added so they are always looked up again.
+ *
+ * <p>Not thread safe. Access is guarded by the votes lock in {@link ForkChoiceStrategy}.
+ */
+class ProtoArrayVoteStore {
+
+  private VoteTracker[] resolvedVotes = new VoteTracker[0];
+  private int[] currentNodeIndices = new int[0];
+  private int[] nextNodeIndices = new int[0];
+  private long indicesVersion = -1;
+
+  /**
+   * Prepares the store for a round of delta computation.
+   *
+   * @param validatorCount the number of validators that may be accessed
+   * @param currentIndicesVersion the current version of the proto array indices, any cached entries
+   *     resolved against a different version are discarded
+   */
+  void prepare(final int validatorCount, final long currentIndicesVersion) {
+    if (indicesVersion != currentIndicesVersion) {
+      Arrays.fill(resolvedVotes, null);
+      indicesVersion = currentIndicesVersion;
+    }
+    if (validatorCount > resolvedVotes.length) {
+      final int newCapacity = Math.max(validatorCount, resolvedVotes.length * 3 / 2);
+      resolvedVotes = Arrays.copyOf(resolvedVotes, newCapacity);
+      currentNodeIndices = Arrays.copyOf(currentNodeIndices, newCapacity);
+      nextNodeIndices = Arrays.copyOf(nextNodeIndices, newCapacity);
+    }
+  }
+
+  boolean isResolved(final int validatorIndex, final VoteTracker vote) {
+    return resolvedVotes[validatorIndex] == vote;
+  }
+
+  void update(
+      final int validatorIndex,
+      final VoteTracker vote,
+      final int currentNodeIndex,
+      final int nextNodeIndex) {
+    currentNodeIndices[validatorIndex] = currentNodeIndex;
+    nextNodeIndices[validatorIndex] = nextNodeIndex;
+    resolvedVotes[validatorIndex] =
+        currentNodeIndex != UNKNOWN_INDEX && nextNodeIndex != UNKNOWN_INDEX ? vote : null;
+  }
+
+  int getCurrentNodeIndex(final int validatorIndex) {
+    return currentNodeIndices[validatorIndex];
+  }
+
+  int getNextNodeIndex(final int validatorIndex) {
+    return nextNodeIndices[validatorIndex];
+  }
+}
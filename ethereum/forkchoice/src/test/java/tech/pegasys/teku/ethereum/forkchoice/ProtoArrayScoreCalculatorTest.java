@@ -14,7 +14,9 @@
 package tech.pegasys.teku.ethereum.forkchoice;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayIndices.UNKNOWN_INDEX;
 import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayScoreCalculator.computeDeltas;
+import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayScoreCalculator.toBalancesArray;
 import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayTestUtil.createStoreToManipulateVotes;
 import static tech.pegasys.teku.ethereum.forkchoice.ProtoArrayTestUtil.getHash;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
@@ -41,9 +43,10 @@ public class ProtoArrayScoreCalculatorTest {
   private UInt64 oldProposerBoostAmount = ZERO;
   private UInt64 newProposerBoostAmount = ZERO;
   private VoteUpdater store = createStoreToManipulateVotes();
+  private final ProtoArrayVoteStore voteStore = new ProtoArrayVoteStore();
 
-  private Optional<Integer> getIndex(final Bytes32 root) {
-    return Optional.ofNullable(indices.get(root));
+  private int getIndex(final Bytes32 root) {
+    return indices.getOrDefault(root, UNKNOWN_INDEX);
   }
 
   @Test
@@ -60,10 +63,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -91,10 +96,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -132,10 +139,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -165,10 +174,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -219,10 +230,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -255,10 +268,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -306,10 +321,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -349,10 +366,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -383,10 +402,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -416,10 +437,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -449,10 +472,12 @@ public class ProtoArrayScoreCalculatorTest {
     List<Long> deltas =
         computeDeltas(
             store,
+            voteStore,
             indices.size(),
+            0,
             this::getIndex,
-            oldBalances,
-            newBalances,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
             oldProposerBoostRoot,
             newProposerBoostRoot,
             oldProposerBoostAmount,
@@ -466,6 +491,52 @@ public class ProtoArrayScoreCalculatorTest {
     assertThat(deltas.get(1)).isEqualTo(newProposerBoostAmount.longValue());
   }
 
+  @Test
+  void computeDeltas_shouldResolveIndicesAgainWhenIndicesVersionChanges() {
+    final UInt64 oldBalance = UInt64.valueOf(42);
+    final UInt64 newBalance = UInt64.valueOf(43);
+    indices.put(getHash(0), 0);
+    indices.put(getHash(1), 1);
+    store.putVote(ZERO, new VoteTracker(Bytes32.ZERO, getHash(1), ZERO));
+    oldBalances.add(oldBalance);
+    newBalances.add(oldBalance);
+
+    List<Long> deltas =
+        computeDeltas(
+            store,
+            voteStore,
+            indices.size(),
+            0,
+            this::getIndex,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+    assertThat(deltas).containsExactly(0L, oldBalance.longValue());
+
+    // Simulate pruning moving the voted for block to a new index
+    indices.removeInt(getHash(0));
+    indices.put(getHash(1), 0);
+    newBalances.set(0, newBalance);
+
+    deltas =
+        computeDeltas(
+            store,
+            voteStore,
+            indices.size(),
+            1,
+            this::getIndex,
+            toBalancesArray(oldBalances),
+            toBalancesArray(newBalances),
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+    assertThat(deltas).containsExactly(newBalance.longValue() - oldBalance.longValue());
+  }
+
   private void votesShouldBeUpdated(VoteUpdater store) {
     UInt64.rangeClosed(ZERO, store.getHighestVotedValidatorIndex())
         .forEach(
@@ -39,6 +39,7 @@ class ProtoArrayTest {
   private final DataStructureUtil dataStructureUtil =
       new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
   private final VoteUpdater voteUpdater = new StubVoteUpdater();
+  private final ProtoArrayVoteStore voteStore = new ProtoArrayVoteStore();
 
   private final Bytes32 block1a = dataStructureUtil.randomBytes32();
   private final Bytes32 block1b = dataStructureUtil.randomBytes32();
@@ -502,12 +503,15 @@ class ProtoArrayTest {
   private LongList computeDeltas() {
     final List<UInt64> balances =
         Collections.nCopies(voteUpdater.getHighestVotedValidatorIndex().intValue(), UInt64.ONE);
+    final long[] balancesArray = ProtoArrayScoreCalculator.toBalancesArray(balances);
     return ProtoArrayScoreCalculator.computeDeltas(
         voteUpdater,
+        voteStore,
         protoArray.getTotalTrackedNodeCount(),
-        protoArray::getIndexByRoot,
-        balances,
-        balances,
+        protoArray.getIndicesVersion(),
+        protoArray::getIndexByRootOrUnknown,
+        balancesArray,
+        balancesArray,
         Optional.empty(),
         Optional.empty(),
         UInt64.ZERO,
@@ -44,6 +44,7 @@ public class Eth2NetworkConfiguration {
   private static final int DEFAULT_STARTUP_TARGET_PEER_COUNT = 5;
   private static final int DEFAULT_STARTUP_TIMEOUT_SECONDS = 30;
   public static final boolean DEFAULT_PROPOSER_BOOST_ENABLED = true;
+  public static final boolean DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED = false;
 
   private final Spec spec;
   private final String constants;
@@ -195,6 +196,7 @@ public class Eth2NetworkConfiguration {
     private Optional<UInt256> totalTerminalDifficultyOverride = Optional.empty();
     private Optional<UInt64> terminalBlockHashEpochOverride = Optional.empty();
     private int safeSlotsToImportOptimistically = DEFAULT_SAFE_SLOTS_TO_IMPORT_OPTIMISTICALLY;
+    private boolean parallelEpochProcessingEnabled = DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED;
     private Spec spec;
 
     public void spec(Spec spec) {
@@ -210,6 +212,7 @@ public class Eth2NetworkConfiguration {
             SpecFactory.create(
                 constants,
                 builder -> {
+                  builder.parallelEpochProcessingEnabled(parallelEpochProcessingEnabled);
                   altairForkEpoch.ifPresent(
                       forkEpoch ->
                           builder.altairBuilder(
@@ -343,6 +346,11 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder parallelEpochProcessingEnabled(final boolean parallelEpochProcessingEnabled) {
+      this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
+      return this;
+    }
+
     public Builder totalTerminalDifficultyOverride(final UInt256 totalTerminalDifficultyOverride) {
       this.totalTerminalDifficultyOverride = Optional.of(totalTerminalDifficultyOverride);
       return this;
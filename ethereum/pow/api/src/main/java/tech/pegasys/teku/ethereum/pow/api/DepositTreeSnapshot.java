@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.pow.api;
+
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Compact representation of the deposit merkle tree up to and including the deposits in a
+ * finalized Eth1 block. Each fully finalized subtree is collapsed to its root, so the tree can be
+ * restored from at most one hash per level rather than from every deposit.
+ */
+public class DepositTreeSnapshot {
+
+  private final List<Bytes32> finalized;
+  private final Bytes32 depositRoot;
+  private final UInt64 depositCount;
+  private final UInt64 blockNumber;
+  private final Bytes32 blockHash;
+  private final UInt64 blockTimestamp;
+
+  /**
+   * @param finalized roots of the finalized subtrees, ordered from the leftmost to the rightmost
+   * @param depositRoot root of the deposit tree, including the mixed in deposit count
+   * @param depositCount number of deposits covered by the snapshot
+   * @param blockNumber number of the Eth1 block containing the last deposit in the snapshot
+   * @param blockHash hash of the Eth1 block containing the last deposit in the snapshot
+   * @param blockTimestamp timestamp of the Eth1 block containing the last deposit in the snapshot
+   */
+  public DepositTreeSnapshot(
+      final List<Bytes32> finalized,
+      final Bytes32 depositRoot,
+      final UInt64 depositCount,
+      final UInt64 blockNumber,
+      final Bytes32 blockHash,
+      final UInt64 blockTimestamp) {
+    this.finalized = List.copyOf(finalized);
+    this.depositRoot = depositRoot;
+    this.depositCount = depositCount;
+    this.blockNumber = blockNumber;
+    this.blockHash = blockHash;
+    this.blockTimestamp = blockTimestamp;
+  }
+
+  public List<Bytes32> getFinalized() {
+    return finalized;
+  }
+
+  public Bytes32 getDepositRoot() {
+    return depositRoot;
+  }
+
+  public UInt64 getDepositCount() {
+    return depositCount;
+  }
+
+  public UInt64 getBlockNumber() {
+    return blockNumber;
+  }
+
+  public Bytes32 getBlockHash() {
+    return blockHash;
+  }
+
+  public UInt64 getBlockTimestamp() {
+    return blockTimestamp;
+  }
+
+  @Override
+  public String toString() {
+    return "DepositTreeSnapshot{"
+        + "finalized="
+        + finalized
+        + ", depositRoot="
+        + depositRoot
+        + ", depositCount="
+        + depositCount
+        + ", blockNumber="
+        + blockNumber
+        + ", blockHash="
+        + blockHash
+        + ", blockTimestamp="
+        + blockTimestamp
+        + '}';
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final DepositTreeSnapshot that = (DepositTreeSnapshot) o;
+    return Objects.equals(finalized, that.finalized)
+        && Objects.equals(depositRoot, that.depositRoot)
+        && Objects.equals(depositCount, that.depositCount)
+        && Objects.equals(blockNumber, that.blockNumber)
+        && Objects.equals(blockHash, that.blockHash)
+        && Objects.equals(blockTimestamp, that.blockTimestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        finalized, depositRoot, depositCount, blockNumber, blockHash, blockTimestamp);
+  }
+}
@@ -134,6 +134,8 @@ public interface SpecConfig {
 
   int getProposerScoreBoost();
 
+  boolean isParallelEpochProcessingEnabled();
+
   int getDepositChainId();
 
   int getDepositNetworkId();
@@ -97,6 +97,9 @@ public class SpecConfigBuilder {
   // Added after Phase0 was live, so default to 0 which disables proposer score boosting.
   private int proposerScoreBoost = 0;
 
+  // Not part of the consensus spec, only changes how epoch processing is executed.
+  private boolean parallelEpochProcessingEnabled = false;
+
   // Deposit Contract
   private Integer depositChainId;
   private Integer depositNetworkId;
@@ -159,6 +162,7 @@ public class SpecConfigBuilder {
             secondsPerEth1Block,
             safeSlotsToUpdateJustified,
             proposerScoreBoost,
+            parallelEpochProcessingEnabled,
             depositChainId,
             depositNetworkId,
             depositContractAddress);
@@ -534,6 +538,12 @@ public class SpecConfigBuilder {
     return this;
   }
 
+  public SpecConfigBuilder parallelEpochProcessingEnabled(
+      final boolean parallelEpochProcessingEnabled) {
+    this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
+    return this;
+  }
+
   public SpecConfigBuilder depositChainId(final Integer depositChainId) {
     checkNotNull(depositChainId);
     this.depositChainId = depositChainId;
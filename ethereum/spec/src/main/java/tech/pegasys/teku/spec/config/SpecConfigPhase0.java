@@ -94,6 +94,9 @@ public class SpecConfigPhase0 implements SpecConfig {
   private final int safeSlotsToUpdateJustified;
   private final int proposerScoreBoost;
 
+  // Epoch processing
+  private final boolean parallelEpochProcessingEnabled;
+
   // Deposit Contract
   private final int depositChainId;
   private final int depositNetworkId;
@@ -147,6 +150,7 @@ public class SpecConfigPhase0 implements SpecConfig {
       final int secondsPerEth1Block,
       final int safeSlotsToUpdateJustified,
       final int proposerScoreBoost,
+      final boolean parallelEpochProcessingEnabled,
       final int depositChainId,
       final int depositNetworkId,
       final Bytes depositContractAddress) {
@@ -197,6 +201,7 @@ public class SpecConfigPhase0 implements SpecConfig {
     this.secondsPerEth1Block = secondsPerEth1Block;
     this.safeSlotsToUpdateJustified = safeSlotsToUpdateJustified;
     this.proposerScoreBoost = proposerScoreBoost;
+    this.parallelEpochProcessingEnabled = parallelEpochProcessingEnabled;
     this.depositChainId = depositChainId;
     this.depositNetworkId = depositNetworkId;
     this.depositContractAddress = depositContractAddress;
@@ -463,6 +468,11 @@ public class SpecConfigPhase0 implements SpecConfig {
     return proposerScoreBoost;
   }
 
+  @Override
+  public boolean isParallelEpochProcessingEnabled() {
+    return parallelEpochProcessingEnabled;
+  }
+
   @Override
   public int getDepositChainId() {
     return depositChainId;
@@ -517,6 +527,7 @@ public class SpecConfigPhase0 implements SpecConfig {
         && maxVoluntaryExits == that.maxVoluntaryExits
         && safeSlotsToUpdateJustified == that.safeSlotsToUpdateJustified
         && proposerScoreBoost == that.proposerScoreBoost
+        && parallelEpochProcessingEnabled == that.parallelEpochProcessingEnabled
         && depositChainId == that.depositChainId
         && depositNetworkId == that.depositNetworkId
         && Objects.equals(eth1FollowDistance, that.eth1FollowDistance)
@@ -587,6 +598,7 @@ public class SpecConfigPhase0 implements SpecConfig {
         secondsPerEth1Block,
         safeSlotsToUpdateJustified,
         proposerScoreBoost,
+        parallelEpochProcessingEnabled,
         depositChainId,
         depositNetworkId,
         depositContractAddress);
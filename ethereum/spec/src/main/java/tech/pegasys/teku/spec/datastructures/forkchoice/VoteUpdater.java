@@ -23,6 +23,14 @@ public interface VoteUpdater {
 
   VoteTracker getVote(final UInt64 validatorIndex);
 
+  /**
+   * Primitive variant of {@link #getVote(UInt64)} for callers iterating over every validator.
+   * Implementations should override this to avoid boxing the validator index.
+   */
+  default VoteTracker getVote(final int validatorIndex) {
+    return getVote(UInt64.valueOf(validatorIndex));
+  }
+
   UInt64 getHighestVotedValidatorIndex();
 
   void putVote(UInt64 validatorIndex, VoteTracker vote);
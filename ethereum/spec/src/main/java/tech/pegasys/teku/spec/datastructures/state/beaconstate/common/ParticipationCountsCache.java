@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.function.Supplier;
+import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.analysis.ValidatorStats.CorrectAndLiveValidators;
+
+/**
+ * Running counts of live and correct (timely target) validators for the previous and current
+ * epoch, updated as participation flags are set during block processing so they don't have to be
+ * recounted from the full participation lists.
+ *
+ * <p>Counts for an epoch are only tracked once they have been initialised from a full count, since
+ * states loaded from storage or created by a fork upgrade have no history to build on.
+ */
+public class ParticipationCountsCache {
+
+  static final ParticipationCountsCache NO_OP_INSTANCE =
+      new ParticipationCountsCache() {
+        @Override
+        public CorrectAndLiveValidators getPreviousEpoch(
+            final Supplier<CorrectAndLiveValidators> fullCount) {
+          return fullCount.get();
+        }
+
+        @Override
+        public CorrectAndLiveValidators getCurrentEpoch(
+            final Supplier<CorrectAndLiveValidators> fullCount) {
+          return fullCount.get();
+        }
+
+        @Override
+        public void onParticipationUpdated(
+            final boolean currentEpoch, final byte previousFlags, final byte newFlags) {}
+
+        @Override
+        public void onEpochTransition() {}
+
+        @Override
+        public ParticipationCountsCache copy() {
+          return this;
+        }
+      };
+
+  private EpochCounts previousEpoch;
+  private EpochCounts currentEpoch;
+
+  public ParticipationCountsCache() {
+    this(EpochCounts.UNKNOWN, EpochCounts.UNKNOWN);
+  }
+
+  private ParticipationCountsCache(
+      final EpochCounts previousEpoch, final EpochCounts currentEpoch) {
+    this.previousEpoch = previousEpoch;
+    this.currentEpoch = currentEpoch;
+  }
+
+  public synchronized CorrectAndLiveValidators getPreviousEpoch(
+      final Supplier<CorrectAndLiveValidators> fullCount) {
+    if (!previousEpoch.isKnown()) {
+      previousEpoch = EpochCounts.from(fullCount.get());
+    }
+    return previousEpoch.toCorrectAndLiveValidators();
+  }
+
+  public synchronized CorrectAndLiveValidators getCurrentEpoch(
+      final Supplier<CorrectAndLiveValidators> fullCount) {
+    if (!currentEpoch.isKnown()) {
+      currentEpoch = EpochCounts.from(fullCount.get());
+    }
+    return currentEpoch.toCorrectAndLiveValidators();
+  }
+
+  /** Records a validator's participation flags for an epoch changing from one value to another. */
+  public synchronized void onParticipationUpdated(
+      final boolean currentEpoch, final byte previousFlags, final byte newFlags) {
+    final EpochCounts counts = currentEpoch ? this.currentEpoch : this.previousEpoch;
+    if (!counts.isKnown()) {
+      return;
+    }
+    if (!ParticipationFlags.isAnyFlagSet(previousFlags)
+        && ParticipationFlags.isAnyFlagSet(newFlags)) {
+      counts.liveValidators++;
+    }
+    if (!ParticipationFlags.isTimelyTarget(previousFlags)
+        && ParticipationFlags.isTimelyTarget(newFlags)) {
+      counts.correctValidators++;
+    }
+  }
+
+  /** Current epoch participation becomes previous and current epoch participation is reset. */
+  public synchronized void onEpochTransition() {
+    previousEpoch = currentEpoch;
+    currentEpoch = new EpochCounts(0, 0);
+  }
+
+  public synchronized ParticipationCountsCache copy() {
+    return new ParticipationCountsCache(previousEpoch.copy(), currentEpoch.copy());
+  }
+
+  private static class EpochCounts {
+    private static final EpochCounts UNKNOWN = new EpochCounts(-1, -1);
+
+    private int correctValidators;
+    private int liveValidators;
+
+    private EpochCounts(final int correctValidators, final int liveValidators) {
+      this.correctValidators = correctValidators;
+      this.liveValidators = liveValidators;
+    }
+
+    private static EpochCounts from(final CorrectAndLiveValidators validators) {
+      return new EpochCounts(
+          validators.getNumberOfCorrectValidators(), validators.getNumberOfLiveValidators());
+    }
+
+    private boolean isKnown() {
+      return this != UNKNOWN;
+    }
+
+    private CorrectAndLiveValidators toCorrectAndLiveValidators() {
+      return new CorrectAndLiveValidators(correctValidators, liveValidators);
+    }
+
+    private EpochCounts copy() {
+      return isKnown() ? new EpochCounts(correctValidators, liveValidators) : UNKNOWN;
+    }
+  }
+}
@@ -14,20 +14,25 @@
 package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 
 import it.unimi.dsi.fastutil.ints.IntList;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64List;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 
-/** The container class for all transition caches. */
+/**
+ * The container class for all transition caches.
+ *
+ * <p>Most caches are copied along with the state. The validator public keys and validator indices
+ * are instead shared by a state and all of its copies, since a validator index always refers to
+ * the same public key on every fork.
+ */
 public class TransitionCaches {
 
   private static final int MAX_ACTIVE_VALIDATORS_CACHE = 8;
@@ -46,12 +51,13 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          NoOpCache.getNoOpCache(),
+          ValidatorPublicKeyCache.NO_OP_INSTANCE,
           ValidatorIndexCache.NO_OP_INSTANCE,
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          NoOpCache.getNoOpCache()) {
+          NoOpCache.getNoOpCache(),
+          ParticipationCountsCache.NO_OP_INSTANCE) {
 
         @Override
         public TransitionCaches copy() {
@@ -74,13 +80,14 @@ public class TransitionCaches {
   private final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee;
   private final Cache<UInt64, UInt64> attestersTotalBalance;
   private final Cache<UInt64, UInt64> totalActiveBalance;
-  private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
+  private final ValidatorPublicKeyCache validatorsPubKeys;
   private final ValidatorIndexCache validatorIndexCache;
   private final Cache<Bytes32, IntList> committeeShuffle;
-  private final Cache<UInt64, List<UInt64>> effectiveBalances;
+  private final Cache<UInt64, UInt64List> effectiveBalances;
   private final Cache<UInt64, UInt64> baseRewardPerIncrement;
 
   private final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache;
+  private final ParticipationCountsCache participationCounts;
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
 
@@ -90,12 +97,13 @@ public class TransitionCaches {
     beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
     totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
-    validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
+    validatorsPubKeys = new ValidatorPublicKeyCache();
     validatorIndexCache = new ValidatorIndexCache();
     committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
     effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
     syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
     baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
+    participationCounts = new ParticipationCountsCache();
   }
 
   private TransitionCaches(
@@ -104,12 +112,13 @@ public class TransitionCaches {
       Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee,
       Cache<UInt64, UInt64> attestersTotalBalance,
       Cache<UInt64, UInt64> totalActiveBalance,
-      Cache<UInt64, BLSPublicKey> validatorsPubKeys,
+      ValidatorPublicKeyCache validatorsPubKeys,
       ValidatorIndexCache validatorIndexCache,
       Cache<Bytes32, IntList> committeeShuffle,
-      Cache<UInt64, List<UInt64>> effectiveBalances,
+      Cache<UInt64, UInt64List> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
-      Cache<UInt64, UInt64> baseRewardPerIncrement) {
+      Cache<UInt64, UInt64> baseRewardPerIncrement,
+      ParticipationCountsCache participationCounts) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -121,6 +130,7 @@ public class TransitionCaches {
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
+    this.participationCounts = participationCounts;
   }
 
   public void setLatestTotalBalances(TotalBalances totalBalances) {
@@ -157,7 +167,7 @@ public class TransitionCaches {
   }
 
   /** (validator index) -> (validator pub key) cache */
-  public Cache<UInt64, BLSPublicKey> getValidatorsPubKeys() {
+  public ValidatorPublicKeyCache getValidatorsPubKeys() {
     return validatorsPubKeys;
   }
 
@@ -183,7 +193,7 @@ public class TransitionCaches {
    *
    * @return the effective balance cache
    */
-  public Cache<UInt64, List<UInt64>> getEffectiveBalances() {
+  public Cache<UInt64, UInt64List> getEffectiveBalances() {
     return effectiveBalances;
   }
 
@@ -196,6 +206,11 @@ public class TransitionCaches {
     return baseRewardPerIncrement;
   }
 
+  /** Live and correct validator counts for the previous and current epoch */
+  public ParticipationCountsCache getParticipationCounts() {
+    return participationCounts;
+  }
+
   /**
    * Makes an independent copy which contains all the data in this instance Modifications to
    * returned caches shouldn't affect caches from this instance
@@ -212,6 +227,7 @@ public class TransitionCaches {
         committeeShuffle.copy(),
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
-        baseRewardPerIncrement.copy());
+        baseRewardPerIncrement.copy(),
+        participationCounts.copy());
   }
 }
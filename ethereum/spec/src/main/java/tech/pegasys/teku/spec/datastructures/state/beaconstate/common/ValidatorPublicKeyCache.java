@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import tech.pegasys.teku.bls.BLSPublicKey;
+
+/**
+ * (validator index) -> (validator pub key) table, shared by a state and all of its copies.
+ *
+ * <p>A validator's public key never changes once it is added to the registry, so states which share
+ * a registry prefix agree on the key at each index. Keys are stored in fixed size pages addressed
+ * directly by index, avoiding a boxed key and map entry per validator.
+ */
+public class ValidatorPublicKeyCache {
+  private static final int PAGE_SHIFT = 12;
+  private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  static final ValidatorPublicKeyCache NO_OP_INSTANCE =
+      new ValidatorPublicKeyCache() {
+        @Override
+        public BLSPublicKey get(final int validatorIndex, final IntFunction<BLSPublicKey> loader) {
+          return loader.apply(validatorIndex);
+        }
+
+        @Override
+        public Optional<BLSPublicKey> getCached(final int validatorIndex) {
+          return Optional.empty();
+        }
+      };
+
+  private volatile AtomicReferenceArray<AtomicReferenceArray<BLSPublicKey>> pages =
+      new AtomicReferenceArray<>(0);
+
+  /**
+   * Get the public key for a validator, loading and caching it if it isn't already cached.
+   *
+   * @param validatorIndex the index of the validator
+   * @param loader loads the public key for the validator index if it isn't cached
+   * @return the validator's public key
+   */
+  public BLSPublicKey get(final int validatorIndex, final IntFunction<BLSPublicKey> loader) {
+    checkArgument(validatorIndex >= 0, "Validator index must not be negative");
+    final AtomicReferenceArray<BLSPublicKey> page = getOrCreatePage(validatorIndex >>> PAGE_SHIFT);
+    final int offset = validatorIndex & PAGE_MASK;
+    final BLSPublicKey cached = page.get(offset);
+    if (cached != null) {
+      return cached;
+    }
+    final BLSPublicKey loaded = loader.apply(validatorIndex);
+    page.set(offset, loaded);
+    return loaded;
+  }
+
+  public Optional<BLSPublicKey> getCached(final int validatorIndex) {
+    final AtomicReferenceArray<AtomicReferenceArray<BLSPublicKey>> currentPages = pages;
+    final int pageIndex = validatorIndex >>> PAGE_SHIFT;
+    if (validatorIndex < 0 || pageIndex >= currentPages.length()) {
+      return Optional.empty();
+    }
+    final AtomicReferenceArray<BLSPublicKey> page = currentPages.get(pageIndex);
+    return page == null
+        ? Optional.empty()
+        : Optional.ofNullable(page.get(validatorIndex & PAGE_MASK));
+  }
+
+  private AtomicReferenceArray<BLSPublicKey> getOrCreatePage(final int pageIndex) {
+    final AtomicReferenceArray<AtomicReferenceArray<BLSPublicKey>> currentPages = pages;
+    if (pageIndex < currentPages.length()) {
+      final AtomicReferenceArray<BLSPublicKey> page = currentPages.get(pageIndex);
+      if (page != null) {
+        return page;
+      }
+    }
+    return createPage(pageIndex);
+  }
+
+  private synchronized AtomicReferenceArray<BLSPublicKey> createPage(final int pageIndex) {
+    AtomicReferenceArray<AtomicReferenceArray<BLSPublicKey>> currentPages = pages;
+    if (pageIndex >= currentPages.length()) {
+      // Only the page references are copied, the pages themselves are shared
+      final AtomicReferenceArray<AtomicReferenceArray<BLSPublicKey>> grownPages =
+          new AtomicReferenceArray<>(Math.max(pageIndex + 1, currentPages.length() * 2));
+      for (int i = 0; i < currentPages.length(); i++) {
+        grownPages.set(i, currentPages.get(i));
+      }
+      pages = grownPages;
+      currentPages = grownPages;
+    }
+    AtomicReferenceArray<BLSPublicKey> page = currentPages.get(pageIndex);
+    if (page == null) {
+      page = new AtomicReferenceArray<>(PAGE_SIZE);
+      currentPages.set(pageIndex, page);
+    }
+    return page;
+  }
+}
@@ -17,16 +17,21 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 
 public interface ValidatorStatsAltair extends BeaconStateAltair {
   @Override
   default CorrectAndLiveValidators getValidatorStatsPreviousEpoch(final Bytes32 correctTargetRoot) {
-    return getValidatorStats(getPreviousEpochParticipation());
+    return BeaconStateCache.getTransitionCaches(this)
+        .getParticipationCounts()
+        .getPreviousEpoch(() -> getValidatorStats(getPreviousEpochParticipation()));
   }
 
   @Override
   default CorrectAndLiveValidators getValidatorStatsCurrentEpoch(final Bytes32 correctTargetRoot) {
-    return getValidatorStats(getCurrentEpochParticipation());
+    return BeaconStateCache.getTransitionCaches(this)
+        .getParticipationCounts()
+        .getCurrentEpoch(() -> getValidatorStats(getCurrentEpochParticipation()));
   }
 
   private CorrectAndLiveValidators getValidatorStats(final SszList<SszByte> participationFlags) {
@@ -26,6 +26,9 @@ public abstract class MerkleTree {
   protected final List<List<Bytes32>> tree;
   protected final List<Bytes32> zeroHashes;
   protected final int treeDepth; // Root does not count as depth, i.e. tree height is treeDepth + 1
+  // Number of nodes removed from the start of each level of the tree by pruning
+  protected final int[] prunedNodeCounts;
+  protected int finalizedLeafCount = 0;
 
   protected MerkleTree(int treeDepth) {
     checkArgument(treeDepth > 1, "MerkleTree: treeDepth must be greater than 1");
@@ -34,6 +37,7 @@ public abstract class MerkleTree {
     for (int i = 0; i <= treeDepth; i++) {
       tree.add(new ArrayList<>());
     }
+    prunedNodeCounts = new int[treeDepth + 1];
     zeroHashes = generateZeroHashes(treeDepth);
   }
 
@@ -50,8 +54,73 @@ public abstract class MerkleTree {
     return zeroHashes;
   }
 
+  protected Bytes32 getNode(final int level, final int index) {
+    return tree.get(level).get(index - prunedNodeCounts[level]);
+  }
+
+  protected int getLevelSize(final int level) {
+    return prunedNodeCounts[level] + tree.get(level).size();
+  }
+
+  private int indexOfLeaf(final Bytes32 value) {
+    final int index = tree.get(0).indexOf(value);
+    return index == -1 ? -1 : index + prunedNodeCounts[0];
+  }
+
+  /**
+   * Prunes the tree so the first {@code leafCount} leaves are only kept as the roots of the
+   * subtrees they complete, which takes at most one node per level. Leaves can still be added and
+   * proofs generated for the remaining leaves, but no longer for the finalized ones.
+   *
+   * @param leafCount number of leaves, from the start of the tree, to finalize
+   */
+  public void pruneFinalizedLeaves(final int leafCount) {
+    if (leafCount <= finalizedLeafCount) {
+      return;
+    }
+    checkArgument(
+        leafCount <= getNumberOfLeaves(), "MerkleTree: Cannot finalize leaves not yet added");
+    for (int level = 0; level <= treeDepth; level++) {
+      // Keep the left sibling of the first non-finalized node, it's needed for proofs and hashing
+      final int firstRetainedNode = getCompleteNodeCount(leafCount, level) & ~1;
+      final int nodesToPrune = firstRetainedNode - prunedNodeCounts[level];
+      if (nodesToPrune > 0) {
+        tree.get(level).subList(0, nodesToPrune).clear();
+        prunedNodeCounts[level] = firstRetainedNode;
+      }
+    }
+    finalizedLeafCount = leafCount;
+  }
+
+  /**
+   * @return number of complete nodes at {@code level} covering the first {@code leafCount} leaves
+   */
+  protected static int getCompleteNodeCount(final int leafCount, final int level) {
+    // Java masks int shift distances to 5 bits, so a shift by 32 would leave leafCount unchanged
+    return level < Integer.SIZE ? leafCount >> level : 0;
+  }
+
+  public int getFinalizedLeafCount() {
+    return finalizedLeafCount;
+  }
+
+  /**
+   * @return roots of the complete subtrees covering the finalized leaves, ordered from the leftmost
+   *     (and largest) subtree to the rightmost
+   */
+  public List<Bytes32> getFinalizedSubtreeRoots() {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (int level = treeDepth; level >= 0; level--) {
+      final int completeNodeCount = getCompleteNodeCount(finalizedLeafCount, level);
+      if (completeNodeCount % 2 == 1) {
+        roots.add(getNode(level, completeNodeCount - 1));
+      }
+    }
+    return roots;
+  }
+
   public List<Bytes32> getProof(Bytes32 value) {
-    int index = tree.get(0).indexOf(value);
+    int index = indexOfLeaf(value);
     if (index == -1) {
       throw new IllegalArgumentException("Leaf value is missing from the MerkleTree");
     }
@@ -59,6 +128,8 @@ public abstract class MerkleTree {
   }
 
   public List<Bytes32> getProof(int itemIndex) {
+    checkArgument(
+        itemIndex >= finalizedLeafCount, "MerkleTree: Cannot create proofs for finalized leaves");
     List<Bytes32> proof = new ArrayList<>();
     for (int i = 0; i < treeDepth; i++) {
 
@@ -66,10 +137,10 @@ public abstract class MerkleTree {
       int siblingIndex = itemIndex % 2 == 1 ? itemIndex - 1 : itemIndex + 1;
 
       // If sibling is contained in the tree
-      if (siblingIndex < tree.get(i).size()) {
+      if (siblingIndex < getLevelSize(i)) {
 
         // Get the sibling from the tree
-        proof.add(tree.get(i).get(siblingIndex));
+        proof.add(getNode(i, siblingIndex));
       } else {
 
         // Get the zero hash at the appropriate
@@ -92,7 +163,7 @@ public abstract class MerkleTree {
     // Check if given the viewLimit at the leaf layer, is root in left or right subtree
     if ((viewLimit & (1 << depth)) != 0) {
       // For the right subtree
-      return Hash.sha256(tree.get(depth).get((viewLimit >> depth) - 1), deeperRoot);
+      return Hash.sha256(getNode(depth, (viewLimit >> depth) - 1), deeperRoot);
     } else {
       // For the left subtree
       return Hash.sha256(deeperRoot, zeroHashes.get(depth));
@@ -105,7 +176,7 @@ public abstract class MerkleTree {
    * @return proof (i.e. collection of siblings on the way to root for the given leaf)
    */
   public List<Bytes32> getProofWithViewBoundary(Bytes32 value, int viewLimit) {
-    return getProofWithViewBoundary(tree.get(0).indexOf(value), viewLimit);
+    return getProofWithViewBoundary(indexOfLeaf(value), viewLimit);
   }
 
   /**
@@ -115,6 +186,8 @@ public abstract class MerkleTree {
    */
   public List<Bytes32> getProofWithViewBoundary(int itemIndex, int viewLimit) {
     checkArgument(itemIndex < viewLimit, "MerkleTree: Index must be less than the view limit");
+    checkArgument(
+        itemIndex >= finalizedLeafCount, "MerkleTree: Cannot create proofs for finalized leaves");
 
     List<Bytes32> proof = new ArrayList<>();
     for (int i = 0; i < treeDepth; i++) {
@@ -125,7 +198,7 @@ public abstract class MerkleTree {
       int limit = viewLimit >> i;
 
       checkArgument(
-          limit <= tree.get(i).size(), "MerkleTree: Tree is too small for given limit at height");
+          limit <= getLevelSize(i), "MerkleTree: Tree is too small for given limit at height");
 
       // If the sibling is equal to the limit,
       if (siblingIndex == limit) {
@@ -138,7 +211,7 @@ public abstract class MerkleTree {
       } else {
         // Within:
         // Return the tree node as-is without modifications
-        proof.add(tree.get(i).get(siblingIndex));
+        proof.add(getNode(i, siblingIndex));
       }
       itemIndex /= 2;
     }
@@ -156,7 +229,7 @@ public abstract class MerkleTree {
   }
 
   public Bytes32 getRoot() {
-    return Hash.sha256(tree.get(treeDepth).get(0), calcMixInValue());
+    return Hash.sha256(getNode(treeDepth, 0), calcMixInValue());
   }
 
   @Override
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.spec.datastructures.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,20 +28,64 @@ public class OptimizedMerkleTree extends MerkleTree {
     super(treeDepth);
   }
 
+  /**
+   * Restores a tree pruned by {@link #pruneFinalizedLeaves(int)}, with no leaves added after the
+   * finalized ones.
+   *
+   * @param treeDepth depth of the tree
+   * @param finalizedLeafCount number of finalized leaves
+   * @param finalizedSubtreeRoots roots of the finalized subtrees, as returned by {@link
+   *     #getFinalizedSubtreeRoots()}
+   */
+  public static OptimizedMerkleTree fromFinalizedSubtreeRoots(
+      final int treeDepth,
+      final int finalizedLeafCount,
+      final List<Bytes32> finalizedSubtreeRoots) {
+    checkArgument(
+        finalizedSubtreeRoots.size() == Integer.bitCount(finalizedLeafCount),
+        "MerkleTree: Expected one finalized subtree root per bit of the finalized leaf count");
+    final OptimizedMerkleTree merkleTree = new OptimizedMerkleTree(treeDepth);
+    merkleTree.restoreFinalizedSubtreeRoots(finalizedLeafCount, finalizedSubtreeRoots);
+    return merkleTree;
+  }
+
+  private void restoreFinalizedSubtreeRoots(final int leafCount, final List<Bytes32> roots) {
+    // Roots are ordered from the top of the tree down, so consume them from the end
+    int rootIndex = roots.size() - 1;
+    for (int h = 0; h <= treeDepth; h++) {
+      final List<Bytes32> stage = tree.get(h);
+      final int completeNodeCount = getCompleteNodeCount(leafCount, h);
+      prunedNodeCounts[h] = completeNodeCount & ~1;
+      if (completeNodeCount % 2 == 1) {
+        stage.add(roots.get(rootIndex--));
+      }
+      if (h > 0 && getLevelSize(h - 1) > 2 * completeNodeCount) {
+        // Parent of the finalized leaves which don't fill a complete subtree at this level
+        stage.add(
+            Hash.sha256(
+                getNode(h - 1, 2 * completeNodeCount), getNode(h - 1, 2 * completeNodeCount + 1)));
+      }
+      if (getLevelSize(h) % 2 == 1 && h != treeDepth) {
+        stage.add(zeroHashes.get(h));
+      }
+    }
+    finalizedLeafCount = leafCount;
+  }
+
   @Override
   public void add(Bytes32 leaf) {
     if (!tree.get(0).isEmpty()
         && tree.get(0).get(tree.get(0).size() - 1).equals(zeroHashes.get(0))) {
       tree.get(0).remove(tree.get(0).size() - 1);
     }
-    int stageSize = tree.get(0).size();
+    int stageSize = getLevelSize(0);
     tree.get(0).add(leaf);
     for (int h = 0; h <= treeDepth; h++) {
       List<Bytes32> stage = tree.get(h);
       if (h > 0) {
         // Remove elements that should be modified
         stageSize = stageSize / 2;
-        while (stage.size() != stageSize) {
+        while (getLevelSize(h) != stageSize) {
           stage.remove(stage.size() - 1);
         }
 
@@ -50,7 +96,7 @@ public class OptimizedMerkleTree extends MerkleTree {
                 previousStage.get(previousStageSize - 2),
                 previousStage.get(previousStageSize - 1)));
       }
-      if (stage.size() % 2 == 1 && h != treeDepth) {
+      if (getLevelSize(h) % 2 == 1 && h != treeDepth) {
         stage.add(zeroHashes.get(h));
       }
     }
@@ -58,11 +104,11 @@ public class OptimizedMerkleTree extends MerkleTree {
 
   @Override
   public int getNumberOfLeaves() {
-    int lastLeafIndex = tree.get(0).size() - 1;
-    if (tree.get(0).get(lastLeafIndex).equals(Bytes32.ZERO)) {
-      return tree.get(0).size() - 1;
+    final List<Bytes32> leaves = tree.get(0);
+    if (!leaves.isEmpty() && leaves.get(leaves.size() - 1).equals(Bytes32.ZERO)) {
+      return getLevelSize(0) - 1;
     }
-    return tree.get(0).size();
+    return getLevelSize(0);
   }
 
   @Override
@@ -78,14 +78,14 @@ public abstract class BeaconStateAccessors {
         BeaconStateCache.getTransitionCaches(state)
             .getValidatorsPubKeys()
             .get(
-                validatorIndex,
+                validatorIndex.intValue(),
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  BLSPublicKey pubKey = state.getValidators().get(i).getPublicKey();
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
                       .getValidatorIndexCache()
-                      .invalidateWithNewValue(pubKey, i.intValue());
+                      .invalidateWithNewValue(pubKey, i);
                   return pubKey;
                 }));
   }
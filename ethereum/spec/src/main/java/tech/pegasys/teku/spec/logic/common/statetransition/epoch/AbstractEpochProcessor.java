@@ -31,7 +31,6 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconStat
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
-import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
@@ -207,9 +206,18 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     // To optimize performance, calculate validator size once outside of the loop
     int validatorsCount = state.getValidators().size();
     for (int i = 0; i < validatorsCount; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+      final long reward = attestationDeltas.getRewardLongBits(i);
+      final long penalty = attestationDeltas.getPenaltyLongBits(i);
+      if (reward == 0 && penalty == 0) {
+        // Balance is unchanged so avoid creating a new balance value
+        continue;
+      }
       balances.setElement(
-          i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
+          i,
+          balances
+              .getElement(i)
+              .plus(UInt64.fromLongBits(reward))
+              .minusMinZero(UInt64.fromLongBits(penalty)));
     }
   }
 
@@ -342,16 +350,19 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     // Update effective balances with hysteresis
     SszMutableList<Validator> validators = state.getValidators();
     SszUInt64List balances = state.getBalances();
+    final UInt64 hysteresisIncrement =
+        specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
+    final UInt64 downwardThreshold =
+        hysteresisIncrement.times(specConfig.getHysteresisDownwardMultiplier());
+    final UInt64 upwardThreshold =
+        hysteresisIncrement.times(specConfig.getHysteresisUpwardMultiplier());
     for (int index = 0; index < validators.size(); index++) {
       Validator validator = validators.get(index);
       UInt64 balance = balances.getElement(index);
 
-      final UInt64 hysteresisIncrement =
-          specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
       final UInt64 currentEffectiveBalance = validator.getEffectiveBalance();
-      if (shouldDecreaseEffectiveBalance(balance, hysteresisIncrement, currentEffectiveBalance)
-          || shouldIncreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance)) {
+      if (shouldDecreaseEffectiveBalance(balance, downwardThreshold, currentEffectiveBalance)
+          || shouldIncreaseEffectiveBalance(balance, upwardThreshold, currentEffectiveBalance)) {
         final UInt64 newEffectiveBalance =
             balance
                 .minus(balance.mod(specConfig.getEffectiveBalanceIncrement()))
@@ -362,11 +373,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   }
 
   private boolean shouldIncreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance) {
-    final UInt64 upwardThreshold =
-        hysteresisIncrement.times(specConfig.getHysteresisUpwardMultiplier());
+      final UInt64 balance, final UInt64 upwardThreshold, final UInt64 currentEffectiveBalance) {
     // This condition doesn't match the spec but is an optimisation to avoid creating a new
     // validator with the same effective balance when it's already at the maximum.
     return !currentEffectiveBalance.equals(specConfig.getMaxEffectiveBalance())
@@ -374,11 +381,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   }
 
   private boolean shouldDecreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance) {
-    final UInt64 downwardThreshold =
-        hysteresisIncrement.times(specConfig.getHysteresisDownwardMultiplier());
+      final UInt64 balance, final UInt64 downwardThreshold, final UInt64 currentEffectiveBalance) {
     return balance.plus(downwardThreshold).isLessThan(currentEffectiveBalance);
   }
 
@@ -14,53 +14,119 @@
 package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
 
 import com.google.common.base.MoreObjects;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Accumulates the reward and penalty for each validator during epoch processing.
+ *
+ * <p>Amounts are stored as unsigned long bits in primitive arrays rather than as a {@link UInt64}
+ * per validator. Updates to different validator indices may be made concurrently, provided each
+ * index is only updated by a single thread.
+ */
 public class RewardAndPenaltyDeltas {
-  private final List<RewardAndPenalty> deltas;
+  private final long[] rewards;
+  private final long[] penalties;
 
   public RewardAndPenaltyDeltas(final int validatorCount) {
-    this.deltas = new ArrayList<>(validatorCount);
-    for (int i = 0; i < validatorCount; i++) {
-      deltas.add(new RewardAndPenalty());
-    }
+    this.rewards = new long[validatorCount];
+    this.penalties = new long[validatorCount];
+  }
+
+  public int getValidatorCount() {
+    return rewards.length;
   }
 
   public RewardAndPenalty getDelta(final int validatorIndex) {
-    return deltas.get(validatorIndex);
+    Objects.checkIndex(validatorIndex, rewards.length);
+    return new RewardAndPenalty(this, validatorIndex);
+  }
+
+  public void reward(final int validatorIndex, final UInt64 amount) {
+    rewards[validatorIndex] = plus(rewards[validatorIndex], amount.longValue());
+  }
+
+  public void penalize(final int validatorIndex, final UInt64 amount) {
+    penalties[validatorIndex] = plus(penalties[validatorIndex], amount.longValue());
+  }
+
+  /** Returns the reward for the validator as unsigned long bits. */
+  public long getRewardLongBits(final int validatorIndex) {
+    return rewards[validatorIndex];
+  }
+
+  /** Returns the penalty for the validator as unsigned long bits. */
+  public long getPenaltyLongBits(final int validatorIndex) {
+    return penalties[validatorIndex];
+  }
+
+  /** Equivalent to {@link UInt64#plus(UInt64)} without allocating intermediate values. */
+  private static long plus(final long longBits1, final long longBits2) {
+    if (longBits1 != 0 && Long.compareUnsigned(longBits2, -1L - longBits1) > 0) {
+      throw new ArithmeticException("uint64 overflow");
+    }
+    return longBits1 + longBits2;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RewardAndPenaltyDeltas that = (RewardAndPenaltyDeltas) o;
+    return Arrays.equals(rewards, that.rewards) && Arrays.equals(penalties, that.penalties);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(rewards) + Arrays.hashCode(penalties);
   }
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("deltas", deltas).toString();
+    final StringBuilder deltas = new StringBuilder("[");
+    for (int i = 0; i < rewards.length; i++) {
+      if (i > 0) {
+        deltas.append(", ");
+      }
+      deltas.append(getDelta(i));
+    }
+    return MoreObjects.toStringHelper(this).add("deltas", deltas.append(']')).toString();
   }
 
+  /** A view of the reward and penalty for a single validator. */
   public static class RewardAndPenalty {
-    private UInt64 reward = UInt64.ZERO;
-    private UInt64 penalty = UInt64.ZERO;
+    private final RewardAndPenaltyDeltas deltas;
+    private final int validatorIndex;
+
+    private RewardAndPenalty(final RewardAndPenaltyDeltas deltas, final int validatorIndex) {
+      this.deltas = deltas;
+      this.validatorIndex = validatorIndex;
+    }
 
     public void reward(final UInt64 amount) {
-      reward = reward.plus(amount);
+      deltas.reward(validatorIndex, amount);
     }
 
     public void penalize(final UInt64 amount) {
-      penalty = penalty.plus(amount);
+      deltas.penalize(validatorIndex, amount);
     }
 
     public void add(final RewardAndPenalty other) {
-      reward(other.reward);
-      penalize(other.penalty);
+      reward(other.getReward());
+      penalize(other.getPenalty());
     }
 
     public UInt64 getReward() {
-      return reward;
+      return UInt64.fromLongBits(deltas.getRewardLongBits(validatorIndex));
     }
 
     public UInt64 getPenalty() {
-      return penalty;
+      return UInt64.fromLongBits(deltas.getPenaltyLongBits(validatorIndex));
     }
 
     @Override
@@ -72,19 +138,20 @@ public class RewardAndPenaltyDeltas {
         return false;
       }
       final RewardAndPenalty delta = (RewardAndPenalty) o;
-      return Objects.equals(reward, delta.reward) && Objects.equals(penalty, delta.penalty);
+      return Objects.equals(getReward(), delta.getReward())
+          && Objects.equals(getPenalty(), delta.getPenalty());
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(reward, penalty);
+      return Objects.hash(getReward(), getPenalty());
     }
 
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
-          .add("reward", reward)
-          .add("penalty", penalty)
+          .add("reward", getReward())
+          .add("penalty", getPenalty())
           .toString();
     }
   }
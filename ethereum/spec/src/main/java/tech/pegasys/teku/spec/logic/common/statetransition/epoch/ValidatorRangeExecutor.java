@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.spec.config.SpecConfig;
+
+/**
+ * Runs per-validator epoch processing work over the validator registry, optionally splitting it
+ * into contiguous index ranges which are processed on the common {@link ForkJoinPool}.
+ *
+ * <p>Work passed to this executor must only read from immutable state and only write to entries
+ * owned by the indices in the range it is given. That way the result is identical regardless of how
+ * the registry is split up.
+ */
+public class ValidatorRangeExecutor {
+  static final int DEFAULT_MIN_RANGE_SIZE = 1024;
+  // Gives the pool a few ranges per thread to balance out uneven work
+  private static final int RANGES_PER_THREAD = 4;
+
+  public static final ValidatorRangeExecutor SEQUENTIAL =
+      new ValidatorRangeExecutor(false, DEFAULT_MIN_RANGE_SIZE);
+  private static final ValidatorRangeExecutor PARALLEL =
+      new ValidatorRangeExecutor(true, DEFAULT_MIN_RANGE_SIZE);
+
+  private final boolean parallel;
+  private final int minRangeSize;
+
+  @VisibleForTesting
+  ValidatorRangeExecutor(final boolean parallel, final int minRangeSize) {
+    this.parallel = parallel;
+    this.minRangeSize = minRangeSize;
+  }
+
+  public static ValidatorRangeExecutor create(final SpecConfig specConfig) {
+    return specConfig.isParallelEpochProcessingEnabled() ? PARALLEL : SEQUENTIAL;
+  }
+
+  public void forEachRange(final int validatorCount, final IndexRangeConsumer consumer) {
+    final int rangeCount = getRangeCount(validatorCount);
+    if (rangeCount <= 1) {
+      consumer.accept(0, validatorCount);
+      return;
+    }
+    final int rangeSize = (validatorCount + rangeCount - 1) / rangeCount;
+    IntStream.range(0, rangeCount)
+        .parallel()
+        .forEach(
+            range -> {
+              final int fromIndex = range * rangeSize;
+              consumer.accept(fromIndex, Math.min(fromIndex + rangeSize, validatorCount));
+            });
+  }
+
+  @VisibleForTesting
+  int getRangeCount(final int validatorCount) {
+    if (!parallel || validatorCount < 2 * minRangeSize) {
+      return 1;
+    }
+    final int maxRangeCount = ForkJoinPool.getCommonPoolParallelism() * RANGES_PER_THREAD;
+    return Math.min(validatorCount / minRangeSize, maxRangeCount);
+  }
+
+  public interface IndexRangeConsumer {
+    /**
+     * Process the validators in the range [fromIndex, toIndex).
+     *
+     * @param fromIndex the first validator index to process
+     * @param toIndex the index after the last validator to process
+     */
+    void accept(int fromIndex, int toIndex);
+  }
+}
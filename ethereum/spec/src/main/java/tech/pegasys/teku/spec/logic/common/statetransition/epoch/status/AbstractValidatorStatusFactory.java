@@ -13,9 +13,8 @@
 
 package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -23,8 +22,10 @@ import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorRangeExecutor;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 
@@ -34,6 +35,7 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
   protected final AttestationUtil attestationUtil;
   protected final Predicates predicates;
   protected final BeaconStateAccessors beaconStateAccessors;
+  private final ValidatorRangeExecutor validatorRangeExecutor;
 
   protected AbstractValidatorStatusFactory(
       final SpecConfig specConfig,
@@ -46,6 +48,7 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
     this.attestationUtil = attestationUtil;
     this.predicates = predicates;
     this.beaconStateAccessors = beaconStateAccessors;
+    this.validatorRangeExecutor = ValidatorRangeExecutor.create(specConfig);
   }
 
   protected abstract void processParticipation(
@@ -61,10 +64,17 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
-    final List<ValidatorStatus> statuses =
-        validators.stream()
-            .map(validator -> createValidatorStatus(validator, previousEpoch, currentEpoch))
-            .collect(Collectors.toCollection(() -> new ArrayList<>(validators.size())));
+    final ValidatorStatus[] statusArray = new ValidatorStatus[validators.size()];
+    getValidatorRangeExecutor(state)
+        .forEachRange(
+            statusArray.length,
+            (fromIndex, toIndex) -> {
+              for (int i = fromIndex; i < toIndex; i++) {
+                statusArray[i] =
+                    createValidatorStatus(validators.get(i), previousEpoch, currentEpoch);
+              }
+            });
+    final List<ValidatorStatus> statuses = Arrays.asList(statusArray);
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
 
@@ -89,6 +99,16 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
         predicates.isActiveValidator(validator, previousEpoch));
   }
 
+  /**
+   * Returns the executor to use for per-validator work reading from the given state. Mutable states
+   * cache their children as they are read so are not safe to read concurrently.
+   */
+  protected ValidatorRangeExecutor getValidatorRangeExecutor(final BeaconState state) {
+    return state instanceof MutableBeaconState
+        ? ValidatorRangeExecutor.SEQUENTIAL
+        : validatorRangeExecutor;
+  }
+
   protected TotalBalances createTotalBalances(final List<ValidatorStatus> statuses) {
     UInt64 currentEpochActiveValidators = UInt64.ZERO;
     UInt64 previousEpochActiveValidators = UInt64.ZERO;
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.spec.logic.common.util;
 
-import static java.util.stream.Collectors.toUnmodifiableList;
 import static tech.pegasys.teku.spec.config.Constants.ATTESTATION_SUBNET_COUNT;
 
 import java.util.List;
@@ -25,6 +24,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64List;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
@@ -143,14 +143,19 @@ public class BeaconStateUtil {
         .getEffectiveBalances()
         .get(
             beaconStateAccessors.getCurrentEpoch(state),
-            epoch ->
-                state.getValidators().stream()
-                    .map(
-                        validator ->
-                            predicates.isActiveValidator(validator, epoch)
-                                ? validator.getEffectiveBalance()
-                                : UInt64.ZERO)
-                    .collect(toUnmodifiableList()));
+            epoch -> computeEffectiveBalances(state, epoch));
+  }
+
+  private UInt64List computeEffectiveBalances(final BeaconState state, final UInt64 epoch) {
+    final SszList<Validator> validators = state.getValidators();
+    final long[] effectiveBalances = new long[validators.size()];
+    for (int i = 0; i < effectiveBalances.length; i++) {
+      final Validator validator = validators.get(i);
+      if (predicates.isActiveValidator(validator, epoch)) {
+        effectiveBalances[i] = validator.getEffectiveBalance().longValue();
+      }
+    }
+    return UInt64List.wrap(effectiveBalances);
   }
 
   public boolean all(SszBitvector bitvector, int start, int end) {
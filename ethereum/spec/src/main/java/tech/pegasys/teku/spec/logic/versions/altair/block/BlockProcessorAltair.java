@@ -41,7 +41,9 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadHeader;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.Deposit;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ParticipationCountsCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
@@ -122,18 +124,23 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
 
     // Update epoch participation flags
     final SszMutableList<SszByte> epochParticipation;
-    if (data.getTarget().getEpoch().equals(beaconStateAccessors.getCurrentEpoch(state))) {
+    final boolean isCurrentEpoch =
+        data.getTarget().getEpoch().equals(beaconStateAccessors.getCurrentEpoch(state));
+    if (isCurrentEpoch) {
       epochParticipation = state.getCurrentEpochParticipation();
     } else {
       epochParticipation = state.getPreviousEpochParticipation();
     }
+    final ParticipationCountsCache participationCounts =
+        BeaconStateCache.getTransitionCaches(state).getParticipationCounts();
 
     UInt64 proposerRewardNumerator = UInt64.ZERO;
     final SszUInt64List attestingIndices =
         indexedAttestationProvider.getIndexedAttestation(attestation).getAttestingIndices();
     for (SszUInt64 attestingIndex : attestingIndices) {
       final int index = attestingIndex.get().intValue();
-      byte participationFlags = epochParticipation.get(index).get();
+      final byte originalFlags = epochParticipation.get(index).get();
+      byte participationFlags = originalFlags;
       final UInt64 baseReward = beaconStateAccessorsAltair.getBaseReward(state, index);
       boolean shouldUpdate = false;
       for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
@@ -149,6 +156,8 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
 
       if (shouldUpdate) {
         epochParticipation.set(index, SszByte.of(participationFlags));
+        participationCounts.onParticipationUpdated(
+            isCurrentEpoch, originalFlags, participationFlags);
       }
     }
 
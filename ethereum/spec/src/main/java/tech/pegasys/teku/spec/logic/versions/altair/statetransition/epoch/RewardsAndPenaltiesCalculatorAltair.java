@@ -24,8 +24,8 @@ import tech.pegasys.teku.spec.constants.ParticipationFlags;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
-import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorRangeExecutor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
@@ -38,6 +38,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   private final BeaconStateAccessorsAltair beaconStateAccessorsAltair;
 
   private final BeaconStateAltair stateAltair;
+  private final ValidatorRangeExecutor validatorRangeExecutor;
 
   public RewardsAndPenaltiesCalculatorAltair(
       final SpecConfigAltair specConfig,
@@ -49,6 +50,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     this.stateAltair = state;
     this.specConfigAltair = specConfig;
     this.beaconStateAccessorsAltair = beaconStateAccessors;
+    this.validatorRangeExecutor = ValidatorRangeExecutor.create(specConfig);
   }
 
   /** Return attestation reward/penalty deltas for each validator */
@@ -89,26 +91,31 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     // looking it up from there for every single validator is quite expensive.
     final UInt64 baseRewardPerIncrement =
         beaconStateAccessorsAltair.getBaseRewardPerIncrement(state);
-    for (int i = 0; i < statusList.size(); i++) {
-      final ValidatorStatus validator = statusList.get(i);
-      if (!validator.isEligibleValidator()) {
-        continue;
-      }
-      final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
-
-      final UInt64 baseReward =
-          getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
-      if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
-        if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
-          validatorDeltas.reward(
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
-        }
-      } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
-        validatorDeltas.penalize(baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
-      }
-    }
+    final boolean inactivityLeak = isInactivityLeak();
+    // Only the validator statuses are read while iterating so the work can be split up safely
+    validatorRangeExecutor.forEachRange(
+        statusList.size(),
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; i++) {
+            final ValidatorStatus validator = statusList.get(i);
+            if (!validator.isEligibleValidator()) {
+              continue;
+            }
+
+            final UInt64 baseReward =
+                getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
+            if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
+              if (!inactivityLeak) {
+                final UInt64 rewardNumerator =
+                    baseReward.times(weight).times(unslashedParticipatingIncrements);
+                deltas.reward(
+                    i, rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
+              }
+            } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
+              deltas.penalize(i, baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
+            }
+          }
+        });
   }
 
   /**
@@ -155,7 +162,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       final UInt64 penaltyDenominator =
           specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
       final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
-      deltas.getDelta(i).penalize(penalty);
+      deltas.penalize(i, penalty);
     }
   }
 
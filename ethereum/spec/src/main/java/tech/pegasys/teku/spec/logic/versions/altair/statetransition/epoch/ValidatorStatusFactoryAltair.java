@@ -53,36 +53,41 @@ public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory
 
     final SszList<SszByte> previousParticipation = state.getPreviousEpochParticipation();
     final SszList<SszByte> currentParticipation = state.getCurrentEpochParticipation();
-    for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus status = statuses.get(i);
+    getValidatorRangeExecutor(genericState)
+        .forEachRange(
+            statuses.size(),
+            (fromIndex, toIndex) -> {
+              for (int i = fromIndex; i < toIndex; i++) {
+                final ValidatorStatus status = statuses.get(i);
 
-      if (status.isActiveInPreviousEpoch()) {
-        final byte previousParticipationFlags = previousParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updatePreviousEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updatePreviousEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updatePreviousEpochHeadAttester(true);
-        }
-      }
+                if (status.isActiveInPreviousEpoch()) {
+                  final byte previousParticipationFlags = previousParticipation.get(i).get();
+                  if (miscHelpersAltair.hasFlag(
+                      previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+                    status.updatePreviousEpochSourceAttester(true);
+                  }
+                  if (miscHelpersAltair.hasFlag(
+                      previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+                    status.updatePreviousEpochTargetAttester(true);
+                  }
+                  if (miscHelpersAltair.hasFlag(
+                      previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+                    status.updatePreviousEpochHeadAttester(true);
+                  }
+                }
 
-      if (status.isActiveInCurrentEpoch()) {
-        final byte currentParticipationFlags = currentParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updateCurrentEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updateCurrentEpochTargetAttester(true);
-        }
-      }
-    }
+                if (status.isActiveInCurrentEpoch()) {
+                  final byte currentParticipationFlags = currentParticipation.get(i).get();
+                  if (miscHelpersAltair.hasFlag(
+                      currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+                    status.updateCurrentEpochSourceAttester(true);
+                  }
+                  if (miscHelpersAltair.hasFlag(
+                      currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+                    status.updateCurrentEpochTargetAttester(true);
+                  }
+                }
+              }
+            });
   }
 }
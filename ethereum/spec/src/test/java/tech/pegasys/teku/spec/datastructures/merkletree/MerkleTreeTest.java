@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.spec.datastructures.merkletree;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.infrastructure.collections.PrimitiveCollectionAssert.assertThatBooleanCollection;
 
 import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
@@ -140,4 +142,106 @@ public class MerkleTreeTest {
     }
     assertThatBooleanCollection(results).allSatisfy(Assertions::assertTrue);
   }
+
+  @Test
+  void pruneFinalizedLeaves_shouldKeepRootAndProofsForRemainingLeaves() {
+    final int leafCount = 10;
+    merkleTree1 = createTree(leafCount);
+
+    for (int finalizedCount = 1; finalizedCount <= leafCount; finalizedCount++) {
+      merkleTree2 = createTree(leafCount);
+      merkleTree2.pruneFinalizedLeaves(finalizedCount);
+
+      assertThat(merkleTree2.getFinalizedLeafCount()).isEqualTo(finalizedCount);
+      assertThat(merkleTree2.getNumberOfLeaves()).isEqualTo(leafCount);
+      assertThat(merkleTree2.getRoot()).isEqualTo(merkleTree1.getRoot());
+      for (int index = finalizedCount; index < leafCount; index++) {
+        assertThat(merkleTree2.getProof(index)).isEqualTo(merkleTree1.getProof(index));
+        assertThat(merkleTree2.getProofWithViewBoundary(index, leafCount))
+            .isEqualTo(merkleTree1.getProofWithViewBoundary(index, leafCount));
+      }
+    }
+  }
+
+  @Test
+  void pruneFinalizedLeaves_shouldNotCreateProofsForFinalizedLeaves() {
+    merkleTree1 = createTree(5);
+    merkleTree1.pruneFinalizedLeaves(3);
+
+    assertThatThrownBy(() -> merkleTree1.getProof(2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> merkleTree1.getProofWithViewBoundary(2, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fromFinalizedSubtreeRoots_shouldRestorePrunedTree() {
+    for (int finalizedCount = 1; finalizedCount < 12; finalizedCount++) {
+      final MerkleTree prunedTree = createTree(finalizedCount);
+      prunedTree.pruneFinalizedLeaves(finalizedCount);
+      merkleTree1 = createTree(finalizedCount);
+      merkleTree2 =
+          OptimizedMerkleTree.fromFinalizedSubtreeRoots(
+              treeDepth, finalizedCount, prunedTree.getFinalizedSubtreeRoots());
+
+      assertThat(merkleTree2.getNumberOfLeaves()).isEqualTo(finalizedCount);
+      assertThat(merkleTree2.getRoot()).isEqualTo(merkleTree1.getRoot());
+      assertThat(merkleTree2.getFinalizedSubtreeRoots())
+          .isEqualTo(prunedTree.getFinalizedSubtreeRoots());
+
+      for (int index = finalizedCount; index < 12; index++) {
+        merkleTree1.add(leaves.get(index));
+        merkleTree2.add(leaves.get(index));
+        assertThat(merkleTree2.getRoot()).isEqualTo(merkleTree1.getRoot());
+      }
+      for (int index = finalizedCount; index < 12; index++) {
+        assertThat(merkleTree2.getProofWithViewBoundary(index, 12))
+            .isEqualTo(merkleTree1.getProofWithViewBoundary(index, 12));
+      }
+    }
+  }
+
+  @Test
+  void pruneFinalizedLeaves_shouldAllowAddingLeavesToPrunedTree() {
+    for (int initialCount = 1; initialCount <= 12; initialCount++) {
+      for (int finalizedCount = 1; finalizedCount <= initialCount; finalizedCount++) {
+        merkleTree1 = createTree(initialCount);
+        merkleTree2 = createTree(initialCount);
+        merkleTree2.pruneFinalizedLeaves(finalizedCount);
+
+        for (int index = initialCount; index < leaves.size(); index++) {
+          merkleTree1.add(leaves.get(index));
+          merkleTree2.add(leaves.get(index));
+          assertThat(merkleTree2.getNumberOfLeaves()).isEqualTo(index + 1);
+          assertThat(merkleTree2.getRoot()).isEqualTo(merkleTree1.getRoot());
+        }
+        for (int index = finalizedCount; index < leaves.size(); index++) {
+          assertThat(merkleTree2.getProof(index)).isEqualTo(merkleTree1.getProof(index));
+          assertThat(merkleTree2.getProofWithViewBoundary(index, leaves.size()))
+              .isEqualTo(merkleTree1.getProofWithViewBoundary(index, leaves.size()));
+        }
+      }
+    }
+  }
+
+  @Test
+  void fromFinalizedSubtreeRoots_shouldRestoreTreeWithDepositContractDepth() {
+    final int depositTreeDepth = genesisSpec.getConfig().getDepositContractTreeDepth();
+    for (int finalizedCount = 1; finalizedCount <= 5; finalizedCount++) {
+      merkleTree1 = new OptimizedMerkleTree(depositTreeDepth);
+      leaves.subList(0, finalizedCount).forEach(merkleTree1::add);
+      merkleTree1.pruneFinalizedLeaves(finalizedCount);
+
+      merkleTree2 =
+          OptimizedMerkleTree.fromFinalizedSubtreeRoots(
+              depositTreeDepth, finalizedCount, merkleTree1.getFinalizedSubtreeRoots());
+
+      assertThat(merkleTree2.getRoot()).isEqualTo(merkleTree1.getRoot());
+    }
+  }
+
+  private MerkleTree createTree(final int leafCount) {
+    final MerkleTree merkleTree = new OptimizedMerkleTree(treeDepth);
+    leaves.subList(0, leafCount).forEach(merkleTree::add);
+    return merkleTree;
+  }
 }
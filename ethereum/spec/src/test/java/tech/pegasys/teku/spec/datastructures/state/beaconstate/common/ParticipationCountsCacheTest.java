@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.analysis.ValidatorStats.CorrectAndLiveValidators;
+
+class ParticipationCountsCacheTest {
+  private static final byte NO_FLAGS = 0;
+  private static final byte SOURCE = (byte) ParticipationFlags.TIMELY_SOURCE_FLAG;
+  private static final byte SOURCE_AND_TARGET =
+      (byte) (ParticipationFlags.TIMELY_SOURCE_FLAG | ParticipationFlags.TIMELY_TARGET_FLAG);
+
+  private final ParticipationCountsCache cache = new ParticipationCountsCache();
+
+  @Test
+  void shouldOnlyLoadFullCountOnce() {
+    final AtomicInteger loadCount = new AtomicInteger();
+
+    assertCounts(cache.getCurrentEpoch(() -> fullCount(loadCount, 3, 5)), 3, 5);
+    assertCounts(cache.getCurrentEpoch(() -> fullCount(loadCount, 0, 0)), 3, 5);
+
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void shouldIgnoreUpdatesUntilInitialised() {
+    cache.onParticipationUpdated(true, NO_FLAGS, SOURCE_AND_TARGET);
+
+    assertCounts(cache.getCurrentEpoch(() -> new CorrectAndLiveValidators(2, 4)), 2, 4);
+  }
+
+  @Test
+  void shouldCountNewlySetFlags() {
+    cache.getPreviousEpoch(() -> new CorrectAndLiveValidators(2, 4));
+    cache.getCurrentEpoch(() -> new CorrectAndLiveValidators(0, 1));
+
+    cache.onParticipationUpdated(true, NO_FLAGS, SOURCE);
+    cache.onParticipationUpdated(true, SOURCE, SOURCE_AND_TARGET);
+    cache.onParticipationUpdated(true, SOURCE_AND_TARGET, SOURCE_AND_TARGET);
+    cache.onParticipationUpdated(false, NO_FLAGS, SOURCE_AND_TARGET);
+
+    assertCounts(cache.getCurrentEpoch(this::unexpectedFullCount), 1, 2);
+    assertCounts(cache.getPreviousEpoch(this::unexpectedFullCount), 3, 5);
+  }
+
+  @Test
+  void shouldRotateCountsOnEpochTransition() {
+    cache.getCurrentEpoch(() -> new CorrectAndLiveValidators(3, 5));
+
+    cache.onEpochTransition();
+
+    assertCounts(cache.getPreviousEpoch(this::unexpectedFullCount), 3, 5);
+    assertCounts(cache.getCurrentEpoch(this::unexpectedFullCount), 0, 0);
+  }
+
+  @Test
+  void shouldNotShareCountsWithCopies() {
+    cache.getCurrentEpoch(() -> new CorrectAndLiveValidators(3, 5));
+    final ParticipationCountsCache copy = cache.copy();
+
+    copy.onParticipationUpdated(true, NO_FLAGS, SOURCE_AND_TARGET);
+
+    assertCounts(cache.getCurrentEpoch(this::unexpectedFullCount), 3, 5);
+    assertCounts(copy.getCurrentEpoch(this::unexpectedFullCount), 4, 6);
+  }
+
+  private CorrectAndLiveValidators fullCount(
+      final AtomicInteger loadCount, final int correct, final int live) {
+    loadCount.incrementAndGet();
+    return new CorrectAndLiveValidators(correct, live);
+  }
+
+  private CorrectAndLiveValidators unexpectedFullCount() {
+    throw new AssertionError("Should not need a full count");
+  }
+
+  private void assertCounts(
+      final CorrectAndLiveValidators validators, final int correct, final int live) {
+    assertThat(validators.getNumberOfCorrectValidators()).isEqualTo(correct);
+    assertThat(validators.getNumberOfLiveValidators()).isEqualTo(live);
+  }
+}
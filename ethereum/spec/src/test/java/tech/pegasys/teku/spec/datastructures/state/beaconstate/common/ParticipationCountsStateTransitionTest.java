@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.TestSpecInvocationContextProvider.SpecContext;
+import tech.pegasys.teku.spec.datastructures.interop.InteropStartupUtil;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.analysis.ValidatorStats.CorrectAndLiveValidators;
+
+/**
+ * Checks the participation counts maintained while processing attestations always match a full
+ * recount of the participation flags.
+ */
+@TestSpecContext(milestone = {SpecMilestone.ALTAIR, SpecMilestone.BELLATRIX})
+class ParticipationCountsStateTransitionTest {
+  private static final int VALIDATOR_COUNT = 32;
+
+  private Spec spec;
+  private BeaconState state;
+
+  @BeforeEach
+  void setUp(final SpecContext specContext) {
+    spec = specContext.getSpec();
+    state = InteropStartupUtil.createMockedStartInitialBeaconState(spec, 0, VALIDATOR_COUNT);
+    // Initialise the counts from the genesis state so they are then updated incrementally
+    state.getValidatorStatsPreviousEpoch(Bytes32.ZERO);
+    state.getValidatorStatsCurrentEpoch(Bytes32.ZERO);
+  }
+
+  @TestTemplate
+  void shouldMatchFullRecountWhileProcessingAttestationsAcrossEpochs() throws Exception {
+    // Runs one slot into epoch 3 so the last attestations for epoch 2 are included
+    final UInt64 lastSlot = spec.computeStartSlotAtEpoch(UInt64.valueOf(3)).plus(1);
+    for (UInt64 slot = UInt64.ONE; slot.isLessThanOrEqualTo(lastSlot); slot = slot.increment()) {
+      state = spec.processSlots(state, slot);
+      assertCountsMatchFullRecount(state);
+
+      final SszList<Attestation> attestations = createAttestations(state);
+      state =
+          state.updated(
+              mutableState ->
+                  spec.getBlockProcessor(mutableState.getSlot())
+                      .processAttestations(
+                          mutableState, attestations, BLSSignatureVerifier.NO_OP));
+      assertCountsMatchFullRecount(state);
+    }
+
+    assertThat(state.getValidatorStatsPreviousEpoch(Bytes32.ZERO).getNumberOfLiveValidators())
+        .isEqualTo(VALIDATOR_COUNT);
+  }
+
+  /**
+   * Attests with the first half of each committee in the previous slot and with every member of
+   * each committee two slots back, so some flags are set for the first time and others again.
+   */
+  private SszList<Attestation> createAttestations(final BeaconState state) {
+    final List<Attestation> attestations = new ArrayList<>();
+    attestations.addAll(createAttestations(state, state.getSlot().minus(1), 2));
+    if (state.getSlot().isGreaterThan(1)) {
+      attestations.addAll(createAttestations(state, state.getSlot().minus(2), 1));
+    }
+    return spec.atSlot(state.getSlot())
+        .getSchemaDefinitions()
+        .getBeaconBlockBodySchema()
+        .getAttestationsSchema()
+        .createFromElements(attestations);
+  }
+
+  private List<Attestation> createAttestations(
+      final BeaconState state, final UInt64 slot, final int committeeFraction) {
+    final AttestationSchema attestationSchema =
+        spec.atSlot(slot).getSchemaDefinitions().getAttestationSchema();
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    final Checkpoint source =
+        epoch.equals(spec.getCurrentEpoch(state))
+            ? state.getCurrentJustifiedCheckpoint()
+            : state.getPreviousJustifiedCheckpoint();
+    final Checkpoint target = new Checkpoint(epoch, spec.getBlockRoot(state, epoch));
+    final Bytes32 headRoot = spec.getBlockRootAtSlot(state, slot);
+
+    final List<Attestation> attestations = new ArrayList<>();
+    final int committeeCount = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    for (int committeeIndex = 0; committeeIndex < committeeCount; committeeIndex++) {
+      final UInt64 index = UInt64.valueOf(committeeIndex);
+      final IntList committee = spec.getBeaconCommittee(state, slot, index);
+      final int[] attestingPositions =
+          IntStream.range(0, Math.max(1, committee.size() / committeeFraction)).toArray();
+      attestations.add(
+          attestationSchema.create(
+              attestationSchema
+                  .getAggregationBitsSchema()
+                  .ofBits(committee.size(), attestingPositions),
+              new AttestationData(slot, index, headRoot, source, target),
+              BLSSignature.empty()));
+    }
+    return attestations;
+  }
+
+  private void assertCountsMatchFullRecount(final BeaconState state) {
+    // A deserialized copy has no cached counts so has to count from the participation flags
+    final BeaconState recountState = spec.deserializeBeaconState(state.sszSerialize());
+    final ParticipationCountsCache cachedCounts =
+        BeaconStateCache.getTransitionCaches(state).getParticipationCounts();
+
+    assertSameCounts(
+        cachedCounts.getPreviousEpoch(this::unexpectedFullCount),
+        recountState.getValidatorStatsPreviousEpoch(Bytes32.ZERO));
+    assertSameCounts(
+        cachedCounts.getCurrentEpoch(this::unexpectedFullCount),
+        recountState.getValidatorStatsCurrentEpoch(Bytes32.ZERO));
+    assertSameCounts(
+        state.getValidatorStatsPreviousEpoch(Bytes32.ZERO),
+        recountState.getValidatorStatsPreviousEpoch(Bytes32.ZERO));
+    assertSameCounts(
+        state.getValidatorStatsCurrentEpoch(Bytes32.ZERO),
+        recountState.getValidatorStatsCurrentEpoch(Bytes32.ZERO));
+  }
+
+  private CorrectAndLiveValidators unexpectedFullCount() {
+    throw new AssertionError("Counts should be maintained without a full count");
+  }
+
+  private void assertSameCounts(
+      final CorrectAndLiveValidators actual, final CorrectAndLiveValidators expected) {
+    assertThat(actual.getNumberOfCorrectValidators())
+        .isEqualTo(expected.getNumberOfCorrectValidators());
+    assertThat(actual.getNumberOfLiveValidators()).isEqualTo(expected.getNumberOfLiveValidators());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorPublicKeyCacheTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final ValidatorPublicKeyCache cache = new ValidatorPublicKeyCache();
+
+  @Test
+  void shouldOnlyLoadPublicKeyOnce() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+    final AtomicInteger loadCount = new AtomicInteger();
+
+    assertThat(cache.getCached(5)).isEmpty();
+    assertThat(cache.get(5, __ -> loadedKey(publicKey, loadCount))).isEqualTo(publicKey);
+    assertThat(cache.get(5, __ -> loadedKey(publicKey, loadCount))).isEqualTo(publicKey);
+
+    assertThat(loadCount).hasValue(1);
+    assertThat(cache.getCached(5)).contains(publicKey);
+    assertThat(cache.getCached(4)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepEarlierPublicKeysWhenGrowing() {
+    final BLSPublicKey publicKey1 = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey publicKey2 = dataStructureUtil.randomPublicKey();
+    final BLSPublicKey publicKey3 = dataStructureUtil.randomPublicKey();
+
+    cache.get(0, __ -> publicKey1);
+    cache.get(1_000_000, __ -> publicKey2);
+    cache.get(4096, __ -> publicKey3);
+
+    assertThat(cache.getCached(0)).contains(publicKey1);
+    assertThat(cache.getCached(1_000_000)).contains(publicKey2);
+    assertThat(cache.getCached(4096)).contains(publicKey3);
+    assertThat(cache.getCached(2_000_000)).isEmpty();
+    assertThat(cache.getCached(-1)).isEmpty();
+  }
+
+  @Test
+  void shouldBeSharedWithCopiesOfTransitionCaches() {
+    final TransitionCaches caches = TransitionCaches.createNewEmpty();
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+
+    final TransitionCaches copy = caches.copy();
+    copy.getValidatorsPubKeys().get(3, __ -> publicKey);
+
+    assertThat(caches.getValidatorsPubKeys().getCached(3)).contains(publicKey);
+  }
+
+  @Test
+  void noOpInstanceShouldNotCache() {
+    final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+
+    assertThat(ValidatorPublicKeyCache.NO_OP_INSTANCE.get(3, __ -> publicKey)).isEqualTo(publicKey);
+    assertThat(ValidatorPublicKeyCache.NO_OP_INSTANCE.getCached(3)).isEmpty();
+  }
+
+  private BLSPublicKey loadedKey(final BLSPublicKey publicKey, final AtomicInteger loadCount) {
+    loadCount.incrementAndGet();
+    return publicKey;
+  }
+}
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.spec.logic.common.helpers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -20,6 +21,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_EPOCH;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -27,6 +29,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.state.BeaconStateTestBuilder;
 import tech.pegasys.teku.spec.datastructures.state.Committee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -129,6 +132,46 @@ public class BeaconStateAccessorsTest {
     assertDoesNotThrow(() -> beaconStateAccessors.getBeaconCommittee(state, oldSlot, ONE));
   }
 
+  @Test
+  public void getBeaconCommittee_shouldNotShareShufflingWithForkWithDifferentRegistry() {
+    final UInt64 epoch = UInt64.ZERO;
+    final BeaconStateTestBuilder builder =
+        new BeaconStateTestBuilder(dataStructureUtil)
+            .slot(0)
+            .forkVersion(specConfig.getGenesisForkVersion());
+    for (int i = 0; i < 64; i++) {
+      builder.activeValidator(specConfig.getMaxEffectiveBalance());
+    }
+    final BeaconState ancestor = builder.build();
+
+    // Both forks use the same seed but validator 0 has exited on the second
+    final BeaconState fork1 = ancestor.updated(state -> state.setSlot(ONE));
+    final BeaconState fork2 =
+        ancestor.updated(
+            state ->
+                state
+                    .getValidators()
+                    .set(0, state.getValidators().get(0).withExitEpoch(UInt64.ZERO)));
+    assertThat(beaconStateAccessors.getSeed(fork1, epoch, Domain.BEACON_ATTESTER))
+        .isEqualTo(beaconStateAccessors.getSeed(fork2, epoch, Domain.BEACON_ATTESTER));
+
+    assertThat(getAllCommitteeMembers(fork1, epoch)).hasSize(64).contains(0);
+    assertThat(getAllCommitteeMembers(fork2, epoch)).hasSize(63).doesNotContain(0);
+  }
+
+  private IntList getAllCommitteeMembers(final BeaconState state, final UInt64 epoch) {
+    final IntList members = new IntArrayList();
+    final UInt64 committeeCount = beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
+    final UInt64 startSlot = spec.computeStartSlotAtEpoch(epoch);
+    for (int i = 0; i < specConfig.getSlotsPerEpoch(); i++) {
+      final UInt64 slot = startSlot.plus(i);
+      UInt64.range(UInt64.ZERO, committeeCount)
+          .map(index -> beaconStateAccessors.getBeaconCommittee(state, slot, index))
+          .forEach(members::addAll);
+    }
+    return members;
+  }
+
   private BeaconState createBeaconState() {
     return new BeaconStateTestBuilder(dataStructureUtil)
         .forkVersion(specConfig.getGenesisForkVersion())
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.config.SpecConfigLoader;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ParallelEpochProcessingTest {
+  // Large enough for the registry to be split into multiple ranges
+  private static final int VALIDATOR_COUNT = 4 * ValidatorRangeExecutor.DEFAULT_MIN_RANGE_SIZE;
+  private static final UInt64 EPOCH = UInt64.valueOf(4);
+
+  static Stream<Arguments> specCreators() {
+    return Stream.of(
+        Arguments.of("phase0", (Function<SpecConfig, Spec>) TestSpecFactory::createPhase0),
+        Arguments.of("altair", (Function<SpecConfig, Spec>) TestSpecFactory::createAltair));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("specCreators")
+  void shouldProduceIdenticalStateToSequentialProcessing(
+      final String name, final Function<SpecConfig, Spec> specCreator) throws Exception {
+    final Spec sequentialSpec = specCreator.apply(loadConfig(false));
+    final Spec parallelSpec = specCreator.apply(loadConfig(true));
+    final BeaconState preState = createPreState(sequentialSpec);
+
+    final BeaconState sequentialResult =
+        sequentialSpec.getGenesisSpec().getEpochProcessor().processEpoch(preState);
+    final BeaconState parallelResult =
+        parallelSpec.getGenesisSpec().getEpochProcessor().processEpoch(preState);
+
+    assertThat(parallelResult.hashTreeRoot()).isEqualTo(sequentialResult.hashTreeRoot());
+    assertThat(parallelResult).isEqualTo(sequentialResult);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("specCreators")
+  void shouldProduceIdenticalStatusesAndDeltasToSequentialProcessing(
+      final String name, final Function<SpecConfig, Spec> specCreator) {
+    final Spec sequentialSpec = specCreator.apply(loadConfig(false));
+    final Spec parallelSpec = specCreator.apply(loadConfig(true));
+    final BeaconState preState = createPreState(sequentialSpec);
+
+    final ValidatorStatuses sequentialStatuses =
+        sequentialSpec
+            .getGenesisSpec()
+            .getValidatorStatusFactory()
+            .createValidatorStatuses(preState);
+    final ValidatorStatuses parallelStatuses =
+        parallelSpec.getGenesisSpec().getValidatorStatusFactory().createValidatorStatuses(preState);
+    assertThat(parallelStatuses.getTotalBalances())
+        .usingRecursiveComparison()
+        .isEqualTo(sequentialStatuses.getTotalBalances());
+    assertThat(parallelStatuses.getStatuses())
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(sequentialStatuses.getStatuses());
+
+    final RewardAndPenaltyDeltas sequentialDeltas =
+        sequentialSpec
+            .getGenesisSpec()
+            .getEpochProcessor()
+            .getRewardAndPenaltyDeltas(preState, sequentialStatuses);
+    final RewardAndPenaltyDeltas parallelDeltas =
+        parallelSpec
+            .getGenesisSpec()
+            .getEpochProcessor()
+            .getRewardAndPenaltyDeltas(preState, parallelStatuses);
+    assertThat(parallelDeltas).isEqualTo(sequentialDeltas);
+  }
+
+  private static BeaconState createPreState(final Spec spec) {
+    final Random random = new Random(1);
+    final UInt64 maxEffectiveBalance = spec.getGenesisSpecConfig().getMaxEffectiveBalance();
+    final Bytes32 checkpointRoot = Bytes32.fromHexString("0x01");
+    return new DataStructureUtil(spec)
+        .randomBeaconState(VALIDATOR_COUNT)
+        .updated(
+            state -> {
+              state.setSlot(spec.computeStartSlotAtEpoch(EPOCH.plus(1)).minus(1));
+              state.setPreviousJustifiedCheckpoint(new Checkpoint(EPOCH.minus(1), checkpointRoot));
+              state.setCurrentJustifiedCheckpoint(new Checkpoint(EPOCH.minus(1), checkpointRoot));
+              state.setFinalizedCheckpoint(new Checkpoint(EPOCH.minus(2), checkpointRoot));
+              for (int i = 0; i < state.getSlashings().size(); i++) {
+                state.getSlashings().setElement(i, UInt64.ZERO);
+              }
+              for (int i = 0; i < VALIDATOR_COUNT; i++) {
+                state
+                    .getValidators()
+                    .set(
+                        i,
+                        state
+                            .getValidators()
+                            .get(i)
+                            .withActivationEligibilityEpoch(UInt64.ZERO)
+                            .withActivationEpoch(UInt64.ZERO));
+                // Spread balances around the max effective balance so some effective balances
+                // are updated
+                state
+                    .getBalances()
+                    .setElement(
+                        i,
+                        maxEffectiveBalance
+                            .minus(1_000_000_000L)
+                            .plus(random.nextInt(2_000_000_000)));
+              }
+              state
+                  .toMutableVersionPhase0()
+                  .ifPresent(
+                      phase0State -> {
+                        phase0State.getPreviousEpochAttestations().clear();
+                        phase0State.getCurrentEpochAttestations().clear();
+                      });
+              state
+                  .toMutableVersionAltair()
+                  .ifPresent(
+                      altairState -> {
+                        altairState.getPreviousEpochParticipation().clear();
+                        altairState.getCurrentEpochParticipation().clear();
+                        altairState.getInactivityScores().clear();
+                        for (int i = 0; i < VALIDATOR_COUNT; i++) {
+                          altairState
+                              .getPreviousEpochParticipation()
+                              .append(SszByte.of(random.nextInt(8)));
+                          altairState
+                              .getCurrentEpochParticipation()
+                              .append(SszByte.of(random.nextInt(8)));
+                          altairState
+                              .getInactivityScores()
+                              .appendElement(UInt64.valueOf(random.nextInt(100)));
+                        }
+                      });
+            });
+  }
+
+  private static SpecConfig loadConfig(final boolean parallelEpochProcessingEnabled) {
+    return SpecConfigLoader.loadConfig(
+        Eth2Network.MINIMAL.configName(),
+        builder ->
+            builder
+                .altairBuilder(altair -> altair.altairForkEpoch(UInt64.ZERO))
+                .parallelEpochProcessingEnabled(parallelEpochProcessingEnabled));
+  }
+}
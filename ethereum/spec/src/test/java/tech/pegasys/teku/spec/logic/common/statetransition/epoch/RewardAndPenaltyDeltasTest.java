@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas.RewardAndPenalty;
+
+class RewardAndPenaltyDeltasTest {
+
+  private final RewardAndPenaltyDeltas deltas = new RewardAndPenaltyDeltas(3);
+
+  @Test
+  void shouldAccumulateRewardsAndPenaltiesPerValidator() {
+    deltas.reward(0, UInt64.valueOf(5));
+    deltas.getDelta(0).reward(UInt64.valueOf(7));
+    deltas.penalize(0, UInt64.valueOf(3));
+    deltas.getDelta(2).penalize(UInt64.valueOf(11));
+
+    assertThat(deltas.getDelta(0).getReward()).isEqualTo(UInt64.valueOf(12));
+    assertThat(deltas.getDelta(0).getPenalty()).isEqualTo(UInt64.valueOf(3));
+    assertThat(deltas.getDelta(1).getReward()).isEqualTo(UInt64.ZERO);
+    assertThat(deltas.getDelta(1).getPenalty()).isEqualTo(UInt64.ZERO);
+    assertThat(deltas.getRewardLongBits(2)).isZero();
+    assertThat(deltas.getPenaltyLongBits(2)).isEqualTo(11);
+  }
+
+  @Test
+  void shouldAddOtherDelta() {
+    final RewardAndPenaltyDeltas other = new RewardAndPenaltyDeltas(1);
+    other.reward(0, UInt64.valueOf(2));
+    other.penalize(0, UInt64.valueOf(4));
+    final RewardAndPenalty delta = deltas.getDelta(1);
+    delta.reward(UInt64.ONE);
+
+    delta.add(other.getDelta(0));
+
+    assertThat(delta.getReward()).isEqualTo(UInt64.valueOf(3));
+    assertThat(delta.getPenalty()).isEqualTo(UInt64.valueOf(4));
+    assertThat(delta).isEqualTo(deltas.getDelta(1));
+  }
+
+  @Test
+  void shouldSupportFullUnsignedRange() {
+    deltas.reward(0, UInt64.MAX_VALUE.minus(1));
+    deltas.reward(0, UInt64.ONE);
+
+    assertThat(deltas.getDelta(0).getReward()).isEqualTo(UInt64.MAX_VALUE);
+  }
+
+  @Test
+  void shouldThrowOnOverflowLikeUInt64() {
+    deltas.penalize(1, UInt64.MAX_VALUE);
+
+    assertThatThrownBy(() -> deltas.penalize(1, UInt64.ONE))
+        .isInstanceOf(ArithmeticException.class);
+    assertThat(deltas.getDelta(1).getPenalty()).isEqualTo(UInt64.MAX_VALUE);
+  }
+
+  @Test
+  void shouldCompareByValue() {
+    final RewardAndPenaltyDeltas other = new RewardAndPenaltyDeltas(3);
+    deltas.reward(1, UInt64.valueOf(9));
+    other.getDelta(1).reward(UInt64.valueOf(9));
+
+    assertThat(deltas).isEqualTo(other);
+    assertThat(deltas.hashCode()).isEqualTo(other.hashCode());
+
+    other.penalize(2, UInt64.ONE);
+    assertThat(deltas).isNotEqualTo(other);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidatorRangeExecutorTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 15, 16, 17, 99, 100, 1000, 1023})
+  void shouldVisitEachIndexExactlyOnce(final int validatorCount) {
+    final ValidatorRangeExecutor executor = new ValidatorRangeExecutor(true, 8);
+    final AtomicIntegerArray visits = new AtomicIntegerArray(validatorCount);
+
+    executor.forEachRange(
+        validatorCount,
+        (fromIndex, toIndex) -> {
+          for (int i = fromIndex; i < toIndex; i++) {
+            visits.incrementAndGet(i);
+          }
+        });
+
+    for (int i = 0; i < validatorCount; i++) {
+      assertThat(visits.get(i)).describedAs("Visits to index %s", i).isEqualTo(1);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 16, 10_000})
+  void shouldUseSingleRangeWhenNotParallel(final int validatorCount) {
+    final ValidatorRangeExecutor executor = new ValidatorRangeExecutor(false, 8);
+    assertThat(executor.getRangeCount(validatorCount)).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 8, 15})
+  void shouldUseSingleRangeWhenTooFewValidatorsToSplit(final int validatorCount) {
+    final ValidatorRangeExecutor executor = new ValidatorRangeExecutor(true, 8);
+    assertThat(executor.getRangeCount(validatorCount)).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {16, 100, 10_000})
+  void shouldSplitIntoMultipleRangesWhenParallel(final int validatorCount) {
+    final ValidatorRangeExecutor executor = new ValidatorRangeExecutor(true, 8);
+    assertThat(executor.getRangeCount(validatorCount)).isGreaterThan(1);
+  }
+}
@@ -14,6 +14,8 @@
 package tech.pegasys.teku.statetransition.block;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -100,34 +102,92 @@ public class BlockImporter {
 
     return validateWeakSubjectivityPeriod()
         .thenCompose(__ -> forkChoice.onBlock(block, blockImportPerformance, executionEngine))
-        .thenApply(
-            result -> {
-              if (!result.isSuccessful()) {
-                LOG.trace(
-                    "Failed to import block for reason {}: {}",
-                    result::getFailureReason,
-                    () -> formatBlock(block));
-                return result;
-              }
-              LOG.trace("Successfully imported block {}", () -> formatBlock(block));
+        .thenApply(result -> onBlockImportResult(block, result))
+        .exceptionally(
+            (e) -> {
+              LOG.error("Internal error while importing block: {}", formatBlock(block), e);
+              return BlockImportResult.internalError(e);
+            });
+  }
 
-              blockImportNotifications.onBlockImported(block);
+  /**
+   * Import a chain of blocks, where each block is the child of the previous one, verifying the
+   * signatures of all blocks in a single batch.
+   *
+   * @param blocks the blocks to import, in order
+   * @return the import result for each block, stopping at the first failed import, or empty if the
+   *     blocks could not be imported as a batch. When empty or fewer results than blocks are
+   *     returned, callers should import the remaining blocks individually with {@link
+   *     #importBlock(SignedBeaconBlock)}.
+   */
+  @CheckReturnValue
+  public SafeFuture<Optional<List<BlockImportResult>>> importBlocks(
+      final List<SignedBeaconBlock> blocks) {
+    final List<BlockImportResult> results = new ArrayList<>(blocks.size());
+    // Skip over any blocks at the start of the batch that we already have
+    for (final SignedBeaconBlock block : blocks) {
+      final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
+      if (knownOptimistic.isEmpty()) {
+        break;
+      }
+      results.add(BlockImportResult.knownBlock(block, knownOptimistic.get()));
+    }
+    final List<SignedBeaconBlock> blocksToImport = blocks.subList(results.size(), blocks.size());
+    if (blocksToImport.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.of(results));
+    }
 
-              // Notify operation pools to remove operations only
-              // if the block is on our canonical chain
-              if (result.isBlockOnCanonicalChain()) {
-                notifyBlockOperationSubscribers(block);
-              }
+    final ReadOnlyForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    if (!blocksToImport.stream()
+        .allMatch(block -> weakSubjectivityValidator.isBlockValid(block, forkChoiceStrategy))) {
+      // Leave it to the individual block import to report the failure
+      return SafeFuture.completedFuture(Optional.empty());
+    }
 
-              return result;
-            })
+    return validateWeakSubjectivityPeriod()
+        .thenCompose(__ -> forkChoice.onBlocks(blocksToImport, executionEngine))
+        .thenApply(
+            maybeImportResults ->
+                maybeImportResults.map(
+                    importResults -> {
+                      for (int i = 0; i < importResults.size(); i++) {
+                        results.add(
+                            onBlockImportResult(blocksToImport.get(i), importResults.get(i)));
+                      }
+                      return results;
+                    }))
         .exceptionally(
             (e) -> {
-              LOG.error("Internal error while importing block: {}", formatBlock(block), e);
-              return BlockImportResult.internalError(e);
+              LOG.error(
+                  "Internal error while importing blocks from {}",
+                  formatBlock(blocksToImport.get(0)),
+                  e);
+              return Optional.empty();
             });
   }
 
+  private BlockImportResult onBlockImportResult(
+      final SignedBeaconBlock block, final BlockImportResult result) {
+    if (!result.isSuccessful()) {
+      LOG.trace(
+          "Failed to import block for reason {}: {}",
+          result::getFailureReason,
+          () -> formatBlock(block));
+      return result;
+    }
+    LOG.trace("Successfully imported block {}", () -> formatBlock(block));
+
+    blockImportNotifications.onBlockImported(block);
+
+    // Notify operation pools to remove operations only
+    // if the block is on our canonical chain
+    if (result.isBlockOnCanonicalChain()) {
+      notifyBlockOperationSubscribers(block);
+    }
+
+    return result;
+  }
+
   private SafeFuture<?> validateWeakSubjectivityPeriod() {
     return getLatestCheckpointState()
         .thenCombine(
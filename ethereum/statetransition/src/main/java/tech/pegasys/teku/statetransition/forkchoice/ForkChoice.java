@@ -14,17 +14,24 @@
 package tech.pegasys.teku.statetransition.forkchoice;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.infrastructure.logging.LogFormatter.formatBlock;
 import static tech.pegasys.teku.infrastructure.logging.P2PLogger.P2P_LOG;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
 import static tech.pegasys.teku.spec.constants.NetworkConstants.INTERVALS_PER_SLOT;
 import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.addParentStateRoots;
 
 import com.google.common.base.Throwables;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.ethereum.forkchoice.ForkChoiceStrategy;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
@@ -42,6 +49,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.InvalidCheckpointException;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
@@ -51,6 +59,9 @@ import tech.pegasys.teku.spec.executionengine.ExecutionEngineChannel;
 import tech.pegasys.teku.spec.executionengine.ExecutionPayloadStatus;
 import tech.pegasys.teku.spec.executionengine.ForkChoiceState;
 import tech.pegasys.teku.spec.executionengine.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -273,6 +284,219 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
             forkChoiceExecutor);
   }
 
+  /**
+   * Import a chain of blocks to the store, where each block is the child of the previous one.
+   *
+   * <p>State transitions are applied to every block with signature checks deferred and the
+   * signatures from the whole chain are then checked with a single batch verification before any
+   * block is added to the store. The blocks are then added to the store in a single transaction.
+   *
+   * <p>Only blocks before the merge transition are processed as a batch. Execution payloads and
+   * the merge transition block can only be validated once the parent block is in the store, so
+   * processing stops at the first block with an execution payload. It also stops at the first
+   * block that fails the state transition, with the blocks before it still being imported.
+   *
+   * @param blocks the blocks to import, in order
+   * @param executionEngine the execution engine to validate execution payloads with
+   * @return the import result for each block processed, stopping at the first failed import, or
+   *     empty if the blocks could not be processed as a batch. No blocks are imported when empty is
+   *     returned. If fewer results than blocks are returned, or empty is returned, callers should
+   *     import the remaining blocks with {@link #onBlock(SignedBeaconBlock, Optional,
+   *     ExecutionEngineChannel)}.
+   */
+  public SafeFuture<Optional<List<BlockImportResult>>> onBlocks(
+      final List<SignedBeaconBlock> blocks, final ExecutionEngineChannel executionEngine) {
+    if (blocks.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.of(Collections.emptyList()));
+    }
+    final SignedBeaconBlock firstBlock = blocks.get(0);
+    return recentChainData
+        .retrieveStateAtSlot(new SlotAndBlockRoot(firstBlock.getSlot(), firstBlock.getParentRoot()))
+        .thenCompose(
+            maybeBlockSlotState -> {
+              final Optional<List<ProcessedBlock>> processedBlocks =
+                  maybeBlockSlotState.flatMap(
+                      blockSlotState -> processBlocks(blocks, blockSlotState, executionEngine));
+              if (processedBlocks.isEmpty()) {
+                return SafeFuture.completedFuture(Optional.empty());
+              }
+              return importProcessedBlocks(processedBlocks.get()).thenApply(Optional::of);
+            });
+  }
+
+  private Optional<List<ProcessedBlock>> processBlocks(
+      final List<SignedBeaconBlock> blocks,
+      final BeaconState firstBlockSlotState,
+      final ExecutionEngineChannel executionEngine) {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final List<ProcessedBlock> processedBlocks = new ArrayList<>(blocks.size());
+    BeaconState preState = firstBlockSlotState;
+    Bytes32 expectedParentRoot = blocks.get(0).getParentRoot();
+    for (final SignedBeaconBlock block : blocks) {
+      if (!block.getParentRoot().equals(expectedParentRoot)) {
+        LOG.debug("Unable to process blocks as a batch because they are not a chain");
+        return Optional.empty();
+      }
+      if (hasExecutionPayload(block)) {
+        break;
+      }
+      // Only add the block's signatures to the batch if its state transition succeeds
+      final PendingSignatureVerifier blockSignatureVerifier = new PendingSignatureVerifier();
+      try {
+        final BeaconState blockSlotState = spec.processSlots(preState, block.getSlot());
+        final ForkChoicePayloadExecutor payloadExecutor =
+            ForkChoicePayloadExecutor.create(spec, recentChainData, block, executionEngine);
+        final CapturingIndexedAttestationCache indexedAttestationCache =
+            IndexedAttestationCache.capturing();
+        final BeaconState postState =
+            spec.getBlockProcessor(block.getSlot())
+                .processAndValidateBlock(
+                    block,
+                    blockSlotState,
+                    indexedAttestationCache,
+                    blockSignatureVerifier,
+                    Optional.of(payloadExecutor));
+        processedBlocks.add(
+            new ProcessedBlock(
+                block, blockSlotState, postState, indexedAttestationCache, payloadExecutor));
+        preState = postState;
+      } catch (final StateTransitionException
+          | SlotProcessingException
+          | EpochProcessingException e) {
+        LOG.debug(
+            "Unable to process block {} as part of a batch",
+            formatBlock(block.getSlot(), block.getRoot()),
+            e);
+        break;
+      }
+      blockSignatureVerifier.addTo(signatureVerifier);
+      expectedParentRoot = block.getRoot();
+    }
+    if (processedBlocks.isEmpty()) {
+      return Optional.empty();
+    }
+    if (!signatureVerifier.batchVerify()) {
+      LOG.debug(
+          "Batch signature verification failed for blocks {} to {}",
+          () -> formatProcessedBlock(processedBlocks.get(0)),
+          () -> formatProcessedBlock(processedBlocks.get(processedBlocks.size() - 1)));
+      return Optional.empty();
+    }
+    return Optional.of(processedBlocks);
+  }
+
+  private String formatProcessedBlock(final ProcessedBlock processedBlock) {
+    return formatBlock(processedBlock.block.getSlot(), processedBlock.block.getRoot());
+  }
+
+  private boolean hasExecutionPayload(final SignedBeaconBlock block) {
+    return block
+        .getMessage()
+        .getBody()
+        .getOptionalExecutionPayload()
+        .map(payload -> !payload.isDefault())
+        .orElse(false);
+  }
+
+  private SafeFuture<List<BlockImportResult>> importProcessedBlocks(
+      final List<ProcessedBlock> processedBlocks) {
+    return SafeFuture.collectAll(
+            processedBlocks.stream()
+                .map(processedBlock -> processedBlock.payloadExecutor.getExecutionResult()))
+        .thenApplyAsync(
+            payloadResults -> importProcessedBlocks(processedBlocks, payloadResults),
+            forkChoiceExecutor);
+  }
+
+  /**
+   * Adds the processed blocks to the store in a single transaction, stopping at the first block
+   * that can't be imported. Blocks before it are still imported.
+   */
+  private List<BlockImportResult> importProcessedBlocks(
+      final List<ProcessedBlock> processedBlocks,
+      final List<PayloadValidationResult> payloadResults) {
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+    final StoreTransaction transaction = recentChainData.startStoreTransaction();
+    final List<ProcessedBlock> appliedBlocks = new ArrayList<>(processedBlocks.size());
+    Optional<BlockImportResult> failedResult = Optional.empty();
+    for (int i = 0; i < processedBlocks.size(); i++) {
+      final ProcessedBlock processedBlock = processedBlocks.get(i);
+      final PayloadStatus payloadResult = payloadResults.get(i).getStatus();
+      failedResult =
+          checkProcessedBlock(
+              processedBlock, payloadResults.get(i), i == 0, transaction, forkChoiceStrategy);
+      if (failedResult.isPresent()) {
+        break;
+      }
+      applyBlockToTransaction(
+          transaction,
+          processedBlock.block,
+          processedBlock.blockSlotState,
+          spec.atSlot(processedBlock.block.getSlot()).getForkChoiceUtil(),
+          processedBlock.postState,
+          payloadResult);
+      appliedBlocks.add(processedBlock);
+    }
+
+    final List<BlockImportResult> results = new ArrayList<>(processedBlocks.size());
+    if (!appliedBlocks.isEmpty()) {
+      transaction.commit().join();
+      final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(transaction));
+      for (int i = 0; i < appliedBlocks.size(); i++) {
+        final ProcessedBlock appliedBlock = appliedBlocks.get(i);
+        results.add(
+            onBlockCommitted(
+                appliedBlock.block,
+                payloadResults.get(i).getStatus(),
+                appliedBlock.indexedAttestationCache,
+                forkChoiceStrategy,
+                currentEpoch));
+      }
+      notifyForkChoiceUpdatedAndOptimisticSyncingChanged();
+    }
+    failedResult.ifPresent(results::add);
+    return results;
+  }
+
+  private Optional<BlockImportResult> checkProcessedBlock(
+      final ProcessedBlock processedBlock,
+      final PayloadValidationResult payloadResult,
+      final boolean isFirstBlock,
+      final StoreTransaction transaction,
+      final ForkChoiceStrategy forkChoiceStrategy) {
+    final SignedBeaconBlock block = processedBlock.block;
+    final ForkChoiceUtil forkChoiceUtil = spec.atSlot(block.getSlot()).getForkChoiceUtil();
+    final BlockImportResult preconditionCheckResult;
+    if (isFirstBlock) {
+      preconditionCheckResult =
+          forkChoiceUtil.checkOnBlockConditions(
+              block, processedBlock.blockSlotState, recentChainData.getStore());
+    } else if (spec.getCurrentSlot(transaction).isLessThan(block.getSlot())) {
+      // The parent is only in the uncommitted transaction so isn't known to fork choice yet. The
+      // batch was processed as a chain from the first block, so it descends from finalized too.
+      preconditionCheckResult = BlockImportResult.FAILED_BLOCK_IS_FROM_FUTURE;
+    } else {
+      preconditionCheckResult = BlockImportResult.successful(block);
+    }
+    if (!preconditionCheckResult.isSuccessful()) {
+      reportInvalidBlock(block, preconditionCheckResult);
+      return Optional.of(preconditionCheckResult);
+    }
+    final Optional<BlockImportResult> payloadCheckResult =
+        checkPayloadResult(block, payloadResult, transaction);
+    if (payloadCheckResult.isPresent()) {
+      return payloadCheckResult;
+    }
+    // Make sure the first block still descends from finalized, which may have changed while the
+    // batch was being processed
+    if (isFirstBlock
+        && !forkChoiceUtil.blockDescendsFromLatestFinalizedBlock(
+            block, recentChainData.getStore(), forkChoiceStrategy)) {
+      return Optional.of(BlockImportResult.FAILED_INVALID_ANCESTRY);
+    }
+    return Optional.empty();
+  }
+
   private BlockImportResult importBlockAndState(
       final SignedBeaconBlock block,
       final BeaconState blockSlotState,
@@ -281,6 +505,44 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final CapturingIndexedAttestationCache indexedAttestationCache,
       final BeaconState postState,
       final PayloadValidationResult payloadValidationResult) {
+    final Optional<BlockImportResult> payloadCheckResult =
+        checkPayloadResult(block, payloadValidationResult, recentChainData.getStore());
+    if (payloadCheckResult.isPresent()) {
+      return payloadCheckResult.get();
+    }
+
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+
+    // Now that we're on the fork choice thread, make sure the block still descends from finalized
+    // (which may have changed while we were processing the block)
+    if (!forkChoiceUtil.blockDescendsFromLatestFinalizedBlock(
+        block, recentChainData.getStore(), forkChoiceStrategy)) {
+      return BlockImportResult.FAILED_INVALID_ANCESTRY;
+    }
+
+    final PayloadStatus payloadResult = payloadValidationResult.getStatus();
+    final StoreTransaction transaction = recentChainData.startStoreTransaction();
+    applyBlockToTransaction(
+        transaction, block, blockSlotState, forkChoiceUtil, postState, payloadResult);
+
+    blockImportPerformance.ifPresent(BlockImportPerformance::transactionReady);
+    // Note: not using thenRun here because we want to ensure each step is on the event thread
+    transaction.commit().join();
+    blockImportPerformance.ifPresent(BlockImportPerformance::transactionCommitted);
+
+    final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(transaction));
+    final BlockImportResult result =
+        onBlockCommitted(
+            block, payloadResult, indexedAttestationCache, forkChoiceStrategy, currentEpoch);
+    notifyForkChoiceUpdatedAndOptimisticSyncingChanged();
+    return result;
+  }
+
+  /** Returns the import result if the block can't be imported because of its payload result. */
+  private Optional<BlockImportResult> checkPayloadResult(
+      final SignedBeaconBlock block,
+      final PayloadValidationResult payloadValidationResult,
+      final ReadOnlyStore store) {
     final PayloadStatus payloadResult = payloadValidationResult.getStatus();
     if (payloadResult.hasInvalidStatus()) {
       final BlockImportResult result =
@@ -295,31 +557,31 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
               invalidTransitionBlockRoot ->
                   getForkChoiceStrategy()
                       .onExecutionPayloadResult(invalidTransitionBlockRoot, payloadResult));
-      return result;
+      return Optional.of(result);
     }
 
     if (payloadResult.hasNotValidatedStatus()
         && !spec.atSlot(block.getSlot())
             .getForkChoiceUtil()
-            .canOptimisticallyImport(recentChainData.getStore(), block)) {
-      return BlockImportResult.FAILED_EXECUTION_PAYLOAD_EXECUTION_SYNCING;
+            .canOptimisticallyImport(store, block)) {
+      return Optional.of(BlockImportResult.FAILED_EXECUTION_PAYLOAD_EXECUTION_SYNCING);
     }
 
     if (payloadResult.hasFailedExecution()) {
-      return BlockImportResult.failedExecutionPayloadExecution(
-          payloadResult.getFailureCause().orElseThrow());
-    }
-
-    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
-
-    // Now that we're on the fork choice thread, make sure the block still descends from finalized
-    // (which may have changed while we were processing the block)
-    if (!forkChoiceUtil.blockDescendsFromLatestFinalizedBlock(
-        block, recentChainData.getStore(), forkChoiceStrategy)) {
-      return BlockImportResult.FAILED_INVALID_ANCESTRY;
+      return Optional.of(
+          BlockImportResult.failedExecutionPayloadExecution(
+              payloadResult.getFailureCause().orElseThrow()));
     }
+    return Optional.empty();
+  }
 
-    final StoreTransaction transaction = recentChainData.startStoreTransaction();
+  private void applyBlockToTransaction(
+      final StoreTransaction transaction,
+      final SignedBeaconBlock block,
+      final BeaconState blockSlotState,
+      final ForkChoiceUtil forkChoiceUtil,
+      final BeaconState postState,
+      final PayloadStatus payloadResult) {
     addParentStateRoots(spec, blockSlotState, transaction);
     forkChoiceUtil.applyBlockToStore(
         transaction, block, postState, payloadResult.hasNotValidatedStatus());
@@ -339,15 +601,17 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
         transaction.setLatestValidFinalizedSlot(latestValidFinalizedSlot);
       }
     }
+  }
 
-    blockImportPerformance.ifPresent(BlockImportPerformance::transactionReady);
-    // Note: not using thenRun here because we want to ensure each step is on the event thread
-    transaction.commit().join();
-    blockImportPerformance.ifPresent(BlockImportPerformance::transactionCommitted);
+  /** Updates fork choice once the transaction containing the block has been committed. */
+  private BlockImportResult onBlockCommitted(
+      final SignedBeaconBlock block,
+      final PayloadStatus payloadResult,
+      final CapturingIndexedAttestationCache indexedAttestationCache,
+      final ForkChoiceStrategy forkChoiceStrategy,
+      final UInt64 currentEpoch) {
     forkChoiceStrategy.onExecutionPayloadResult(block.getRoot(), payloadResult);
 
-    final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(transaction));
-
     // We only need to apply attestations from the current or previous epoch. If the block is from
     // before that, none of the attestations will be applicable so just skip the whole step.
     if (spec.computeEpochAtSlot(block.getSlot())
@@ -362,7 +626,6 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       result = BlockImportResult.optimisticallySuccessful(block);
     }
     updateForkChoiceForImportedBlock(block, result, forkChoiceStrategy);
-    notifyForkChoiceUpdatedAndOptimisticSyncingChanged();
     return result;
   }
 
@@ -612,4 +875,56 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
   public interface OptimisticHeadSubscriber {
     void onOptimisticHeadChanged(boolean isHeadOptimistic);
   }
+
+  /** Holds the signatures from a single block until they can be added to the batch. */
+  private static class PendingSignatureVerifier implements BLSSignatureVerifier {
+    private final List<List<BLSPublicKey>> publicKeys = new ArrayList<>();
+    private final List<Bytes> messages = new ArrayList<>();
+    private final List<BLSSignature> signatures = new ArrayList<>();
+
+    @Override
+    public boolean verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      this.publicKeys.add(publicKeys);
+      this.messages.add(message);
+      this.signatures.add(signature);
+      return true;
+    }
+
+    @Override
+    public boolean verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      this.publicKeys.addAll(publicKeys);
+      this.messages.addAll(messages);
+      this.signatures.addAll(signatures);
+      return true;
+    }
+
+    public void addTo(final BLSSignatureVerifier target) {
+      target.verify(publicKeys, messages, signatures);
+    }
+  }
+
+  private static class ProcessedBlock {
+    private final SignedBeaconBlock block;
+    private final BeaconState blockSlotState;
+    private final BeaconState postState;
+    private final CapturingIndexedAttestationCache indexedAttestationCache;
+    private final ForkChoicePayloadExecutor payloadExecutor;
+
+    private ProcessedBlock(
+        final SignedBeaconBlock block,
+        final BeaconState blockSlotState,
+        final BeaconState postState,
+        final CapturingIndexedAttestationCache indexedAttestationCache,
+        final ForkChoicePayloadExecutor payloadExecutor) {
+      this.block = block;
+      this.blockSlotState = blockSlotState;
+      this.postState = postState;
+      this.indexedAttestationCache = indexedAttestationCache;
+      this.payloadExecutor = payloadExecutor;
+    }
+  }
 }
@@ -52,7 +52,7 @@ public class SignedContributionAndProofValidator {
   private static final Logger LOG = LogManager.getLogger();
   private final Spec spec;
   private final Set<UniquenessKey> seenIndices =
-      LimitedSet.create(VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
+      LimitedSet.createConcurrentRetaining(VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
   private final SyncCommitteeStateUtils syncCommitteeStateUtils;
   private final AsyncBLSSignatureVerifier signatureVerifier;
   private final SyncCommitteeCurrentSlotUtil slotUtil;
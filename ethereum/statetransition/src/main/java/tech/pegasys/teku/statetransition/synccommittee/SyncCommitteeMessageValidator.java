@@ -45,7 +45,7 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 public class SyncCommitteeMessageValidator {
   private static final Logger LOG = LogManager.getLogger();
   private final Set<UniquenessKey> seenIndices =
-      LimitedSet.create(VALID_SYNC_COMMITTEE_MESSAGE_SET_SIZE);
+      LimitedSet.createConcurrentRetaining(VALID_SYNC_COMMITTEE_MESSAGE_SET_SIZE);
   private final Spec spec;
   private final SyncCommitteeStateUtils syncCommitteeStateUtils;
   private final AsyncBLSSignatureVerifier signatureVerifier;
@@ -48,9 +48,9 @@ import tech.pegasys.teku.spec.logic.common.util.AsyncBatchBLSSignatureVerifier;
 public class AggregateAttestationValidator {
   private static final Logger LOG = LogManager.getLogger();
   private final Set<AggregatorIndexAndEpoch> receivedAggregatorIndexAndEpochs =
-      LimitedSet.create(VALID_AGGREGATE_SET_SIZE);
+      LimitedSet.createConcurrentRetaining(VALID_AGGREGATE_SET_SIZE);
   private final Set<Bytes32> receivedValidAggregations =
-      LimitedSet.create(VALID_AGGREGATE_SET_SIZE);
+      LimitedSet.createConcurrentRetaining(VALID_AGGREGATE_SET_SIZE);
   private final AttestationValidator attestationValidator;
   private final Spec spec;
   private final AsyncBLSSignatureVerifier signatureVerifier;
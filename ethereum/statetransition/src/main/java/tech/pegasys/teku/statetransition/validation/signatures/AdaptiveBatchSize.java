@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+
+/**
+ * Chooses how many signature tasks to verify in a single batch based on how long recent batches
+ * took and how many tasks are waiting.
+ *
+ * <p>Larger batches amortise the cost of the final pairing check, but every task in a batch waits
+ * for the whole batch to complete. While the queue is short, batches are limited to the number of
+ * tasks which can be verified within the target duration. Once there are more tasks waiting than
+ * the verification threads can clear in that time, queueing dominates latency so batches grow up to
+ * the maximum to get the most throughput.
+ */
+class AdaptiveBatchSize {
+  static final Duration DEFAULT_TARGET_BATCH_DURATION = Duration.ofMillis(100);
+  static final int DEFAULT_MIN_BATCH_SIZE = 10;
+  // Weight given to the latest batch when updating the average time per task
+  private static final double SMOOTHING_FACTOR = 0.2;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int numThreads;
+  private final long targetBatchDurationNanos;
+
+  // Zero until the first batch has been verified
+  private double averageNanosPerTask = 0;
+
+  AdaptiveBatchSize(
+      final int minBatchSize,
+      final int maxBatchSize,
+      final int numThreads,
+      final Duration targetBatchDuration) {
+    checkArgument(maxBatchSize > 0, "Max batch size must be positive");
+    this.minBatchSize = Math.max(1, Math.min(minBatchSize, maxBatchSize));
+    this.maxBatchSize = maxBatchSize;
+    this.numThreads = Math.max(1, numThreads);
+    this.targetBatchDurationNanos = targetBatchDuration.toNanos();
+  }
+
+  /**
+   * Get the number of tasks to include in the next batch.
+   *
+   * @param queueDepth the number of tasks currently waiting to be verified
+   * @return the maximum number of tasks to verify in the next batch
+   */
+  synchronized int getBatchSize(final int queueDepth) {
+    if (averageNanosPerTask <= 0) {
+      return maxBatchSize;
+    }
+    final long withinTargetDuration = (long) (targetBatchDurationNanos / averageNanosPerTask);
+    final long shareOfQueue = ((long) queueDepth + numThreads - 1) / numThreads;
+    final long batchSize = Math.max(withinTargetDuration, shareOfQueue);
+    return (int) Math.max(minBatchSize, Math.min(maxBatchSize, batchSize));
+  }
+
+  /**
+   * Record how long it took to verify a batch.
+   *
+   * @param taskCount the number of tasks in the batch
+   * @param durationNanos the time taken to verify the batch
+   */
+  synchronized void onBatchVerified(final int taskCount, final long durationNanos) {
+    if (taskCount <= 0) {
+      return;
+    }
+    final double nanosPerTask = (double) durationNanos / taskCount;
+    averageNanosPerTask =
+        averageNanosPerTask <= 0
+            ? nanosPerTask
+            : SMOOTHING_FACTOR * nanosPerTask + (1 - SMOOTHING_FACTOR) * averageNanosPerTask;
+  }
+}
@@ -18,10 +18,16 @@ import static java.util.Collections.singletonList;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -35,9 +41,20 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram.LabelledHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
+/**
+ * Verifies signatures in batches on a dedicated pool of threads.
+ *
+ * <p>Tasks are queued in one of two lanes. Tasks in the priority lane, such as aggregates and sync
+ * committee contributions, are always batched ahead of tasks in the standard lane so they aren't
+ * held up by floods of unaggregated attestations. Each lane has its own capacity. The number of
+ * tasks in each batch is adjusted by {@link AdaptiveBatchSize} based on recent verification times
+ * and the number of tasks waiting.
+ */
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
@@ -45,15 +62,20 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
 
   private final AsyncRunner completionRunner;
   private final int numThreads;
-  private final int maxBatchSize;
+  private final int queueCapacity;
   private final int minBatchSizeToSplit;
   private final boolean strictThreadLimitEnabled;
+  private final AdaptiveBatchSize adaptiveBatchSize;
 
   @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  private final Map<Lane, AtomicInteger> laneSizes = new EnumMap<>(Lane.class);
+  private final AtomicLong nextTaskSequence = new AtomicLong();
+  private final AsyncBLSSignatureVerifier priorityVerifier = new PriorityVerifier();
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
-  private final MetricsHistogram batchSizeHistogram;
+  private final LabelledHistogram batchSizeHistogram;
+  private final Map<Lane, LabelledHistogram> queueWaitHistograms = new EnumMap<>(Lane.class);
 
   @VisibleForTesting
   AggregatingSignatureVerificationService(
@@ -68,9 +90,22 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
-    this.maxBatchSize = maxBatchSize;
+    this.queueCapacity = queueCapacity;
+    this.adaptiveBatchSize =
+        new AdaptiveBatchSize(
+            AdaptiveBatchSize.DEFAULT_MIN_BATCH_SIZE,
+            maxBatchSize,
+            this.numThreads,
+            AdaptiveBatchSize.DEFAULT_TARGET_BATCH_DURATION);
 
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSignatureTasks =
+        new PriorityBlockingQueue<>(
+            Math.max(1, queueCapacity),
+            Comparator.<SignatureTask, Lane>comparing(task -> task.lane)
+                .thenComparingLong(task -> task.sequence));
+    for (Lane lane : Lane.values()) {
+      laneSizes.put(lane, new AtomicInteger());
+    }
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
     metricsSystem.createGauge(
@@ -89,13 +124,30 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             "signature_verifications_task_count",
             "Reports the number of individual verification tasks processed");
     batchSizeHistogram =
+        MetricsHistogram.create(
+                TekuMetricCategory.EXECUTOR,
+                metricsSystem,
+                "signature_verifications_batch_size",
+                "Histogram of signature verification batch sizes",
+                3,
+                List.of())
+            .labels();
+    final MetricsHistogram queueWaitHistogram =
         MetricsHistogram.create(
             TekuMetricCategory.EXECUTOR,
             metricsSystem,
-            "signature_verifications_batch_size",
-            "Histogram of signature verification batch sizes",
+            "signature_verifications_queue_wait_time",
+            "Histogram of the time in milliseconds signatures wait to be batch verified",
             3,
-            List.of());
+            List.of("lane"));
+    for (Lane lane : Lane.values()) {
+      queueWaitHistograms.put(lane, queueWaitHistogram.labels(lane.label));
+    }
+    metricsSystem.createGauge(
+        TekuMetricCategory.EXECUTOR,
+        "signature_verifications_target_batch_size",
+        "The current maximum number of signatures to verify in a batch",
+        () -> adaptiveBatchSize.getBatchSize(batchSignatureTasks.size()));
   }
 
   public AggregatingSignatureVerificationService(
@@ -136,6 +188,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public AsyncBLSSignatureVerifier getPriorityVerifier() {
+    return priorityVerifier;
+  }
+
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
@@ -147,14 +204,32 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return verify(Lane.STANDARD, publicKeys, messages, signatures);
+  }
+
+  private SafeFuture<Boolean> verify(
+      final Lane lane,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
+        new SignatureTask(
+            completionRunner,
+            lane,
+            nextTaskSequence.getAndIncrement(),
+            publicKeys,
+            messages,
+            signatures);
+    final AtomicInteger laneSize = laneSizes.get(lane);
+    if (laneSize.incrementAndGet() > queueCapacity) {
       // Queue is full
+      laneSize.decrementAndGet();
       final Throwable error =
           new ServiceCapacityExceededException("Failed to process signature, queue is full.");
       task.result.completeExceptionally(error);
+    } else {
+      batchSignatureTasks.add(task);
     }
     return task.result;
   }
@@ -171,8 +246,8 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private List<SignatureTask> waitForBatch() {
     final List<SignatureTask> tasks = new ArrayList<>();
     try {
-      int batchSize = maxBatchSize;
       final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
+      int batchSize = adaptiveBatchSize.getBatchSize(batchSignatureTasks.size() + 1);
       if (firstTask != null) {
         tasks.add(firstTask);
         batchSize -= 1;
@@ -181,6 +256,13 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
+    final long now = System.nanoTime();
+    for (SignatureTask task : tasks) {
+      laneSizes.get(task.lane).decrementAndGet();
+      queueWaitHistograms
+          .get(task.lane)
+          .recordValue(TimeUnit.NANOSECONDS.toMillis(now - task.createdNanos));
+    }
     return tasks;
   }
 
@@ -199,10 +281,12 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       allSignatures.addAll(task.signatures);
     }
 
+    final long startNanos = System.nanoTime();
     final boolean batchIsValid =
         strictThreadLimitEnabled
             ? BLS.batchVerify(allKeys, allMessages, allSignatures, allKeys.size() > 1, false)
             : BLS.batchVerify(allKeys, allMessages, allSignatures);
+    adaptiveBatchSize.onBatchVerified(tasks.size(), System.nanoTime() - startNanos);
     if (batchIsValid) {
       for (SignatureTask task : tasks) {
         task.completeAsync(true);
@@ -236,20 +320,52 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return batchSignatureTasks.size();
   }
 
+  @VisibleForTesting
+  enum Lane {
+    PRIORITY,
+    STANDARD;
+
+    private final String label = name().toLowerCase(Locale.ROOT);
+  }
+
+  private class PriorityVerifier implements AsyncBLSSignatureVerifier {
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      return verify(singletonList(publicKeys), singletonList(message), singletonList(signature));
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      return AggregatingSignatureVerificationService.this.verify(
+          Lane.PRIORITY, publicKeys, messages, signatures);
+    }
+  }
+
   @VisibleForTesting
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    final Lane lane;
+    private final long sequence;
+    private final long createdNanos = System.nanoTime();
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final Lane lane,
+        final long sequence,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.lane = lane;
+      this.sequence = sequence;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
@@ -22,4 +22,14 @@ public abstract class SignatureVerificationService extends Service
   public static SignatureVerificationService createSimple() {
     return new SimpleSignatureVerificationService();
   }
+
+  /**
+   * Get a verifier for signatures which should be verified ahead of others, such as aggregates
+   * which cover many validators.
+   *
+   * @return the verifier to use for priority signatures
+   */
+  public AsyncBLSSignatureVerifier getPriorityVerifier() {
+    return this;
+  }
 }
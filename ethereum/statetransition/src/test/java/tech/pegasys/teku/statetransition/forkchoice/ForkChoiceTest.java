@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -53,6 +54,7 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -180,6 +182,136 @@ class ForkChoiceTest {
     assertThat(storageSystem.chainHeadChannel().getReorgEvents()).isEmpty();
   }
 
+  @Test
+  void onBlocks_shouldImportChainOfBlocks() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    final SignedBlockAndState block3 = chainBuilder.generateBlockAtSlot(4);
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(
+            List.of(block1.getBlock(), block2.getBlock(), block3.getBlock()), executionEngine);
+
+    assertThat(importResult).isCompleted();
+    final List<BlockImportResult> results = importResult.join().orElseThrow();
+    assertThat(results).hasSize(3).allMatch(BlockImportResult::isSuccessful);
+    assertThat(recentChainData.getStore().containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.getStore().containsBlock(block2.getRoot())).isTrue();
+    assertThat(recentChainData.getHeadBlock().map(MinimalBeaconBlockSummary::getRoot))
+        .contains(block3.getRoot());
+  }
+
+  @Test
+  void onBlocks_shouldCommitBatchInSingleTransaction() {
+    final RecentChainData recentChainData = spy(this.recentChainData);
+    forkChoice =
+        new ForkChoice(
+            spec,
+            new InlineEventThread(),
+            recentChainData,
+            forkChoiceNotifier,
+            transitionBlockValidator,
+            false);
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    final SignedBlockAndState block3 = chainBuilder.generateBlockAtSlot(4);
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(
+            List.of(block1.getBlock(), block2.getBlock(), block3.getBlock()), executionEngine);
+
+    assertThat(importResult).isCompleted();
+    assertThat(importResult.join().orElseThrow())
+        .hasSize(3)
+        .allMatch(BlockImportResult::isSuccessful);
+    verify(recentChainData, times(1)).startStoreTransaction();
+    verify(forkChoiceNotifier, times(1)).onForkChoiceUpdated(any());
+  }
+
+  @Test
+  void onBlocks_shouldNotImportAnyBlocksWhenBatchContainsInvalidSignature() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec, block2.getBlock().getMessage(), block1.getBlock().getSignature());
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(List.of(block1.getBlock(), invalidBlock2), executionEngine);
+
+    assertThat(importResult).isCompletedWithValue(Optional.empty());
+    assertThat(recentChainData.getStore().containsBlock(block1.getRoot())).isFalse();
+    assertThat(recentChainData.getHeadBlock().map(MinimalBeaconBlockSummary::getRoot))
+        .contains(genesis.getRoot());
+  }
+
+  @Test
+  void onBlocks_shouldReturnEmptyWhenBlocksAreNotAChain() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    chainBuilder.generateBlockAtSlot(2);
+    final SignedBlockAndState block3 = chainBuilder.generateBlockAtSlot(3);
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(List.of(block1.getBlock(), block3.getBlock()), executionEngine);
+
+    assertThat(importResult).isCompletedWithValue(Optional.empty());
+    assertThat(recentChainData.getStore().containsBlock(block1.getRoot())).isFalse();
+  }
+
+  @Test
+  void onBlocks_shouldStopBatchAtMergeTransitionBlock() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState mergeBlock = generateMergeBlock(UInt64.valueOf(2));
+    final SignedBlockAndState block3 = chainBuilder.generateBlockAtSlot(3);
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(
+            List.of(block1.getBlock(), mergeBlock.getBlock(), block3.getBlock()),
+            executionEngine);
+
+    assertThat(importResult).isCompleted();
+    final List<BlockImportResult> results = importResult.join().orElseThrow();
+    assertThat(results).hasSize(1).allMatch(BlockImportResult::isSuccessful);
+    assertThat(recentChainData.getStore().containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.getStore().containsBlock(mergeBlock.getRoot())).isFalse();
+
+    // Transition block and its descendants are then validated as individual imports
+    importBlock(mergeBlock);
+    importBlock(block3);
+  }
+
+  @Test
+  void onBlocks_shouldReturnEmptyWhenFirstBlockHasExecutionPayload() {
+    doMerge();
+    final SignedBlockAndState block = chainBuilder.generateNextBlock();
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(List.of(block.getBlock()), executionEngine);
+
+    assertThat(importResult).isCompletedWithValue(Optional.empty());
+    assertThat(recentChainData.getStore().containsBlock(block.getRoot())).isFalse();
+  }
+
+  @Test
+  void onBlocks_shouldImportBlocksBeforeFailedStateTransition() {
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(ONE);
+    final SignedBlockAndState block2 = chainBuilder.generateBlockAtSlot(2);
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec,
+            block2.getBlock().getMessage().withStateRoot(dataStructureUtil.randomBytes32()),
+            block2.getBlock().getSignature());
+
+    final SafeFuture<Optional<List<BlockImportResult>>> importResult =
+        forkChoice.onBlocks(List.of(block1.getBlock(), invalidBlock2), executionEngine);
+
+    assertThat(importResult).isCompleted();
+    final List<BlockImportResult> results = importResult.join().orElseThrow();
+    assertThat(results).hasSize(1).allMatch(BlockImportResult::isSuccessful);
+    assertThat(recentChainData.getStore().containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.getStore().containsBlock(invalidBlock2.getRoot())).isFalse();
+  }
+
   private static Stream<Arguments> provideArgumentsForShouldReorg() {
     return Stream.of(
         Arguments.of(0, true),
@@ -832,6 +964,10 @@ class ForkChoiceTest {
   }
 
   private SignedBlockAndState generateMergeBlock() {
+    return generateMergeBlock(storageSystem.chainUpdater().getHeadSlot().plus(1));
+  }
+
+  private SignedBlockAndState generateMergeBlock(final UInt64 slot) {
     final UInt256 terminalTotalDifficulty =
         spec.getGenesisSpecConfig().toVersionBellatrix().orElseThrow().getTerminalTotalDifficulty();
     final Bytes32 terminalBlockHash = dataStructureUtil.randomBytes32();
@@ -849,8 +985,7 @@ class ForkChoiceTest {
     executionEngine.addPowBlock(terminalParentBlock);
     final SignedBlockAndState epoch4Block =
         chainBuilder.generateBlockAtSlot(
-            storageSystem.chainUpdater().getHeadSlot().plus(1),
-            BlockOptions.create().setTerminalBlockHash(terminalBlockHash));
+            slot, BlockOptions.create().setTerminalBlockHash(terminalBlockHash));
     return epoch4Block;
   }
 
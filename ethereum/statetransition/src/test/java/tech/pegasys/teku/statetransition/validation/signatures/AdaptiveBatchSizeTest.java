@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchSizeTest {
+  private static final int MIN_BATCH_SIZE = 10;
+  private static final int MAX_BATCH_SIZE = 250;
+  private static final int NUM_THREADS = 2;
+
+  private final AdaptiveBatchSize batchSize =
+      new AdaptiveBatchSize(MIN_BATCH_SIZE, MAX_BATCH_SIZE, NUM_THREADS, Duration.ofMillis(100));
+
+  @Test
+  void shouldUseMaxBatchSizeBeforeAnyBatchesAreVerified() {
+    assertThat(batchSize.getBatchSize(1)).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldLimitBatchToTargetDurationWhenQueueIsShort() {
+    // 2ms per task so 50 tasks fit in the target duration
+    batchSize.onBatchVerified(10, Duration.ofMillis(20).toNanos());
+
+    assertThat(batchSize.getBatchSize(5)).isEqualTo(50);
+  }
+
+  @Test
+  void shouldGrowBatchWhenQueueIsDeep() {
+    batchSize.onBatchVerified(10, Duration.ofMillis(20).toNanos());
+
+    assertThat(batchSize.getBatchSize(300)).isEqualTo(150);
+    assertThat(batchSize.getBatchSize(1000)).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotGoBelowMinBatchSize() {
+    // 50ms per task so only 2 tasks fit in the target duration
+    batchSize.onBatchVerified(2, Duration.ofMillis(100).toNanos());
+
+    assertThat(batchSize.getBatchSize(1)).isEqualTo(MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldSmoothVerificationTimes() {
+    batchSize.onBatchVerified(10, Duration.ofMillis(20).toNanos());
+    // A single slow batch only partially moves the average
+    batchSize.onBatchVerified(10, Duration.ofMillis(70).toNanos());
+
+    // Average is 0.2 * 7ms + 0.8 * 2ms = 3ms per task
+    assertThat(batchSize.getBatchSize(1)).isEqualTo(33);
+  }
+
+  @Test
+  void shouldIgnoreEmptyBatches() {
+    batchSize.onBatchVerified(0, Duration.ofMillis(20).toNanos());
+
+    assertThat(batchSize.getBatchSize(1)).isEqualTo(MAX_BATCH_SIZE);
+  }
+}
@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.Lane;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
 
 public class AggregatingSignatureVerificationServiceTest {
@@ -99,6 +100,58 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceCapacityExceededException.class);
   }
 
+  @Test
+  public void verify_withFullQueueShouldStillAcceptPriorityTasks() {
+    startService();
+
+    fillQueue();
+    final SafeFuture<Boolean> future = executePriorityVerify(0, 0);
+    assertThat(future).isNotDone();
+
+    runPendingTasks();
+    assertThat(future).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void verify_withFullPriorityQueue() {
+    startService();
+
+    for (int i = 0; i < queueCapacity; i++) {
+      executePriorityVerify(0, i).reportExceptions();
+    }
+    final SafeFuture<Boolean> priorityFuture = executePriorityVerify(0, 0);
+    final SafeFuture<Boolean> standardFuture = executeValidVerify(0, 0);
+
+    assertThatThrownBy(priorityFuture::get)
+        .hasCauseInstanceOf(ServiceCapacityExceededException.class);
+    assertThat(standardFuture).isNotDone();
+  }
+
+  @Test
+  public void verify_shouldBatchPriorityTasksFirst() {
+    startService();
+
+    final SafeFuture<Boolean> standardFuture1 = executeValidVerify(0, 0);
+    final SafeFuture<Boolean> priorityFuture1 = executePriorityVerify(1, 1);
+    final SafeFuture<Boolean> standardFuture2 = executeValidVerify(2, 2);
+    final SafeFuture<Boolean> priorityFuture2 = executePriorityVerify(3, 3);
+
+    final List<SignatureTask> tasks = getPendingTasks();
+    assertThat(tasks)
+        .extracting(task -> task.lane)
+        .containsExactly(Lane.PRIORITY, Lane.PRIORITY, Lane.STANDARD, Lane.STANDARD);
+    assertThat(tasks)
+        .extracting(task -> task.messages.get(0))
+        .containsExactly(Bytes.of(1), Bytes.of(3), Bytes.of(0), Bytes.of(2));
+
+    service.batchVerifySignatures(tasks);
+    completionRunner.executeQueuedActions();
+    assertThat(standardFuture1).isCompletedWithValue(true);
+    assertThat(priorityFuture1).isCompletedWithValue(true);
+    assertThat(standardFuture2).isCompletedWithValue(true);
+    assertThat(priorityFuture2).isCompletedWithValue(true);
+  }
+
   @Test
   public void verify_singleValidSignature() {
     startService();
@@ -373,6 +426,14 @@ public class AggregatingSignatureVerificationServiceTest {
     return service.verify(keypair.getPublicKey(), message, signature);
   }
 
+  private SafeFuture<Boolean> executePriorityVerify(final int keypairIndex, final int data) {
+    final BLSKeyPair keypair = keys.get(keypairIndex);
+    final Bytes message = Bytes.of(data);
+    return service
+        .getPriorityVerifier()
+        .verify(keypair.getPublicKey(), message, BLS.sign(keypair.getSecretKey(), message));
+  }
+
   private SafeFuture<Boolean> executeListVerify(
       final IntList keyIndices, final IntList data, final BooleanList useValidSignatures) {
     final List<List<BLSPublicKey>> publicKeys = new ArrayList<>();
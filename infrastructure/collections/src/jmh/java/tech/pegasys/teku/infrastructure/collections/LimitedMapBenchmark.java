@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of a single {@link LimitedMap} shared between threads, simulating the seen
+ * sets used by gossip validation where most operations are lookups of recently added keys.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class LimitedMapBenchmark {
+
+  @Param({"synchronized", "concurrent"})
+  String implementation;
+
+  @Param({"1024"})
+  int maxSize;
+
+  private Map<Integer, Boolean> map;
+
+  @Setup(Level.Trial)
+  public void init() {
+    map =
+        implementation.equals("concurrent")
+            ? LimitedMap.createConcurrent(maxSize)
+            : LimitedMap.create(maxSize);
+    for (int i = 0; i < maxSize; i++) {
+      map.put(i, Boolean.TRUE);
+    }
+  }
+
+  @Benchmark
+  public boolean containsKey() {
+    return map.containsKey(ThreadLocalRandom.current().nextInt(maxSize));
+  }
+
+  @Benchmark
+  public Boolean get() {
+    return map.get(ThreadLocalRandom.current().nextInt(maxSize));
+  }
+
+  @Benchmark
+  public Boolean mixedReadWrite() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    // Keys are drawn from twice the capacity so around half of the lookups miss
+    final int key = random.nextInt(maxSize * 2);
+    // Roughly 1 in 10 operations is a write which may cause an eviction
+    if (random.nextInt(10) == 0) {
+      return map.put(key, Boolean.TRUE);
+    }
+    return map.get(key);
+  }
+}
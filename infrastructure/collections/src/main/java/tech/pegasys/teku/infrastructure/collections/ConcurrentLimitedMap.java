@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Helper that creates a thread-safe map with a maximum capacity which doesn't require a global
+ * lock.
+ *
+ * <p>Entries are split across independently locked segments. Reads don't take a lock and only
+ * record the access to be applied to the LRU order of the segment on its next write, so eviction is
+ * approximately least recently used and may begin before the map as a whole reaches maxSize.
+ */
+final class ConcurrentLimitedMap<K, V> extends AbstractLimitedMap<K, V> {
+  // The default number of segments used by Guava caches
+  private static final int DEFAULT_CONCURRENCY_LEVEL = 4;
+
+  private final int maxSize;
+  private final int concurrencyLevel;
+
+  public ConcurrentLimitedMap(final int maxSize) {
+    this(maxSize, DEFAULT_CONCURRENCY_LEVEL);
+  }
+
+  /**
+   * @param maxSize The maximum number of elements to keep in the map.
+   * @param concurrencyLevel The number of segments. With a single segment writes contend on one
+   *     lock but eviction only begins once maxSize is exceeded.
+   */
+  ConcurrentLimitedMap(final int maxSize, final int concurrencyLevel) {
+    super(
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .concurrencyLevel(concurrencyLevel)
+            .<K, V>build()
+            .asMap());
+    this.maxSize = maxSize;
+    this.concurrencyLevel = concurrencyLevel;
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public LimitedMap<K, V> copy() {
+    final ConcurrentLimitedMap<K, V> map =
+        new ConcurrentLimitedMap<>(getMaxSize(), concurrencyLevel);
+    map.putAll(delegate);
+    return map;
+  }
+}
@@ -31,6 +31,20 @@ public interface LimitedMap<K, V> extends Map<K, V> {
     return new SynchronizedLimitedMap<>(maxSize);
   }
 
+  /**
+   * Creates a limited map optimised for concurrent access. Unlike {@link #create(int)}, reads don't
+   * contend on a single lock but eviction is only approximately least recently used and may begin
+   * before maxSize is reached. Values must not be null.
+   *
+   * @param maxSize The maximum number of elements to keep in the map.
+   * @param <K> The key type of the map.
+   * @param <V> The value type of the map.
+   * @return A map that will evict elements when the max size is exceeded.
+   */
+  static <K, V> LimitedMap<K, V> createConcurrent(final int maxSize) {
+    return new ConcurrentLimitedMap<>(maxSize);
+  }
+
   /**
    * Creates a limited map using soft references for values. The returned map is safe for concurrent
    * access and evicts the least recently used items.
@@ -32,4 +32,34 @@ public final class LimitedSet {
   public static <T> Set<T> create(final int maxSize) {
     return Collections.newSetFromMap(LimitedMap.create(maxSize));
   }
+
+  /**
+   * Creates a limited set optimised for concurrent access. Unlike {@link #create(int)}, lookups
+   * don't contend on a single lock but eviction is only approximately least recently used.
+   *
+   * @param maxSize The maximum number of elements to keep in the set.
+   * @param <T> The type of object held in the set.
+   * @return A set that will evict elements when the max size is exceeded.
+   */
+  public static <T> Set<T> createConcurrent(final int maxSize) {
+    return Collections.newSetFromMap(LimitedMap.createConcurrent(maxSize));
+  }
+
+  /**
+   * Creates a set for concurrent access which always keeps the {@code retainedSize} most recently
+   * used elements, such as a set of messages that have already been seen.
+   *
+   * <p>The set created by {@link #createConcurrent(int)} is split into segments which each evict
+   * once they reach their share of the capacity, so it may evict recent elements before the set as
+   * a whole is full. This set uses a single segment instead, so lookups still don't take a lock
+   * but additions contend on one lock, as they do for {@link #create(int)}.
+   *
+   * @param retainedSize The number of recently used elements to keep.
+   * @param <T> The type of object held in the set.
+   * @return A set that will evict the least recently used element once it holds more than
+   *     retainedSize elements.
+   */
+  public static <T> Set<T> createConcurrentRetaining(final int retainedSize) {
+    return Collections.newSetFromMap(new ConcurrentLimitedMap<>(retainedSize, 1));
+  }
 }
@@ -15,7 +15,13 @@ package tech.pegasys.teku.infrastructure.collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 public class LimitedMapTest {
@@ -37,4 +43,63 @@ public class LimitedMapTest {
     assertThat(map.containsKey(3)).isTrue();
     assertThat(map.containsKey(1)).isTrue();
   }
+
+  @Test
+  public void createConcurrent_evictLeastRecentlyAccessed() {
+    final Map<Integer, Integer> map = LimitedMap.createConcurrent(2);
+    map.put(1, 1);
+    assertThat(map.size()).isEqualTo(1);
+    map.put(2, 2);
+    assertThat(map.size()).isEqualTo(2);
+
+    // Access element 1 then add a new element that will put us over the limit
+    map.get(1);
+
+    map.put(3, 3);
+    assertThat(map.size()).isEqualTo(2);
+    // Element 2 should have been evicted
+    assertThat(map.containsKey(3)).isTrue();
+    assertThat(map.containsKey(1)).isTrue();
+  }
+
+  @Test
+  public void createConcurrent_shouldNotExceedMaxSizeWithConcurrentUpdates() throws Exception {
+    final int maxSize = 1000;
+    final LimitedMap<Integer, Integer> map = LimitedMap.createConcurrent(maxSize);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> tasks = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        final int offset = thread * 10_000;
+        tasks.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 10_000; i++) {
+                    map.put(offset + i, i);
+                    map.get(offset + i / 2);
+                  }
+                }));
+      }
+      for (Future<?> task : tasks) {
+        task.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(map.size()).isLessThanOrEqualTo(maxSize);
+    assertThat(map.getMaxSize()).isEqualTo(maxSize);
+  }
+
+  @Test
+  public void createConcurrent_copyShouldBeIndependent() {
+    final LimitedMap<Integer, Integer> map = LimitedMap.createConcurrent(10);
+    map.put(1, 1);
+
+    final LimitedMap<Integer, Integer> copy = map.copy();
+    copy.put(2, 2);
+
+    assertThat(copy).containsOnlyKeys(1, 2);
+    assertThat(copy.getMaxSize()).isEqualTo(10);
+    assertThat(map).containsOnlyKeys(1);
+  }
 }
@@ -37,4 +37,36 @@ public class LimitedSetTest {
     assertThat(set.contains(3)).isTrue();
     assertThat(set.contains(1)).isTrue();
   }
+
+  @Test
+  public void createConcurrent_evictLeastRecentlyAccessed() {
+    final Set<Integer> set = LimitedSet.createConcurrent(2);
+    set.add(1);
+    assertThat(set.size()).isEqualTo(1);
+    set.add(2);
+    assertThat(set.size()).isEqualTo(2);
+
+    // Access element 1 then add a new element that will put us over the limit
+    set.add(1);
+
+    set.add(3);
+    assertThat(set.size()).isEqualTo(2);
+    // Element 2 should have been evicted
+    assertThat(set.contains(3)).isTrue();
+    assertThat(set.contains(1)).isTrue();
+  }
+
+  @Test
+  public void createConcurrentRetaining_keepsMostRecentElements() {
+    final int retainedSize = 1000;
+    final Set<Integer> set = LimitedSet.createConcurrentRetaining(retainedSize);
+    for (int i = 0; i < retainedSize * 5; i++) {
+      set.add(i);
+    }
+
+    assertThat(set).hasSize(retainedSize);
+    for (int i = retainedSize * 4; i < retainedSize * 5; i++) {
+      assertThat(set).contains(i);
+    }
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+
+/**
+ * An {@link InputStream} which generates a JSON document as it is read, so large responses can be
+ * sent without first serializing the whole document into memory.
+ *
+ * <p>The document is produced by a sequence of {@link JsonWriter}s which all write to the same
+ * {@link JsonGenerator}. Writers are only run once the output from earlier writers has been read,
+ * so memory use is bounded by the chunk size plus the output of the largest single writer.
+ *
+ * <p>If a writer fails, the stream fails every subsequent read rather than skipping the failed
+ * writer, so a partial document is never presented as complete.
+ */
+public class StreamingJsonInputStream extends InputStream {
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  private final Iterator<? extends JsonWriter> writers;
+  private final Buffer buffer = new Buffer();
+  private final JsonGenerator gen;
+  private final Consumer<Throwable> failureHandler;
+  private int position = 0;
+  private IOException failure;
+
+  public StreamingJsonInputStream(
+      final JsonFactory factory, final Iterator<? extends JsonWriter> writers) throws IOException {
+    this(factory, writers, error -> {});
+  }
+
+  /**
+   * @param factory the factory used to create the generator
+   * @param writers the writers which produce the document
+   * @param failureHandler called once if a writer fails. By then part of the document may already
+   *     have been sent, so this should abort the response rather than complete it normally.
+   */
+  public StreamingJsonInputStream(
+      final JsonFactory factory,
+      final Iterator<? extends JsonWriter> writers,
+      final Consumer<Throwable> failureHandler)
+      throws IOException {
+    this.writers = writers;
+    this.gen = factory.createGenerator(buffer);
+    this.failureHandler = failureHandler;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fillBuffer()) {
+      return -1;
+    }
+    return buffer.getBytes()[position++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fillBuffer()) {
+      return -1;
+    }
+    final int count = Math.min(len, buffer.size() - position);
+    System.arraycopy(buffer.getBytes(), position, b, off, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.size() - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    gen.close();
+  }
+
+  /** @return false if the end of the document has been reached */
+  private boolean fillBuffer() throws IOException {
+    if (failure != null) {
+      throw failure;
+    }
+    while (position >= buffer.size()) {
+      if (gen.isClosed()) {
+        return false;
+      }
+      buffer.reset();
+      position = 0;
+      while (buffer.size() < CHUNK_SIZE && writers.hasNext()) {
+        runWriter(writers.next());
+      }
+      if (!writers.hasNext()) {
+        gen.close();
+      }
+    }
+    return true;
+  }
+
+  private void runWriter(final JsonWriter writer) throws IOException {
+    try {
+      writer.accept(gen);
+      gen.flush();
+    } catch (final IOException | RuntimeException e) {
+      failure = e instanceof IOException ? (IOException) e : new IOException(e);
+      failureHandler.accept(e);
+      throw failure;
+    }
+  }
+
+  private static class Buffer extends ByteArrayOutputStream {
+    private Buffer() {
+      super(CHUNK_SIZE);
+    }
+
+    private byte[] getBytes() {
+      return buf;
+    }
+  }
+}
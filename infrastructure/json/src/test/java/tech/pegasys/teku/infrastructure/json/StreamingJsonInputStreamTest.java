@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+
+class StreamingJsonInputStreamTest {
+
+  @Test
+  void shouldProduceDocumentFromAllWriters() throws Exception {
+    final List<JsonWriter> writers =
+        List.of(
+            gen -> {
+              gen.writeStartObject();
+              gen.writeArrayFieldStart("data");
+            },
+            gen -> gen.writeString("a"),
+            gen -> gen.writeString("b"),
+            gen -> {
+              gen.writeEndArray();
+              gen.writeEndObject();
+            });
+
+    assertThat(readAll(new StreamingJsonInputStream(JsonUtil.FACTORY, writers.iterator())))
+        .isEqualTo("{\"data\":[\"a\",\"b\"]}");
+  }
+
+  @Test
+  void shouldProduceEmptyStreamWhenThereAreNoWriters() throws Exception {
+    final InputStream input =
+        new StreamingJsonInputStream(
+            JsonUtil.FACTORY, Collections.<JsonWriter>emptyList().iterator());
+
+    assertThat(input.read()).isEqualTo(-1);
+    assertThat(input.read(new byte[10], 0, 10)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldOnlyRunWritersAsOutputIsRead() throws Exception {
+    final AtomicInteger writersRun = new AtomicInteger();
+    final List<JsonWriter> writers = new ArrayList<>();
+    writers.add(gen -> gen.writeStartArray());
+    final String value = "x".repeat(1000);
+    for (int i = 0; i < 1000; i++) {
+      writers.add(
+          gen -> {
+            writersRun.incrementAndGet();
+            gen.writeString(value);
+          });
+    }
+    writers.add(gen -> gen.writeEndArray());
+    final InputStream input = new StreamingJsonInputStream(JsonUtil.FACTORY, writers.iterator());
+
+    assertThat(input.read()).isEqualTo('[');
+    // Only enough writers to fill one chunk have been run
+    assertThat(writersRun.get()).isLessThan(100);
+
+    final String result = "[" + readAll(input);
+    assertThat(writersRun.get()).isEqualTo(1000);
+    assertThat(result).startsWith("[\"" + value + "\",").endsWith("\"" + value + "\"]");
+  }
+
+  @Test
+  void shouldPropagateWriterFailures() throws Exception {
+    final List<JsonWriter> writers =
+        List.of(
+            gen -> gen.writeStartArray(),
+            gen -> {
+              throw new IOException("Failed");
+            });
+    final InputStream input = new StreamingJsonInputStream(JsonUtil.FACTORY, writers.iterator());
+
+    assertThatThrownBy(input::read).isInstanceOf(IOException.class).hasMessage("Failed");
+  }
+
+  @Test
+  void shouldNotifyFailureHandlerAndFailSubsequentReads() throws Exception {
+    final RuntimeException error = new IllegalStateException("Failed");
+    final List<JsonWriter> writers =
+        List.of(
+            gen -> gen.writeStartArray(),
+            gen -> gen.writeString("a"),
+            gen -> {
+              throw error;
+            },
+            gen -> gen.writeEndArray());
+    final AtomicReference<Throwable> handledError = new AtomicReference<>();
+    final InputStream input =
+        new StreamingJsonInputStream(
+            JsonUtil.FACTORY,
+            writers.iterator(),
+            failure -> assertThat(handledError.getAndSet(failure)).isNull());
+
+    assertThatThrownBy(input::read).isInstanceOf(IOException.class).hasCause(error);
+    assertThat(handledError).hasValue(error);
+
+    // Output from writers before the failure must not be returned as if the document completed
+    assertThatThrownBy(input::readAllBytes).isInstanceOf(IOException.class).hasCause(error);
+  }
+
+  private String readAll(final InputStream input) throws IOException {
+    return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.SynchronizedHistogram;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recording throughput when a single histogram is shared between threads, comparing the
+ * previous design of a {@link SynchronizedHistogram} looked up by label values on every recording
+ * with {@link MetricsHistogram}'s per-thread recorders.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class MetricsHistogramBenchmark {
+  private static final String LABEL = "label";
+
+  private final Map<List<String>, SynchronizedHistogram> synchronizedHistograms =
+      new ConcurrentHashMap<>();
+
+  private final MetricsHistogram metricsHistogram =
+      MetricsHistogram.create(
+          TekuMetricCategory.BEACON,
+          // Histograms only record when metrics are exported via Prometheus
+          new PrometheusMetricsSystem(Set.of(TekuMetricCategory.BEACON), true),
+          "benchmark",
+          "Benchmark histogram",
+          3,
+          List.of(LABEL));
+
+  private final MetricsHistogram.LabelledHistogram labelledHistogram =
+      metricsHistogram.labels(LABEL);
+
+  @Benchmark
+  public void synchronizedHistogram() {
+    synchronizedHistograms
+        .computeIfAbsent(Arrays.asList(LABEL), __ -> new SynchronizedHistogram(3))
+        .recordValue(nextValue());
+  }
+
+  @Benchmark
+  public void recorderWithLabelLookup() {
+    metricsHistogram.recordValue(nextValue(), LABEL);
+  }
+
+  @Benchmark
+  public void recorderWithBoundLabels() {
+    labelledHistogram.recordValue(nextValue());
+  }
+
+  private static long nextValue() {
+    return ThreadLocalRandom.current().nextLong(1, 10_000);
+  }
+}
@@ -19,13 +19,17 @@ import io.prometheus.client.Collector;
 import io.prometheus.client.Collector.MetricFamilySamples;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.HdrHistogram.SynchronizedHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
@@ -35,7 +39,13 @@ import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
  * values actually received. Only records values when the metrics system is a {@link
  * PrometheusMetricsSystem}.
  *
- * <p>Backing is an HdrHistogram.
+ * <p>Backing is an HdrHistogram. Each recording thread writes to its own {@link
+ * SingleWriterRecorder}, so recording takes no locks and does not allocate. The per-thread interval
+ * histograms are merged into the reported totals when metrics are scraped. Recorders of threads
+ * that have terminated are merged and released on each scrape and whenever a new recorder is
+ * created, so pooled threads being replaced doesn't accumulate recorders when metrics are never
+ * scraped. Use {@link #labels(String...)} to bind label values once and avoid looking them up on
+ * every recording.
  *
  * @see <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram docs</a>
  */
@@ -46,16 +56,27 @@ public class MetricsHistogram {
   static final String LABEL_99 = "0.99";
   static final String LABEL_1 = "1";
 
-  private final Map<List<String>, SynchronizedHistogram> histogramMap = new ConcurrentHashMap<>();
+  private final Map<List<String>, LabelledHistogram> histogramMap = new ConcurrentHashMap<>();
   private final List<String> labels;
   private final Optional<Long> highestTrackableValue;
   private final int numberOfSignificantValueDigits;
+  private final boolean recordingEnabled;
+  private volatile LabelledHistogram unlabelledHistogram;
 
   protected MetricsHistogram(
       final int numberOfSignificantValueDigits,
       final Optional<Long> highestTrackableValue,
       final List<String> customLabelsNames) {
+    this(numberOfSignificantValueDigits, highestTrackableValue, customLabelsNames, true);
+  }
+
+  private MetricsHistogram(
+      final int numberOfSignificantValueDigits,
+      final Optional<Long> highestTrackableValue,
+      final List<String> customLabelsNames,
+      final boolean recordingEnabled) {
     this.numberOfSignificantValueDigits = numberOfSignificantValueDigits;
+    this.recordingEnabled = recordingEnabled;
     this.highestTrackableValue = highestTrackableValue;
     this.labels =
         Stream.concat(customLabelsNames.stream(), Stream.of(QUANTILE_LABEL))
@@ -134,10 +155,14 @@ public class MetricsHistogram {
       final Optional<Long> highestTrackableValue,
       final List<String> customLabelsNames) {
 
+    final boolean isPrometheus = metricsSystem instanceof PrometheusMetricsSystem;
     final MetricsHistogram histogram =
         new MetricsHistogram(
-            numberOfSignificantValueDigits, highestTrackableValue, customLabelsNames);
-    if (metricsSystem instanceof PrometheusMetricsSystem) {
+            numberOfSignificantValueDigits,
+            highestTrackableValue,
+            customLabelsNames,
+            isPrometheus);
+    if (isPrometheus) {
       ((PrometheusMetricsSystem) metricsSystem)
           .addCollector(category, () -> histogram.histogramToCollector(category, name, help));
     }
@@ -145,23 +170,34 @@ public class MetricsHistogram {
   }
 
   public void recordValue(final long value, final String... customLabelValues) {
+    labels(customLabelValues).recordValue(value);
+  }
+
+  /**
+   * Returns the histogram for the given label values, which can be kept and used to record values
+   * without looking up the labels each time.
+   *
+   * @param customLabelValues the values for each of the custom labels
+   * @return the histogram for the label values
+   */
+  public LabelledHistogram labels(final String... customLabelValues) {
+    if (customLabelValues.length == 0) {
+      LabelledHistogram histogram = unlabelledHistogram;
+      if (histogram == null) {
+        histogram = getOrCreateHistogram(customLabelValues);
+        unlabelledHistogram = histogram;
+      }
+      return histogram;
+    }
+    return getOrCreateHistogram(customLabelValues);
+  }
+
+  private LabelledHistogram getOrCreateHistogram(final String... customLabelValues) {
     checkArgument(
         labels.size() == customLabelValues.length + 1,
         "customLabelsNames and customLabelsValues must have the same size");
-
-    final SynchronizedHistogram histogram =
-        histogramMap.computeIfAbsent(
-            Arrays.asList(customLabelValues),
-            __ ->
-                highestTrackableValue
-                    .map(aLong -> new SynchronizedHistogram(aLong, numberOfSignificantValueDigits))
-                    .orElseGet(() -> new SynchronizedHistogram(numberOfSignificantValueDigits)));
-
-    if (histogram.isAutoResize()) {
-      histogram.recordValue(value);
-    } else {
-      histogram.recordValue(Math.min(histogram.getHighestTrackableValue(), value));
-    }
+    return histogramMap.computeIfAbsent(
+        Arrays.asList(customLabelValues), __ -> new LabelledHistogram());
   }
 
   protected Collector histogramToCollector(
@@ -175,6 +211,7 @@ public class MetricsHistogram {
 
         final List<MetricFamilySamples.Sample> samples =
             histogramMap.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
                 .map(
                     labelsValuesToHistogram ->
                         List.of(
@@ -216,7 +253,7 @@ public class MetricsHistogram {
       final String quantileLabelValue,
       final List<String> labelValues,
       double percentile,
-      final SynchronizedHistogram histogram) {
+      final Histogram histogram) {
     return new MetricFamilySamples.Sample(
         metricName,
         labels,
@@ -224,4 +261,82 @@ public class MetricsHistogram {
             .collect(Collectors.toUnmodifiableList()),
         histogram.getValueAtPercentile(percentile));
   }
+
+  /** The histogram for a single set of label values. */
+  public class LabelledHistogram {
+    private final Queue<ThreadRecorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<SingleWriterRecorder> threadRecorder =
+        ThreadLocal.withInitial(this::createRecorder);
+    private final Histogram intervalHistogram = createHistogram();
+    private final Histogram totalHistogram = createHistogram();
+    private final long maxValue = highestTrackableValue.orElse(Long.MAX_VALUE);
+
+    private LabelledHistogram() {}
+
+    public void recordValue(final long value) {
+      if (!recordingEnabled) {
+        // Nothing would ever read the values
+        return;
+      }
+      threadRecorder.get().recordValue(Math.min(maxValue, value));
+    }
+
+    private SingleWriterRecorder createRecorder() {
+      final SingleWriterRecorder recorder =
+          highestTrackableValue
+              .map(highest -> new SingleWriterRecorder(highest, numberOfSignificantValueDigits))
+              .orElseGet(() -> new SingleWriterRecorder(numberOfSignificantValueDigits));
+      mergeRecorders(true);
+      recorders.add(new ThreadRecorder(Thread.currentThread(), recorder));
+      return recorder;
+    }
+
+    private Histogram createHistogram() {
+      return highestTrackableValue
+          .map(highest -> new Histogram(highest, numberOfSignificantValueDigits))
+          .orElseGet(() -> new Histogram(numberOfSignificantValueDigits));
+    }
+
+    private synchronized Histogram snapshot() {
+      mergeRecorders(false);
+      return totalHistogram.copy();
+    }
+
+    /**
+     * Merges the values recorded since the last merge into the totals. Recorders of terminated
+     * threads can't receive further values so are dropped once merged.
+     *
+     * @param terminatedOnly if true, only the recorders of terminated threads are merged
+     */
+    private synchronized void mergeRecorders(final boolean terminatedOnly) {
+      final Iterator<ThreadRecorder> iterator = recorders.iterator();
+      while (iterator.hasNext()) {
+        final ThreadRecorder entry = iterator.next();
+        // Check before merging so values recorded just before the thread terminated are included
+        final boolean ownerTerminated = !entry.owner.isAlive();
+        if (terminatedOnly && !ownerTerminated) {
+          continue;
+        }
+        entry.recorder.getIntervalHistogramInto(intervalHistogram);
+        totalHistogram.add(intervalHistogram);
+        if (ownerTerminated) {
+          iterator.remove();
+        }
+      }
+    }
+
+    int getRecorderCount() {
+      return recorders.size();
+    }
+  }
+
+  private static class ThreadRecorder {
+    private final Thread owner;
+    private final SingleWriterRecorder recorder;
+
+    private ThreadRecorder(final Thread owner, final SingleWriterRecorder recorder) {
+      this.owner = owner;
+      this.recorder = recorder;
+    }
+  }
 }
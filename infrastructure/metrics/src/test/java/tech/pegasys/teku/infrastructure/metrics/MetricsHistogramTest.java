@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.Test;
@@ -74,6 +75,129 @@ class MetricsHistogramTest {
             entry(key(List.of(MetricsHistogram.LABEL_1)), 80d));
   }
 
+  @Test
+  void shouldMergeValuesRecordedOnMultipleThreads() throws Exception {
+    final MetricsHistogram histogram =
+        MetricsHistogram.create(CATEGORY, metricsSystem, "test", "Test help", 3, List.of());
+    final MetricsHistogram.LabelledHistogram labelledHistogram = histogram.labels();
+
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final int offset = t * 25;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 1; i <= 25; i++) {
+                  labelledHistogram.recordValue(offset + i);
+                }
+              }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(getValues())
+        .containsOnly(
+            entry(key(List.of(MetricsHistogram.LABEL_50)), 50d),
+            entry(key(List.of(MetricsHistogram.LABEL_95)), 95d),
+            entry(key(List.of(MetricsHistogram.LABEL_99)), 99d),
+            entry(key(List.of(MetricsHistogram.LABEL_1)), 100d));
+  }
+
+  @Test
+  void shouldReleaseRecordersOfTerminatedThreads() throws Exception {
+    final MetricsHistogram histogram =
+        MetricsHistogram.create(CATEGORY, metricsSystem, "test", "Test help", 3, List.of());
+    final MetricsHistogram.LabelledHistogram labelledHistogram = histogram.labels();
+
+    labelledHistogram.recordValue(1);
+    final Thread thread =
+        new Thread(
+            () -> {
+              for (int i = 2; i <= 100; i++) {
+                labelledHistogram.recordValue(i);
+              }
+            });
+    thread.start();
+    thread.join();
+    assertThat(labelledHistogram.getRecorderCount()).isEqualTo(2);
+
+    getValues();
+    assertThat(labelledHistogram.getRecorderCount()).isEqualTo(1);
+    assertThat(getValues())
+        .containsOnly(
+            entry(key(List.of(MetricsHistogram.LABEL_50)), 50d),
+            entry(key(List.of(MetricsHistogram.LABEL_95)), 95d),
+            entry(key(List.of(MetricsHistogram.LABEL_99)), 99d),
+            entry(key(List.of(MetricsHistogram.LABEL_1)), 100d));
+  }
+
+  @Test
+  void shouldReleaseRecordersOfTerminatedThreadsWhenNewRecorderIsCreated() throws Exception {
+    final MetricsHistogram histogram =
+        MetricsHistogram.create(CATEGORY, metricsSystem, "test", "Test help", 3, List.of());
+    final MetricsHistogram.LabelledHistogram labelledHistogram = histogram.labels();
+
+    for (int i = 1; i <= 3; i++) {
+      final int value = i;
+      final Thread thread = new Thread(() -> labelledHistogram.recordValue(value));
+      thread.start();
+      thread.join();
+    }
+    // Each new thread released the recorder of the previous, terminated, thread
+    assertThat(labelledHistogram.getRecorderCount()).isEqualTo(1);
+
+    assertThat(getValues())
+        .containsOnly(
+            entry(key(List.of(MetricsHistogram.LABEL_50)), 2d),
+            entry(key(List.of(MetricsHistogram.LABEL_95)), 3d),
+            entry(key(List.of(MetricsHistogram.LABEL_99)), 3d),
+            entry(key(List.of(MetricsHistogram.LABEL_1)), 3d));
+  }
+
+  @Test
+  void shouldNotCreateRecordersWhenMetricsSystemIsNotPrometheus() {
+    final MetricsHistogram histogram =
+        MetricsHistogram.create(
+            CATEGORY, new NoOpMetricsSystem(), "test", "Test help", 3, List.of());
+    final MetricsHistogram.LabelledHistogram labelledHistogram = histogram.labels();
+
+    labelledHistogram.recordValue(1);
+
+    assertThat(labelledHistogram.getRecorderCount()).isZero();
+  }
+
+  @Test
+  void shouldKeepValuesFromPreviousScrapes() {
+    final MetricsHistogram histogram =
+        MetricsHistogram.create(CATEGORY, metricsSystem, "test", "Test help", 3, List.of());
+
+    for (int i = 1; i <= 50; i++) {
+      histogram.recordValue(i);
+    }
+    getValues();
+    for (int i = 51; i <= 100; i++) {
+      histogram.recordValue(i);
+    }
+
+    assertThat(getValues())
+        .containsOnly(
+            entry(key(List.of(MetricsHistogram.LABEL_50)), 50d),
+            entry(key(List.of(MetricsHistogram.LABEL_95)), 95d),
+            entry(key(List.of(MetricsHistogram.LABEL_99)), 99d),
+            entry(key(List.of(MetricsHistogram.LABEL_1)), 100d));
+  }
+
+  private Map<List<String>, Object> getValues() {
+    return metricsSystem
+        .streamObservations()
+        .filter(ob -> ob.getCategory() == CATEGORY)
+        .collect(Collectors.toMap(Observation::getLabels, Observation::getValue));
+  }
+
   private static List<String> key(final List<String> labelValues) {
     final List<String> key = new ArrayList<>();
     key.add(MetricsHistogram.QUANTILE_LABEL);
@@ -51,6 +51,14 @@ public interface SszData extends Merkleizable, SimpleOffsetSerializable {
     return getBackingNode().hashTreeRoot();
   }
 
+  /**
+   * Returns the exact size of this structure SSZ serialization, so that a buffer can be allocated
+   * up front for {@link #sszSerialize(SszWriter)}
+   */
+  default int getSszSize() {
+    return getSchema().getSszSize(getBackingNode());
+  }
+
   @Override
   default Bytes sszSerialize() {
     return getSchema().sszSerializeTree(getBackingNode());
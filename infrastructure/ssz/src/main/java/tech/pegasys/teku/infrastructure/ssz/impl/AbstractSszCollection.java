@@ -19,8 +19,6 @@ import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszCollectionSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszCompositeSchema;
-import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchema;
-import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
 public abstract class AbstractSszCollection<SszElementT extends SszData>
@@ -46,21 +44,8 @@ public abstract class AbstractSszCollection<SszElementT extends SszData>
     return (SszCollectionSchema<SszElementT, ?>) super.getSchema();
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   protected SszElementT getImpl(int index) {
-    SszCollectionSchema<SszElementT, ?> type = this.getSchema();
-    SszSchema<?> elementType = type.getElementSchema();
-    if (elementType.isPrimitive()) {
-      // several primitive values could be packed to a single leaf node
-      SszPrimitiveSchema<?, ?> primitiveElementType = (SszPrimitiveSchema<?, ?>) elementType;
-      TreeNode node =
-          getBackingNode().get(type.getChildGeneralizedIndex(index / type.getElementsPerChunk()));
-      return (SszElementT)
-          primitiveElementType.createFromPackedNode(node, index % type.getElementsPerChunk());
-    } else {
-      TreeNode node = getBackingNode().get(type.getChildGeneralizedIndex(index));
-      return (SszElementT) elementType.createFromBackingNode(node);
-    }
+    return getSchema().createElementFromBackingNode(getBackingNode(), index);
   }
 }
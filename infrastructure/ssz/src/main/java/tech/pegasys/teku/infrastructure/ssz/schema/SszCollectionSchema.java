@@ -31,6 +31,27 @@ public interface SszCollectionSchema<
 
   SszSchema<SszElementT> getElementSchema();
 
+  /**
+   * Creates the element at {@code index} from the backing node of a collection of this type. Unlike
+   * {@link SszCollection#get(int)}, the created element isn't cached by the collection view.
+   */
+  @SuppressWarnings("unchecked")
+  default SszElementT createElementFromBackingNode(final TreeNode collectionNode, final int index) {
+    final SszSchema<SszElementT> elementSchema = getElementSchema();
+    if (elementSchema.isPrimitive()) {
+      // several primitive values could be packed to a single leaf node
+      final SszPrimitiveSchema<?, ?> primitiveElementSchema =
+          (SszPrimitiveSchema<?, ?>) elementSchema;
+      final TreeNode node =
+          collectionNode.get(getChildGeneralizedIndex(index / getElementsPerChunk()));
+      return (SszElementT)
+          primitiveElementSchema.createFromPackedNode(node, index % getElementsPerChunk());
+    } else {
+      final TreeNode node = collectionNode.get(getChildGeneralizedIndex(index));
+      return elementSchema.createFromBackingNode(node);
+    }
+  }
+
   @Override
   default void storeChildNode(
       TreeNodeStore nodeStore, int maxBranchLevelsSkipped, long gIndex, TreeNode node) {
@@ -79,6 +79,28 @@ public interface SszSchema<SszDataT extends SszData> extends SszType {
     return sszDeserialize(SszReader.fromBytes(ssz));
   }
 
+  /**
+   * Deserializes the same as {@link #sszDeserializeTree(SszReader)} but may defer deserializing
+   * nested composite values until they are first accessed. The structure is only validated as far
+   * as it has been deserialized, so an invalid nested value results in a {@link
+   * SszDeserializeException} when it is accessed rather than from this method.
+   */
+  default TreeNode sszDeserializeLazyTree(SszReader reader) throws SszDeserializeException {
+    return sszDeserializeTree(reader);
+  }
+
+  /**
+   * Deserializes a value, deferring the deserialization of nested composite values until they are
+   * first accessed. Useful when only a few fields may be read before the value is discarded.
+   *
+   * @see #sszDeserializeLazyTree(SszReader)
+   */
+  default SszDataT sszDeserializeLazy(Bytes ssz) throws SszDeserializeException {
+    try (SszReader reader = SszReader.fromBytes(ssz)) {
+      return createFromBackingNode(sszDeserializeLazyTree(reader));
+    }
+  }
+
   DeserializableTypeDefinition<SszDataT> getJsonTypeDefinition();
 
   default void jsonSerialize(final SszDataT view, final JsonGenerator gen) throws IOException {
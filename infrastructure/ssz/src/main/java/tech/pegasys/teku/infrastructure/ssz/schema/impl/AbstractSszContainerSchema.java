@@ -28,11 +28,13 @@ import java.util.Queue;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszContainer;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszFieldName;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
 import tech.pegasys.teku.infrastructure.ssz.schema.json.SszContainerTypeDefinition;
@@ -40,6 +42,8 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.DeferredBranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
@@ -273,6 +277,19 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public TreeNode sszDeserializeTree(SszReader reader) {
+    return deserializeTree(reader, false);
+  }
+
+  /**
+   * Only deserializes the fixed part of this container and the offsets of variable size fields up
+   * front. Fields which are lists or containers are deserialized when first accessed.
+   */
+  @Override
+  public TreeNode sszDeserializeLazyTree(SszReader reader) {
+    return deserializeTree(reader, true);
+  }
+
+  private TreeNode deserializeTree(final SszReader reader, final boolean lazy) {
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
     Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
@@ -280,10 +297,8 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
-        }
+        fixedChildrenSubtrees.add(
+            deserializeChild(childType, reader, childType.getSszFixedPartSize(), lazy));
       } else {
         int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
         variableChildrenOffsets.add(childOffset);
@@ -320,16 +335,39 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       if (childType.isFixedSize()) {
         childrenSubtrees.add(fixedChildrenSubtrees.remove());
       } else {
-        try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
-        }
+        childrenSubtrees.add(
+            deserializeChild(childType, reader, variableChildrenSizes.remove(), lazy));
       }
     }
 
     return TreeUtil.createTree(childrenSubtrees);
   }
 
+  private static TreeNode deserializeChild(
+      final SszSchema<?> childType, final SszReader reader, final int size, final boolean lazy) {
+    if (lazy && isDeferrable(childType)) {
+      final Bytes childSsz = reader.read(size);
+      return DeferredBranchNode.create(
+          () -> {
+            try (SszReader sszReader = SszReader.fromBytes(childSsz)) {
+              return (BranchNode) childType.sszDeserializeLazyTree(sszReader);
+            }
+          });
+    }
+    try (SszReader sszReader = reader.slice(size)) {
+      return lazy
+          ? childType.sszDeserializeLazyTree(sszReader)
+          : childType.sszDeserializeTree(sszReader);
+    }
+  }
+
+  /** Only types whose tree always has a {@link BranchNode} at the root can be deferred. */
+  private static boolean isDeferrable(final SszSchema<?> schema) {
+    return schema instanceof SszListSchema
+        || (schema instanceof SszContainerSchema
+            && ((SszContainerSchema<?>) schema).getFieldsCount() > 1);
+  }
+
   @Override
   public SszLengthBounds getSszLengthBounds() {
     return sszLengthBounds.get();
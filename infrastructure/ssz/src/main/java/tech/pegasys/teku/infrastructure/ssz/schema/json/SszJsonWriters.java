@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.infrastructure.json.JsonUtil.JsonWriter;
+import tech.pegasys.teku.infrastructure.json.types.SerializableArrayTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszCollection;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszCollectionSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+
+/**
+ * Splits the JSON serialization of SSZ data into a sequence of small {@link JsonWriter}s so that
+ * large objects, such as a full beacon state, can be written incrementally.
+ */
+public class SszJsonWriters {
+
+  /**
+   * Creates writers that produce the same JSON as the container's type definition. Each element of
+   * a list or vector field is written by a separate writer and is created from the backing tree
+   * only when it is written, so elements aren't retained in the container's view caches.
+   *
+   * @param container the container to serialize
+   * @return the writers to run, in order
+   */
+  public static Iterator<JsonWriter> containerWriters(final SszContainer container) {
+    return containerWriters(container, Map.of());
+  }
+
+  /**
+   * Creates writers for the container, using the supplied writers for the values of the named
+   * fields instead of their type definition. This allows callers to keep the output compatible with
+   * an existing representation for fields where it differs from the type definition.
+   *
+   * @param container the container to serialize
+   * @param fieldValueWriters writers for the values of fields, keyed by field name
+   * @return the writers to run, in order
+   */
+  public static Iterator<JsonWriter> containerWriters(
+      final SszContainer container, final Map<String, JsonWriter> fieldValueWriters) {
+    final SszContainerSchema<?> schema = container.getSchema();
+    final List<String> fieldNames = schema.getFieldNames();
+    final List<Iterator<JsonWriter>> writers = new ArrayList<>();
+    writers.add(Iterators.singletonIterator(JsonGenerator::writeStartObject));
+    for (int fieldIndex = 0; fieldIndex < fieldNames.size(); fieldIndex++) {
+      final String fieldName = fieldNames.get(fieldIndex);
+      final SszSchema<?> fieldSchema = schema.getChildSchema(fieldIndex);
+      final JsonWriter fieldValueWriter = fieldValueWriters.get(fieldName);
+      if (fieldValueWriter != null) {
+        writers.add(
+            Iterators.singletonIterator(
+                gen -> {
+                  gen.writeFieldName(fieldName);
+                  fieldValueWriter.accept(gen);
+                }));
+      } else {
+        writers.add(fieldWriters(fieldName, fieldSchema, container.get(fieldIndex)));
+      }
+    }
+    writers.add(Iterators.singletonIterator(JsonGenerator::writeEndObject));
+    return Iterators.concat(writers.iterator());
+  }
+
+  private static Iterator<JsonWriter> fieldWriters(
+      final String fieldName, final SszSchema<?> fieldSchema, final SszData value) {
+    if (value instanceof SszCollection
+        && fieldSchema.getJsonTypeDefinition() instanceof SerializableArrayTypeDefinition) {
+      return Iterators.concat(
+          Iterators.singletonIterator(
+              gen -> {
+                gen.writeFieldName(fieldName);
+                gen.writeStartArray();
+              }),
+          elementWriters((SszCollection<?>) value),
+          Iterators.singletonIterator(JsonGenerator::writeEndArray));
+    }
+    return Iterators.singletonIterator(
+        gen -> {
+          gen.writeFieldName(fieldName);
+          serialize(fieldSchema, value, gen);
+        });
+  }
+
+  private static <T extends SszData> Iterator<JsonWriter> elementWriters(
+      final SszCollection<T> collection) {
+    final SszCollectionSchema<T, ?> schema = collection.getSchema();
+    final SszSchema<T> elementSchema = schema.getElementSchema();
+    return IntStream.range(0, collection.size())
+        .<JsonWriter>mapToObj(
+            index ->
+                gen ->
+                    elementSchema.jsonSerialize(
+                        schema.createElementFromBackingNode(collection.getBackingNode(), index),
+                        gen))
+        .iterator();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends SszData> void serialize(
+      final SszSchema<T> schema, final SszData value, final JsonGenerator gen) throws IOException {
+    schema.jsonSerialize((T) value, gen);
+  }
+}
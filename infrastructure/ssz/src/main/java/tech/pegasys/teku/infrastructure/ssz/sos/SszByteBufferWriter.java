@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link SszWriter} which writes directly to a {@link ByteBuffer}, starting at its current
+ * position. The buffer may be a heap or a direct one, which allows serializing straight into
+ * (pooled) network or native buffers without an intermediate byte array.
+ *
+ * <p>The buffer should be sized with {@link
+ * tech.pegasys.teku.infrastructure.ssz.SszData#getSszSize()}, writing beyond its limit fails with
+ * {@link java.nio.BufferOverflowException}
+ */
+public class SszByteBufferWriter implements SszWriter {
+  private final ByteBuffer buffer;
+  private int size = 0;
+
+  public SszByteBufferWriter(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) {
+    buffer.put(bytes, offset, length);
+    size += length;
+  }
+
+  public ByteBuffer getBuffer() {
+    return buffer;
+  }
+
+  public int getLength() {
+    return size;
+  }
+}
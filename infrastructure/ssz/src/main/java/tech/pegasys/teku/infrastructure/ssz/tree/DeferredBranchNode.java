@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.security.MessageDigest;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Branch node which only creates its subtree the first time the node is accessed. All operations
+ * are delegated to the loaded node.
+ *
+ * <p>Used to defer deserializing parts of an SSZ structure until they are actually read or hashed.
+ * Any exception thrown by the loader is thrown from whichever operation first accessed the node.
+ */
+public class DeferredBranchNode implements BranchNode {
+
+  // Cleared once loaded so the source of the node (e.g. the message bytes) can be collected
+  private Supplier<BranchNode> loader;
+  private volatile BranchNode loadedNode;
+
+  private DeferredBranchNode(final Supplier<BranchNode> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * @param loader supplies the node to delegate to. Called at most once unless it throws an
+   *     exception.
+   */
+  public static DeferredBranchNode create(final Supplier<BranchNode> loader) {
+    return new DeferredBranchNode(loader);
+  }
+
+  @VisibleForTesting
+  public boolean isLoaded() {
+    return loadedNode != null;
+  }
+
+  private BranchNode getLoadedNode() {
+    BranchNode node = loadedNode;
+    if (node == null) {
+      synchronized (this) {
+        node = loadedNode;
+        if (node == null) {
+          node = loader.get();
+          loadedNode = node;
+          loader = null;
+        }
+      }
+    }
+    return node;
+  }
+
+  @NotNull
+  @Override
+  public TreeNode left() {
+    return getLoadedNode().left();
+  }
+
+  @NotNull
+  @Override
+  public TreeNode right() {
+    return getLoadedNode().right();
+  }
+
+  @Override
+  public BranchNode rebind(final boolean left, final TreeNode newNode) {
+    return getLoadedNode().rebind(left, newNode);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    return getLoadedNode().hashTreeRoot();
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot(final MessageDigest messageDigest) {
+    return getLoadedNode().hashTreeRoot(messageDigest);
+  }
+
+  @NotNull
+  @Override
+  public TreeNode get(final long target) {
+    if (GIndexUtil.gIdxIsSelf(target)) {
+      return this;
+    }
+    return getLoadedNode().get(target);
+  }
+
+  @Override
+  public boolean iterate(
+      final long thisGeneralizedIndex,
+      final long startGeneralizedIndex,
+      final TreeVisitor visitor) {
+    return getLoadedNode().iterate(thisGeneralizedIndex, startGeneralizedIndex, visitor);
+  }
+
+  @Override
+  public TreeNode updated(final long target, final Function<TreeNode, TreeNode> nodeUpdater) {
+    return getLoadedNode().updated(target, nodeUpdater);
+  }
+
+  @Override
+  public TreeNode updated(final TreeUpdates newNodes) {
+    return getLoadedNode().updated(newNodes);
+  }
+
+  @Override
+  public String toString() {
+    return isLoaded() ? loadedNode.toString() : "(deferred)";
+  }
+}
@@ -41,19 +41,33 @@ import tech.pegasys.teku.infrastructure.ssz.tree.SszNodeTemplate.Location;
  * <p>This node favors memory efficiency over update performance and thus is the best choice for
  * rarely updated and space consuming structures (e.g. Eth2 <code>BeaconState.validators</code>
  * list)
+ *
+ * <p>To limit the cost of updates, the hashes of each group of 16 consecutive elements are kept
+ * once calculated. A node created by {@link #updated(TreeUpdates)} inherits the group hashes of the
+ * original node except for the groups containing updated elements, so only those groups are
+ * re-hashed.
  */
 public class SszSuperNode implements TreeNode, LeafDataNode {
   private static final TreeNode DEFAULT_NODE = LeafNode.EMPTY_LEAF;
+  private static final int GROUP_HEIGHT = 4;
 
   private final int depth;
   private final SszNodeTemplate elementTemplate;
   private final Bytes ssz;
   private volatile Bytes32 cachedHash;
+  // Hash of each group of elements, null entries are yet to be calculated
+  private volatile Bytes32[] groupHashes;
 
   public SszSuperNode(int depth, SszNodeTemplate elementTemplate, Bytes ssz) {
+    this(depth, elementTemplate, ssz, null);
+  }
+
+  private SszSuperNode(
+      int depth, SszNodeTemplate elementTemplate, Bytes ssz, Bytes32[] groupHashes) {
     this.depth = depth;
     this.elementTemplate = elementTemplate;
     this.ssz = ssz;
+    this.groupHashes = groupHashes;
     checkArgument(ssz.size() % elementTemplate.getSszLength() == 0);
     checkArgument(getElementsCount() <= getMaxElements());
   }
@@ -88,7 +102,34 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
   }
 
   private Bytes32 calcHashTreeRoot(final MessageDigest messageDigest) {
-    return hashTreeRoot(0, 0, messageDigest);
+    if (depth <= GROUP_HEIGHT) {
+      return hashTreeRoot(0, 0, messageDigest);
+    }
+    final int groupDepth = depth - GROUP_HEIGHT;
+    final int groupSszLength = elementTemplate.getSszLength() << GROUP_HEIGHT;
+    final Bytes32[] knownHashes = groupHashes;
+    final Bytes32[] hashes =
+        knownHashes != null ? knownHashes.clone() : new Bytes32[1 << groupDepth];
+    for (int i = 0; i < hashes.length; i++) {
+      if (hashes[i] == null) {
+        hashes[i] = hashTreeRoot(groupDepth, i * groupSszLength, messageDigest);
+      }
+    }
+    groupHashes = hashes;
+    return hashGroups(hashes, 0, hashes.length, messageDigest);
+  }
+
+  private static Bytes32 hashGroups(
+      final Bytes32[] hashes, final int from, final int to, final MessageDigest messageDigest) {
+    if (to - from == 1) {
+      return hashes[from];
+    }
+    final int middle = (from + to) >>> 1;
+    final Bytes32 leftRoot = hashGroups(hashes, from, middle, messageDigest);
+    final Bytes32 rightRoot = hashGroups(hashes, middle, to, messageDigest);
+    leftRoot.update(messageDigest);
+    rightRoot.update(messageDigest);
+    return Bytes32.wrap(messageDigest.digest());
   }
 
   private Bytes32 hashTreeRoot(
@@ -159,6 +200,9 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
             ? ssz
             : Bytes.wrap(ssz, Bytes.wrap(new byte[newSszSize - ssz.size()]));
     MutableBytes mutableCopy = updatedSizeSsz.mutableCopy();
+    // Groups not containing any updated element keep their hash
+    final Bytes32[] knownHashes = groupHashes;
+    final Bytes32[] updatedGroupHashes = knownHashes != null ? knownHashes.clone() : null;
     for (int i = 0; i < newNodes.size(); i++) {
       long updateGIndex = newNodes.getRelativeGIndex(i);
       int childIndex = GIndexUtil.gIdxGetChildIndex(updateGIndex, depth);
@@ -167,8 +211,11 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
       MutableBytes childMutableSlice =
           mutableCopy.mutableSlice(childOffset, elementTemplate.getSszLength());
       elementTemplate.update(childGIndex, newNodes.getNode(i), childMutableSlice);
+      if (updatedGroupHashes != null) {
+        updatedGroupHashes[childIndex >>> GROUP_HEIGHT] = null;
+      }
     }
-    return new SszSuperNode(depth, elementTemplate, mutableCopy);
+    return new SszSuperNode(depth, elementTemplate, mutableCopy, updatedGroupHashes);
   }
 
   @Override
@@ -24,11 +24,16 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.ImmutableSubContainerImpl;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableContainer;
 import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableSubContainer;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchemaTest;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.tree.DeferredBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszContainerTest implements SszCompositeTestBase, SszMutableRefCompositeTestBase {
@@ -46,6 +51,54 @@ public class SszContainerTest implements SszCompositeTestBase, SszMutableRefComp
                     largeListsGen.randomData(schema)));
   }
 
+  @Test
+  public void sszDeserializeLazy_shouldNotDeserializeNestedFieldsUntilAccessed() {
+    final VariableSizeContainer container =
+        new RandomSszDataGenerator().randomData(VariableSizeContainer.SSZ_SCHEMA);
+
+    final VariableSizeContainer lazyContainer =
+        VariableSizeContainer.SSZ_SCHEMA.sszDeserializeLazy(container.sszSerialize());
+
+    final DeferredBranchNode subContainerNode = getDeferredField(lazyContainer, 0);
+    final DeferredBranchNode listNode = getDeferredField(lazyContainer, 1);
+    assertThat(lazyContainer.get(2)).isEqualTo(container.get(2));
+    assertThat(subContainerNode.isLoaded()).isFalse();
+    assertThat(listNode.isLoaded()).isFalse();
+
+    assertThat(((TestSubContainer) lazyContainer.get(0)).getLong1())
+        .isEqualTo(((TestSubContainer) container.get(0)).getLong1());
+    assertThat(subContainerNode.isLoaded()).isTrue();
+    assertThat(listNode.isLoaded()).isFalse();
+
+    assertThat(lazyContainer.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+    assertThat(listNode.isLoaded()).isTrue();
+  }
+
+  @Test
+  public void sszDeserializeLazy_shouldFailWhenInvalidNestedFieldIsAccessed() {
+    final VariableSizeContainer container =
+        new RandomSszDataGenerator().randomData(VariableSizeContainer.SSZ_SCHEMA);
+    // Append a partial element to the list which is the last variable size field
+    final Bytes invalidSsz = Bytes.concatenate(container.sszSerialize(), Bytes.of(1, 2, 3));
+
+    assertThatExceptionOfType(SszDeserializeException.class)
+        .isThrownBy(() -> VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(invalidSsz));
+
+    final VariableSizeContainer lazyContainer =
+        VariableSizeContainer.SSZ_SCHEMA.sszDeserializeLazy(invalidSsz);
+    assertThat(lazyContainer.get(2)).isEqualTo(container.get(2));
+    assertThatExceptionOfType(SszDeserializeException.class)
+        .isThrownBy(lazyContainer::hashTreeRoot);
+  }
+
+  private static DeferredBranchNode getDeferredField(
+      final SszContainer container, final int fieldIndex) {
+    final TreeNode node =
+        container.getBackingNode().get(container.getSchema().getChildGeneralizedIndex(fieldIndex));
+    assertThat(node).isInstanceOf(DeferredBranchNode.class);
+    return (DeferredBranchNode) node;
+  }
+
   @Test
   public void readWriteContainerTest1() {
     WritableContainer c1 = WritableContainer.createDefault();
@@ -16,6 +16,7 @@ package tech.pegasys.teku.infrastructure.ssz;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteBufferWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
 @TestInstance(Lifecycle.PER_CLASS)
@@ -69,6 +71,28 @@ public interface SszDataTestBase {
     SszDataAssert.assertThatSszData(data1).isEqualByAllMeansTo(data);
   }
 
+  @MethodSource("sszDataArguments")
+  @ParameterizedTest
+  default void sszDeserializeLazy_testSszRoundtrip(SszData data) {
+    Bytes ssz = data.sszSerialize();
+    SszData data1 = data.getSchema().sszDeserializeLazy(ssz);
+    SszDataAssert.assertThatSszData(data1).isEqualByAllMeansTo(data);
+  }
+
+  @MethodSource("sszDataArguments")
+  @ParameterizedTest
+  default void sszSerialize_shouldWriteExactSizeToDirectByteBuffer(SszData data) {
+    Bytes ssz = data.sszSerialize();
+    assertThat(data.getSszSize()).isEqualTo(ssz.size());
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(data.getSszSize());
+    SszByteBufferWriter writer = new SszByteBufferWriter(buffer);
+    assertThat(data.sszSerialize(writer)).isEqualTo(ssz.size());
+    assertThat(writer.getLength()).isEqualTo(ssz.size());
+    assertThat(buffer.hasRemaining()).isFalse();
+    assertThat(Bytes.wrapByteBuffer(buffer.flip())).isEqualTo(ssz);
+  }
+
   @MethodSource("sszDataArguments")
   @ParameterizedTest
   default void getBackingNode_testTreeRoundtrip(SszData data) {
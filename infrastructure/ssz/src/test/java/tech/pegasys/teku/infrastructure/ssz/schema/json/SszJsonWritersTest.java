@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.StreamingJsonInputStream;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchemaTest;
+
+class SszJsonWritersTest {
+
+  static Stream<SszContainer> containers() {
+    final RandomSszDataGenerator generator = new RandomSszDataGenerator().withMaxListSize(16);
+    return SszContainerSchemaTest.testContainerSchemas()
+        .flatMap(schema -> Stream.of(schema.getDefault(), generator.randomData(schema)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("containers")
+  void containerWriters_shouldProduceSameJsonAsTypeDefinition(final SszContainer container)
+      throws Exception {
+    final String expected = JsonUtil.serialize(container, getTypeDefinition(container));
+
+    try (InputStream in =
+        new StreamingJsonInputStream(
+            JsonUtil.FACTORY, SszJsonWriters.containerWriters(container))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends SszContainer> SerializableTypeDefinition<T> getTypeDefinition(
+      final T container) {
+    return (SerializableTypeDefinition<T>) container.getSchema().getJsonTypeDefinition();
+  }
+}
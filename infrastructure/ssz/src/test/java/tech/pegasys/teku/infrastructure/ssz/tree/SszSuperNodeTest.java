@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszSuperNodeTest {
+  private static final long MAX_LENGTH = 1L << 16;
+  private static final SszListSchema<TestContainer, ?> PLAIN_SCHEMA =
+      SszListSchema.create(TestContainer.SSZ_SCHEMA, MAX_LENGTH);
+
+  private final Random random = new Random(1);
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 5, 8, 10})
+  void shouldMatchFullHashAfterUpdatingHashedList(final int superNodeDepth) {
+    final SszListSchema<TestContainer, ?> schema = createSchema(superNodeDepth);
+    final SszList<TestContainer> list = schema.createFromElements(randomElements(700));
+    assertHashMatchesPlainList(list);
+
+    final SszList<TestContainer> updated = updateElements(list, 0, 17, 18, 300, 699);
+    assertHashMatchesPlainList(updated);
+
+    final SszList<TestContainer> updatedAgain = updateElements(updated, 18, 450);
+    assertHashMatchesPlainList(updatedAgain);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 8})
+  void shouldMatchFullHashAfterRepeatedUpdatesWithoutHashing(final int superNodeDepth) {
+    final SszListSchema<TestContainer, ?> schema = createSchema(superNodeDepth);
+    final SszList<TestContainer> list = schema.createFromElements(randomElements(300));
+    list.hashTreeRoot();
+
+    final SszList<TestContainer> updated = updateElements(updateElements(list, 5), 250, 5);
+    assertHashMatchesPlainList(updated);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 8})
+  void shouldMatchFullHashAfterAppendingToHashedList(final int superNodeDepth) {
+    final SszListSchema<TestContainer, ?> schema = createSchema(superNodeDepth);
+    final SszList<TestContainer> list = schema.createFromElements(randomElements(30));
+    list.hashTreeRoot();
+
+    final SszMutableList<TestContainer> mutableList = list.createWritableCopy();
+    randomElements(50).forEach(mutableList::append);
+    assertHashMatchesPlainList(mutableList.commitChanges());
+  }
+
+  private SszListSchema<TestContainer, ?> createSchema(final int superNodeDepth) {
+    return SszListSchema.create(
+        TestContainer.SSZ_SCHEMA, MAX_LENGTH, SszSchemaHints.sszSuperNode(superNodeDepth));
+  }
+
+  private SszList<TestContainer> updateElements(
+      final SszList<TestContainer> list, final int... indices) {
+    final SszMutableList<TestContainer> mutableList = list.createWritableCopy();
+    for (int index : indices) {
+      mutableList.set(index, randomElement());
+    }
+    return mutableList.commitChanges();
+  }
+
+  private void assertHashMatchesPlainList(final SszList<TestContainer> list) {
+    final SszList<TestContainer> plainList = PLAIN_SCHEMA.createFromElements(list.asList());
+    assertThat(list.hashTreeRoot()).isEqualTo(plainList.hashTreeRoot());
+  }
+
+  private List<TestContainer> randomElements(final int count) {
+    return IntStream.range(0, count).mapToObj(__ -> randomElement()).collect(Collectors.toList());
+  }
+
+  private TestContainer randomElement() {
+    return new TestContainer(
+        new TestSubContainer(UInt64.fromLongBits(random.nextLong()), Bytes32.random(random)),
+        UInt64.fromLongBits(random.nextLong()));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.infrastructure.unsigned;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of {@link UInt64} values backed by a primitive long array. Suits large lists
+ * such as per-validator balances where a boxed value per element would dominate heap usage.
+ */
+public final class UInt64List extends AbstractList<UInt64> implements RandomAccess {
+  private final long[] values;
+
+  private UInt64List(final long[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Create a list backed by the specified array. The array is not copied and must not be modified
+   * after it is wrapped.
+   *
+   * @param values the unsigned values as long bits
+   * @return the list backed by the array
+   */
+  public static UInt64List wrap(final long[] values) {
+    return new UInt64List(values);
+  }
+
+  @Override
+  public UInt64 get(final int index) {
+    return UInt64.fromLongBits(values[index]);
+  }
+
+  public long getLongBits(final int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Returns the backing array without copying it. The returned array must not be modified.
+   *
+   * @return the backing array
+   */
+  public long[] toLongArrayUnsafe() {
+    return values;
+  }
+}
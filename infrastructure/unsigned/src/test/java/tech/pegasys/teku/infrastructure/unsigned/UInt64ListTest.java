@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.infrastructure.unsigned;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UInt64ListTest {
+
+  @Test
+  void shouldReturnValuesFromBackingArray() {
+    final long[] values = {0, 1, -1};
+    final UInt64List list = UInt64List.wrap(values);
+
+    assertThat(list).containsExactly(UInt64.ZERO, UInt64.ONE, UInt64.MAX_VALUE);
+    assertThat(list.getLongBits(2)).isEqualTo(-1);
+    assertThat(list.toLongArrayUnsafe()).isSameAs(values);
+  }
+
+  @Test
+  void shouldBeEqualToListWithSameValues() {
+    assertThat(UInt64List.wrap(new long[] {3, 4}))
+        .isEqualTo(List.of(UInt64.valueOf(3), UInt64.valueOf(4)))
+        .hasSameHashCodeAs(List.of(UInt64.valueOf(3), UInt64.valueOf(4)));
+  }
+
+  @Test
+  void shouldNotBeModifiable() {
+    final UInt64List list = UInt64List.wrap(new long[] {1});
+
+    assertThatThrownBy(() -> list.set(0, UInt64.ZERO))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> list.add(UInt64.ZERO))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -40,6 +40,7 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.AttestationSubnetTopicPr
 import tech.pegasys.teku.networking.eth2.gossip.subnets.PeerSubnetSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopicProvider;
 import tech.pegasys.teku.networking.eth2.gossip.topics.Eth2GossipTopicFilter;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipProcessingScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
@@ -155,7 +156,15 @@ public class Eth2P2PNetworkBuilder {
     // Build core network and inject eth2 handlers
     final DiscoveryNetwork<?> network = buildNetwork(gossipEncoding, syncCommitteeSubnetService);
 
-    final GossipForkManager gossipForkManager = buildGossipForkManager(gossipEncoding, network);
+    final GossipProcessingScheduler gossipProcessingScheduler =
+        new GossipProcessingScheduler(
+            asyncRunner,
+            metricsSystem,
+            timeProvider,
+            GossipProcessingScheduler.DEFAULT_MAX_CONCURRENT_TASKS,
+            Duration.ofSeconds(spec.getGenesisSpecConfig().getSecondsPerSlot()));
+    final GossipForkManager gossipForkManager =
+        buildGossipForkManager(gossipEncoding, network, gossipProcessingScheduler);
 
     return new ActiveEth2P2PNetwork(
         config.getSpec(),
@@ -173,13 +182,16 @@ public class Eth2P2PNetworkBuilder {
   }
 
   private GossipForkManager buildGossipForkManager(
-      final GossipEncoding gossipEncoding, final DiscoveryNetwork<?> network) {
+      final GossipEncoding gossipEncoding,
+      final DiscoveryNetwork<?> network,
+      final AsyncRunner gossipAsyncRunner) {
     final GossipForkManager.Builder gossipForkManagerBuilder =
         GossipForkManager.builder().spec(spec).recentChainData(recentChainData);
     spec.getEnabledMilestones().stream()
         .map(
             forkAndSpecMilestone ->
-                createSubscriptions(forkAndSpecMilestone, network, gossipEncoding))
+                createSubscriptions(
+                    forkAndSpecMilestone, network, gossipEncoding, gossipAsyncRunner))
         .forEach(gossipForkManagerBuilder::fork);
     return gossipForkManagerBuilder.build();
   }
@@ -187,13 +199,14 @@ public class Eth2P2PNetworkBuilder {
   private GossipForkSubscriptions createSubscriptions(
       final ForkAndSpecMilestone forkAndSpecMilestone,
       final DiscoveryNetwork<?> network,
-      final GossipEncoding gossipEncoding) {
+      final GossipEncoding gossipEncoding,
+      final AsyncRunner gossipAsyncRunner) {
     switch (forkAndSpecMilestone.getSpecMilestone()) {
       case PHASE0:
         return new GossipForkSubscriptionsPhase0(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipAsyncRunner,
             metricsSystem,
             network,
             recentChainData,
@@ -208,7 +221,7 @@ public class Eth2P2PNetworkBuilder {
         return new GossipForkSubscriptionsAltair(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipAsyncRunner,
             metricsSystem,
             network,
             recentChainData,
@@ -225,7 +238,7 @@ public class Eth2P2PNetworkBuilder {
         return new GossipForkSubscriptionsBellatrix(
             forkAndSpecMilestone.getFork(),
             spec,
-            asyncRunner,
+            gossipAsyncRunner,
             metricsSystem,
             network,
             recentChainData,
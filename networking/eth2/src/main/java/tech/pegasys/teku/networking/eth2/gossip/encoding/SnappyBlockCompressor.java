@@ -13,7 +13,11 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import org.apache.tuweni.bytes.Bytes;
 import org.xerial.snappy.Snappy;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
@@ -48,4 +52,27 @@ public class SnappyBlockCompressor {
       throw new RuntimeException("Unable to compress data", e);
     }
   }
+
+  /**
+   * Compresses the readable bytes of {@code data}. Direct buffers are compressed natively into a
+   * pooled scratch buffer, so the only allocation is the returned compressed bytes.
+   */
+  public Bytes compress(final ByteBuf data) {
+    if (!data.isDirect() || data.nioBufferCount() != 1) {
+      return compress(Bytes.wrap(ByteBufUtil.getBytes(data)));
+    }
+    final int maxLength = Snappy.maxCompressedLength(data.readableBytes());
+    final ByteBuf compressed = PooledByteBufAllocator.DEFAULT.directBuffer(maxLength, maxLength);
+    try {
+      final ByteBuffer out = compressed.nioBuffer(0, maxLength);
+      final int length = Snappy.compress(data.nioBuffer(), out);
+      final byte[] result = new byte[length];
+      out.get(result);
+      return Bytes.wrap(result);
+    } catch (IOException e) {
+      throw new RuntimeException("Unable to compress data", e);
+    } finally {
+      compressed.release();
+    }
+  }
 }
@@ -13,15 +13,31 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.ssz.SSZException;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteBufferWriter;
 
 class SszGossipCodec {
 
-  public <T extends SszData> Bytes encode(final T value) {
-    return value.sszSerialize();
+  /**
+   * Serializes the value into a pooled direct buffer of the exact SSZ size, which can be handed to
+   * the native snappy compressor without copying. The caller must release the returned buffer.
+   */
+  public <T extends SszData> ByteBuf encode(final T value) {
+    final int size = value.getSszSize();
+    final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(size, size);
+    try {
+      value.sszSerialize(new SszByteBufferWriter(buffer.nioBuffer(0, size)));
+      buffer.writerIndex(size);
+      return buffer;
+    } catch (final RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
   }
 
   public <T extends SszData> T decode(final Bytes data, final SszSchema<T> valueType)
@@ -31,7 +47,10 @@ class SszGossipCodec {
         throw new DecodingException(
             "Uncompressed length " + data.size() + " is not within expected bounds");
       }
-      final T result = valueType.sszDeserialize(data);
+      // Gossip validation often only needs a few fields to ignore a message, so defer
+      // deserializing the rest until it's needed. Any invalid data is detected at the latest when
+      // the message is hashed to check its signature.
+      final T result = valueType.sszDeserializeLazy(data);
       if (result == null) {
         throw new DecodingException("Unable to decode value");
       }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
@@ -35,7 +36,12 @@ class SszSnappyEncoding implements GossipEncoding {
 
   @Override
   public <T extends SszData> Bytes encode(final T value) {
-    return snappyCompressor.compress(sszCodec.encode(value));
+    final ByteBuf serialized = sszCodec.encode(value);
+    try {
+      return snappyCompressor.compress(serialized);
+    } finally {
+      serialized.release();
+    }
   }
 
   @Override
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram.LabelledHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Schedules gossip message processing onto a shared {@link AsyncRunner} through a bounded queue per
+ * topic.
+ *
+ * <p>At most {@code maxConcurrentTasks} tasks occupy threads of the underlying runner at any time.
+ * Free slots are handed out by weighted round robin over the {@link GossipTopicPriority} classes,
+ * so blocks and aggregates are not stuck behind a flood of subnet attestations. Full FIFO queues
+ * reject new messages, while LIFO queues drop their oldest message to make room and discard
+ * messages that waited longer than {@code staleMessageAge}. Rejected and dropped messages fail
+ * with a {@link RejectedExecutionException}.
+ */
+public class GossipProcessingScheduler implements AsyncRunner {
+  public static final int DEFAULT_MAX_CONCURRENT_TASKS = 10;
+
+  static final String DROP_REASON_QUEUE_FULL = "queue_full";
+  static final String DROP_REASON_STALE = "stale";
+
+  private final AsyncRunner delegate;
+  private final TimeProvider timeProvider;
+  private final int maxConcurrentTasks;
+  private final long staleMessageAgeMillis;
+
+  private final Map<String, TopicQueue> queuesByTopic = new ConcurrentHashMap<>();
+  private final Map<GossipTopicPriority, PriorityClass> priorityClasses =
+      new EnumMap<>(GossipTopicPriority.class);
+  private int activeTaskCount = 0;
+
+  private final LabelledGauge queueDepthGauge;
+  private final MetricsHistogram waitTimeHistograms;
+  private final LabelledMetric<Counter> droppedMessagesCounter;
+
+  public GossipProcessingScheduler(
+      final AsyncRunner delegate,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final int maxConcurrentTasks,
+      final Duration staleMessageAge) {
+    checkArgument(maxConcurrentTasks > 0, "maxConcurrentTasks must be positive");
+    this.delegate = delegate;
+    this.timeProvider = timeProvider;
+    this.maxConcurrentTasks = maxConcurrentTasks;
+    this.staleMessageAgeMillis = staleMessageAge.toMillis();
+    for (GossipTopicPriority priority : GossipTopicPriority.values()) {
+      priorityClasses.put(priority, new PriorityClass(priority));
+    }
+
+    queueDepthGauge =
+        metricsSystem.createLabelledGauge(
+            TekuMetricCategory.NETWORK,
+            "gossip_processing_queue_size",
+            "Number of gossip messages waiting to be processed",
+            "topic");
+    waitTimeHistograms =
+        MetricsHistogram.create(
+            TekuMetricCategory.NETWORK,
+            metricsSystem,
+            "gossip_processing_queue_wait_time",
+            "Milliseconds gossip messages spent queued before processing started",
+            2,
+            List.of("topic"));
+    droppedMessagesCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_processing_dropped_messages_total",
+            "Number of gossip messages dropped before processing",
+            "topic",
+            "reason");
+  }
+
+  /**
+   * Returns the runner to use for processing messages on a topic. When {@code asyncRunner} is a
+   * {@link GossipProcessingScheduler}, tasks are queued in the topic's own bounded queue, otherwise
+   * {@code asyncRunner} is used directly.
+   */
+  public static AsyncRunner forTopic(
+      final AsyncRunner asyncRunner, final String topic, final String topicName) {
+    if (asyncRunner instanceof GossipProcessingScheduler) {
+      return ((GossipProcessingScheduler) asyncRunner).getTopicQueue(topic, topicName);
+    }
+    return asyncRunner;
+  }
+
+  TopicQueue getTopicQueue(final String topic, final String topicName) {
+    return queuesByTopic.computeIfAbsent(
+        topic, __ -> createTopicQueue(topic, GossipTopicPriority.forTopicName(topicName)));
+  }
+
+  private TopicQueue createTopicQueue(final String topic, final GossipTopicPriority priority) {
+    final TopicQueue queue = new TopicQueue(topic, priority);
+    synchronized (this) {
+      priorityClasses.get(priority).queues.add(queue);
+    }
+    queueDepthGauge.labels(queue::size, topic);
+    return queue;
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+    return delegate.runAsync(action);
+  }
+
+  @Override
+  public <U> SafeFuture<U> runAfterDelay(
+      final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+    return delegate.runAfterDelay(action, delay);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  private void taskComplete() {
+    synchronized (this) {
+      activeTaskCount--;
+    }
+    processQueuedTasks();
+  }
+
+  private void processQueuedTasks() {
+    final List<QueuedTask<?>> tasksToStart = new ArrayList<>();
+    final List<QueuedTask<?>> staleTasks = new ArrayList<>();
+    synchronized (this) {
+      while (activeTaskCount < maxConcurrentTasks) {
+        final QueuedTask<?> task = nextTask(staleTasks);
+        if (task == null) {
+          break;
+        }
+        activeTaskCount++;
+        tasksToStart.add(task);
+      }
+    }
+    // Complete futures outside the lock, their callbacks may queue further tasks
+    staleTasks.forEach(task -> drop(task, DROP_REASON_STALE));
+    tasksToStart.forEach(this::start);
+  }
+
+  private void start(final QueuedTask<?> task) {
+    task.queue.waitTimeHistogram.recordValue(
+        timeProvider.getTimeInMillis().longValue() - task.queuedAtMillis);
+    task.start();
+  }
+
+  private QueuedTask<?> nextTask(final List<QueuedTask<?>> staleTasks) {
+    while (true) {
+      boolean hasQueuedTasks = false;
+      for (PriorityClass priorityClass : priorityClasses.values()) {
+        if (priorityClass.credits <= 0) {
+          hasQueuedTasks |= priorityClass.hasQueuedTasks();
+          continue;
+        }
+        final QueuedTask<?> task = priorityClass.poll(staleTasks);
+        if (task != null) {
+          priorityClass.credits--;
+          return task;
+        }
+      }
+      if (!hasQueuedTasks) {
+        return null;
+      }
+      priorityClasses.values().forEach(PriorityClass::resetCredits);
+    }
+  }
+
+  private void drop(final QueuedTask<?> task, final String reason) {
+    droppedMessagesCounter.labels(task.queue.topic, reason).inc();
+    task.future.completeExceptionally(
+        new RejectedExecutionException(
+            "Gossip message for topic " + task.queue.topic + " dropped: " + reason));
+  }
+
+  private class PriorityClass {
+    private final GossipTopicPriority priority;
+    private final List<TopicQueue> queues = new ArrayList<>();
+    private int nextQueueIndex = 0;
+    private int credits;
+
+    private PriorityClass(final GossipTopicPriority priority) {
+      this.priority = priority;
+      this.credits = priority.getWeight();
+    }
+
+    private void resetCredits() {
+      credits = priority.getWeight();
+    }
+
+    private boolean hasQueuedTasks() {
+      return queues.stream().anyMatch(queue -> !queue.tasks.isEmpty());
+    }
+
+    /** Polls the next queue in round robin order, so no single topic starves the others. */
+    private QueuedTask<?> poll(final List<QueuedTask<?>> staleTasks) {
+      for (int i = 0; i < queues.size(); i++) {
+        final TopicQueue queue = queues.get(nextQueueIndex);
+        nextQueueIndex = (nextQueueIndex + 1) % queues.size();
+        final QueuedTask<?> task = queue.poll(staleTasks);
+        if (task != null) {
+          return task;
+        }
+      }
+      return null;
+    }
+  }
+
+  class TopicQueue implements AsyncRunner {
+    private final String topic;
+    private final GossipTopicPriority priority;
+    private final Deque<QueuedTask<?>> tasks = new ArrayDeque<>();
+    private final LabelledHistogram waitTimeHistogram;
+
+    private TopicQueue(final String topic, final GossipTopicPriority priority) {
+      this.topic = topic;
+      this.priority = priority;
+      this.waitTimeHistogram = waitTimeHistograms.labels(topic);
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAsync(final ExceptionThrowingFutureSupplier<U> action) {
+      final QueuedTask<U> task =
+          new QueuedTask<>(this, action, timeProvider.getTimeInMillis().longValue());
+      QueuedTask<?> droppedTask = null;
+      synchronized (GossipProcessingScheduler.this) {
+        if (tasks.size() >= priority.getQueueCapacity()) {
+          if (priority.isLifo()) {
+            droppedTask = tasks.pollFirst();
+          } else {
+            droppedTask = task;
+          }
+        }
+        if (droppedTask != task) {
+          tasks.addLast(task);
+        }
+      }
+      if (droppedTask != null) {
+        drop(droppedTask, DROP_REASON_QUEUE_FULL);
+      }
+      processQueuedTasks();
+      return task.future;
+    }
+
+    @Override
+    public <U> SafeFuture<U> runAfterDelay(
+        final ExceptionThrowingFutureSupplier<U> action, final Duration delay) {
+      return delegate.runAfterDelay(action, delay);
+    }
+
+    @Override
+    public void shutdown() {
+      // The delegate is shared by every topic so is shut down with the scheduler, not per topic
+    }
+
+    /**
+     * Removes the next task to run. Stale tasks found along the way are moved to {@code
+     * staleTasks}, to be dropped once the scheduler lock is released.
+     */
+    private QueuedTask<?> poll(final List<QueuedTask<?>> staleTasks) {
+      if (!priority.isLifo()) {
+        return tasks.pollFirst();
+      }
+      final QueuedTask<?> task = tasks.pollLast();
+      if (task != null
+          && timeProvider.getTimeInMillis().longValue() - task.queuedAtMillis
+              > staleMessageAgeMillis) {
+        // Every other queued task is older still so is stale too
+        staleTasks.add(task);
+        staleTasks.addAll(tasks);
+        tasks.clear();
+        return null;
+      }
+      return task;
+    }
+
+    private int size() {
+      synchronized (GossipProcessingScheduler.this) {
+        return tasks.size();
+      }
+    }
+  }
+
+  private class QueuedTask<U> {
+    private final TopicQueue queue;
+    private final ExceptionThrowingFutureSupplier<U> action;
+    private final long queuedAtMillis;
+    private final SafeFuture<U> future = new SafeFuture<>();
+
+    private QueuedTask(
+        final TopicQueue queue,
+        final ExceptionThrowingFutureSupplier<U> action,
+        final long queuedAtMillis) {
+      this.queue = queue;
+      this.action = action;
+      this.queuedAtMillis = queuedAtMillis;
+    }
+
+    /**
+     * Runs the action on the delegate runner. The slot is released once the action has returned
+     * its future, not when that future completes, so tasks waiting on other services (e.g. batched
+     * signature verification) don't hold back the queue.
+     */
+    private void start() {
+      final AtomicBoolean released = new AtomicBoolean(false);
+      final Runnable release =
+          () -> {
+            if (released.compareAndSet(false, true)) {
+              taskComplete();
+            }
+          };
+      delegate
+          .runAsync(
+              () -> {
+                try {
+                  return action.get();
+                } finally {
+                  release.run();
+                }
+              })
+          // Also release if the delegate rejected the task without running it
+          .alwaysRun(release)
+          .propagateTo(future);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+/**
+ * Processing priority classes for gossip topics, ordered from highest to lowest priority.
+ *
+ * <p>The weight determines how many tasks of the class are started for each task of weight 1 when
+ * every class has work queued. Subnet messages are processed newest first and are dropped once they
+ * have waited long enough to no longer be useful.
+ */
+public enum GossipTopicPriority {
+  BLOCK(16, 1_000, false),
+  AGGREGATE(8, 5_000, false),
+  SYNC_CONTRIBUTION(4, 2_000, false),
+  OPERATION(2, 1_000, false),
+  SUBNET_MESSAGE(1, 1_000, true);
+
+  private static final String ATTESTATION_SUBNET_PREFIX = "beacon_attestation_";
+  private static final String SYNC_COMMITTEE_SUBNET_PREFIX = "sync_committee_";
+
+  private final int weight;
+  private final int queueCapacity;
+  private final boolean lifo;
+
+  GossipTopicPriority(final int weight, final int queueCapacity, final boolean lifo) {
+    this.weight = weight;
+    this.queueCapacity = queueCapacity;
+    this.lifo = lifo;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public boolean isLifo() {
+    return lifo;
+  }
+
+  public static GossipTopicPriority forTopicName(final String topicName) {
+    if (topicName.equals(GossipTopicName.BEACON_BLOCK.toString())) {
+      return BLOCK;
+    } else if (topicName.equals(GossipTopicName.BEACON_AGGREGATE_AND_PROOF.toString())) {
+      return AGGREGATE;
+    } else if (topicName.equals(
+        GossipTopicName.SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF.toString())) {
+      return SYNC_CONTRIBUTION;
+    } else if (topicName.startsWith(ATTESTATION_SUBNET_PREFIX)
+        || topicName.startsWith(SYNC_COMMITTEE_SUBNET_PREFIX)) {
+      return SUBNET_MESSAGE;
+    } else {
+      return OPERATION;
+    }
+  }
+}
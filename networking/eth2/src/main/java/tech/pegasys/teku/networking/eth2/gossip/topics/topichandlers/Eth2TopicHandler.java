@@ -26,9 +26,11 @@ import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.Eth2PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipProcessingScheduler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipSubValidationUtil;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
@@ -58,13 +60,15 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       final String topicName,
       final SszSchema<MessageT> messageType,
       final int maxMessageSize) {
-    this.asyncRunner = asyncRunner;
     this.processor = processor;
     this.gossipEncoding = gossipEncoding;
     this.forkDigest = forkDigest;
     this.topicName = topicName;
     this.messageType = messageType;
     this.maxMessageSize = maxMessageSize;
+    this.asyncRunner =
+        GossipProcessingScheduler.forTopic(
+            asyncRunner, GossipTopics.getTopic(forkDigest, topicName, gossipEncoding), topicName);
     this.preparedGossipMessageFactory =
         gossipEncoding.createPreparedGossipMessageFactory(
             recentChainData::getMilestoneByForkDigest);
@@ -96,18 +100,30 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
         .thenCompose(
             deserialized ->
                 asyncRunner.runAsync(
-                    () ->
-                        processor
-                            .process(deserialized)
-                            .thenApply(
-                                internalValidation -> {
-                                  processMessage(internalValidation, message);
-                                  return GossipSubValidationUtil.fromInternalValidationResult(
-                                      internalValidation);
-                                })))
+                    () -> {
+                      ensureFullyDecoded(deserialized);
+                      return processor
+                          .process(deserialized)
+                          .thenApply(
+                              internalValidation -> {
+                                processMessage(internalValidation, message);
+                                return GossipSubValidationUtil.fromInternalValidationResult(
+                                    internalValidation);
+                              });
+                    }))
         .exceptionally(error -> handleMessageProcessingError(message, error));
   }
 
+  /**
+   * Messages are decoded lazily, so nested fields may not have been decoded yet. Decode them all
+   * before the processor can store the message in any pool, so invalid SSZ is rejected as a
+   * decoding failure rather than failing later, outside of gossip validation. The hash tree root
+   * is cached in the decoded tree, so validation doesn't compute it again.
+   */
+  private void ensureFullyDecoded(final MessageT deserialized) {
+    deserialized.hashTreeRoot();
+  }
+
   private void processMessage(
       final InternalValidationResult internalValidationResult,
       final PreparedGossipMessage message) {
@@ -143,7 +159,9 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
   protected ValidationResult handleMessageProcessingError(
       final PreparedGossipMessage message, final Throwable err) {
     final ValidationResult response;
-    if (ExceptionUtil.getCause(err, DecodingException.class).isPresent()) {
+    if (ExceptionUtil.getCause(err, DecodingException.class).isPresent()
+        || ExceptionUtil.getCause(err, SszDeserializeException.class).isPresent()) {
+      // Lazily decoded fields may only fail to decode while the message is being processed
       P2P_LOG.onGossipMessageDecodingError(getTopic(), message.getOriginalMessage(), err);
       response = ValidationResult.Invalid;
     } else if (ExceptionUtil.getCause(err, RejectedExecutionException.class).isPresent()) {
@@ -19,12 +19,15 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVALID_REQUEST_CODE;
 import static tech.pegasys.teku.spec.config.Constants.MAX_REQUEST_BLOCKS;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.nio.channels.ClosedChannelException;
+import java.util.Collections;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -45,18 +48,31 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 public class BeaconBlocksByRangeMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> {
   private static final org.apache.logging.log4j.Logger LOG = LogManager.getLogger();
+  // Maximum number of serialized finalized blocks held in memory for a request at once
+  private static final int SERIALIZED_FINALIZED_BLOCKS_BATCH_SIZE = 64;
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
   private final UInt64 maxRequestSize;
+  private final int serializedFinalizedBlocksBatchSize;
 
   public BeaconBlocksByRangeMessageHandler(
       final Spec spec,
       final CombinedChainDataClient combinedChainDataClient,
       final UInt64 maxRequestSize) {
+    this(spec, combinedChainDataClient, maxRequestSize, SERIALIZED_FINALIZED_BLOCKS_BATCH_SIZE);
+  }
+
+  @VisibleForTesting
+  BeaconBlocksByRangeMessageHandler(
+      final Spec spec,
+      final CombinedChainDataClient combinedChainDataClient,
+      final UInt64 maxRequestSize,
+      final int serializedFinalizedBlocksBatchSize) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.maxRequestSize = maxRequestSize;
+    this.serializedFinalizedBlocksBatchSize = serializedFinalizedBlocksBatchSize;
   }
 
   @Override
@@ -170,11 +186,41 @@ public class BeaconBlocksByRangeMessageHandler
                           count,
                           headSlot,
                           hotRoots,
+                          getLastSerializedFinalizedSlot(message, endSlot, headSlot, hotRoots),
                           callback))
                   .toVoid();
             });
   }
 
+  /**
+   * Finds the last slot of the finalized blocks in the requested range which are before any blocks
+   * in protoarray. Those blocks are loaded as SSZ in batches of consecutive slots, so they can be
+   * sent without being deserialized and serialized again.
+   */
+  private Optional<UInt64> getLastSerializedFinalizedSlot(
+      final BeaconBlocksByRangeRequestMessage message,
+      final UInt64 endSlot,
+      final UInt64 headSlot,
+      final NavigableMap<UInt64, Bytes32> hotRoots) {
+    if (!message.getStep().equals(ONE)) {
+      // Requests with a step would read every block in the range to only send some of them
+      return Optional.empty();
+    }
+    final UInt64 startSlot = message.getStartSlot();
+    final UInt64 lastFinalizedSlot;
+    if (hotRoots.isEmpty()) {
+      lastFinalizedSlot = endSlot.min(headSlot);
+    } else if (hotRoots.firstKey().isGreaterThan(startSlot)) {
+      lastFinalizedSlot = endSlot.min(hotRoots.firstKey().minus(ONE));
+    } else {
+      return Optional.empty();
+    }
+    if (startSlot.isGreaterThan(lastFinalizedSlot)) {
+      return Optional.empty();
+    }
+    return Optional.of(lastFinalizedSlot);
+  }
+
   private SafeFuture<RequestState> sendNextBlock(final RequestState requestState) {
     SafeFuture<Boolean> blockFuture = processNextBlock(requestState);
     // Avoid risk of StackOverflowException by iterating when the block future is already complete
@@ -192,27 +238,40 @@ public class BeaconBlocksByRangeMessageHandler
   }
 
   private SafeFuture<Boolean> processNextBlock(final RequestState requestState) {
-    // Ensure blocks are loaded off of the event thread
     return requestState
-        .loadNextBlock()
-        .thenCompose(block -> handleLoadedBlock(requestState, block));
+        .getSerializedFinalizedBlock()
+        .thenCompose(
+            serializedBlock -> {
+              if (serializedBlock.isPresent()) {
+                return handleSentBlock(
+                    requestState, requestState.sendSerializedBlock(serializedBlock.get()));
+              }
+              // Ensure blocks are loaded off of the event thread
+              return requestState
+                  .loadNextBlock()
+                  .thenCompose(block -> handleLoadedBlock(requestState, block));
+            });
   }
 
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
       final RequestState requestState, final Optional<SignedBeaconBlock> block) {
-    return block
-        .map(requestState::sendBlock)
-        .orElse(SafeFuture.COMPLETE)
-        .thenApply(
-            __ -> {
-              if (requestState.isComplete()) {
-                return true;
-              } else {
-                requestState.incrementCurrentSlot();
-                return false;
-              }
-            });
+    return handleSentBlock(
+        requestState, block.map(requestState::sendBlock).orElse(SafeFuture.COMPLETE));
+  }
+
+  /** Waits for the block to be sent and returns true if the request is now complete. */
+  private SafeFuture<Boolean> handleSentBlock(
+      final RequestState requestState, final SafeFuture<Void> sendFuture) {
+    return sendFuture.thenApply(
+        __ -> {
+          if (requestState.isComplete()) {
+            return true;
+          } else {
+            requestState.incrementCurrentSlot();
+            return false;
+          }
+        });
   }
 
   private class RequestState {
@@ -220,6 +279,10 @@ public class BeaconBlocksByRangeMessageHandler
     private final ResponseCallback<SignedBeaconBlock> callback;
     private final UInt64 step;
     private final NavigableMap<UInt64, Bytes32> knownBlockRoots;
+    private final Optional<UInt64> lastSerializedFinalizedSlot;
+    private NavigableMap<UInt64, Bytes> serializedFinalizedBlocks =
+        Collections.emptyNavigableMap();
+    private Optional<UInt64> serializedFinalizedBlocksLoadedToSlot = Optional.empty();
     private UInt64 currentSlot;
     private UInt64 remainingBlocks;
 
@@ -229,9 +292,11 @@ public class BeaconBlocksByRangeMessageHandler
         final UInt64 count,
         final UInt64 headSlot,
         final NavigableMap<UInt64, Bytes32> knownBlockRoots,
+        final Optional<UInt64> lastSerializedFinalizedSlot,
         final ResponseCallback<SignedBeaconBlock> callback) {
       this.currentSlot = startSlot;
       this.knownBlockRoots = knownBlockRoots;
+      this.lastSerializedFinalizedSlot = lastSerializedFinalizedSlot;
       // Minus 1 to account for sending the block at startSlot.
       // We only decrement this when moving to the next slot but we're already at the first slot
       this.remainingBlocks = count.minus(ONE);
@@ -256,6 +321,40 @@ public class BeaconBlocksByRangeMessageHandler
       return callback.respond(block);
     }
 
+    SafeFuture<Void> sendSerializedBlock(final Bytes serializedBlock) {
+      return callback.respondSerialized(currentSlot, serializedBlock);
+    }
+
+    /**
+     * Returns the serialized finalized block at the current slot, if any. Blocks are loaded a batch
+     * at a time, and only once every block from the previous batch has been sent, so at most one
+     * batch is held in memory.
+     */
+    SafeFuture<Optional<Bytes>> getSerializedFinalizedBlock() {
+      if (lastSerializedFinalizedSlot.isEmpty()
+          || currentSlot.isGreaterThan(lastSerializedFinalizedSlot.get())) {
+        return completedFuture(Optional.empty());
+      }
+      if (serializedFinalizedBlocksLoadedToSlot
+          .map(loadedToSlot -> currentSlot.isLessThanOrEqualTo(loadedToSlot))
+          .orElse(false)) {
+        return completedFuture(Optional.ofNullable(serializedFinalizedBlocks.get(currentSlot)));
+      }
+      final UInt64 slot = currentSlot;
+      final UInt64 batchEndSlot =
+          lastSerializedFinalizedSlot
+              .get()
+              .min(slot.plus(serializedFinalizedBlocksBatchSize).minus(ONE));
+      return combinedChainDataClient
+          .getSerializedFinalizedBlocks(slot, batchEndSlot)
+          .thenApply(
+              blocks -> {
+                serializedFinalizedBlocks = blocks;
+                serializedFinalizedBlocksLoadedToSlot = Optional.of(batchEndSlot);
+                return Optional.ofNullable(blocks.get(slot));
+              });
+    }
+
     void incrementCurrentSlot() {
       remainingBlocks = remainingBlocks.minus(ONE);
       currentSlot = currentSlot.plus(step);
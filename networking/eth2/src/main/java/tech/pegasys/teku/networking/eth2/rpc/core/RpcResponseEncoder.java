@@ -17,6 +17,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCE
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +37,20 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  /**
+   * Encodes a successful response from an already SSZ serialized payload, avoiding a deserialize
+   * and re-serialize round trip when the payload is read directly from storage.
+   *
+   * @param contextSlot the slot of the payload, used to determine the response context
+   * @param serializedResponse the SSZ serialized response payload
+   */
+  public Bytes encodeSuccessfulResponse(final UInt64 contextSlot, final Bytes serializedResponse) {
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE),
+        contextCodec.encodeContextForSlot(contextSlot),
+        encoding.encodeSerializedPayload(serializedResponse));
+  }
+
   public Bytes encodeErrorResponse(RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
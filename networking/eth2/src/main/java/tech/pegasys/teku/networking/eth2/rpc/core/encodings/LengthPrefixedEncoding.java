@@ -14,6 +14,10 @@
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
@@ -40,6 +44,10 @@ public class LengthPrefixedEncoding implements RpcEncoding {
         public void close() {}
       };
 
+  // Scratch buffers for serialization and compression are pooled, only the final encoded payload
+  // is allocated per message
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
   private final String name;
   private final RpcPayloadEncoders payloadEncoders;
   private final Compressor compressor;
@@ -69,11 +77,23 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     }
     final RpcPayloadEncoder<T> payloadEncoder =
         payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
-    final Bytes payload = payloadEncoder.encode(message);
-    if (payload.isEmpty()) {
-      return payload;
+    final ByteBuf payload = payloadEncoder.encode(message, ALLOCATOR);
+    try {
+      if (!payload.isReadable()) {
+        return Bytes.EMPTY;
+      }
+      return encodeMessageWithLength(payload);
+    } finally {
+      payload.release();
+    }
+  }
+
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes serializedPayload) {
+    if (serializedPayload.isEmpty()) {
+      return serializedPayload;
     }
-    return encodeMessageWithLength(payload);
+    return encodeMessageWithLength(Unpooled.wrappedBuffer(serializedPayload.toArrayUnsafe()));
   }
 
   @Override
@@ -86,11 +106,18 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     }
   }
 
-  private Bytes encodeMessageWithLength(final Bytes payload) {
-    final Bytes header = ProtobufEncoder.encodeVarInt(payload.size());
-    final Bytes compressedPayload;
-    compressedPayload = compressor.compress(payload);
-    return Bytes.concatenate(header, compressedPayload);
+  private Bytes encodeMessageWithLength(final ByteBuf payload) {
+    final int payloadSize = payload.readableBytes();
+    final Bytes header = ProtobufEncoder.encodeVarInt(payloadSize);
+    final ByteBuf out =
+        ALLOCATOR.heapBuffer(header.size() + compressor.getMaxCompressedLength(payloadSize));
+    try {
+      out.writeBytes(header.toArrayUnsafe());
+      compressor.compress(payload, out);
+      return Bytes.wrap(ByteBufUtil.getBytes(out));
+    } finally {
+      out.release();
+    }
   }
 
   @Override
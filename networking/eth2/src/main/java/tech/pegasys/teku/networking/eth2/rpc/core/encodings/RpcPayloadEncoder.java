@@ -13,12 +13,25 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 
 public interface RpcPayloadEncoder<T> {
   Bytes encode(T message);
 
+  /**
+   * Encodes the message into a buffer obtained from {@code allocator}. The caller owns the returned
+   * buffer and is responsible for releasing it.
+   */
+  default ByteBuf encode(final T message, final ByteBufAllocator allocator) {
+    final Bytes encoded = encode(message);
+    final ByteBuf buffer = allocator.buffer(encoded.size(), encoded.size());
+    buffer.writeBytes(encoded.toArrayUnsafe());
+    return buffer;
+  }
+
   T decode(Bytes message) throws RpcException;
 
   boolean isLengthWithinBounds(long length);
@@ -35,6 +35,14 @@ public interface Compressor {
    */
   Bytes compress(final Bytes data);
 
+  /**
+   * Compresses the readable bytes of {@code data} and appends the result to {@code out}
+   *
+   * @param data The data to compress, its reader index is advanced past the consumed bytes
+   * @param out The buffer to write the compressed data to
+   */
+  void compress(final ByteBuf data, final ByteBuf out);
+
   /**
    * Creates a Decompressor instance which would return only a single decompressed data of size
    * {@code uncompressedPayloadSize}
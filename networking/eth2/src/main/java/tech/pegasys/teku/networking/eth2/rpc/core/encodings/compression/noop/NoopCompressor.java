@@ -63,6 +63,11 @@ public class NoopCompressor implements Compressor {
     return data;
   }
 
+  @Override
+  public void compress(final ByteBuf data, final ByteBuf out) {
+    out.writeBytes(data);
+  }
+
   @Override
   public Decompressor createDecompressor(int uncompressedPayloadSize) {
     return new NoopDecompressor(uncompressedPayloadSize);
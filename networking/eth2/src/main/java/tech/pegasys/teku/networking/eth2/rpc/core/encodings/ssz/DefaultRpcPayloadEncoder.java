@@ -13,11 +13,14 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.ssz;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszByteBufferWriter;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DeserializationFailedException;
@@ -36,6 +39,20 @@ public class DefaultRpcPayloadEncoder<T extends SszData> implements RpcPayloadEn
     return message.sszSerialize();
   }
 
+  @Override
+  public ByteBuf encode(final T message, final ByteBufAllocator allocator) {
+    final int size = message.getSszSize();
+    final ByteBuf buffer = allocator.buffer(size, size);
+    try {
+      message.sszSerialize(new SszByteBufferWriter(buffer.nioBuffer(0, size)));
+      buffer.writerIndex(size);
+      return buffer;
+    } catch (final RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+  }
+
   @Override
   public T decode(final Bytes message) throws RpcException {
     try {
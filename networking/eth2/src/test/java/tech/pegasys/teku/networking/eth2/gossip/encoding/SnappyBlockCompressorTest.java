@@ -16,6 +16,8 @@ package tech.pegasys.teku.networking.eth2.gossip.encoding;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszLengthBounds;
@@ -34,6 +36,26 @@ public class SnappyBlockCompressorTest {
     assertThat(uncompressed).isEqualTo(original);
   }
 
+  @Test
+  public void compress_directByteBufShouldMatchBytes() {
+    final Bytes original = Bytes.fromHexString("0x01020304050601020304050601020304050607");
+    final ByteBuf buffer = Unpooled.directBuffer(original.size());
+    buffer.writeBytes(original.toArrayUnsafe());
+    try {
+      assertThat(compressor.compress(buffer)).isEqualTo(compressor.compress(original));
+    } finally {
+      buffer.release();
+    }
+  }
+
+  @Test
+  public void compress_heapByteBufShouldMatchBytes() {
+    final Bytes original = Bytes.fromHexString("0x01020304050601020304050601020304050607");
+    final ByteBuf buffer = Unpooled.wrappedBuffer(original.toArrayUnsafe());
+
+    assertThat(compressor.compress(buffer)).isEqualTo(compressor.compress(original));
+  }
+
   @Test
   public void uncompress_randomData() {
     final Bytes data = Bytes.fromHexString("0x0102");
@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.spec.config.Constants.GOSSIP_MAX_SIZE;
 
 import io.libp2p.core.pubsub.ValidationResult;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyBlockCompressor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.spec.Spec;
@@ -115,6 +118,46 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
   }
 
+  @Test
+  public void handleMessage_invalidNestedFieldAccessedWhileProcessing() {
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b) -> {
+              b.getMessage().getBody();
+              return SafeFuture.completedFuture(InternalValidationResult.ACCEPT);
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(createInvalidNestedBlockBytes()));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
+  }
+
+  @Test
+  public void handleMessage_invalidNestedFieldRejectedBeforeProcessing() {
+    final AtomicBoolean processed = new AtomicBoolean(false);
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b) -> {
+              processed.set(true);
+              return SafeFuture.completedFuture(InternalValidationResult.SAVE_FOR_FUTURE);
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(createInvalidNestedBlockBytes()));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
+    assertThat(processed).isFalse();
+  }
+
   @Test
   public void handleMessage_errorWhileProcessing_decodingException() {
     MockEth2TopicHandler topicHandler =
@@ -247,6 +290,20 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Invalid);
   }
 
+  /**
+   * Creates a block where the offset of the body inside the block message is invalid. The outer
+   * signed block is still valid so the message only fails to decode when the block is accessed.
+   */
+  private Bytes createInvalidNestedBlockBytes() {
+    final byte[] ssz = block.sszSerialize().toArray();
+    // Offset of message (4) + signature (96) + slot (8) + proposer index (8) + 2 roots (64)
+    final int bodyOffsetPosition = 180;
+    for (int i = 0; i < 4; i++) {
+      ssz[bodyOffsetPosition + i] = (byte) 0xFF;
+    }
+    return new SnappyBlockCompressor().compress(Bytes.wrap(ssz));
+  }
+
   private static class MockEth2TopicHandler extends Eth2TopicHandler<SignedBeaconBlock> {
     private final Bytes4 forkDigest;
     private Deserializer<SignedBeaconBlock> deserializer;
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+class GossipProcessingSchedulerTest {
+  private static final String BLOCK_TOPIC = "/eth2/00000000/beacon_block/ssz_snappy";
+  private static final String ATTESTATION_TOPIC = "/eth2/00000000/beacon_attestation_1/ssz_snappy";
+  private static final String EXIT_TOPIC = "/eth2/00000000/voluntary_exit/ssz_snappy";
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunner delegate = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final GossipProcessingScheduler scheduler =
+      new GossipProcessingScheduler(
+          delegate, metricsSystem, timeProvider, 1, Duration.ofSeconds(12));
+
+  private final AsyncRunner blockRunner =
+      GossipProcessingScheduler.forTopic(scheduler, BLOCK_TOPIC, "beacon_block");
+  private final AsyncRunner attestationRunner =
+      GossipProcessingScheduler.forTopic(scheduler, ATTESTATION_TOPIC, "beacon_attestation_1");
+  private final AsyncRunner exitRunner =
+      GossipProcessingScheduler.forTopic(scheduler, EXIT_TOPIC, "voluntary_exit");
+
+  private final List<String> processed = new ArrayList<>();
+
+  @Test
+  void forTopic_shouldUseRunnerDirectlyWhenNotAScheduler() {
+    assertThat(GossipProcessingScheduler.forTopic(delegate, BLOCK_TOPIC, "beacon_block"))
+        .isSameAs(delegate);
+  }
+
+  @Test
+  void forTopic_shouldReuseQueueForSameTopic() {
+    assertThat(GossipProcessingScheduler.forTopic(scheduler, BLOCK_TOPIC, "beacon_block"))
+        .isSameAs(blockRunner);
+  }
+
+  @Test
+  void shouldProcessBlocksBeforeQueuedAttestations() {
+    queue(attestationRunner, "attestation1");
+    queue(attestationRunner, "attestation2");
+    queue(attestationRunner, "attestation3");
+    queue(blockRunner, "block");
+
+    delegate.executeUntilDone();
+
+    // The first attestation was started before the block arrived
+    assertThat(processed).startsWith("attestation1", "block");
+    assertThat(processed).hasSize(4);
+  }
+
+  @Test
+  void shouldNotStarveLowerPriorityTopics() {
+    for (int i = 0; i < 20; i++) {
+      queue(blockRunner, "block" + i);
+    }
+    queue(exitRunner, "exit");
+
+    delegate.executeUntilDone();
+
+    assertThat(processed.indexOf("exit")).isLessThan(processed.size() - 1);
+  }
+
+  @Test
+  void shouldProcessSubnetMessagesNewestFirst() {
+    queue(blockRunner, "block");
+    queue(attestationRunner, "attestation1");
+    queue(attestationRunner, "attestation2");
+
+    delegate.executeUntilDone();
+
+    assertThat(processed).containsExactly("block", "attestation2", "attestation1");
+  }
+
+  @Test
+  void shouldRejectNewMessagesWhenFifoQueueIsFull() {
+    // Occupies the only slot so further tasks stay queued
+    queue(blockRunner, "running");
+    for (int i = 0; i < GossipTopicPriority.BLOCK.getQueueCapacity(); i++) {
+      queue(blockRunner, "block" + i);
+    }
+
+    final SafeFuture<Void> result = queue(blockRunner, "rejected");
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertDropped(BLOCK_TOPIC, GossipProcessingScheduler.DROP_REASON_QUEUE_FULL, 1);
+    assertThat(
+            metricsSystem
+                .getLabelledGauge(TekuMetricCategory.NETWORK, "gossip_processing_queue_size")
+                .getValue(BLOCK_TOPIC))
+        .hasValue(GossipTopicPriority.BLOCK.getQueueCapacity());
+  }
+
+  @Test
+  void shouldDropOldestMessageWhenLifoQueueIsFull() {
+    queue(blockRunner, "running");
+    final SafeFuture<Void> oldest = queue(attestationRunner, "oldest");
+    for (int i = 1; i < GossipTopicPriority.SUBNET_MESSAGE.getQueueCapacity(); i++) {
+      queue(attestationRunner, "attestation" + i);
+    }
+
+    final SafeFuture<Void> newest = queue(attestationRunner, "newest");
+
+    assertThatSafeFuture(oldest).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThat(newest).isNotDone();
+    assertDropped(ATTESTATION_TOPIC, GossipProcessingScheduler.DROP_REASON_QUEUE_FULL, 1);
+  }
+
+  @Test
+  void shouldDropStaleSubnetMessages() {
+    queue(blockRunner, "running");
+    final SafeFuture<Void> stale1 = queue(attestationRunner, "stale1");
+    final SafeFuture<Void> stale2 = queue(attestationRunner, "stale2");
+    timeProvider.advanceTimeBySeconds(13);
+    final SafeFuture<Void> fresh = queue(attestationRunner, "fresh");
+
+    delegate.executeUntilDone();
+
+    assertThat(processed).containsExactly("running", "fresh");
+    assertThatSafeFuture(fresh).isCompleted();
+    assertThatSafeFuture(stale1).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThatSafeFuture(stale2).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertDropped(ATTESTATION_TOPIC, GossipProcessingScheduler.DROP_REASON_STALE, 2);
+  }
+
+  @Test
+  void shouldAllowDroppedTaskCallbacksToQueueMoreTasks() {
+    queue(blockRunner, "running");
+    final SafeFuture<Void> stale = queue(attestationRunner, "stale");
+    timeProvider.advanceTimeBySeconds(13);
+    stale.finish(error -> queue(exitRunner, "retry"));
+
+    delegate.executeUntilDone();
+
+    assertThatSafeFuture(stale).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    assertThat(processed).containsExactly("running", "retry");
+  }
+
+  @Test
+  void topicQueueShutdown_shouldNotShutdownSharedRunner() {
+    queue(blockRunner, "block");
+
+    attestationRunner.shutdown();
+    delegate.executeUntilDone();
+
+    assertThat(processed).containsExactly("block");
+  }
+
+  @Test
+  void shouldReleaseSlotWhenProcessingStartsAsyncWork() {
+    final SafeFuture<Void> pendingWork = new SafeFuture<>();
+    final SafeFuture<Void> first = blockRunner.runAsync(() -> pendingWork);
+    queue(blockRunner, "second");
+
+    delegate.executeUntilDone();
+
+    assertThat(first).isNotDone();
+    assertThat(processed).containsExactly("second");
+    pendingWork.complete(null);
+    assertThatSafeFuture(first).isCompleted();
+  }
+
+  private SafeFuture<Void> queue(final AsyncRunner runner, final String name) {
+    return runner.runAsync(
+        () -> {
+          processed.add(name);
+        });
+  }
+
+  private void assertDropped(final String topic, final String reason, final long expected) {
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.NETWORK, "gossip_processing_dropped_messages_total")
+                .getValue(topic, reason))
+        .isEqualTo(expected);
+  }
+}
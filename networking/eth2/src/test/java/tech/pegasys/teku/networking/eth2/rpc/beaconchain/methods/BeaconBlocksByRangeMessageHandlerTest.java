@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -96,6 +97,9 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(peer.wantToReceiveObjects(any(), anyLong())).thenReturn(true);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
+    when(combinedChainDataClient.getSerializedFinalizedBlocks(any(), any()))
+        .thenReturn(completedFuture(new TreeMap<>()));
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -415,6 +419,110 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyBlocksReturned(1, 2, 3, 4, 5);
   }
 
+  @Test
+  void shouldSendSerializedFinalizedBlocks() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+    withSerializedFinalizedBlocks(1, 5, 1, 2, 3, 4, 5);
+
+    requestBlocks(startBlock, count, skip);
+
+    verifySerializedBlocksReturned(1, 2, 3, 4, 5);
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
+  @Test
+  void shouldSendSerializedFinalizedBlocksBeforeHotBlocks() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withAncestorRoots(startBlock, count, skip, hotBlocks(4, 5, 6));
+    withSerializedFinalizedBlocks(1, 3, 1, 2, 3);
+
+    requestBlocks(startBlock, count, skip);
+
+    final InOrder inOrder = Mockito.inOrder(listener);
+    for (int slot : new int[] {1, 2, 3}) {
+      inOrder
+          .verify(listener)
+          .respondSerialized(UInt64.valueOf(slot), blocks.get(slot).sszSerialize());
+    }
+    inOrder.verify(listener).respond(blocks.get(4));
+    inOrder.verify(listener).respond(blocks.get(5));
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  void shouldLoadMissingSerializedFinalizedBlocksIndividually() {
+    final int startBlock = 1;
+    final int count = 3;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+    withSerializedFinalizedBlocks(1, 3, 1, 2);
+
+    requestBlocks(startBlock, count, skip);
+
+    final InOrder inOrder = Mockito.inOrder(listener);
+    inOrder.verify(listener).respondSerialized(ONE, blocks.get(1).sszSerialize());
+    inOrder.verify(listener).respondSerialized(UInt64.valueOf(2), blocks.get(2).sszSerialize());
+    inOrder.verify(listener).respond(blocks.get(3));
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  void shouldLoadAndSendSerializedFinalizedBlocksInBatches() {
+    final BeaconBlocksByRangeMessageHandler handler =
+        new BeaconBlocksByRangeMessageHandler(spec, combinedChainDataClient, maxRequestSize, 2);
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+    withSerializedFinalizedBlocks(1, 2, 1, 2);
+    withSerializedFinalizedBlocks(3, 4, 3, 4);
+    withSerializedFinalizedBlocks(5, 5, 5);
+
+    handler.onIncomingMessage(
+        protocolId,
+        peer,
+        new BeaconBlocksByRangeRequestMessage(UInt64.valueOf(1), UInt64.valueOf(5), ONE),
+        listener);
+
+    final InOrder inOrder = Mockito.inOrder(combinedChainDataClient, listener);
+    for (int batchStart = 1; batchStart <= 5; batchStart += 2) {
+      final int batchEnd = Math.min(batchStart + 1, 5);
+      inOrder
+          .verify(combinedChainDataClient)
+          .getSerializedFinalizedBlocks(UInt64.valueOf(batchStart), UInt64.valueOf(batchEnd));
+      for (int slot = batchStart; slot <= batchEnd; slot++) {
+        inOrder
+            .verify(listener)
+            .respondSerialized(UInt64.valueOf(slot), blocks.get(slot).sszSerialize());
+      }
+    }
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
+  @Test
+  void shouldNotLoadSerializedFinalizedBlocksWhenStepIsGreaterThanOne() {
+    final int startBlock = 1;
+    final int count = 2;
+    final int skip = 2;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+
+    requestBlocks(startBlock, count, skip);
+
+    verifyBlocksReturned(1, 3);
+    verify(combinedChainDataClient, never()).getSerializedFinalizedBlocks(any(), any());
+  }
+
   private void requestBlocks(final int startBlock, final long count, final int skip) {
 
     handler.onIncomingMessage(
@@ -438,6 +546,17 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyNoMoreInteractions(listener);
   }
 
+  private void verifySerializedBlocksReturned(final int... slots) {
+    final InOrder inOrder = Mockito.inOrder(listener);
+    for (int slot : slots) {
+      inOrder
+          .verify(listener)
+          .respondSerialized(UInt64.valueOf(slot), blocks.get(slot).sszSerialize());
+    }
+    inOrder.verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(listener);
+  }
+
   private void withAncestorRoots(
       final int startBlock,
       final int count,
@@ -478,6 +597,17 @@ class BeaconBlocksByRangeMessageHandlerTest {
             });
   }
 
+  private void withSerializedFinalizedBlocks(
+      final int startSlot, final int endSlot, final int... slots) {
+    final NavigableMap<UInt64, Bytes> serializedBlocks = new TreeMap<>();
+    IntStream.of(slots)
+        .forEach(
+            slot -> serializedBlocks.put(UInt64.valueOf(slot), blocks.get(slot).sszSerialize()));
+    when(combinedChainDataClient.getSerializedFinalizedBlocks(
+            UInt64.valueOf(startSlot), UInt64.valueOf(endSlot)))
+        .thenReturn(completedFuture(serializedBlocks));
+  }
+
   private void withCanonicalHeadBlock(final StateAndBlockSummary chainHead) {
     when(combinedChainDataClient.getChainHead())
         .thenReturn(Optional.of(ChainHead.create(chainHead)));
@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
@@ -43,4 +44,14 @@ public class NoopCompressorTest {
     assertThat(uncompressed).isPresent();
     assertThat(Bytes.wrapByteBuf(uncompressed.get())).isEqualTo(serializedState);
   }
+
+  @Test
+  public void compress_byteBufShouldCopyData() {
+    final Bytes data = Bytes.fromHexString("0x010203");
+    final ByteBuf out = Unpooled.buffer();
+
+    compressor.compress(Unpooled.wrappedBuffer(data.toArrayUnsafe()), out);
+
+    assertThat(Bytes.wrap(ByteBufUtil.getBytes(out))).isEqualTo(data);
+  }
 }
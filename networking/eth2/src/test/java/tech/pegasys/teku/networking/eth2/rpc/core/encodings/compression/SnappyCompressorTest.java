@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCounted;
 import java.util.ArrayList;
 import java.util.List;
@@ -73,6 +75,20 @@ public class SnappyCompressorTest {
     }
   }
 
+  @Test
+  public void compress_byteBufShouldMatchBytes() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(0);
+    final Bytes serializedState = state.sszSerialize();
+    final ByteBuf data = Unpooled.wrappedBuffer(serializedState.toArrayUnsafe());
+    final ByteBuf out = Unpooled.buffer();
+
+    compressor.compress(data, out);
+
+    assertThat(data.isReadable()).isFalse();
+    assertThat(Bytes.wrap(ByteBufUtil.getBytes(out)))
+        .isEqualTo(compressor.compress(serializedState));
+  }
+
   @Test
   public void uncompress_invalidData() {
     final BeaconState state = dataStructureUtil.randomBeaconState(0);
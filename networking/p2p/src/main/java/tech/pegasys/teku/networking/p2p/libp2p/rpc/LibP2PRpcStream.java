@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.p2p.libp2p.rpc;
 import com.google.common.base.MoreObjects;
 import io.libp2p.core.P2PChannel;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -44,8 +45,8 @@ public class LibP2PRpcStream implements RpcStream {
     if (writeStreamClosed.get()) {
       throw new StreamClosedException();
     }
-    final ByteBuf reqByteBuf = ctx.alloc().buffer();
-    reqByteBuf.writeBytes(bytes.toArrayUnsafe());
+    // Encoded payloads are already exactly sized, wrap rather than copy into a growing buffer
+    final ByteBuf reqByteBuf = Unpooled.wrappedBuffer(bytes.toArrayUnsafe());
 
     return toSafeFuture(ctx.writeAndFlush(reqByteBuf));
   }
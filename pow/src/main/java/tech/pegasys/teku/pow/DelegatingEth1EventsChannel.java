@@ -14,6 +14,7 @@
 package tech.pegasys.teku.pow;
 
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -40,4 +41,9 @@ public class DelegatingEth1EventsChannel implements Eth1EventsChannel {
   public void onEth1Block(final Bytes32 blockHash, final UInt64 blockTimestamp) {
     delegate.onEth1Block(blockHash, blockTimestamp);
   }
+
+  @Override
+  public void onInitialDepositTreeSnapshot(final DepositTreeSnapshot snapshot) {
+    delegate.onInitialDepositTreeSnapshot(snapshot);
+  }
 }
@@ -118,6 +118,7 @@ import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerifica
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
 import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -134,6 +135,7 @@ import tech.pegasys.teku.validator.api.ValidatorPerformanceTrackingMode;
 import tech.pegasys.teku.validator.coordinator.ActiveValidatorTracker;
 import tech.pegasys.teku.validator.coordinator.BlockFactory;
 import tech.pegasys.teku.validator.coordinator.BlockOperationSelectorFactory;
+import tech.pegasys.teku.validator.coordinator.BlockTemplateCache;
 import tech.pegasys.teku.validator.coordinator.DepositProvider;
 import tech.pegasys.teku.validator.coordinator.DutyMetrics;
 import tech.pegasys.teku.validator.coordinator.Eth1DataCache;
@@ -518,7 +520,13 @@ public class BeaconChainController extends Service implements BeaconChainControl
 
   public void initDepositProvider() {
     LOG.debug("BeaconChainController.initDepositProvider()");
-    depositProvider = new DepositProvider(metricsSystem, recentChainData, eth1DataCache, spec);
+    depositProvider =
+        new DepositProvider(
+            metricsSystem,
+            recentChainData,
+            eth1DataCache,
+            eventChannels.getPublisher(Eth1DepositStorageChannel.class, beaconAsyncRunner),
+            spec);
     eventChannels
         .subscribe(Eth1EventsChannel.class, depositProvider)
         .subscribe(FinalizedCheckpointChannel.class, depositProvider);
@@ -562,6 +570,16 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 forkChoiceNotifier,
                 executionEngine,
                 beaconConfig.validatorConfig().isProposerMevBoostEnabled()));
+    final BlockTemplateCache blockTemplateCache =
+        new BlockTemplateCache(
+            spec,
+            metricsSystem,
+            beaconAsyncRunner,
+            timeProvider,
+            combinedChainDataClient,
+            syncService,
+            activeValidatorTracker,
+            blockFactory);
     SyncCommitteeSubscriptionManager syncCommitteeSubscriptionManager =
         beaconConfig.p2pConfig().isSubscribeAllSubnetsEnabled()
             ? new AllSyncCommitteeSubscriptions(p2pNetwork, spec)
@@ -576,6 +594,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             combinedChainDataClient,
             syncService,
             blockFactory,
+            blockTemplateCache,
             blockImportChannel,
             blockGossipChannel,
             attestationPool,
@@ -592,6 +611,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncCommitteeSubscriptionManager);
     eventChannels
         .subscribe(SlotEventsChannel.class, activeValidatorTracker)
+        .subscribe(SlotEventsChannel.class, blockTemplateCache)
         .subscribeMultithreaded(
             ValidatorApiChannel.class,
             validatorApiHandler,
@@ -646,7 +666,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
     AttestationValidator attestationValidator =
         new AttestationValidator(spec, recentChainData, signatureVerificationService);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(spec, attestationValidator, signatureVerificationService);
+        new AggregateAttestationValidator(
+            spec, attestationValidator, signatureVerificationService.getPriorityVerifier());
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -681,7 +702,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 recentChainData,
                 syncCommitteeStateUtils,
                 timeProvider,
-                signatureVerificationService));
+                signatureVerificationService.getPriorityVerifier()));
 
     syncCommitteeMessagePool =
         new SyncCommitteeMessagePool(
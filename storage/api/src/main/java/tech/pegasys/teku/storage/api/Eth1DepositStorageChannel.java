@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.storage.api;
 
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.ChannelInterface;
 import tech.pegasys.teku.storage.api.schema.ReplayDepositsResult;
 
 public interface Eth1DepositStorageChannel extends ChannelInterface {
   SafeFuture<ReplayDepositsResult> replayDepositEvents();
+
+  void storeFinalizedDepositSnapshot(DepositTreeSnapshot snapshot);
 }
@@ -15,8 +15,10 @@ package tech.pegasys.teku.storage.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.ChannelInterface;
@@ -45,6 +47,17 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot);
 
+  /**
+   * Returns the SSZ serialized finalized blocks from startSlot to endSlot (both inclusive) without
+   * deserializing them.
+   *
+   * @param startSlot the slot of the first block to return
+   * @param endSlot the slot of the last block to return
+   * @return A map from slot to the serialized block at that slot
+   */
+  SafeFuture<NavigableMap<UInt64, Bytes>> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot);
 
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(final Bytes32 blockRoot);
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -141,6 +142,18 @@ public class CombinedChainDataClient {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the SSZ serialized finalized blocks from startSlot to endSlot (both inclusive), keyed
+   * by slot. The blocks are read from storage in a single pass and are not deserialized.
+   *
+   * <p>Only blocks which have been written to the finalized storage are returned so recently
+   * finalized blocks may be missing and should be loaded via the normal block lookups instead.
+   */
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return historicalChainData.getSerializedFinalizedBlocks(startSlot, endSlot);
+  }
+
   public SafeFuture<Optional<BeaconBlockAndState>> getBlockAndStateInEffectAtSlot(
       final UInt64 slot) {
     return getSignedBlockAndStateInEffectAtSlot(slot)
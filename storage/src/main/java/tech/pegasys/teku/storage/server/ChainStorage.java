@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -133,6 +135,12 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<NavigableMap<UInt64, Bytes>> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return SafeFuture.of(() -> database.getSerializedFinalizedBlocks(startSlot, endSlot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
@@ -17,10 +17,13 @@ import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -101,6 +104,16 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<SignedBeaconBlock> streamFinalizedBlocks(UInt64 startSlot, UInt64 endSlot);
 
+  /**
+   * Return the SSZ serialized finalized blocks from startSlot to endSlot, both inclusive, without
+   * deserializing them.
+   *
+   * @param startSlot the slot of the first block to return
+   * @param endSlot the slot of the last block to return
+   * @return a map from slot to the serialized block at that slot
+   */
+  NavigableMap<UInt64, Bytes> getSerializedFinalizedBlocks(UInt64 startSlot, UInt64 endSlot);
+
   List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot);
 
   void addHotStateRoots(final Map<Bytes32, SlotAndBlockRoot> stateRootToSlotAndBlockRootMap);
@@ -118,9 +131,22 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
+  /**
+   * Streams the stored deposit events, starting from the given Eth1 block.
+   *
+   * @param startBlockNumber the first Eth1 block number to include (inclusive)
+   * @return a stream of the deposit events from {@code startBlockNumber} onwards
+   */
+  @MustBeClosed
+  Stream<DepositsFromBlockEvent> streamDepositsFromBlocks(UInt64 startBlockNumber);
+
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
   void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event);
 
   void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+  void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
   void storeVotes(Map<UInt64, VoteTracker> votes);
 }
@@ -26,7 +26,8 @@ public enum DatabaseVersion {
   V6("6"),
   LEVELDB1("leveldb1"),
   LEVELDB2("leveldb2"),
-  LEVELDB_TREE("leveldb-tree");
+  LEVELDB_TREE("leveldb-tree"),
+  LEVELDB_DIFF("leveldb-diff");
 
   private static final Logger LOG = LogManager.getLogger();
   public static final DatabaseVersion DEFAULT_VERSION;
@@ -13,19 +13,25 @@
 
 package tech.pegasys.teku.storage.server;
 
+import static tech.pegasys.teku.spec.constants.NetworkConstants.DEPOSIT_CONTRACT_TREE_DEPTH;
+
 import com.google.common.base.Suppliers;
+import com.google.errorprone.annotations.MustBeClosed;
 import java.math.BigInteger;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.pow.api.Eth1EventsChannel;
+import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
+import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.schema.ReplayDepositsResult;
 
@@ -35,18 +41,34 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
 
   private final Database database;
   private final Eth1EventsChannel eth1EventsChannel;
+  private final boolean useDepositSnapshot;
   private volatile Optional<BigInteger> lastReplayedBlock = Optional.empty();
   private final Supplier<SafeFuture<ReplayDepositsResult>> replayResult;
 
-  private DepositStorage(final Eth1EventsChannel eth1EventsChannel, final Database database) {
+  private DepositStorage(
+      final Eth1EventsChannel eth1EventsChannel,
+      final Database database,
+      final boolean useDepositSnapshot) {
     this.eth1EventsChannel = eth1EventsChannel;
     this.database = database;
+    this.useDepositSnapshot = useDepositSnapshot;
     this.replayResult = Suppliers.memoize(() -> SafeFuture.of(this::replayDeposits));
   }
 
   public static DepositStorage create(
       final Eth1EventsChannel eth1EventsChannel, final Database database) {
-    return new DepositStorage(eth1EventsChannel, database);
+    return create(eth1EventsChannel, database, true);
+  }
+
+  /**
+   * @param useDepositSnapshot when true and a finalized deposit snapshot is stored, the snapshot is
+   *     sent in place of the deposit events it covers
+   */
+  public static DepositStorage create(
+      final Eth1EventsChannel eth1EventsChannel,
+      final Database database,
+      final boolean useDepositSnapshot) {
+    return new DepositStorage(eth1EventsChannel, database, useDepositSnapshot);
   }
 
   @Override
@@ -54,10 +76,20 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     return replayResult.get();
   }
 
+  @Override
+  public void storeFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    database.setFinalizedDepositSnapshot(snapshot);
+  }
+
   private ReplayDepositsResult replayDeposits() {
     final DepositSequencer depositSequencer =
         new DepositSequencer(eth1EventsChannel, database.getMinGenesisTimeBlock());
-    try (Stream<DepositsFromBlockEvent> eventStream = database.streamDepositsFromBlocks()) {
+    final Optional<DepositTreeSnapshot> snapshot =
+        useDepositSnapshot
+            ? database.getFinalizedDepositSnapshot().filter(DepositStorage::isValidSnapshot)
+            : Optional.empty();
+    snapshot.ifPresent(depositSequencer::depositSnapshot);
+    try (Stream<DepositsFromBlockEvent> eventStream = streamDepositsAfter(snapshot)) {
       eventStream.forEach(depositSequencer::depositEvent);
     }
     ReplayDepositsResult result = depositSequencer.depositsComplete();
@@ -65,6 +97,39 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     return result;
   }
 
+  /**
+   * Checks the snapshot restores to its deposit root before it is published, so a corrupt snapshot
+   * falls back to replaying every stored deposit instead of failing the deposit provider.
+   */
+  private static boolean isValidSnapshot(final DepositTreeSnapshot snapshot) {
+    try {
+      final MerkleTree restoredTree =
+          OptimizedMerkleTree.fromFinalizedSubtreeRoots(
+              DEPOSIT_CONTRACT_TREE_DEPTH,
+              snapshot.getDepositCount().intValue(),
+              snapshot.getFinalized());
+      if (restoredTree.getRoot().equals(snapshot.getDepositRoot())) {
+        return true;
+      }
+      LOG.warn(
+          "Ignoring finalized deposit snapshot with root {} which does not match its deposits. "
+              + "Replaying all stored deposits.",
+          snapshot.getDepositRoot());
+    } catch (final IllegalArgumentException | ArithmeticException e) {
+      LOG.warn("Ignoring invalid finalized deposit snapshot. Replaying all stored deposits.", e);
+    }
+    return false;
+  }
+
+  @MustBeClosed
+  private Stream<DepositsFromBlockEvent> streamDepositsAfter(
+      final Optional<DepositTreeSnapshot> snapshot) {
+    if (snapshot.isEmpty()) {
+      return database.streamDepositsFromBlocks();
+    }
+    return database.streamDepositsFromBlocks(snapshot.get().getBlockNumber().increment());
+  }
+
   private boolean shouldProcessEvent(final BigInteger blockNumber) {
     return lastReplayedBlock.map(startBlock -> startBlock.compareTo(blockNumber) < 0).orElse(false);
   }
@@ -96,6 +161,21 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
       this.genesis = genesis;
     }
 
+    public void depositSnapshot(final DepositTreeSnapshot snapshot) {
+      LOG.debug(
+          "Restoring {} deposits up to block {} from snapshot",
+          snapshot.getDepositCount(),
+          snapshot.getBlockNumber());
+      eth1EventsChannel.onInitialDepositTreeSnapshot(snapshot);
+      if (genesis.isPresent()
+          && genesis.get().getBlockNumber().isLessThanOrEqualTo(snapshot.getBlockNumber())) {
+        this.eth1EventsChannel.onMinGenesisTimeBlock(genesis.get());
+        isGenesisDone = true;
+      }
+      lastDepositIndex = Optional.of(snapshot.getDepositCount().minusMinZero(1));
+      lastDepositBlockNumber = snapshot.getBlockNumber().bigIntegerValue();
+    }
+
     public void depositEvent(final DepositsFromBlockEvent event) {
       LOG.trace(
           "Process deposits {} - {}", event.getFirstDepositIndex(), event.getLastDepositIndex());
@@ -169,6 +169,13 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
             dbVersion.getValue(),
             dbDirectory.getAbsolutePath());
         break;
+      case LEVELDB_DIFF:
+        database = createLevelDbDiffDatabase();
+        LOG.info(
+            "Created leveldb_diff Hot and Finalized database ({}) at {}",
+            dbVersion.getValue(),
+            dbDirectory.getAbsolutePath());
+        break;
       default:
         throw new UnsupportedOperationException("Unhandled database version " + dbVersion);
     }
@@ -291,6 +298,22 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     }
   }
 
+  private Database createLevelDbDiffDatabase() {
+    try {
+      final KvStoreConfiguration dbConfiguration = initV6Configuration();
+
+      return LevelDbDatabaseFactory.createLevelDbDiff(
+          metricsSystem,
+          dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
+          stateStorageMode,
+          stateStorageFrequency,
+          storeNonCanonicalBlocks,
+          spec);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
+    }
+  }
+
   private KvStoreConfiguration initV6Configuration() throws IOException {
     final V6DatabaseMetadata metaData =
         V6DatabaseMetadata.init(getMetadataFile(), V6DatabaseMetadata.singleDBDefault());
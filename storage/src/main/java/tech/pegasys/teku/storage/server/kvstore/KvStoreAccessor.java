@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -31,6 +32,19 @@ public interface KvStoreAccessor extends AutoCloseable {
 
   <K, V> Map<K, V> getAll(KvStoreColumn<K, V> column);
 
+  /**
+   * Returns the values for each of the given keys that are present in the column. Implementations
+   * may look up all keys in a single batch which is considerably faster than calling {@link
+   * #get(KvStoreColumn, Object)} for each key.
+   *
+   * @param column The column we want to query
+   * @param keys The requested keys
+   * @param <K> The key type of the column
+   * @param <V> The value type of the column
+   * @return A map from key to value, which only contains the keys that were found
+   */
+  <K, V> Map<K, V> multiGet(KvStoreColumn<K, V> column, Collection<K> keys);
+
   /**
    * Returns the last entry with a key less than or equal to the given key.
    *
@@ -88,6 +102,21 @@ public interface KvStoreAccessor extends AutoCloseable {
   <K extends Comparable<K>, V> Stream<ColumnEntry<K, V>> stream(
       KvStoreColumn<K, V> column, K from, K to);
 
+  /**
+   * Stream entries from a column between keys from and to fully inclusive, without deserializing
+   * the values.
+   *
+   * @param column the column to stream entries from
+   * @param from the first key to return
+   * @param to the last key to return
+   * @param <K> the key type of the column
+   * @param <V> the value type of the column
+   * @return a Stream of entries with their serialized values between from and to (fully inclusive).
+   */
+  @MustBeClosed
+  <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      KvStoreColumn<K, V> column, K from, K to);
+
   KvStoreTransaction startTransaction();
 
   interface KvStoreTransaction extends AutoCloseable {
@@ -27,8 +27,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,10 +38,12 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.ethereum.forkchoice.StoredBlockMetadata;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -72,11 +76,13 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreFinalizedDao.F
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreHotDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreHotDao.HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateDiffStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalized;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedDiffState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHot;
@@ -145,6 +151,29 @@ public class KvStoreDatabase implements Database {
         finalizedStateStorageLogic);
   }
 
+  public static Database createWithStateDiffs(
+      final MetricsSystem metricsSystem,
+      final KvStoreAccessor db,
+      final SchemaHot schemaHot,
+      final SchemaFinalizedDiffState schemaFinalized,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec) {
+    final V4FinalizedStateDiffStorageLogic finalizedStateStorageLogic =
+        new V4FinalizedStateDiffStorageLogic(spec, stateStorageFrequency);
+    return create(
+        metricsSystem,
+        db,
+        db,
+        schemaHot,
+        schemaFinalized,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic);
+  }
+
   public static Database createWithStateTree(
       final MetricsSystem metricsSystem,
       final KvStoreAccessor db,
@@ -464,6 +493,17 @@ public class KvStoreDatabase implements Database {
     return finalizedDao.streamFinalizedBlocks(startSlot, endSlot);
   }
 
+  @Override
+  public NavigableMap<UInt64, Bytes> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    try (final Stream<ColumnEntry<UInt64, Bytes>> blocks =
+        finalizedDao.streamSerializedFinalizedBlocks(startSlot, endSlot)) {
+      final NavigableMap<UInt64, Bytes> result = new TreeMap<>();
+      blocks.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+      return result;
+    }
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     return hotDao.getStateRootsBeforeSlot(slot);
@@ -512,6 +552,17 @@ public class KvStoreDatabase implements Database {
     return eth1Dao.streamDepositsFromBlocks();
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks(final UInt64 startBlockNumber) {
+    return eth1Dao.streamDepositsFromBlocks(startBlockNumber);
+  }
+
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return eth1Dao.getFinalizedDepositSnapshot();
+  }
+
   @Override
   public void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {
     try (final Eth1Updater updater = eth1Dao.eth1Updater()) {
@@ -528,6 +579,14 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    try (final Eth1Updater updater = eth1Dao.eth1Updater()) {
+      updater.setFinalizedDepositSnapshot(snapshot);
+      updater.commit();
+    }
+  }
+
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {
     try (final KvStoreHotDao.HotUpdater hotUpdater = hotDao.hotUpdater()) {
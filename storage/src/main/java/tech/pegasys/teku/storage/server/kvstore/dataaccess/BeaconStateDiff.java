@@ -0,0 +1,248 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+
+/**
+ * Encodes finalized states as compact binary diffs against an earlier base state of the same
+ * milestone.
+ *
+ * <p>The diff is computed per top level state field. Fields with the same hash tree root as the
+ * base are marked unchanged and are shared with the base when the diff is applied. For other fields
+ * the SSZ serialization is XORed with the base's serialization of that field. List fields like
+ * validators, balances, participation flags and inactivity scores only grow at the end, so their
+ * elements stay aligned and the XOR is zero everywhere except for the elements that actually
+ * changed and, for balances, the low order bytes. Runs of zero bytes are then run length encoded.
+ *
+ * <p>Format: base slot (8 bytes, little endian), field count (varint), then for each field either
+ * {@code UNCHANGED} or {@code CHANGED} followed by the field's SSZ length (varint) and a sequence
+ * of (zero run length, literal length, literal XOR bytes) tuples covering that length.
+ */
+class BeaconStateDiff {
+  private static final int UNCHANGED = 0;
+  private static final int CHANGED = 1;
+  // Shorter zero runs are cheaper to keep in the literal than to encode as a separate run
+  private static final int MIN_ZERO_RUN = 4;
+
+  private final BeaconState base;
+  private final byte[][] baseFieldSsz;
+
+  BeaconStateDiff(final BeaconState base) {
+    this.base = base;
+    this.baseFieldSsz = new byte[base.getBeaconStateSchema().getFieldsCount()][];
+  }
+
+  BeaconState getBase() {
+    return base;
+  }
+
+  /** Diffs can only be created between states of the same milestone */
+  boolean canEncode(final BeaconState target) {
+    return target.getBeaconStateSchema().equals(base.getBeaconStateSchema());
+  }
+
+  Bytes encode(final BeaconState target) {
+    checkArgument(canEncode(target), "Can't diff states with different schemas");
+    final int fieldCount = baseFieldSsz.length;
+    final Output out = new Output();
+    out.writeBytes(
+        Bytes.ofUnsignedLong(base.getSlot().longValue(), ByteOrder.LITTLE_ENDIAN).toArrayUnsafe());
+    out.writeVarInt(fieldCount);
+    for (int i = 0; i < fieldCount; i++) {
+      final SszData targetField = target.get(i);
+      if (targetField.hashTreeRoot().equals(base.get(i).hashTreeRoot())) {
+        out.write(UNCHANGED);
+        continue;
+      }
+      final byte[] targetSsz = targetField.sszSerialize().toArrayUnsafe();
+      out.write(CHANGED);
+      out.writeVarInt(targetSsz.length);
+      writeXorRuns(out, targetSsz, getBaseFieldSsz(i));
+    }
+    return out.toBytes();
+  }
+
+  static UInt64 getBaseSlot(final Bytes diff) {
+    return UInt64.fromLongBits(diff.getLong(0, ByteOrder.LITTLE_ENDIAN));
+  }
+
+  static BeaconState apply(final BeaconState base, final Bytes diff) {
+    checkArgument(
+        getBaseSlot(diff).equals(base.getSlot()),
+        "Diff is based on slot %s but base state is at slot %s",
+        getBaseSlot(diff),
+        base.getSlot());
+    final BeaconStateSchema<?, ?> schema = base.getBeaconStateSchema();
+    final Input in = new Input(diff.toArrayUnsafe(), Long.BYTES);
+    final int fieldCount = in.readVarInt();
+    checkArgument(
+        fieldCount == schema.getFieldsCount(),
+        "Diff has %s fields but base state has %s",
+        fieldCount,
+        schema.getFieldsCount());
+    final List<SszData> fields = new ArrayList<>(fieldCount);
+    for (int i = 0; i < fieldCount; i++) {
+      final SszData baseField = base.get(i);
+      final int marker = in.read();
+      if (marker == UNCHANGED) {
+        fields.add(baseField);
+      } else if (marker == CHANGED) {
+        final byte[] fieldSsz = new byte[in.readVarInt()];
+        readXorRuns(in, fieldSsz, baseField.sszSerialize().toArrayUnsafe());
+        fields.add(schema.getChildSchema(i).sszDeserialize(Bytes.wrap(fieldSsz)));
+      } else {
+        throw new IllegalArgumentException("Invalid diff field marker: " + marker);
+      }
+    }
+    checkArgument(!in.hasRemaining(), "Unexpected trailing bytes in state diff");
+    return schema.createFromFieldValues(fields);
+  }
+
+  private byte[] getBaseFieldSsz(final int fieldIndex) {
+    if (baseFieldSsz[fieldIndex] == null) {
+      baseFieldSsz[fieldIndex] = base.get(fieldIndex).sszSerialize().toArrayUnsafe();
+    }
+    return baseFieldSsz[fieldIndex];
+  }
+
+  private static void writeXorRuns(final Output out, final byte[] target, final byte[] base) {
+    int pos = 0;
+    while (pos < target.length) {
+      final int zeroRunStart = pos;
+      while (pos < target.length && xor(target, base, pos) == 0) {
+        pos++;
+      }
+      final int literalStart = pos;
+      while (pos < target.length && !isZeroRun(target, base, pos)) {
+        pos++;
+      }
+      out.writeVarInt(literalStart - zeroRunStart);
+      out.writeVarInt(pos - literalStart);
+      for (int i = literalStart; i < pos; i++) {
+        out.write(xor(target, base, i));
+      }
+    }
+  }
+
+  private static void readXorRuns(final Input in, final byte[] target, final byte[] base) {
+    int pos = 0;
+    while (pos < target.length) {
+      final long zeroRunEnd = (long) pos + in.readVarInt();
+      final long literalEnd = zeroRunEnd + in.readVarInt();
+      checkArgument(literalEnd > pos && literalEnd <= target.length, "Invalid run in state diff");
+      for (; pos < zeroRunEnd; pos++) {
+        target[pos] = baseByte(base, pos);
+      }
+      for (; pos < literalEnd; pos++) {
+        target[pos] = (byte) (in.read() ^ baseByte(base, pos));
+      }
+    }
+  }
+
+  private static boolean isZeroRun(final byte[] target, final byte[] base, final int pos) {
+    final int end = Math.min(pos + MIN_ZERO_RUN, target.length);
+    for (int i = pos; i < end; i++) {
+      if (xor(target, base, i) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int xor(final byte[] target, final byte[] base, final int pos) {
+    return (target[pos] ^ baseByte(base, pos)) & 0xFF;
+  }
+
+  private static byte baseByte(final byte[] base, final int pos) {
+    return pos < base.length ? base[pos] : 0;
+  }
+
+  private static class Output {
+    private byte[] buffer = new byte[1024];
+    private int size = 0;
+
+    void write(final int value) {
+      ensureCapacity(1);
+      buffer[size++] = (byte) value;
+    }
+
+    void writeBytes(final byte[] bytes) {
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, buffer, size, bytes.length);
+      size += bytes.length;
+    }
+
+    void writeVarInt(final int value) {
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        write((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      write(remaining);
+    }
+
+    Bytes toBytes() {
+      return Bytes.wrap(Arrays.copyOf(buffer, size));
+    }
+
+    private void ensureCapacity(final int additional) {
+      if (size + additional > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+      }
+    }
+  }
+
+  private static class Input {
+    private final byte[] data;
+    private int pos;
+
+    Input(final byte[] data, final int pos) {
+      this.data = data;
+      this.pos = pos;
+    }
+
+    int read() {
+      checkArgument(pos < data.length, "Unexpected end of state diff");
+      return data[pos++] & 0xFF;
+    }
+
+    int readVarInt() {
+      int value = 0;
+      for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+        final int b = read();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          checkArgument(value >= 0, "Invalid varint in state diff");
+          return value;
+        }
+      }
+      throw new IllegalArgumentException("Invalid varint in state diff");
+    }
+
+    boolean hasRemaining() {
+      return pos < data.length;
+    }
+  }
+}
@@ -16,8 +16,10 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Optional;
 import java.util.stream.Stream;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 /**
  * Provides an abstract "data access object" interface for working with ETH1 data from the
@@ -28,8 +30,13 @@ public interface KvStoreEth1Dao extends AutoCloseable {
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
+  @MustBeClosed
+  Stream<DepositsFromBlockEvent> streamDepositsFromBlocks(UInt64 startBlockNumber);
+
   Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock();
 
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
   Eth1Updater eth1Updater();
 
   interface Eth1Updater extends AutoCloseable {
@@ -37,6 +44,8 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
     void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+    void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
     void commit();
 
     void cancel();
@@ -19,11 +19,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 
 /**
  * Provides an abstract "data access object" interface for working with finalized data from the
@@ -50,6 +52,14 @@ public interface KvStoreFinalizedDao extends AutoCloseable {
   @MustBeClosed
   Stream<SignedBeaconBlock> streamFinalizedBlocks(UInt64 startSlot, UInt64 endSlot);
 
+  /**
+   * Streams the SSZ serialized finalized blocks between startSlot and endSlot (inclusive) keyed by
+   * slot, without deserializing them.
+   */
+  @MustBeClosed
+  Stream<ColumnEntry<UInt64, Bytes>> streamSerializedFinalizedBlocks(
+      UInt64 startSlot, UInt64 endSlot);
+
   Optional<UInt64> getSlotForFinalizedBlockRoot(Bytes32 blockRoot);
 
   Optional<UInt64> getSlotForFinalizedStateRoot(Bytes32 stateRoot);
@@ -13,25 +13,55 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedTreeState;
 
+/**
+ * Loads tree nodes for finalized states stored as Merkle trees.
+ *
+ * <p>States are loaded lazily, so each node is only requested when that part of the state is
+ * accessed. To avoid a separate database read for every node, a request for an unknown branch
+ * prefetches its subtree breadth first, fetching all the nodes of a level with one multi-get, until
+ * {@code maxPrefetchNodes} nodes have been requested. Prefetched nodes are kept in a bounded LRU
+ * cache because identical subtrees are common within a state. Evicted nodes are simply read again
+ * if they are required.
+ */
 class KvStoreTreeNodeSource implements TreeNodeSource {
+  private static final int DEFAULT_MAX_PREFETCH_NODES = 4096;
+  private static final int MAX_PREFETCHED_NODES_RETAINED = 2 * DEFAULT_MAX_PREFETCH_NODES;
 
   private final KvStoreAccessor db;
   private final SchemaFinalizedTreeState schema;
+  private final int maxPrefetchNodes;
+  private final Map<Bytes32, CompressedBranchInfo> prefetchedBranches =
+      LimitedMap.create(MAX_PREFETCHED_NODES_RETAINED);
+  private final Map<Bytes32, Bytes> prefetchedLeaves =
+      LimitedMap.create(MAX_PREFETCHED_NODES_RETAINED);
 
   public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaFinalizedTreeState schema) {
+    this(db, schema, DEFAULT_MAX_PREFETCH_NODES);
+  }
+
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db, final SchemaFinalizedTreeState schema, final int maxPrefetchNodes) {
     this.db = db;
     this.schema = schema;
+    this.maxPrefetchNodes = maxPrefetchNodes;
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+    return Optional.ofNullable(prefetchedBranches.get(rootHash))
+        .or(() -> fetchBranchNode(rootHash))
         .orElseThrow(
             () ->
                 new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
@@ -39,6 +69,56 @@ class KvStoreTreeNodeSource implements TreeNodeSource {
 
   @Override
   public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+    final Bytes prefetched = prefetchedLeaves.get(rootHash);
+    if (prefetched != null) {
+      return prefetched;
+    }
     return db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
   }
+
+  private Optional<CompressedBranchInfo> fetchBranchNode(final Bytes32 rootHash) {
+    if (maxPrefetchNodes <= 1) {
+      return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash);
+    }
+    prefetchSubtree(rootHash);
+    return Optional.ofNullable(prefetchedBranches.get(rootHash));
+  }
+
+  private void prefetchSubtree(final Bytes32 rootHash) {
+    List<Bytes32> level = List.of(rootHash);
+    int remaining = maxPrefetchNodes;
+    while (!level.isEmpty() && remaining > 0) {
+      final List<Bytes32> batch = level.size() > remaining ? level.subList(0, remaining) : level;
+      remaining -= batch.size();
+
+      final Map<Bytes32, CompressedBranchInfo> branches =
+          db.multiGet(schema.getColumnFinalizedStateMerkleTreeBranches(), batch);
+      final List<Bytes32> nextLevel = new ArrayList<>();
+      final List<Bytes32> possibleLeaves = new ArrayList<>();
+      for (Bytes32 hash : batch) {
+        final CompressedBranchInfo branch = branches.get(hash);
+        if (branch == null) {
+          possibleLeaves.add(hash);
+          continue;
+        }
+        for (Bytes32 child : branch.getChildren()) {
+          // Zero trees are never loaded from the database
+          if (!TreeUtil.ZERO_TREES_BY_ROOT.containsKey(child)) {
+            nextLevel.add(child);
+          }
+        }
+      }
+      prefetchedBranches.putAll(branches);
+
+      if (!possibleLeaves.isEmpty()) {
+        // Leaves of up to 32 bytes are not stored because their data is the same as their hash
+        final Map<Bytes32, Bytes> leaves =
+            db.multiGet(schema.getColumnFinalizedStateMerkleTreeLeaves(), possibleLeaves);
+        for (Bytes32 hash : possibleLeaves) {
+          prefetchedLeaves.put(hash, leaves.getOrDefault(hash, hash));
+        }
+      }
+      level = nextLevel;
+    }
+  }
 }
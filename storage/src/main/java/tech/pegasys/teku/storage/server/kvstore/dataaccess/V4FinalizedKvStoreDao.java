@@ -99,6 +99,13 @@ public class V4FinalizedKvStoreDao<S extends SchemaFinalized> implements KvStore
         .map(ColumnEntry::getValue);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<ColumnEntry<UInt64, Bytes>> streamSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.streamRawValues(schema.getColumnFinalizedBlocksBySlot(), startSlot, endSlot);
+  }
+
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return db.get(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedDiffState;
+
+/**
+ * Stores a full finalized state snapshot every {@code stateStorageFrequency} slots and a {@link
+ * BeaconStateDiff} against the latest snapshot for every epoch in between. Any stored state can be
+ * reconstructed by loading a single snapshot and applying a single diff, so historic queries only
+ * need to replay blocks within an epoch.
+ */
+public class V4FinalizedStateDiffStorageLogic
+    implements V4FinalizedStateStorageLogic<SchemaFinalizedDiffState> {
+
+  private final Spec spec;
+  private final UInt64 stateStorageFrequency;
+
+  // The latest snapshot, kept between updaters so its serialized fields aren't recomputed on each
+  // finalization. Only accessed from the storage thread.
+  private Optional<BeaconStateDiff> latestSnapshot = Optional.empty();
+
+  public V4FinalizedStateDiffStorageLogic(final Spec spec, final long stateStorageFrequency) {
+    this.spec = spec;
+    this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+  }
+
+  @Override
+  public Optional<BeaconState> getLatestAvailableFinalizedState(
+      final KvStoreAccessor db, final SchemaFinalizedDiffState schema, final UInt64 maxSlot) {
+    final Optional<ColumnEntry<UInt64, BeaconState>> snapshot =
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot);
+    final Optional<ColumnEntry<UInt64, Bytes>> diff =
+        db.getFloorEntry(schema.getColumnFinalizedStateDiffsBySlot(), maxSlot)
+            .filter(
+                entry ->
+                    snapshot.isEmpty() || entry.getKey().isGreaterThan(snapshot.get().getKey()));
+    if (diff.isEmpty()) {
+      return snapshot.map(ColumnEntry::getValue);
+    }
+    final UInt64 baseSlot = BeaconStateDiff.getBaseSlot(diff.get().getValue());
+    final BeaconState base =
+        snapshot
+            .filter(entry -> entry.getKey().equals(baseSlot))
+            .map(ColumnEntry::getValue)
+            .or(() -> db.get(schema.getColumnFinalizedStatesBySlot(), baseSlot))
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Missing base snapshot at slot "
+                            + baseSlot
+                            + " for state diff at slot "
+                            + diff.get().getKey()));
+    return Optional.of(BeaconStateDiff.apply(base, diff.get().getValue()));
+  }
+
+  @Override
+  public FinalizedStateUpdater<SchemaFinalizedDiffState> updater() {
+    return new FinalizedStateDiffUpdater();
+  }
+
+  private class FinalizedStateDiffUpdater
+      implements FinalizedStateUpdater<SchemaFinalizedDiffState> {
+
+    private Optional<BeaconStateDiff> snapshot = Optional.empty();
+    private Optional<UInt64> lastStateStoredSlot = Optional.empty();
+    private boolean loadedLastStoredState = false;
+
+    @Override
+    public void addFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaFinalizedDiffState schema,
+        final BeaconState state) {
+      if (!loadedLastStoredState) {
+        loadLastStoredState(db, schema);
+      }
+      final boolean snapshotRequired =
+          snapshot.isEmpty()
+              || !snapshot.get().canEncode(state)
+              || state
+                  .getSlot()
+                  .isGreaterThanOrEqualTo(
+                      snapshot.get().getBase().getSlot().plus(stateStorageFrequency));
+      if (snapshotRequired) {
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+        snapshot = Optional.of(new BeaconStateDiff(state));
+        lastStateStoredSlot = Optional.of(state.getSlot());
+      } else if (isInLaterEpoch(state.getSlot(), lastStateStoredSlot.orElseThrow())) {
+        transaction.put(
+            schema.getColumnFinalizedStateDiffsBySlot(),
+            state.getSlot(),
+            snapshot.get().encode(state));
+        lastStateStoredSlot = Optional.of(state.getSlot());
+      }
+    }
+
+    @Override
+    public void commit() {
+      if (loadedLastStoredState) {
+        latestSnapshot = snapshot;
+      }
+    }
+
+    private void loadLastStoredState(
+        final KvStoreAccessor db, final SchemaFinalizedDiffState schema) {
+      final Optional<UInt64> lastSnapshotSlot =
+          db.getLastKey(schema.getColumnFinalizedStatesBySlot());
+      snapshot =
+          latestSnapshot
+              .filter(diff -> lastSnapshotSlot.equals(Optional.of(diff.getBase().getSlot())))
+              .or(
+                  () ->
+                      lastSnapshotSlot
+                          .flatMap(slot -> db.get(schema.getColumnFinalizedStatesBySlot(), slot))
+                          .map(BeaconStateDiff::new));
+      final Optional<UInt64> lastDiffSlot =
+          db.getLastKey(schema.getColumnFinalizedStateDiffsBySlot());
+      lastStateStoredSlot =
+          lastDiffSlot.isPresent()
+                  && lastSnapshotSlot.isPresent()
+                  && lastDiffSlot.get().isGreaterThan(lastSnapshotSlot.get())
+              ? lastDiffSlot
+              : lastSnapshotSlot;
+      loadedLastStoredState = true;
+    }
+
+    private boolean isInLaterEpoch(final UInt64 slot, final UInt64 lastStoredSlot) {
+      return spec.computeEpochAtSlot(slot).isGreaterThan(spec.computeEpochAtSlot(lastStoredSlot));
+    }
+  }
+}
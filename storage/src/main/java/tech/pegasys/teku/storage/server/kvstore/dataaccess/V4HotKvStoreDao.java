@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -133,11 +134,23 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
     return db.stream(schema.getColumnDepositsFromBlockEvents()).map(ColumnEntry::getValue);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks(final UInt64 startBlockNumber) {
+    return db.stream(schema.getColumnDepositsFromBlockEvents(), startBlockNumber, UInt64.MAX_VALUE)
+        .map(ColumnEntry::getValue);
+  }
+
   @Override
   public Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock() {
     return db.get(schema.getVariableMinGenesisTimeBlock());
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return db.get(schema.getVariableFinalizedDepositSnapshot());
+  }
+
   @Override
   @MustBeClosed
   public HotUpdater hotUpdater() {
@@ -319,6 +332,11 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao {
       transaction.put(schema.getColumnDepositsFromBlockEvents(), event.getBlockNumber(), event);
     }
 
+    @Override
+    public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+      transaction.put(schema.getVariableFinalizedDepositSnapshot(), snapshot);
+    }
+
     @Override
     public void commit() {
       // Commit db updates
@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.kvstore.schema;
 import java.util.Collection;
 import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -75,6 +76,8 @@ public interface SchemaHot extends Schema {
 
   KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint();
 
+  KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
+
   @Override
   default Collection<KvStoreVariable<?>> getAllVariables() {
     return getVariableMap().values();
@@ -89,6 +92,7 @@ public interface SchemaHot extends Schema {
         "LATEST_FINALIZED_STATE", getVariableLatestFinalizedState(),
         "MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock(),
         "WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint(),
-        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint());
+        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint(),
+        "FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot());
   }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+
+/**
+ * The same as {@link V6SnapshotSchemaFinalized} with an additional column holding binary diffs of
+ * finalized states against the preceding snapshot
+ */
+public class V6DiffSchemaFinalized extends V6SnapshotSchemaFinalized
+    implements SchemaFinalizedDiffState {
+  // continues the column ids of V6SnapshotSchemaFinalized
+  private static final int ID_OFFSET = 128;
+
+  private static final KvStoreColumn<UInt64, Bytes> FINALIZED_STATE_DIFFS_BY_SLOT =
+      KvStoreColumn.create(ID_OFFSET + 7, UINT64_SERIALIZER, BYTES_SERIALIZER);
+
+  public V6DiffSchemaFinalized(final Spec spec) {
+    super(spec);
+  }
+
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnFinalizedStateDiffsBySlot() {
+    return FINALIZED_STATE_DIFFS_BY_SLOT;
+  }
+}
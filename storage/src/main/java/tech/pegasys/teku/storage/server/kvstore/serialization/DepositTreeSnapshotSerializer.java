@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class DepositTreeSnapshotSerializer implements KvStoreSerializer<DepositTreeSnapshot> {
+  @Override
+  public DepositTreeSnapshot deserialize(final byte[] data) {
+    return SSZ.decode(
+        Bytes.of(data),
+        reader -> {
+          final List<Bytes32> finalized =
+              reader.readBytesList().stream().map(Bytes32::wrap).collect(toList());
+          final Bytes32 depositRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          final UInt64 depositCount = UInt64.fromLongBits(reader.readUInt64());
+          final UInt64 blockNumber = UInt64.fromLongBits(reader.readUInt64());
+          final Bytes32 blockHash = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          final UInt64 blockTimestamp = UInt64.fromLongBits(reader.readUInt64());
+          return new DepositTreeSnapshot(
+              finalized, depositRoot, depositCount, blockNumber, blockHash, blockTimestamp);
+        });
+  }
+
+  @Override
+  public byte[] serialize(final DepositTreeSnapshot value) {
+    Bytes bytes =
+        SSZ.encode(
+            writer -> {
+              writer.writeBytesList(value.getFinalized());
+              writer.writeFixedBytes(value.getDepositRoot());
+              writer.writeUInt64(value.getDepositCount().longValue());
+              writer.writeUInt64(value.getBlockNumber().longValue());
+              writer.writeFixedBytes(value.getBlockHash());
+              writer.writeUInt64(value.getBlockTimestamp().longValue());
+            });
+    return bytes.toArrayUnsafe();
+  }
+}
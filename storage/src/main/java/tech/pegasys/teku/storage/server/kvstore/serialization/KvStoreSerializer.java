@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.kvstore.serialization;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
@@ -38,6 +39,8 @@ public interface KvStoreSerializer<T> {
       new DepositsFromBlockEventSerializer();
   KvStoreSerializer<MinGenesisTimeBlockEvent> MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER =
       new MinGenesisTimeBlockEventSerializer();
+  KvStoreSerializer<DepositTreeSnapshot> DEPOSIT_TREE_SNAPSHOT_SERIALIZER =
+      new DepositTreeSnapshotSerializer();
   KvStoreSerializer<SlotAndBlockRoot> SLOT_AND_BLOCK_ROOT_SERIALIZER =
       new SlotAndBlockRootSerializer();
   KvStoreSerializer<CheckpointEpochs> CHECKPOINT_EPOCHS_SERIALIZER =
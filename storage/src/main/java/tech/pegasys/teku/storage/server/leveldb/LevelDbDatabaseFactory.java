@@ -30,6 +30,7 @@ import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6DiffSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SnapshotSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
 
@@ -87,6 +88,31 @@ public class LevelDbDatabaseFactory {
         spec);
   }
 
+  public static Database createLevelDbDiff(
+      final MetricsSystem metricsSystem,
+      final KvStoreConfiguration hotConfiguration,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec) {
+    final V4SchemaHot schemaHot = new V4SchemaHot(spec);
+    final V6DiffSchemaFinalized schemaFinalized = new V6DiffSchemaFinalized(spec);
+    final List<KvStoreColumn<?, ?>> allColumns = new ArrayList<>(schemaHot.getAllColumns());
+    allColumns.addAll(schemaFinalized.getAllColumns());
+    final KvStoreAccessor db =
+        LevelDbInstanceFactory.create(metricsSystem, STORAGE, hotConfiguration, allColumns);
+
+    return KvStoreDatabase.createWithStateDiffs(
+        metricsSystem,
+        db,
+        schemaHot,
+        schemaFinalized,
+        stateStorageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        spec);
+  }
+
   public static Database createLevelDbTree(
       final MetricsSystem metricsSystem,
       final KvStoreConfiguration hotConfiguration,
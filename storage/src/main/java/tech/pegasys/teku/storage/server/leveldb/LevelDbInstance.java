@@ -25,6 +25,7 @@ import com.google.errorprone.annotations.MustBeClosed;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -129,6 +130,20 @@ public class LevelDbInstance implements KvStoreAccessor {
         });
   }
 
+  @Override
+  public <K, V> Map<K, V> multiGet(final KvStoreColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    // LevelDB has no batched lookup so fall back to individual reads
+    final Map<K, V> values = new HashMap<>();
+    for (K key : keys) {
+      final byte[] value = db.get(getColumnKey(column, key));
+      if (value != null) {
+        values.put(key, column.getValueSerializer().deserialize(value));
+      }
+    }
+    return values;
+  }
+
   @Override
   public <K, V> Optional<ColumnEntry<K, V>> getFloorEntry(
       final KvStoreColumn<K, V> column, final K key) {
@@ -235,6 +250,18 @@ public class LevelDbInstance implements KvStoreAccessor {
     return stream(column, fromBytes, toBytes);
   }
 
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    return streamRaw(column, getColumnKey(column, from), getColumnKey(column, to))
+        .map(
+            entry ->
+                ColumnEntry.create(
+                    column.getKeySerializer().deserialize(entry.getKey()),
+                    Bytes.wrap(entry.getValue())));
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> stream(
       final KvStoreColumn<K, V> column, final byte[] fromBytes, final byte[] toBytes) {
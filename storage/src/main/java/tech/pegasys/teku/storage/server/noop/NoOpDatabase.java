@@ -18,10 +18,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -124,6 +127,12 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public NavigableMap<UInt64, Bytes> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return Collections.emptyNavigableMap();
+  }
+
   @Override
   public List<Bytes32> getStateRootsBeforeSlot(final UInt64 slot) {
     return Collections.emptyList();
@@ -161,12 +170,25 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks(final UInt64 startBlockNumber) {
+    return Stream.empty();
+  }
+
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return Optional.empty();
+  }
+
   @Override
   public void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {}
 
   @Override
   public void addDepositsFromBlockEvent(final DepositsFromBlockEvent event) {}
 
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {}
+
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {}
 
@@ -15,6 +15,10 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +99,34 @@ public class RocksDbInstance implements KvStoreAccessor {
     }
   }
 
+  @Override
+  public <K, V> Map<K, V> multiGet(final KvStoreColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    if (keys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final ColumnFamilyHandle handle = columnHandles.get(column);
+    final List<K> keyList = new ArrayList<>(keys);
+    final List<byte[]> keyBytes = new ArrayList<>(keyList.size());
+    for (K key : keyList) {
+      keyBytes.add(column.getKeySerializer().serialize(key));
+    }
+    try {
+      final List<byte[]> values =
+          db.multiGetAsList(Collections.nCopies(keyBytes.size(), handle), keyBytes);
+      final Map<K, V> result = new HashMap<>();
+      for (int i = 0; i < keyList.size(); i++) {
+        final byte[] value = values.get(i);
+        if (value != null) {
+          result.put(keyList.get(i), column.getValueSerializer().deserialize(value));
+        }
+      }
+      return result;
+    } catch (RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to get values", e);
+    }
+  }
+
   @Override
   public <K, V> Optional<ColumnEntry<K, V>> getFloorEntry(KvStoreColumn<K, V> column, final K key) {
     assertOpen();
@@ -152,6 +184,22 @@ public class RocksDbInstance implements KvStoreAccessor {
         key -> key.compareTo(to) <= 0);
   }
 
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return createStreamRaw(
+            column,
+            iter -> iter.seek(column.getKeySerializer().serialize(from)),
+            key -> key.compareTo(to) <= 0)
+        .map(
+            entry ->
+                ColumnEntry.create(
+                    column.getKeySerializer().deserialize(entry.getKey()),
+                    Bytes.wrap(entry.getValue())));
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
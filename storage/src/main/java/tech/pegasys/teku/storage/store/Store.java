@@ -529,13 +529,13 @@ class Store implements UpdatableStore {
     }
   }
 
-  VoteTracker getVote(UInt64 validatorIndex) {
+  VoteTracker getVote(final int validatorIndex) {
     readLock.lock();
     try {
-      if (validatorIndex.intValue() >= votes.length) {
+      if (validatorIndex >= votes.length) {
         return null;
       }
-      return votes[validatorIndex.intValue()];
+      return votes[validatorIndex];
     } finally {
       readLock.unlock();
     }
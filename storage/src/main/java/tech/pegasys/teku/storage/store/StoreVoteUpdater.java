@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.store;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -31,7 +33,7 @@ public class StoreVoteUpdater implements VoteUpdater {
   private final Store store;
   private final ReadWriteLock lock;
   private final VoteUpdateChannel voteUpdateChannel;
-  private final Map<UInt64, VoteTracker> votes = new HashMap<>();
+  private final Int2ObjectMap<VoteTracker> votes = new Int2ObjectOpenHashMap<>();
   private UInt64 highestVotedValidatorIndex = UInt64.ZERO;
 
   StoreVoteUpdater(
@@ -43,6 +45,11 @@ public class StoreVoteUpdater implements VoteUpdater {
 
   @Override
   public VoteTracker getVote(UInt64 validatorIndex) {
+    return getVote(validatorIndex.intValue());
+  }
+
+  @Override
+  public VoteTracker getVote(final int validatorIndex) {
     VoteTracker txVote = votes.get(validatorIndex);
     if (txVote != null) {
       return txVote;
@@ -59,7 +66,7 @@ public class StoreVoteUpdater implements VoteUpdater {
 
   @Override
   public void putVote(UInt64 validatorIndex, VoteTracker vote) {
-    votes.put(validatorIndex, vote);
+    votes.put(validatorIndex.intValue(), vote);
     highestVotedValidatorIndex = highestVotedValidatorIndex.max(validatorIndex);
   }
 
@@ -104,8 +111,15 @@ public class StoreVoteUpdater implements VoteUpdater {
               store.highestVotedValidatorIndex.intValue() + Store.VOTE_TRACKER_SPARE_CAPACITY);
     }
 
-    votes.forEach((key, value) -> store.votes[key.intValue()] = value);
+    final Map<UInt64, VoteTracker> updatedVotes = new HashMap<>(votes.size());
+    votes
+        .int2ObjectEntrySet()
+        .forEach(
+            entry -> {
+              store.votes[entry.getIntKey()] = entry.getValue();
+              updatedVotes.put(UInt64.valueOf(entry.getIntKey()), entry.getValue());
+            });
 
-    voteUpdateChannel.onVotesUpdated(votes);
+    voteUpdateChannel.onVotesUpdated(updatedVotes);
   }
 }
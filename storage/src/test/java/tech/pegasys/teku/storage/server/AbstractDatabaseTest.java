@@ -36,6 +36,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -1177,6 +1178,12 @@ public abstract class AbstractDatabaseTest {
         primaryChain.getBlockAtSlot(1),
         primaryChain.getBlockAtSlot(2),
         primaryChain.getBlockAtSlot(3));
+    assertSerializedFinalizedBlocksAvailable(
+        1,
+        3,
+        primaryChain.getBlockAtSlot(1),
+        primaryChain.getBlockAtSlot(2),
+        primaryChain.getBlockAtSlot(3));
 
     switch (storageMode) {
       case ARCHIVE:
@@ -1204,6 +1211,16 @@ public abstract class AbstractDatabaseTest {
     }
   }
 
+  protected void assertSerializedFinalizedBlocksAvailable(
+      final int fromSlot, final int toSlot, final SignedBeaconBlock... expectedBlocks) {
+    final Map<UInt64, Bytes> expected =
+        Stream.of(expectedBlocks)
+            .collect(toMap(SignedBeaconBlock::getSlot, SignedBeaconBlock::sszSerialize));
+    assertThat(
+            database.getSerializedFinalizedBlocks(UInt64.valueOf(fromSlot), UInt64.valueOf(toSlot)))
+        .isEqualTo(expected);
+  }
+
   protected void assertFinalizedBlocksAndStatesAvailable(
       final List<SignedBlockAndState> blocksAndStates) {
     final List<SignedBeaconBlock> blocks =
@@ -46,6 +46,7 @@ public class DatabaseVersionTest {
         Arguments.of("6", DatabaseVersion.V6),
         Arguments.of("leveldb1", DatabaseVersion.LEVELDB1),
         Arguments.of("leveldb2", DatabaseVersion.LEVELDB2),
-        Arguments.of("leveldb-tree", DatabaseVersion.LEVELDB_TREE));
+        Arguments.of("leveldb-tree", DatabaseVersion.LEVELDB_TREE),
+        Arguments.of("leveldb-diff", DatabaseVersion.LEVELDB_DIFF));
   }
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.ethereum.pow.api.Deposit;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
@@ -37,6 +38,8 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.pow.api.TrackingEth1EventsChannel;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
+import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.api.schema.ReplayDepositsResult;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
@@ -348,6 +351,124 @@ public class DepositStorageTest {
     assertThat(future.get().isPastMinGenesisBlock()).isTrue();
   }
 
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldStoreFinalizedDepositSnapshot(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier) {
+    setup(storageSystemSupplier);
+    final DepositTreeSnapshot snapshot = createSnapshot(block100);
+
+    depositStorage.storeFinalizedDepositSnapshot(snapshot);
+
+    assertThat(database.getFinalizedDepositSnapshot()).contains(snapshot);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldSendSnapshotThenOnlyLaterDeposits(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block99);
+    database.addDepositsFromBlockEvent(block100);
+    database.addDepositsFromBlockEvent(block101);
+    final DepositTreeSnapshot snapshot = createSnapshot(block100);
+    database.setFinalizedDepositSnapshot(snapshot);
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(snapshot, block101);
+    assertThat(future.get().getLastProcessedBlockNumber())
+        .isEqualTo(block101.getBlockNumber().bigIntegerValue());
+    assertThat(future.get().getLastProcessedDepositIndex())
+        .hasValue(block101.getLastDepositIndex().bigIntegerValue());
+    assertThat(future.get().isPastMinGenesisBlock()).isFalse();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldSendGenesisIncludedInSnapshot(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block99);
+    database.addDepositsFromBlockEvent(block100);
+    database.addMinGenesisTimeBlock(genesis100);
+    database.addDepositsFromBlockEvent(block101);
+    final DepositTreeSnapshot snapshot = createSnapshot(block100);
+    database.setFinalizedDepositSnapshot(snapshot);
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(snapshot, genesis100, block101);
+    assertThat(eventsChannel.getGenesis()).isEqualToComparingFieldByField(genesis100);
+    assertThat(future.get().isPastMinGenesisBlock()).isTrue();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldIgnoreSnapshotWhenDisabled(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block99);
+    database.addDepositsFromBlockEvent(block100);
+    database.setFinalizedDepositSnapshot(createSnapshot(block100));
+    depositStorage = DepositStorage.create(eventsChannel, database, false);
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(block99, block100);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldReplayAllDepositsWhenSnapshotRootDoesNotMatch(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block99);
+    database.addDepositsFromBlockEvent(block100);
+    database.addDepositsFromBlockEvent(block101);
+    final DepositTreeSnapshot validSnapshot = createSnapshot(block100);
+    database.setFinalizedDepositSnapshot(
+        new DepositTreeSnapshot(
+            validSnapshot.getFinalized(),
+            dataStructureUtil.randomBytes32(),
+            validSnapshot.getDepositCount(),
+            validSnapshot.getBlockNumber(),
+            validSnapshot.getBlockHash(),
+            validSnapshot.getBlockTimestamp()));
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(block99, block100, block101);
+    assertThat(future.get().getLastProcessedDepositIndex())
+        .hasValue(block101.getLastDepositIndex().bigIntegerValue());
+  }
+
+  private DepositTreeSnapshot createSnapshot(final DepositsFromBlockEvent lastBlock) {
+    final UInt64 depositCount = lastBlock.getLastDepositIndex().increment();
+    final MerkleTree depositTree =
+        new OptimizedMerkleTree(spec.getGenesisSpecConfig().getDepositContractTreeDepth());
+    for (int i = 0; i < depositCount.intValue(); i++) {
+      depositTree.add(dataStructureUtil.randomBytes32());
+    }
+    depositTree.pruneFinalizedLeaves(depositCount.intValue());
+    return new DepositTreeSnapshot(
+        depositTree.getFinalizedSubtreeRoots(),
+        depositTree.getRoot(),
+        depositCount,
+        lastBlock.getBlockNumber(),
+        lastBlock.getBlockHash(),
+        lastBlock.getBlockTimestamp());
+  }
+
   private static class UnsafeDepositsFromBlockEvent extends DepositsFromBlockEvent {
 
     protected UnsafeDepositsFromBlockEvent(
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class BeaconStateDiffTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState base = dataStructureUtil.randomBeaconState(UInt64.valueOf(64));
+
+  @Test
+  void shouldReconstructTargetState() {
+    final BeaconState target = updateState(base, 96);
+
+    final Bytes diff = new BeaconStateDiff(base).encode(target);
+
+    final BeaconState result = BeaconStateDiff.apply(base, diff);
+    assertThat(result).isEqualTo(target);
+    assertThat(result.hashTreeRoot()).isEqualTo(target.hashTreeRoot());
+  }
+
+  @Test
+  void shouldReconstructIdenticalState() {
+    final Bytes diff = new BeaconStateDiff(base).encode(base);
+
+    assertThat(BeaconStateDiff.apply(base, diff)).isEqualTo(base);
+  }
+
+  @Test
+  void shouldBeMuchSmallerThanFullState() {
+    final BeaconState target = updateState(base, 96);
+
+    final Bytes diff = new BeaconStateDiff(base).encode(target);
+
+    assertThat(diff.size()).isLessThan(target.sszSerialize().size() / 10);
+  }
+
+  @Test
+  void shouldShareUnchangedFieldsWithBase() {
+    final BeaconState target = updateState(base, 96);
+
+    final BeaconState result =
+        BeaconStateDiff.apply(base, new BeaconStateDiff(base).encode(target));
+
+    final int validatorsIndex = base.getSchema().getFieldIndex("validators");
+    final int randaoIndex = base.getSchema().getFieldIndex("randao_mixes");
+    assertThat(result.get(randaoIndex).getBackingNode())
+        .isSameAs(base.get(randaoIndex).getBackingNode());
+    assertThat(result.get(validatorsIndex).getBackingNode())
+        .isNotSameAs(base.get(validatorsIndex).getBackingNode());
+  }
+
+  @Test
+  void getBaseSlot_shouldReturnSlotOfBaseState() {
+    final Bytes diff = new BeaconStateDiff(base).encode(updateState(base, 96));
+
+    assertThat(BeaconStateDiff.getBaseSlot(diff)).isEqualTo(base.getSlot());
+  }
+
+  @Test
+  void apply_shouldRejectDiffForDifferentBase() {
+    final BeaconState otherBase = dataStructureUtil.randomBeaconState(UInt64.valueOf(32));
+    final Bytes diff = new BeaconStateDiff(base).encode(updateState(base, 96));
+
+    assertThatThrownBy(() -> BeaconStateDiff.apply(otherBase, diff))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void apply_shouldRejectTrailingBytes() {
+    final Bytes diff = new BeaconStateDiff(base).encode(updateState(base, 96));
+
+    assertThatThrownBy(() -> BeaconStateDiff.apply(base, Bytes.concatenate(diff, Bytes.of(0))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void canEncode_shouldBeFalseForDifferentMilestone() {
+    final BeaconState phase0State =
+        new DataStructureUtil(TestSpecFactory.createMinimalPhase0()).randomBeaconState();
+
+    assertThat(new BeaconStateDiff(base).canEncode(phase0State)).isFalse();
+    assertThat(new BeaconStateDiff(base).canEncode(updateState(base, 96))).isTrue();
+  }
+
+  private BeaconState updateState(final BeaconState state, final long slot) {
+    return state.updated(
+        mutable -> {
+          mutable.setSlot(UInt64.valueOf(slot));
+          mutable.getValidators().append(dataStructureUtil.randomValidator());
+          mutable.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+          for (int i = 0; i < mutable.getBalances().size(); i += 3) {
+            mutable.getBalances().setElement(i, mutable.getBalances().getElement(i).plus(i + 1));
+          }
+        });
+  }
+}
@@ -15,6 +15,12 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -86,6 +92,45 @@ class KvStoreTreeNodeSourceTest {
     assertThat(nodeSource.loadLeafNode(root, 23)).isEqualTo(root);
   }
 
+  @Test
+  void loadBranchNode_shouldPrefetchDescendantsWithMultiGet() {
+    final Bytes32 storedLeafRoot = dataStructureUtil.randomBytes32();
+    final Bytes storedLeafData = dataStructureUtil.randomBytes(64);
+    storeLeaf(storedLeafRoot, storedLeafData);
+    final Bytes32 smallLeafRoot = dataStructureUtil.randomBytes32();
+    final Bytes32 childRoot = dataStructureUtil.randomBytes32();
+    storeBranch(childRoot, 1, smallLeafRoot, storedLeafRoot);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo rootBranch =
+        storeBranch(root, 1, childRoot, dataStructureUtil.randomBytes32());
+
+    final KvStoreAccessor db = spy(accessor);
+    final KvStoreTreeNodeSource prefetchingSource = new KvStoreTreeNodeSource(db, schema);
+    assertThat(prefetchingSource.loadBranchNode(root, 1)).isEqualTo(rootBranch);
+    assertThat(prefetchingSource.loadBranchNode(childRoot, 2).getChildren())
+        .containsExactly(smallLeafRoot, storedLeafRoot);
+    assertThat(prefetchingSource.loadLeafNode(smallLeafRoot, 4)).isEqualTo(smallLeafRoot);
+    assertThat(prefetchingSource.loadLeafNode(storedLeafRoot, 5)).isEqualTo(storedLeafData);
+
+    verify(db, never()).get(eq(schema.getColumnFinalizedStateMerkleTreeBranches()), any());
+    verify(db, never()).get(eq(schema.getColumnFinalizedStateMerkleTreeLeaves()), any());
+    verify(db, times(3)).multiGet(eq(schema.getColumnFinalizedStateMerkleTreeBranches()), any());
+  }
+
+  @Test
+  void loadBranchNode_shouldUsePointReadsWhenPrefetchDisabled() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 1, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+
+    final KvStoreAccessor db = spy(accessor);
+    final KvStoreTreeNodeSource lazySource = new KvStoreTreeNodeSource(db, schema, 0);
+    assertThat(lazySource.loadBranchNode(root, 1)).isEqualTo(branchInfo);
+
+    verify(db).get(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+    verify(db, never()).multiGet(any(), any());
+  }
+
   private void storeLeaf(final Bytes32 root, final Bytes value) {
     try (final KvStoreTransaction transaction = accessor.startTransaction()) {
       transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), root, value);
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedDiffState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6DiffSchemaFinalized;
+
+class V4FinalizedStateDiffStorageLogicTest {
+
+  private static final int STATE_STORAGE_FREQUENCY = 64;
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaFinalizedDiffState schema = new V6DiffSchemaFinalized(spec);
+  private final MockKvStoreInstance db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final V4FinalizedStateDiffStorageLogic logic =
+      new V4FinalizedStateDiffStorageLogic(spec, STATE_STORAGE_FREQUENCY);
+
+  private final BeaconState snapshotState = dataStructureUtil.randomBeaconState(UInt64.ZERO);
+
+  @Test
+  void shouldStoreFirstStateAsSnapshot() {
+    storeStates(snapshotState);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStatesBySlot())).containsOnlyKeys(UInt64.ZERO);
+    assertThat(db.getAll(schema.getColumnFinalizedStateDiffsBySlot())).isEmpty();
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(5)))
+        .contains(snapshotState);
+  }
+
+  @Test
+  void shouldStoreStatesInLaterEpochsAsDiffs() {
+    final BeaconState state1 = updateState(snapshotState, 8);
+    final BeaconState state2 = updateState(state1, 16);
+    storeStates(snapshotState, state1, state2);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStatesBySlot())).containsOnlyKeys(UInt64.ZERO);
+    assertThat(db.getAll(schema.getColumnFinalizedStateDiffsBySlot()))
+        .containsOnlyKeys(state1.getSlot(), state2.getSlot());
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(7)))
+        .contains(snapshotState);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(15)))
+        .contains(state1);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(100)))
+        .contains(state2);
+  }
+
+  @Test
+  void shouldNotStoreMoreThanOneStatePerEpoch() {
+    final BeaconState state1 = updateState(snapshotState, 9);
+    final BeaconState state2 = updateState(state1, 15);
+    storeStates(snapshotState, state1, state2);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStateDiffsBySlot()))
+        .containsOnlyKeys(state1.getSlot());
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state2.getSlot()))
+        .contains(state1);
+  }
+
+  @Test
+  void shouldStoreNewSnapshotOnceFrequencyReached() {
+    final BeaconState state1 = updateState(snapshotState, 32);
+    final BeaconState state2 = updateState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = updateState(state2, STATE_STORAGE_FREQUENCY + 8);
+    storeStates(snapshotState, state1, state2, state3);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStatesBySlot()))
+        .containsOnlyKeys(UInt64.ZERO, state2.getSlot());
+    assertThat(db.getAll(schema.getColumnFinalizedStateDiffsBySlot()))
+        .containsOnlyKeys(state1.getSlot(), state3.getSlot());
+    assertThat(
+            BeaconStateDiff.getBaseSlot(
+                db.get(schema.getColumnFinalizedStateDiffsBySlot(), state3.getSlot())
+                    .orElseThrow()))
+        .isEqualTo(state2.getSlot());
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state1.getSlot()))
+        .contains(state1);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state2.getSlot()))
+        .contains(state2);
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state3.getSlot()))
+        .contains(state3);
+  }
+
+  @Test
+  void shouldContinueFromStoredStatesAfterRestart() {
+    final BeaconState state1 = updateState(snapshotState, 8);
+    final BeaconState state2 = updateState(state1, 12);
+    final BeaconState state3 = updateState(state2, 16);
+    storeStates(snapshotState, state1);
+
+    final V4FinalizedStateDiffStorageLogic restartedLogic =
+        new V4FinalizedStateDiffStorageLogic(spec, STATE_STORAGE_FREQUENCY);
+    storeStates(restartedLogic, state2, state3);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStatesBySlot())).containsOnlyKeys(UInt64.ZERO);
+    assertThat(db.getAll(schema.getColumnFinalizedStateDiffsBySlot()))
+        .containsOnlyKeys(state1.getSlot(), state3.getSlot());
+    assertThat(restartedLogic.getLatestAvailableFinalizedState(db, schema, state3.getSlot()))
+        .contains(state3);
+  }
+
+  @Test
+  void shouldStoreSnapshotWhenMilestoneChanges() {
+    final Spec transitionSpec = TestSpecFactory.createMinimalWithAltairForkEpoch(UInt64.ONE);
+    final SchemaFinalizedDiffState transitionSchema = new V6DiffSchemaFinalized(transitionSpec);
+    final MockKvStoreInstance transitionDb =
+        MockKvStoreInstance.createEmpty(
+            transitionSchema.getAllColumns(), transitionSchema.getAllVariables());
+    final V4FinalizedStateDiffStorageLogic transitionLogic =
+        new V4FinalizedStateDiffStorageLogic(transitionSpec, STATE_STORAGE_FREQUENCY);
+    final BeaconState phase0State =
+        new DataStructureUtil(TestSpecFactory.createMinimalPhase0())
+            .randomBeaconState(UInt64.valueOf(7));
+    final BeaconState altairState = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+
+    final FinalizedStateUpdater<SchemaFinalizedDiffState> updater = transitionLogic.updater();
+    try (final KvStoreTransaction transaction = transitionDb.startTransaction()) {
+      updater.addFinalizedState(transitionDb, transaction, transitionSchema, phase0State);
+      updater.addFinalizedState(transitionDb, transaction, transitionSchema, altairState);
+      transaction.commit();
+    }
+    updater.commit();
+
+    assertThat(transitionDb.getAll(transitionSchema.getColumnFinalizedStatesBySlot()))
+        .containsOnlyKeys(phase0State.getSlot(), altairState.getSlot());
+    assertThat(transitionDb.getAll(transitionSchema.getColumnFinalizedStateDiffsBySlot()))
+        .isEmpty();
+    assertThat(
+            transitionLogic.getLatestAvailableFinalizedState(
+                transitionDb, transitionSchema, altairState.getSlot()))
+        .contains(altairState);
+  }
+
+  @Test
+  void getLatestAvailableFinalizedState_shouldBeEmptyWhenNothingStored() {
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, UInt64.valueOf(100)))
+        .isEqualTo(Optional.empty());
+  }
+
+  private void storeStates(final BeaconState... states) {
+    storeStates(logic, states);
+  }
+
+  private void storeStates(
+      final V4FinalizedStateDiffStorageLogic storageLogic, final BeaconState... states) {
+    final FinalizedStateUpdater<SchemaFinalizedDiffState> updater = storageLogic.updater();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      for (BeaconState state : states) {
+        updater.addFinalizedState(db, transaction, schema, state);
+      }
+      transaction.commit();
+    }
+    updater.commit();
+  }
+
+  private BeaconState updateState(final BeaconState state, final long slot) {
+    return state.updated(
+        mutable -> {
+          mutable.setSlot(UInt64.valueOf(slot));
+          mutable.getBalances().setElement(0, UInt64.valueOf(slot));
+        });
+  }
+}
@@ -18,6 +18,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6DiffSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SnapshotSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
 
@@ -74,4 +75,21 @@ public class InMemoryKvStoreDatabaseFactory {
         1000,
         spec);
   }
+
+  public static Database createDiff(
+      MockKvStoreInstance db,
+      final StateStorageMode storageMode,
+      final long stateStorageFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec) {
+    return KvStoreDatabase.createWithStateDiffs(
+        new StubMetricsSystem(),
+        db,
+        new V4SchemaHot(spec),
+        new V6DiffSchemaFinalized(spec),
+        storageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        spec);
+  }
 }
@@ -100,6 +100,18 @@ public class MockKvStoreInstance implements KvStoreAccessor {
     return stream(column).collect(Collectors.toMap(ColumnEntry::getKey, ColumnEntry::getValue));
   }
 
+  @Override
+  public <K, V> Map<K, V> multiGet(final KvStoreColumn<K, V> column, final Collection<K> keys) {
+    assertOpen();
+    assertValidColumn(column);
+    final Map<K, V> values = new HashMap<>();
+    for (K key : keys) {
+      columnValue(column, columnData.get(column).get(keyToBytes(column, key)))
+          .ifPresent(value -> values.put(key, value));
+    }
+    return values;
+  }
+
   @Override
   public <K, V> Optional<ColumnEntry<K, V>> getFloorEntry(
       final KvStoreColumn<K, V> column, final K key) {
@@ -160,6 +172,19 @@ public class MockKvStoreInstance implements KvStoreAccessor {
         .map(e -> columnEntry(column, e));
   }
 
+  @Override
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamRawValues(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return columnData
+        .get(column)
+        .subMap(keyToBytes(column, from), true, keyToBytes(column, to), true)
+        .entrySet()
+        .stream()
+        .peek(value -> assertOpen())
+        .map(e -> ColumnEntry.create(columnKey(column, e.getKey()), e.getValue()));
+  }
+
   @Override
   public KvStoreTransaction startTransaction() {
     assertOpen();
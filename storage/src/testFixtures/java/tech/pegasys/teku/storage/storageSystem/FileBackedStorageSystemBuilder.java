@@ -56,6 +56,9 @@ public class FileBackedStorageSystemBuilder {
       case LEVELDB_TREE:
         database = createLevelDbTrieDatabase();
         break;
+      case LEVELDB_DIFF:
+        database = createLevelDbDiffDatabase();
+        break;
       case LEVELDB2:
         database = createLevelDb2Database();
         break;
@@ -182,6 +185,17 @@ public class FileBackedStorageSystemBuilder {
         spec);
   }
 
+  private Database createLevelDbDiffDatabase() {
+    KvStoreConfiguration configDefault = KvStoreConfiguration.v6SingleDefaults();
+    return LevelDbDatabaseFactory.createLevelDbDiff(
+        new StubMetricsSystem(),
+        configDefault.withDatabaseDir(hotDir),
+        storageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        spec);
+  }
+
   private Database createLevelDbTrieDatabase() {
     KvStoreConfiguration configDefault = KvStoreConfiguration.v6SingleDefaults();
     return LevelDbDatabaseFactory.createLevelDbTree(
@@ -30,6 +30,7 @@ import tech.pegasys.teku.storage.server.kvstore.InMemoryKvStoreDatabaseFactory;
 import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6DiffSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SnapshotSchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6TreeSchemaFinalized;
 import tech.pegasys.teku.storage.store.StoreConfig;
@@ -74,6 +75,9 @@ public class InMemoryStorageSystemBuilder {
       case LEVELDB_TREE:
         database = createLevelDbTreeDatabase();
         break;
+      case LEVELDB_DIFF:
+        database = createLevelDbDiffDatabase();
+        break;
       case LEVELDB2: // Leveldb only varies by db type which doesn't apply to in-memory
       case V6:
         database = createV6Database();
@@ -184,6 +188,21 @@ public class InMemoryStorageSystemBuilder {
         hotDb, storageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
   }
 
+  private Database createLevelDbDiffDatabase() {
+    if (hotDb == null) {
+      hotDb =
+          MockKvStoreInstance.createEmpty(
+              concat(
+                  new V4SchemaHot(spec).getAllColumns(),
+                  new V6DiffSchemaFinalized(spec).getAllColumns()),
+              concat(
+                  new V4SchemaHot(spec).getAllVariables(),
+                  new V6DiffSchemaFinalized(spec).getAllVariables()));
+    }
+    return InMemoryKvStoreDatabaseFactory.createDiff(
+        hotDb, storageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+  }
+
   private Database createV6Database() {
     if (hotDb == null) {
       hotDb =
@@ -37,6 +37,7 @@ public class SupportedDatabaseVersionArgumentsProvider implements ArgumentsProvi
       supportedVersions.add(DatabaseVersion.LEVELDB1);
       supportedVersions.add(DatabaseVersion.LEVELDB2);
       supportedVersions.add(DatabaseVersion.LEVELDB_TREE);
+      supportedVersions.add(DatabaseVersion.LEVELDB_DIFF);
     }
 
     assertThat(supportedVersions)
@@ -128,6 +128,17 @@ public class Eth2NetworkOptions {
       hidden = true)
   private Boolean proposerBoostEnabled = Eth2NetworkConfiguration.DEFAULT_PROPOSER_BOOST_ENABLED;
 
+  @Option(
+      names = {"--Xepoch-processing-parallel-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Whether to split per-validator epoch processing work across the common fork-join pool.",
+      arity = "0..1",
+      fallbackValue = "true",
+      hidden = true)
+  private boolean parallelEpochProcessingEnabled =
+      Eth2NetworkConfiguration.DEFAULT_PARALLEL_EPOCH_PROCESSING_ENABLED;
+
   public Eth2NetworkConfiguration getNetworkConfiguration() {
     return createEth2NetworkConfig();
   }
@@ -175,6 +186,7 @@ public class Eth2NetworkOptions {
       builder.terminalBlockHashEpochOverride(terminalBlockHashEpochOverride);
     }
     builder.safeSlotsToImportOptimistically(safeSlotsToImportOptimistically);
+    builder.parallelEpochProcessingEnabled(parallelEpochProcessingEnabled);
   }
 
   public String getNetwork() {
@@ -29,8 +29,22 @@ public class ValidatorClientOptions {
       arity = "1")
   private String beaconNodeApiEndpoint = ValidatorConfig.DEFAULT_BEACON_NODE_API_ENDPOINT;
 
+  @Option(
+      names = {"--Xbeacon-node-ssz-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use SSZ encoding for blocks and submitted attestations, aggregates and sync committee messages, falling back to JSON if the beacon node does not support it",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean beaconNodeSszEnabled = ValidatorConfig.DEFAULT_BEACON_NODE_SSZ_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
-    builder.validator(config -> config.beaconNodeApiEndpoint(parseApiEndpoint()));
+    builder.validator(
+        config ->
+            config
+                .beaconNodeApiEndpoint(parseApiEndpoint())
+                .beaconNodeSszEnabled(beaconNodeSszEnabled));
   }
 
   public URI parseApiEndpoint() {
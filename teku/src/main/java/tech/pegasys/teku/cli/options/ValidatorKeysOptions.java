@@ -104,6 +104,17 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-http2-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Use HTTP/2 to connect to the external signer so concurrent signing requests are multiplexed over a shared connection",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean validatorExternalSignerHttp2Enabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -114,6 +125,7 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
+                .validatorExternalSignerHttp2Enabled(validatorExternalSignerHttp2Enabled)
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
                     convertToPath(validatorExternalSignerKeystorePasswordFile))
@@ -100,6 +100,18 @@ public class ValidatorOptions {
       arity = "0..1")
   private boolean generateEarlyAttestations = ValidatorConfig.DEFAULT_GENERATE_EARLY_ATTESTATIONS;
 
+  @Option(
+      names = {"--Xvalidators-slashing-protection-journal-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Record slashing protection updates in a journal which is synced once for each batch of signatures, rather than syncing each validator's record file individually",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean slashingProtectionJournalEnabled =
+      ValidatorConfig.DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     if (validatorPerformanceTrackingEnabled != null) {
       if (validatorPerformanceTrackingEnabled) {
@@ -119,7 +131,8 @@ public class ValidatorOptions {
                 .graffitiProvider(
                     new FileBackedGraffitiProvider(
                         Optional.ofNullable(graffiti), Optional.ofNullable(graffitiFile)))
-                .generateEarlyAttestations(generateEarlyAttestations));
+                .generateEarlyAttestations(generateEarlyAttestations)
+                .slashingProtectionJournalEnabled(slashingProtectionJournalEnabled));
     validatorProposerOptions.configure(builder);
     validatorKeysOptions.configure(builder);
   }
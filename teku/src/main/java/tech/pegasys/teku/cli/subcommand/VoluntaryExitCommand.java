@@ -254,6 +254,7 @@ public class VoluntaryExitCommand implements Runnable {
             slashingProtectionLogger,
             new PublicKeyLoader(),
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
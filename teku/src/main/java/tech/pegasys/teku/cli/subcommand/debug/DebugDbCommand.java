@@ -80,7 +80,9 @@ public class DebugDbCommand implements Runnable {
     try (final YamlEth1EventsChannel eth1EventsChannel = new YamlEth1EventsChannel(System.out);
         final Database database =
             createDatabase(dataOptions, dataStorageOptions, eth2NetworkOptions)) {
-      final DepositStorage depositStorage = DepositStorage.create(eth1EventsChannel, database);
+      // Output every stored deposit rather than the finalized deposit snapshot
+      final DepositStorage depositStorage =
+          DepositStorage.create(eth1EventsChannel, database, false);
       depositStorage.replayDepositEvents().join();
     }
     return 0;
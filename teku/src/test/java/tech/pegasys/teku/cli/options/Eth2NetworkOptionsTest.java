@@ -91,6 +91,21 @@ class Eth2NetworkOptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(256);
   }
 
+  @Test
+  void shouldDisableParallelEpochProcessingByDefault() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    final Spec spec = config.eth2NetworkConfiguration().getSpec();
+    assertThat(spec.getGenesisSpecConfig().isParallelEpochProcessingEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldEnableParallelEpochProcessing() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xepoch-processing-parallel-enabled");
+    final Spec spec = config.eth2NetworkConfiguration().getSpec();
+    assertThat(spec.getGenesisSpecConfig().isParallelEpochProcessingEnabled()).isTrue();
+  }
+
   @Test
   void shouldMergeTransitionsOverrideBeEmptyByDefault() {
     final TekuConfiguration config = getTekuConfigurationFromArguments();
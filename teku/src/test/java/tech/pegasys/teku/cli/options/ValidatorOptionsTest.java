@@ -58,6 +58,22 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldEnableExternalSignerHttp2() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidators-external-signer-http2-enabled")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isTrue();
+  }
+
+  @Test
+  public void shouldUseHttp1ForExternalSignerByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isFalse();
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
@@ -142,6 +158,21 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
         .isTrue();
   }
 
+  @Test
+  public void shouldEnableSlashingProtectionJournal() {
+    final String[] args = {"--Xvalidators-slashing-protection-journal-enabled"};
+    final TekuConfiguration config = getTekuConfigurationFromArguments(args);
+    assertThat(config.validatorClient().getValidatorConfig().isSlashingProtectionJournalEnabled())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotUseSlashingProtectionJournalByDefault() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.validatorClient().getValidatorConfig().isSlashingProtectionJournalEnabled())
+        .isFalse();
+  }
+
   @Test
   public void shouldNotUseMevBoostByDefault() {
     final String[] args = {};
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.api;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+
+/**
+ * SSZ list encodings for the request bodies of the validator submission endpoints when they are
+ * sent as {@code application/octet-stream} rather than JSON.
+ */
+public class ValidatorApiSszSchemas {
+
+  private final SszListSchema<Attestation, ?> attestationsSchema;
+  private final SszListSchema<SignedAggregateAndProof, ?> aggregateAndProofsSchema;
+  private final Optional<SszListSchema<SyncCommitteeMessage, ?>> syncCommitteeMessagesSchema;
+
+  public ValidatorApiSszSchemas(final Spec spec) {
+    final SpecConfig config = spec.getGenesisSpecConfig();
+    // A validator submits at most one of each message per epoch
+    final long maxLength =
+        (long) config.getMaxValidatorsPerCommittee()
+            * config.getMaxCommitteesPerSlot()
+            * config.getSlotsPerEpoch();
+    final SchemaDefinitions schemaDefinitions = spec.getGenesisSchemaDefinitions();
+    this.attestationsSchema =
+        SszListSchema.create(schemaDefinitions.getAttestationSchema(), maxLength);
+    this.aggregateAndProofsSchema =
+        SszListSchema.create(schemaDefinitions.getSignedAggregateAndProofSchema(), maxLength);
+    this.syncCommitteeMessagesSchema =
+        spec.isMilestoneSupported(SpecMilestone.ALTAIR)
+            ? Optional.of(
+                SszListSchema.create(
+                    SchemaDefinitionsAltair.required(
+                            spec.forMilestone(SpecMilestone.ALTAIR).getSchemaDefinitions())
+                        .getSyncCommitteeMessageSchema(),
+                    maxLength))
+            : Optional.empty();
+  }
+
+  public Bytes serializeAttestations(final List<Attestation> attestations) {
+    return serialize(attestationsSchema, attestations);
+  }
+
+  public List<Attestation> deserializeAttestations(final Bytes ssz) {
+    return deserialize(attestationsSchema, ssz);
+  }
+
+  public Bytes serializeAggregateAndProofs(final List<SignedAggregateAndProof> aggregateAndProofs) {
+    return serialize(aggregateAndProofsSchema, aggregateAndProofs);
+  }
+
+  public List<SignedAggregateAndProof> deserializeAggregateAndProofs(final Bytes ssz) {
+    return deserialize(aggregateAndProofsSchema, ssz);
+  }
+
+  public Bytes serializeSyncCommitteeMessages(final List<SyncCommitteeMessage> messages) {
+    return serialize(getSyncCommitteeMessagesSchema(), messages);
+  }
+
+  public List<SyncCommitteeMessage> deserializeSyncCommitteeMessages(final Bytes ssz) {
+    return deserialize(getSyncCommitteeMessagesSchema(), ssz);
+  }
+
+  private SszListSchema<SyncCommitteeMessage, ?> getSyncCommitteeMessagesSchema() {
+    return syncCommitteeMessagesSchema.orElseThrow(
+        () -> new IllegalArgumentException("Sync committee messages require the Altair fork"));
+  }
+
+  private static <T extends SszData> Bytes serialize(
+      final SszListSchema<T, ?> schema, final List<T> elements) {
+    return schema.createFromElements(elements).sszSerialize();
+  }
+
+  private static <T extends SszData> List<T> deserialize(
+      final SszListSchema<T, ?> schema, final Bytes ssz) {
+    return schema.sszDeserialize(ssz).asList();
+  }
+}
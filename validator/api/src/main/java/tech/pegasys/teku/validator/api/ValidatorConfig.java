@@ -44,6 +44,9 @@ public class ValidatorConfig {
   public static final boolean DEFAULT_VALIDATOR_PROPOSER_CONFIG_REFRESH_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_PROPOSER_MEV_BOOST_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED = false;
+  public static final boolean DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED = false;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED = false;
+  public static final boolean DEFAULT_BEACON_NODE_SSZ_ENABLED = false;
 
   private final List<String> validatorKeys;
   private final List<String> validatorExternalSignerPublicKeySources;
@@ -65,6 +68,9 @@ public class ValidatorConfig {
   private final boolean refreshProposerConfigFromSource;
   private final boolean blindedBeaconBlocksEnabled;
   private final boolean proposerMevBoostEnabled;
+  private final boolean slashingProtectionJournalEnabled;
+  private final boolean validatorExternalSignerHttp2Enabled;
+  private final boolean beaconNodeSszEnabled;
 
   private ValidatorConfig(
       final List<String> validatorKeys,
@@ -86,7 +92,10 @@ public class ValidatorConfig {
       final Optional<String> proposerConfigSource,
       final boolean refreshProposerConfigFromSource,
       final boolean proposerMevBoostEnabled,
-      final boolean blindedBeaconBlocksEnabled) {
+      final boolean blindedBeaconBlocksEnabled,
+      final boolean slashingProtectionJournalEnabled,
+      final boolean validatorExternalSignerHttp2Enabled,
+      final boolean beaconNodeSszEnabled) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -110,6 +119,9 @@ public class ValidatorConfig {
     this.refreshProposerConfigFromSource = refreshProposerConfigFromSource;
     this.blindedBeaconBlocksEnabled = blindedBeaconBlocksEnabled;
     this.proposerMevBoostEnabled = proposerMevBoostEnabled;
+    this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
+    this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+    this.beaconNodeSszEnabled = beaconNodeSszEnabled;
   }
 
   public static Builder builder() {
@@ -187,6 +199,18 @@ public class ValidatorConfig {
     return blindedBeaconBlocksEnabled;
   }
 
+  public boolean isSlashingProtectionJournalEnabled() {
+    return slashingProtectionJournalEnabled;
+  }
+
+  public boolean isValidatorExternalSignerHttp2Enabled() {
+    return validatorExternalSignerHttp2Enabled;
+  }
+
+  public boolean isBeaconNodeSszEnabled() {
+    return beaconNodeSszEnabled;
+  }
+
   public boolean isProposerMevBoostEnabled() {
     return proposerMevBoostEnabled;
   }
@@ -226,6 +250,10 @@ public class ValidatorConfig {
         DEFAULT_VALIDATOR_PROPOSER_CONFIG_REFRESH_ENABLED;
     private boolean proposerMevBoostEnabled = DEFAULT_VALIDATOR_PROPOSER_MEV_BOOST_ENABLED;
     private boolean blindedBlocksEnabled = DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED;
+    private boolean slashingProtectionJournalEnabled = DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
+    private boolean validatorExternalSignerHttp2Enabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+    private boolean beaconNodeSszEnabled = DEFAULT_BEACON_NODE_SSZ_ENABLED;
 
     private Builder() {}
 
@@ -361,6 +389,23 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder slashingProtectionJournalEnabled(
+        final boolean slashingProtectionJournalEnabled) {
+      this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
+      return this;
+    }
+
+    public Builder validatorExternalSignerHttp2Enabled(
+        final boolean validatorExternalSignerHttp2Enabled) {
+      this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+      return this;
+    }
+
+    public Builder beaconNodeSszEnabled(final boolean beaconNodeSszEnabled) {
+      this.beaconNodeSszEnabled = beaconNodeSszEnabled;
+      return this;
+    }
+
     public ValidatorConfig build() {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
@@ -387,7 +432,10 @@ public class ValidatorConfig {
           proposerConfigSource,
           refreshProposerConfigFromSource,
           proposerMevBoostEnabled,
-          blindedBlocksEnabled);
+          blindedBlocksEnabled,
+          slashingProtectionJournalEnabled,
+          validatorExternalSignerHttp2Enabled,
+          beaconNodeSszEnabled);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
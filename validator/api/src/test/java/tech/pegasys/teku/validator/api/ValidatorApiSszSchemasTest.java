@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorApiSszSchemasTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ValidatorApiSszSchemas schemas = new ValidatorApiSszSchemas(spec);
+
+  @Test
+  void shouldRoundTripAttestations() {
+    final List<Attestation> attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+
+    assertThat(schemas.deserializeAttestations(schemas.serializeAttestations(attestations)))
+        .isEqualTo(attestations);
+  }
+
+  @Test
+  void shouldRoundTripAggregateAndProofs() {
+    final List<SignedAggregateAndProof> aggregateAndProofs =
+        List.of(dataStructureUtil.randomSignedAggregateAndProof());
+
+    assertThat(
+            schemas.deserializeAggregateAndProofs(
+                schemas.serializeAggregateAndProofs(aggregateAndProofs)))
+        .isEqualTo(aggregateAndProofs);
+  }
+
+  @Test
+  void shouldRoundTripSyncCommitteeMessages() {
+    final List<SyncCommitteeMessage> messages =
+        List.of(dataStructureUtil.randomSyncCommitteeMessage());
+
+    assertThat(
+            schemas.deserializeSyncCommitteeMessages(
+                schemas.serializeSyncCommitteeMessages(messages)))
+        .isEqualTo(messages);
+  }
+
+  @Test
+  void shouldRejectSyncCommitteeMessagesBeforeAltair() {
+    final ValidatorApiSszSchemas phase0Schemas =
+        new ValidatorApiSszSchemas(TestSpecFactory.createMinimalPhase0());
+
+    assertThatThrownBy(() -> phase0Schemas.serializeSyncCommitteeMessages(List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
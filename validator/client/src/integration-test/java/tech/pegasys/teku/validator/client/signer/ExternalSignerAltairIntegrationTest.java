@@ -108,7 +108,8 @@ public class ExternalSignerAltairIntegrationTest {
             KEYPAIR.getPublicKey(),
             TIMEOUT,
             queue,
-            metricsSystem);
+            metricsSystem,
+            ExternalSigner.createRequestDurationHistogram(metricsSystem));
   }
 
   @AfterEach
@@ -83,7 +83,8 @@ public class ExternalSignerBellatrixBlockSigningIntegrationTest {
             KEYPAIR.getPublicKey(),
             TIMEOUT,
             queue,
-            metricsSystem);
+            metricsSystem,
+            ExternalSigner.createRequestDurationHistogram(metricsSystem));
   }
 
   @AfterEach
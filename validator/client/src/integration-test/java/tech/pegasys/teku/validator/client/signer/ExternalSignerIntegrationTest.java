@@ -31,7 +31,11 @@ import java.net.URL;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.Observation;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,6 +49,7 @@ import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.core.signatures.SigningRootUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -72,12 +77,13 @@ public class ExternalSignerIntegrationTest {
   private final SigningRootUtil signingRootUtil = new SigningRootUtil(spec);
 
   private ClientAndServer client;
+  private ValidatorConfig config;
   private ExternalSigner externalSigner;
 
   @BeforeEach
   void setup(final ClientAndServer client) throws MalformedURLException {
     this.client = client;
-    final ValidatorConfig config =
+    config =
         ValidatorConfig.builder()
             .validatorExternalSignerPublicKeySources(List.of(KEYPAIR.getPublicKey().toString()))
             .validatorExternalSignerUrl(new URL("http://127.0.0.1:" + client.getLocalPort()))
@@ -94,7 +100,8 @@ public class ExternalSignerIntegrationTest {
             KEYPAIR.getPublicKey(),
             TIMEOUT,
             queue,
-            metricsSystem);
+            metricsSystem,
+            ExternalSigner.createRequestDurationHistogram(metricsSystem));
   }
 
   @AfterEach
@@ -326,4 +333,41 @@ public class ExternalSignerIntegrationTest {
     verifySignRequest(client, KEYPAIR.getPublicKey().toString(), signingRequestBody);
     validateMetrics(metricsSystem, 1, 0, 0);
   }
+
+  @Test
+  void shouldRecordRequestDurationForEachSignType() {
+    final PrometheusMetricsSystem prometheusMetricsSystem =
+        new PrometheusMetricsSystem(Set.of(TekuMetricCategory.VALIDATOR), true);
+    final MetricsHistogram requestDurationHistogram =
+        ExternalSigner.createRequestDurationHistogram(prometheusMetricsSystem);
+    final ExternalSigner signer =
+        new ExternalSigner(
+            spec,
+            new HttpClientExternalSignerFactory(config).get(),
+            config.getValidatorExternalSignerUrl(),
+            KEYPAIR.getPublicKey(),
+            TIMEOUT,
+            queue,
+            prometheusMetricsSystem,
+            requestDurationHistogram);
+    final BLSSignature expectedSignature =
+        BLSSignature.fromBytesCompressed(
+            Bytes.fromBase64String(
+                "g9JMIY7595zlrapmwbnCLj8+WX7ry3yfBwNNPQ9mRJ0m+rXTwgDpmsxpzs+kX4F8Bg+KRz+v5BPKEAWkeh8bJBDX7psiELLI3q9WmCX95MXT080jByrtYLdz1Qy3OUKK"));
+    client.when(request()).respond(response().withBody(expectedSignature.toString()));
+
+    signer.createRandaoReveal(UInt64.valueOf(7), fork).join();
+    signer.signVoluntaryExit(dataStructureUtil.randomVoluntaryExit(), fork).join();
+
+    final Set<List<String>> labels =
+        prometheusMetricsSystem
+            .streamObservations(TekuMetricCategory.VALIDATOR)
+            .filter(ob -> ob.getMetricName().equals("external_signer_request_duration"))
+            .map(Observation::getLabels)
+            .collect(Collectors.toSet());
+    assertThat(labels)
+        .anyMatch(labelValues -> labelValues.contains("randao_reveal"))
+        .anyMatch(labelValues -> labelValues.contains("voluntary_exit"))
+        .noneMatch(labelValues -> labelValues.contains("block"));
+  }
 }
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.validator.client;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +23,7 @@ import java.util.Random;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.core.signatures.JournalingSlashingProtector;
 import tech.pegasys.teku.core.signatures.LocalSlashingProtector;
 import tech.pegasys.teku.core.signatures.SlashingProtector;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -31,6 +34,7 @@ import tech.pegasys.teku.infrastructure.io.SystemSignalListener;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.restapi.RestApi;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
@@ -44,6 +48,7 @@ import tech.pegasys.teku.validator.beaconnode.GenesisDataProvider;
 import tech.pegasys.teku.validator.client.duties.BeaconCommitteeSubscriptions;
 import tech.pegasys.teku.validator.client.duties.BlockDutyFactory;
 import tech.pegasys.teku.validator.client.duties.SlotBasedScheduledDuties;
+import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 import tech.pegasys.teku.validator.client.duties.attestations.AttestationDutyFactory;
 import tech.pegasys.teku.validator.client.duties.synccommittee.ChainHeadTracker;
 import tech.pegasys.teku.validator.client.duties.synccommittee.SyncCommitteeScheduledDuties;
@@ -75,6 +80,7 @@ public class ValidatorClientService extends Service {
   private final SafeFuture<Void> initializationComplete = new SafeFuture<>();
 
   private final MetricsSystem metricsSystem;
+  private final TimeProvider timeProvider;
 
   private ValidatorClientService(
       final EventChannels eventChannels,
@@ -83,7 +89,8 @@ public class ValidatorClientService extends Service {
       final Optional<RestApi> validatorRestApi,
       final ForkProvider forkProvider,
       final Spec spec,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
     this.eventChannels = eventChannels;
     this.validatorLoader = validatorLoader;
     this.beaconNodeApi = beaconNodeApi;
@@ -91,6 +98,7 @@ public class ValidatorClientService extends Service {
     this.forkProvider = forkProvider;
     this.spec = spec;
     this.metricsSystem = metricsSystem;
+    this.timeProvider = timeProvider;
   }
 
   public static ValidatorClientService create(
@@ -110,7 +118,8 @@ public class ValidatorClientService extends Service {
                         asyncRunner,
                         endpoint,
                         config.getSpec(),
-                        generateEarlyAttestations))
+                        generateEarlyAttestations,
+                        config.getValidatorConfig().isBeaconNodeSszEnabled()))
             .orElseGet(
                 () ->
                     InProcessBeaconNodeApi.create(
@@ -121,7 +130,11 @@ public class ValidatorClientService extends Service {
         new GenesisDataProvider(asyncRunner, validatorApiChannel);
     final ForkProvider forkProvider = new ForkProvider(config.getSpec(), genesisDataProvider);
 
-    final ValidatorLoader validatorLoader = createValidatorLoader(config, asyncRunner, services);
+    // Local signing is CPU bound so gets its own pool sized to the available cores
+    final AsyncRunner signingAsyncRunner =
+        services.createAsyncRunner("validator_signing", Runtime.getRuntime().availableProcessors());
+    final ValidatorLoader validatorLoader =
+        createValidatorLoader(config, asyncRunner, signingAsyncRunner, services);
 
     final ValidatorRestApiConfig validatorApiConfig = config.getValidatorRestApiConfig();
     Optional<RestApi> validatorRestApi = Optional.empty();
@@ -145,7 +158,8 @@ public class ValidatorClientService extends Service {
             validatorRestApi,
             forkProvider,
             config.getSpec(),
-            services.getMetricsSystem());
+            services.getMetricsSystem(),
+            services.getTimeProvider());
 
     asyncRunner
         .runAsync(
@@ -159,11 +173,11 @@ public class ValidatorClientService extends Service {
   private static ValidatorLoader createValidatorLoader(
       final ValidatorClientConfiguration config,
       final AsyncRunner asyncRunner,
+      final AsyncRunner signingAsyncRunner,
       final ServiceConfig services) {
     final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
     final SlashingProtector slashingProtector =
-        new LocalSlashingProtector(
-            SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+        createSlashingProtector(config, asyncRunner, slashingProtectionPath);
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, ValidatorLogger.VALIDATOR_LOGGER);
@@ -175,12 +189,28 @@ public class ValidatorClientService extends Service {
         slashingProtectionLogger,
         new PublicKeyLoader(),
         asyncRunner,
+        signingAsyncRunner,
         services.getMetricsSystem(),
         config.getValidatorRestApiConfig().isRestApiEnabled()
             ? Optional.of(services.getDataDirLayout())
             : Optional.empty());
   }
 
+  private static SlashingProtector createSlashingProtector(
+      final ValidatorClientConfiguration config,
+      final AsyncRunner asyncRunner,
+      final Path slashingProtectionPath) {
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(slashingProtectionPath);
+    if (!config.getValidatorConfig().isSlashingProtectionJournalEnabled()) {
+      return new LocalSlashingProtector(dataAccessor, slashingProtectionPath);
+    }
+    try {
+      return JournalingSlashingProtector.create(dataAccessor, slashingProtectionPath, asyncRunner);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to open slashing protection journal", e);
+    }
+  }
+
   private void initializeValidators(
       ValidatorClientConfiguration config,
       ValidatorApiChannel validatorApiChannel,
@@ -197,7 +227,11 @@ public class ValidatorClientService extends Service {
             config.getValidatorConfig().isBlindedBeaconBlocksEnabled(),
             spec);
     final AttestationDutyFactory attestationDutyFactory =
-        new AttestationDutyFactory(spec, forkProvider, validatorApiChannel);
+        new AttestationDutyFactory(
+            spec,
+            forkProvider,
+            validatorApiChannel,
+            ValidatorDutyMetrics.create(metricsSystem, timeProvider));
     final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions =
         new BeaconCommitteeSubscriptions(validatorApiChannel);
     final DutyLoader<?> attestationDutyLoader =
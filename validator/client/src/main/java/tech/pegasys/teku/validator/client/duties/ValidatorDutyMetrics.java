@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.duties;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class ValidatorDutyMetrics {
+  public static final String ATTESTATION_DATA_STAGE = "attestation_data";
+  public static final String SIGN_STAGE = "sign";
+  public static final String SEND_STAGE = "send";
+
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram dutyStageHistogram;
+
+  public ValidatorDutyMetrics(
+      final TimeProvider timeProvider, final MetricsHistogram dutyStageHistogram) {
+    this.timeProvider = timeProvider;
+    this.dutyStageHistogram = dutyStageHistogram;
+  }
+
+  public static ValidatorDutyMetrics create(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    final MetricsHistogram dutyStageHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "duty_stage_delay",
+            "Histogram recording time in milliseconds taken by each stage of performing a duty",
+            1,
+            List.of("duty", "stage"));
+    return new ValidatorDutyMetrics(timeProvider, dutyStageHistogram);
+  }
+
+  /**
+   * Record the time taken from starting the action until the future it returns completes,
+   * regardless of whether it completes successfully.
+   */
+  public <T> SafeFuture<T> record(
+      final String dutyType, final String stage, final Supplier<SafeFuture<T>> action) {
+    final UInt64 startTime = timeProvider.getTimeInMillis();
+    return action
+        .get()
+        .alwaysRun(
+            () ->
+                dutyStageHistogram.recordValue(
+                    timeProvider.getTimeInMillis().minusMinZero(startTime).longValue(),
+                    dutyType,
+                    stage));
+  }
+}
@@ -21,6 +21,7 @@ import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.duties.DutyFactory;
+import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 
 public class AttestationDutyFactory
     implements DutyFactory<AttestationProductionDuty, AggregationDuty> {
@@ -28,14 +29,17 @@ public class AttestationDutyFactory
   private final Spec spec;
   private final ForkProvider forkProvider;
   private final ValidatorApiChannel validatorApiChannel;
+  private final ValidatorDutyMetrics validatorDutyMetrics;
 
   public AttestationDutyFactory(
       final Spec spec,
       final ForkProvider forkProvider,
-      final ValidatorApiChannel validatorApiChannel) {
+      final ValidatorApiChannel validatorApiChannel,
+      final ValidatorDutyMetrics validatorDutyMetrics) {
     this.spec = spec;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
+    this.validatorDutyMetrics = validatorDutyMetrics;
   }
 
   @Override
@@ -46,7 +50,13 @@ public class AttestationDutyFactory
         slot,
         forkProvider,
         validatorApiChannel,
-        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations));
+        new BatchAttestationSendingStrategy<>(
+            attestations ->
+                validatorDutyMetrics.record(
+                    AttestationProductionDuty.DUTY_TYPE,
+                    ValidatorDutyMetrics.SEND_STAGE,
+                    () -> validatorApiChannel.sendSignedAttestations(attestations))),
+        validatorDutyMetrics);
   }
 
   @Override
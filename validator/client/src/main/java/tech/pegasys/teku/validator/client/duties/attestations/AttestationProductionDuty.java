@@ -16,11 +16,11 @@ package tech.pegasys.teku.validator.client.duties.attestations;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.stream.Collectors.toList;
 
+import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -38,9 +38,23 @@ import tech.pegasys.teku.validator.client.Validator;
 import tech.pegasys.teku.validator.client.duties.Duty;
 import tech.pegasys.teku.validator.client.duties.DutyResult;
 import tech.pegasys.teku.validator.client.duties.ProductionResult;
+import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 
+/**
+ * Produces the attestations for all validators attesting in a slot.
+ *
+ * <p>Validators are split into shards of at most {@link #MAX_SHARD_SIZE} and each shard is handed
+ * to the {@link SendingStrategy} separately so that, with large numbers of validators, attestations
+ * which have already been signed can be published without waiting for every validator's signature.
+ * Signing isn't dispatched to another thread here. Local signers already sign on the dedicated
+ * signing pool and external signers make asynchronous requests, so validators are signed in
+ * parallel without an additional queue hop.
+ */
 public class AttestationProductionDuty implements Duty {
   private static final Logger LOG = LogManager.getLogger();
+  static final String DUTY_TYPE = "attestation_production";
+  public static final int MAX_SHARD_SIZE = 128;
+
   private final Int2ObjectMap<ScheduledCommittee> validatorsByCommitteeIndex =
       new Int2ObjectOpenHashMap<>();
   private final Spec spec;
@@ -48,18 +62,21 @@ public class AttestationProductionDuty implements Duty {
   private final ForkProvider forkProvider;
   private final ValidatorApiChannel validatorApiChannel;
   private final SendingStrategy<Attestation> sendingStrategy;
+  private final ValidatorDutyMetrics validatorDutyMetrics;
 
   public AttestationProductionDuty(
       final Spec spec,
       final UInt64 slot,
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
-      final SendingStrategy<Attestation> sendingStrategy) {
+      final SendingStrategy<Attestation> sendingStrategy,
+      final ValidatorDutyMetrics validatorDutyMetrics) {
     this.spec = spec;
     this.slot = slot;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.sendingStrategy = sendingStrategy;
+    this.validatorDutyMetrics = validatorDutyMetrics;
   }
 
   /**
@@ -95,11 +112,20 @@ public class AttestationProductionDuty implements Duty {
         .getForkInfo(slot)
         .thenCompose(
             forkInfo ->
-                sendingStrategy.send(
-                    produceAllAttestations(slot, forkInfo, validatorsByCommitteeIndex)));
+                sendInShards(produceAllAttestations(slot, forkInfo, validatorsByCommitteeIndex)));
   }
 
-  private Stream<SafeFuture<ProductionResult<Attestation>>> produceAllAttestations(
+  private SafeFuture<DutyResult> sendInShards(
+      final List<SafeFuture<ProductionResult<Attestation>>> attestations) {
+    return SafeFuture.collectAll(
+            Lists.partition(attestations, MAX_SHARD_SIZE).stream()
+                .map(shard -> sendingStrategy.send(shard.stream())))
+        .thenApply(
+            shardResults ->
+                shardResults.stream().reduce(DutyResult::combine).orElse(DutyResult.NO_OP));
+  }
+
+  private List<SafeFuture<ProductionResult<Attestation>>> produceAllAttestations(
       final UInt64 slot,
       final ForkInfo forkInfo,
       final Int2ObjectMap<ScheduledCommittee> validatorsByCommitteeIndex) {
@@ -107,7 +133,8 @@ public class AttestationProductionDuty implements Duty {
         .flatMap(
             entry ->
                 produceAttestationsForCommittee(slot, forkInfo, entry.getIntKey(), entry.getValue())
-                    .stream());
+                    .stream())
+        .collect(toList());
   }
 
   private List<SafeFuture<ProductionResult<Attestation>>> produceAttestationsForCommittee(
@@ -116,7 +143,10 @@ public class AttestationProductionDuty implements Duty {
       final int committeeIndex,
       final ScheduledCommittee committee) {
     final SafeFuture<Optional<AttestationData>> unsignedAttestationFuture =
-        validatorApiChannel.createAttestationData(slot, committeeIndex);
+        validatorDutyMetrics.record(
+            DUTY_TYPE,
+            ValidatorDutyMetrics.ATTESTATION_DATA_STAGE,
+            () -> validatorApiChannel.createAttestationData(slot, committeeIndex));
     unsignedAttestationFuture.propagateTo(committee.getAttestationDataFuture());
 
     return committee.getValidators().stream()
@@ -164,9 +194,11 @@ public class AttestationProductionDuty implements Duty {
         "Unsigned attestation slot (%s) does not match expected slot %s",
         attestationData.getSlot(),
         slot);
-    return validator
-        .getSigner()
-        .signAttestationData(attestationData, forkInfo)
+    return validatorDutyMetrics
+        .record(
+            DUTY_TYPE,
+            ValidatorDutyMetrics.SIGN_STAGE,
+            () -> validator.getSigner().signAttestationData(attestationData, forkInfo))
         .thenApply(signature -> createSignedAttestation(attestationData, validator, signature))
         .thenApply(
             attestation ->
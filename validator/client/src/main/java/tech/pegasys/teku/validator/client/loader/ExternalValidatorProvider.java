@@ -22,6 +22,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.core.signatures.Signer;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
 
@@ -34,6 +35,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   private final Duration externalSignerTimeout;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
+  private final MetricsHistogram externalSignerRequestDurationHistogram;
   private final boolean readOnly;
 
   ExternalValidatorProvider(
@@ -44,6 +46,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
       final Duration externalSignerTimeout,
       final ThrottlingTaskQueue externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
+      final MetricsHistogram externalSignerRequestDurationHistogram,
       final boolean readOnly) {
     this.spec = spec;
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
@@ -52,6 +55,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
     this.externalSignerTimeout = externalSignerTimeout;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
+    this.externalSignerRequestDurationHistogram = externalSignerRequestDurationHistogram;
     this.readOnly = readOnly;
   }
 
@@ -74,7 +78,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
         publicKey,
         externalSignerTimeout,
         externalSignerTaskQueue,
-        metricsSystem);
+        metricsSystem,
+        externalSignerRequestDurationHistogram);
   }
 
   @VisibleForTesting
@@ -37,6 +37,7 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
@@ -56,6 +57,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
+  private final MetricsHistogram externalSignerRequestDurationHistogram;
   private final Map<BLSPublicKey, URL> externalValidatorSourceMap = new ConcurrentHashMap<>();
 
   private ExternalValidatorSource(
@@ -65,6 +67,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueue externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
+      final MetricsHistogram externalSignerRequestDurationHistogram,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     super(readOnly, maybeDataDirLayout);
@@ -74,6 +77,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
+    this.externalSignerRequestDurationHistogram = externalSignerRequestDurationHistogram;
   }
 
   public static ExternalValidatorSource create(
@@ -85,6 +89,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final AsyncRunner asyncRunner,
       final boolean readOnly,
       final ThrottlingTaskQueue externalSignerTaskQueue,
+      final MetricsHistogram externalSignerRequestDurationHistogram,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     setupExternalSignerStatusLogging(config, externalSignerHttpClientFactory, asyncRunner);
     return new ExternalValidatorSource(
@@ -94,6 +99,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
         publicKeyLoader,
         externalSignerTaskQueue,
         metricsSystem,
+        externalSignerRequestDurationHistogram,
         readOnly,
         maybeDataDirLayout);
   }
@@ -123,6 +129,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
                     metricsSystem,
+                    externalSignerRequestDurationHistogram,
                     readOnly))
         .collect(toList());
   }
@@ -156,6 +163,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
           metricsSystem,
+          externalSignerRequestDurationHistogram,
           readOnly);
 
     } catch (IOException e) {
@@ -236,6 +244,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
               metricsSystem,
+              externalSignerRequestDurationHistogram,
               readOnly);
 
       externalValidatorSourceMap.put(publicKey, url);
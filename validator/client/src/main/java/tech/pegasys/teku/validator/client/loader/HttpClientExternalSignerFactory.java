@@ -43,7 +43,14 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // With HTTP/2 concurrent signing requests are multiplexed over a single pooled connection
+    // instead of each in-flight request requiring its own connection
+    final HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(
+                validatorConfig.isValidatorExternalSignerHttp2Enabled()
+                    ? HttpClient.Version.HTTP_2
+                    : HttpClient.Version.HTTP_1_1);
     if (isTLSEnabled()) {
       builder.sslContext(
           getSSLContext(
@@ -77,6 +77,7 @@ public class ValidatorLoader {
       final SlashingProtectionLogger slashingProtectorLogger,
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
+      final AsyncRunner signingAsyncRunner,
       final MetricsSystem metricsSystem,
       final Optional<DataDirLayout> maybeMutableDir) {
     final Supplier<HttpClient> externalSignerHttpClientFactory =
@@ -90,6 +91,7 @@ public class ValidatorLoader {
         slashingProtectorLogger,
         publicKeyLoader,
         asyncRunner,
+        signingAsyncRunner,
         metricsSystem,
         maybeMutableDir);
   }
@@ -196,6 +198,7 @@ public class ValidatorLoader {
       final SlashingProtectionLogger slashingProtectionLogger,
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
+      final AsyncRunner signingAsyncRunner,
       final MetricsSystem metricsSystem,
       final Optional<DataDirLayout> maybeMutableDir) {
     final ValidatorSourceFactory validatorSources =
@@ -207,6 +210,7 @@ public class ValidatorLoader {
             slashingProtector,
             publicKeyLoader,
             asyncRunner,
+            signingAsyncRunner,
             metricsSystem,
             maybeMutableDir);
 
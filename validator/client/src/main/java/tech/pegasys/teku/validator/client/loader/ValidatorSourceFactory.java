@@ -26,6 +26,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.core.signatures.SlashingProtector;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
@@ -33,6 +34,7 @@ import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.ExternalSigner;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -69,11 +71,13 @@ public class ValidatorSourceFactory {
   private final SlashingProtector slashingProtector;
   private final PublicKeyLoader publicKeyLoader;
   private final AsyncRunner asyncRunner;
+  private final AsyncRunner signingAsyncRunner;
   private final MetricsSystem metricsSystem;
   private final Optional<DataDirLayout> maybeDataDir;
   private Optional<ValidatorSource> mutableLocalValidatorSource = Optional.empty();
   private Optional<ValidatorSource> mutableExternalValidatorSource = Optional.empty();
   private ThrottlingTaskQueue externalSignerTaskQueue;
+  private MetricsHistogram externalSignerRequestDurationHistogram;
 
   public ValidatorSourceFactory(
       final Spec spec,
@@ -83,6 +87,7 @@ public class ValidatorSourceFactory {
       final SlashingProtector slashingProtector,
       final PublicKeyLoader publicKeyLoader,
       final AsyncRunner asyncRunner,
+      final AsyncRunner signingAsyncRunner,
       final MetricsSystem metricsSystem,
       final Optional<DataDirLayout> maybeDataDir) {
     this.spec = spec;
@@ -92,6 +97,7 @@ public class ValidatorSourceFactory {
     this.slashingProtector = slashingProtector;
     this.publicKeyLoader = publicKeyLoader;
     this.asyncRunner = asyncRunner;
+    this.signingAsyncRunner = signingAsyncRunner;
     this.metricsSystem = metricsSystem;
     this.maybeDataDir = maybeDataDir;
   }
@@ -100,7 +106,7 @@ public class ValidatorSourceFactory {
     final List<ValidatorSource> validatorSources = new ArrayList<>();
     if (interopConfig.isInteropEnabled()) {
       validatorSources.add(
-          slashingProtected(new MockStartValidatorSource(spec, interopConfig, asyncRunner)));
+          slashingProtected(new MockStartValidatorSource(spec, interopConfig, signingAsyncRunner)));
     } else {
       addExternalValidatorSource().ifPresent(validatorSources::add);
       addLocalValidatorSource().ifPresent(validatorSources::add);
@@ -142,7 +148,7 @@ public class ValidatorSourceFactory {
             config.isValidatorKeystoreLockingEnabled(),
             new KeystoreLocker(),
             keyStoreFilesLocator,
-            asyncRunner,
+            signingAsyncRunner,
             false,
             maybeDataDir);
     mutableLocalValidatorSource = Optional.of(slashingProtected(localValidatorSource));
@@ -164,6 +170,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             false,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerRequestDurationHistogram(),
             maybeDataDir);
     mutableExternalValidatorSource = Optional.of(slashingProtected(externalValidatorSource));
     return mutableExternalValidatorSource;
@@ -186,7 +193,7 @@ public class ValidatorSourceFactory {
                 config.isValidatorKeystoreLockingEnabled(),
                 new KeystoreLocker(),
                 keyStoreFilesLocator,
-                asyncRunner,
+                signingAsyncRunner,
                 true,
                 maybeDataDir)));
   }
@@ -206,6 +213,7 @@ public class ValidatorSourceFactory {
             asyncRunner,
             true,
             initializeExternalSignerTaskQueue(),
+            initializeExternalSignerRequestDurationHistogram(),
             maybeDataDir);
     return Optional.of(
         config.isValidatorExternalSignerSlashingProtectionEnabled()
@@ -229,4 +237,13 @@ public class ValidatorSourceFactory {
 
     return externalSignerTaskQueue;
   }
+
+  private MetricsHistogram initializeExternalSignerRequestDurationHistogram() {
+    if (externalSignerRequestDurationHistogram == null) {
+      externalSignerRequestDurationHistogram =
+          ExternalSigner.createRequestDurationHistogram(metricsSystem);
+    }
+
+    return externalSignerRequestDurationHistogram;
+  }
 }
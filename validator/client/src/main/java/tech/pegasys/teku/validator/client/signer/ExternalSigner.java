@@ -13,12 +13,14 @@
 
 package tech.pegasys.teku.validator.client.signer;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.http.HttpClient;
@@ -28,8 +30,11 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
@@ -44,6 +49,7 @@ import tech.pegasys.teku.core.signatures.Signer;
 import tech.pegasys.teku.core.signatures.SigningRootUtil;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
@@ -68,6 +74,7 @@ public class ExternalSigner implements Signer {
   private final HttpClient httpClient;
   private final ThrottlingTaskQueue taskQueue;
   private final SigningRootUtil signingRootUtil;
+  private final MetricsHistogram requestDurationHistogram;
 
   private final Counter successCounter;
   private final Counter failedCounter;
@@ -80,7 +87,8 @@ public class ExternalSigner implements Signer {
       final BLSPublicKey blsPublicKey,
       final Duration timeout,
       final ThrottlingTaskQueue taskQueue,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final MetricsHistogram requestDurationHistogram) {
     this.spec = spec;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
@@ -88,6 +96,7 @@ public class ExternalSigner implements Signer {
     this.timeout = timeout;
     this.taskQueue = taskQueue;
     this.signingRootUtil = new SigningRootUtil(spec);
+    this.requestDurationHistogram = requestDurationHistogram;
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -100,6 +109,20 @@ public class ExternalSigner implements Signer {
     timeoutCounter = labelledCounter.labels("timeout");
   }
 
+  /**
+   * Create the histogram recording the duration of each signing request. A single histogram must be
+   * shared by all external signers created with the same metrics system.
+   */
+  public static MetricsHistogram createRequestDurationHistogram(final MetricsSystem metricsSystem) {
+    return MetricsHistogram.create(
+        TekuMetricCategory.VALIDATOR,
+        metricsSystem,
+        "external_signer_request_duration",
+        "Histogram recording the time in milliseconds taken by each external signer request",
+        3,
+        List.of("type"));
+  }
+
   @Override
   public void delete() {}
 
@@ -279,7 +302,7 @@ public class ExternalSigner implements Signer {
     final String publicKey = blsPublicKey.toBytesCompressed().toString();
     return SafeFuture.of(
             () -> {
-              final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
+              final byte[] requestBody = createSigningRequestBody(signingRoot, type, metadata);
               final URI uri =
                   signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
               final HttpRequest request =
@@ -287,27 +310,39 @@ public class ExternalSigner implements Signer {
                       .uri(uri)
                       .timeout(timeout)
                       .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
+                      .POST(BodyPublishers.ofByteArray(requestBody))
                       .build();
+              final long startNanos = System.nanoTime();
               return httpClient
-                  .sendAsync(request, BodyHandlers.ofString())
+                  .sendAsync(request, BodyHandlers.ofByteArray())
                   .handleAsync(
-                      (response, error) -> this.getBlsSignature(response, error, slashableMessage));
+                      (response, error) -> {
+                        recordRequestDuration(type, startNanos);
+                        return this.getBlsSignature(response, error, slashableMessage);
+                      });
             })
         .whenComplete(this::recordMetrics);
   }
 
-  private String createSigningRequestBody(
+  private void recordRequestDuration(final SignType type, final long startNanos) {
+    requestDurationHistogram.recordValue(
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+        type.name().toLowerCase(Locale.ROOT));
+  }
+
+  private byte[] createSigningRequestBody(
       final Bytes signingRoot, final SignType type, final Map<String, Object> metadata) {
     try {
-      return jsonProvider.objectToJSON(new SigningRequestBody(signingRoot, type, metadata));
+      return jsonProvider
+          .getObjectMapper()
+          .writeValueAsBytes(new SigningRequestBody(signingRoot, type, metadata));
     } catch (final JsonProcessingException e) {
       throw new ExternalSignerException("Unable to create external signing request", e);
     }
   }
 
   private BLSSignature getBlsSignature(
-      final HttpResponse<String> response,
+      final HttpResponse<byte[]> response,
       final Throwable throwable,
       final Supplier<String> slashableMessage) {
     if (throwable != null) {
@@ -332,12 +367,15 @@ public class ExternalSigner implements Signer {
       final String returnedContentType = response.headers().firstValue("Content-Type").orElse("");
       final String signatureHexStr =
           returnedContentType.startsWith("application/json")
-              ? jsonProvider.jsonToObject(response.body(), SigningResponseBody.class).getSignature()
-              : response.body();
+              ? jsonProvider
+                  .getObjectMapper()
+                  .readValue(response.body(), SigningResponseBody.class)
+                  .getSignature()
+              : new String(response.body(), UTF_8);
 
       final Bytes signature = Bytes.fromHexString(signatureHexStr);
       return BLSSignature.fromBytesCompressed(signature);
-    } catch (final IllegalArgumentException | JsonProcessingException e) {
+    } catch (final IllegalArgumentException | IOException e) {
       throw new ExternalSignerException(
           "External signer returned an invalid signature: " + e.getMessage(), e);
     }
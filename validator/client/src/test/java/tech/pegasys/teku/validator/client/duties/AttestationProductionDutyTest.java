@@ -28,6 +28,7 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.failedFuture;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,7 +40,9 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.core.signatures.Signer;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -74,7 +77,9 @@ class AttestationProductionDutyTest {
           SLOT,
           forkProvider,
           validatorApiChannel,
-          new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations));
+          new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
+          ValidatorDutyMetrics.create(
+              new StubMetricsSystem(), StubTimeProvider.withTimeInMillis(0)));
 
   @BeforeEach
   public void setUp() {
@@ -401,6 +406,46 @@ class AttestationProductionDutyTest {
     verifyNoMoreInteractions(validatorLogger);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void shouldSendEachShardOfAttestationsOnceItIsSigned() {
+    final int committeeIndex = 2;
+    final int committeeSize = AttestationProductionDuty.MAX_SHARD_SIZE + 1;
+    final AttestationData attestationData = expectCreateAttestationData(committeeIndex);
+    final List<Attestation> expectedFirstShard = new ArrayList<>();
+    for (int position = 0; position < AttestationProductionDuty.MAX_SHARD_SIZE; position++) {
+      final Validator validator = createValidator();
+      expectedFirstShard.add(
+          expectSignAttestation(validator, position, committeeSize, attestationData));
+      duty.addValidator(validator, committeeIndex, position, 10, committeeSize);
+    }
+    final int lastPosition = AttestationProductionDuty.MAX_SHARD_SIZE;
+    final Validator lastValidator = createValidator();
+    final SafeFuture<BLSSignature> lastSignature = new SafeFuture<>();
+    when(lastValidator.getSigner().signAttestationData(attestationData, fork))
+        .thenReturn(lastSignature);
+    duty.addValidator(lastValidator, committeeIndex, lastPosition, 10, committeeSize);
+
+    final SafeFuture<DutyResult> result = duty.performDuty();
+
+    // First shard is sent while the last validator is still signing
+    ArgumentCaptor<List<Attestation>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(validatorApiChannel).sendSignedAttestations(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue()).containsExactlyElementsOf(expectedFirstShard);
+    assertThat(result).isNotDone();
+
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    lastSignature.complete(signature);
+
+    verify(validatorApiChannel)
+        .sendSignedAttestations(
+            List.of(
+                createExpectedAttestation(
+                    attestationData, lastPosition, committeeSize, signature)));
+    assertThat(result).isCompleted();
+    assertThat(result.join().getSuccessCount()).isEqualTo(committeeSize);
+  }
+
   public Validator createValidator() {
     final Signer signer = mock(Signer.class);
     return new Validator(
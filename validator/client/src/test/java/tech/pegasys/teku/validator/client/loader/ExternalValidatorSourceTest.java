@@ -55,6 +55,7 @@ import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeletionStatus;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ImportStatus;
+import tech.pegasys.teku.validator.client.signer.ExternalSigner;
 
 public class ExternalValidatorSourceTest {
   private final DataStructureUtil dataStructureUtil =
@@ -269,6 +270,7 @@ public class ExternalValidatorSourceTest {
         asyncRunner,
         readOnly,
         externalSignerTaskQueue,
+        ExternalSigner.createRequestDurationHistogram(metricsSystem),
         Optional.of(new SimpleDataDirLayout(tempDir)));
   }
 
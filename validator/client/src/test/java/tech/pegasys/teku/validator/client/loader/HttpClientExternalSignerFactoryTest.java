@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.validator.api.ValidatorConfig;
+
+class HttpClientExternalSignerFactoryTest {
+
+  @Test
+  void shouldUseHttp11ByDefault() throws MalformedURLException {
+    final ValidatorConfig config =
+        ValidatorConfig.builder()
+            .validatorExternalSignerUrl(new URL("http://127.0.0.1:9000"))
+            .build();
+
+    final HttpClient httpClient = new HttpClientExternalSignerFactory(config).get();
+
+    assertThat(httpClient.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+  }
+
+  @Test
+  void shouldUseHttp2WhenEnabled() throws MalformedURLException {
+    final ValidatorConfig config =
+        ValidatorConfig.builder()
+            .validatorExternalSignerUrl(new URL("http://127.0.0.1:9000"))
+            .validatorExternalSignerHttp2Enabled(true)
+            .build();
+
+    final HttpClient httpClient = new HttpClientExternalSignerFactory(config).get();
+
+    assertThat(httpClient.version()).isEqualTo(HttpClient.Version.HTTP_2);
+  }
+}
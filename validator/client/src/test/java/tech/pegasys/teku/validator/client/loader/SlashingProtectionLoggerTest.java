@@ -165,7 +165,8 @@ public class SlashingProtectionLoggerTest {
               publicKey,
               TIMEOUT,
               mock(ThrottlingTaskQueue.class),
-              metricsSystem);
+              metricsSystem,
+              ExternalSigner.createRequestDurationHistogram(metricsSystem));
     } catch (MalformedURLException e) {
       throw new RuntimeException(e);
     }
@@ -134,6 +134,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -172,6 +173,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -216,6 +218,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -262,6 +265,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -307,6 +311,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.of(dataDirLayout));
 
@@ -345,6 +350,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -375,6 +381,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -429,6 +436,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.of(dataDirLayout));
 
@@ -465,6 +473,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -500,6 +509,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -541,6 +551,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -578,6 +589,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -610,6 +622,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
 
@@ -645,6 +658,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
     validatorLoader.loadValidators();
@@ -666,6 +680,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
     validatorLoader.loadValidators();
@@ -687,6 +702,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.of(new SimpleDataDirLayout(tempDir)));
     validatorLoader.loadValidators();
@@ -724,6 +740,7 @@ class ValidatorLoaderTest {
             slashingProtectionLogger,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.empty());
     validatorLoader.loadValidators();
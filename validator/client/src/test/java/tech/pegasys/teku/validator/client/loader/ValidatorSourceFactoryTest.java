@@ -58,6 +58,7 @@ class ValidatorSourceFactoryTest {
             slashingProtector,
             publicKeyLoader,
             asyncRunner,
+            asyncRunner,
             metricsSystem,
             Optional.of(dataDirLayout));
     factory.createValidatorSources();
@@ -54,7 +54,8 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
       final AsyncRunner asyncRunner,
       final URI beaconNodeApiEndpoint,
       final Spec spec,
-      final boolean generateEarlyAttestations) {
+      final boolean generateEarlyAttestations,
+      final boolean sszEnabled) {
 
     final OkHttpClient.Builder httpClientBuilder =
         new OkHttpClient.Builder().readTimeout(READ_TIMEOUT);
@@ -74,7 +75,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
     final ValidatorApiChannel validatorApiChannel =
         new MetricRecordingValidatorApiChannel(
             serviceConfig.getMetricsSystem(),
-            new RemoteValidatorApiHandler(spec, apiClient, asyncRunner));
+            new RemoteValidatorApiHandler(spec, apiClient, asyncRunner, sszEnabled));
 
     final ValidatorTimingChannel validatorTimingChannel =
         serviceConfig.getEventChannels().getPublisher(ValidatorTimingChannel.class);
@@ -29,7 +29,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -70,7 +72,9 @@ import tech.pegasys.teku.validator.api.SyncCommitteeDuties;
 import tech.pegasys.teku.validator.api.SyncCommitteeDuty;
 import tech.pegasys.teku.validator.api.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
+import tech.pegasys.teku.validator.api.ValidatorApiSszSchemas;
 import tech.pegasys.teku.validator.remote.apiclient.RateLimitedException;
+import tech.pegasys.teku.validator.remote.apiclient.SszNotSupportedException;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorRestApiClient;
 
 public class RemoteValidatorApiHandler implements ValidatorApiChannel {
@@ -83,13 +87,25 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
   private final ValidatorRestApiClient apiClient;
   private final AsyncRunner asyncRunner;
   private final SchemaObjectProvider schemaObjectProvider;
+  private final ValidatorApiSszSchemas sszSchemas;
+  private final AtomicBoolean sszEnabled;
 
   public RemoteValidatorApiHandler(
       final Spec spec, final ValidatorRestApiClient apiClient, final AsyncRunner asyncRunner) {
+    this(spec, apiClient, asyncRunner, false);
+  }
+
+  public RemoteValidatorApiHandler(
+      final Spec spec,
+      final ValidatorRestApiClient apiClient,
+      final AsyncRunner asyncRunner,
+      final boolean sszEnabled) {
     this.spec = spec;
     this.apiClient = apiClient;
     this.asyncRunner = asyncRunner;
     this.schemaObjectProvider = new SchemaObjectProvider(spec);
+    this.sszSchemas = new ValidatorApiSszSchemas(spec);
+    this.sszEnabled = new AtomicBoolean(sszEnabled);
   }
 
   @Override
@@ -242,13 +258,17 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
   @Override
   public SafeFuture<List<SubmitDataError>> sendSignedAttestations(
       final List<Attestation> attestations) {
-    final List<tech.pegasys.teku.api.schema.Attestation> schemaAttestations =
-        attestations.stream().map(tech.pegasys.teku.api.schema.Attestation::new).collect(toList());
-
     return sendRequest(
         () ->
-            apiClient
-                .sendSignedAttestations(schemaAttestations)
+            sendWithSszFallback(
+                    () ->
+                        apiClient.sendSignedAttestationsSsz(
+                            sszSchemas.serializeAttestations(attestations)),
+                    () ->
+                        apiClient.sendSignedAttestations(
+                            attestations.stream()
+                                .map(tech.pegasys.teku.api.schema.Attestation::new)
+                                .collect(toList())))
                 .map(this::convertPostDataFailureResponseToSubmitDataErrors)
                 .orElse(emptyList()));
   }
@@ -263,10 +283,26 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
         () -> {
           final tech.pegasys.teku.api.schema.BLSSignature schemaBLSSignature =
               new tech.pegasys.teku.api.schema.BLSSignature(randaoReveal);
-
-          return apiClient
-              .createUnsignedBlock(slot, schemaBLSSignature, graffiti, blinded)
-              .map(block -> block.asInternalBeaconBlock(spec));
+          final Supplier<Optional<BeaconBlock>> jsonRequest =
+              () ->
+                  apiClient
+                      .createUnsignedBlock(slot, schemaBLSSignature, graffiti, blinded)
+                      .map(block -> block.asInternalBeaconBlock(spec));
+          if (blinded) {
+            return jsonRequest.get();
+          }
+
+          return sendWithSszFallback(
+              () ->
+                  apiClient
+                      .createUnsignedBlockSsz(slot, schemaBLSSignature, graffiti)
+                      .map(
+                          ssz ->
+                              spec.atSlot(slot)
+                                  .getSchemaDefinitions()
+                                  .getBeaconBlockSchema()
+                                  .sszDeserialize(ssz)),
+              jsonRequest);
         });
   }
 
@@ -281,18 +317,23 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
       final List<SyncCommitteeMessage> syncCommitteeMessages) {
     return sendRequest(
         () ->
-            apiClient
-                .sendSyncCommitteeMessages(
-                    syncCommitteeMessages.stream()
-                        .map(
-                            signature ->
-                                new tech.pegasys.teku.api.schema.altair.SyncCommitteeMessage(
-                                    signature.getSlot(),
-                                    signature.getBeaconBlockRoot(),
-                                    signature.getValidatorIndex(),
-                                    new tech.pegasys.teku.api.schema.BLSSignature(
-                                        signature.getSignature())))
-                        .collect(toList()))
+            sendWithSszFallback(
+                    () ->
+                        apiClient.sendSyncCommitteeMessagesSsz(
+                            sszSchemas.serializeSyncCommitteeMessages(syncCommitteeMessages)),
+                    () ->
+                        apiClient.sendSyncCommitteeMessages(
+                            syncCommitteeMessages.stream()
+                                .map(
+                                    signature ->
+                                        new tech.pegasys.teku.api.schema.altair
+                                            .SyncCommitteeMessage(
+                                            signature.getSlot(),
+                                            signature.getBeaconBlockRoot(),
+                                            signature.getValidatorIndex(),
+                                            new tech.pegasys.teku.api.schema.BLSSignature(
+                                                signature.getSignature())))
+                                .collect(toList())))
                 .map(this::convertPostDataFailureResponseToSubmitDataErrors)
                 .orElse(emptyList()));
   }
@@ -369,11 +410,15 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
       final List<SignedAggregateAndProof> aggregateAndProofs) {
     return sendRequest(
         () ->
-            apiClient
-                .sendAggregateAndProofs(
-                    aggregateAndProofs.stream()
-                        .map(tech.pegasys.teku.api.schema.SignedAggregateAndProof::new)
-                        .collect(toList()))
+            sendWithSszFallback(
+                    () ->
+                        apiClient.sendAggregateAndProofsSsz(
+                            sszSchemas.serializeAggregateAndProofs(aggregateAndProofs)),
+                    () ->
+                        apiClient.sendAggregateAndProofs(
+                            aggregateAndProofs.stream()
+                                .map(tech.pegasys.teku.api.schema.SignedAggregateAndProof::new)
+                                .collect(toList())))
                 .map(this::convertPostDataFailureResponseToSubmitDataErrors)
                 .orElse(emptyList()));
   }
@@ -436,6 +481,19 @@ public class RemoteValidatorApiHandler implements ValidatorApiChannel {
         .finish(error -> LOG.error("Failed to prepare beacon proposers", error));
   }
 
+  private <T> T sendWithSszFallback(final Supplier<T> sszRequest, final Supplier<T> jsonRequest) {
+    if (sszEnabled.get()) {
+      try {
+        return sszRequest.get();
+      } catch (final SszNotSupportedException e) {
+        if (sszEnabled.compareAndSet(true, false)) {
+          LOG.warn("{}. Falling back to JSON for all beacon node requests.", e.getMessage());
+        }
+      }
+    }
+    return jsonRequest.get();
+  }
+
   private SafeFuture<Void> sendRequest(final ExceptionThrowingRunnable requestExecutor) {
     return sendRequest(
         () -> {
@@ -14,7 +14,12 @@
 package tech.pegasys.teku.validator.remote.apiclient;
 
 import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_AGGREGATE;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DATA;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DUTIES;
@@ -59,6 +64,7 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.request.v1.validator.BeaconCommitteeSubscriptionRequest;
 import tech.pegasys.teku.api.response.v1.beacon.GetBlockHeaderResponse;
@@ -99,6 +105,7 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
 
   private static final MediaType APPLICATION_JSON =
       MediaType.parse("application/json; charset=utf-8");
+  private static final MediaType APPLICATION_OCTET_STREAM = MediaType.parse(HEADER_ACCEPT_OCTET);
   private static final Map<String, String> EMPTY_QUERY_PARAMS = emptyMap();
 
   private final JsonProvider jsonProvider = new JsonProvider();
@@ -165,9 +172,7 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
       final Optional<Bytes32> graffiti,
       final boolean blinded) {
     final Map<String, String> pathParams = Map.of("slot", slot.toString());
-    final Map<String, String> queryParams = new HashMap<>();
-    queryParams.put("randao_reveal", encodeQueryParam(randaoReveal));
-    graffiti.ifPresent(bytes32 -> queryParams.put("graffiti", encodeQueryParam(bytes32)));
+    final Map<String, String> queryParams = createBlockQueryParams(randaoReveal, graffiti);
 
     if (blinded) {
       return createUnsignedBlindedBlock(pathParams, queryParams);
@@ -181,6 +186,33 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
         .map(response -> (BeaconBlock) response.data);
   }
 
+  @Override
+  public Optional<Bytes> createUnsignedBlockSsz(
+      final UInt64 slot, final BLSSignature randaoReveal, final Optional<Bytes32> graffiti) {
+    final HttpUrl.Builder httpUrlBuilder =
+        urlBuilder(GET_UNSIGNED_BLOCK_V2, Map.of("slot", slot.toString()));
+    createBlockQueryParams(randaoReveal, graffiti).forEach(httpUrlBuilder::addQueryParameter);
+
+    final Request request =
+        requestBuilder()
+            .url(httpUrlBuilder.build())
+            .header(HEADER_ACCEPT, HEADER_ACCEPT_OCTET)
+            .build();
+    return executeCall(
+        request,
+        new ResponseHandler<Bytes>(jsonProvider, null)
+            .withHandler(SC_OK, this::handleSszResponse)
+            .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleSszNotSupported));
+  }
+
+  private Map<String, String> createBlockQueryParams(
+      final BLSSignature randaoReveal, final Optional<Bytes32> graffiti) {
+    final Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("randao_reveal", encodeQueryParam(randaoReveal));
+    graffiti.ifPresent(bytes32 -> queryParams.put("graffiti", encodeQueryParam(bytes32)));
+    return queryParams;
+  }
+
   private Optional<BeaconBlock> createUnsignedBlindedBlock(
       final Map<String, String> pathParams, final Map<String, String> queryParams) {
     return get(
@@ -223,6 +255,11 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
             jsonProvider, PostDataFailureResponse.class));
   }
 
+  @Override
+  public Optional<PostDataFailureResponse> sendSignedAttestationsSsz(final Bytes attestations) {
+    return postSsz(SEND_SIGNED_ATTESTATION, attestations);
+  }
+
   @Override
   public Optional<PostDataFailureResponse> sendVoluntaryExit(
       final SignedVoluntaryExit voluntaryExit) {
@@ -258,6 +295,12 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
             jsonProvider, PostDataFailureResponse.class));
   }
 
+  @Override
+  public Optional<PostDataFailureResponse> sendAggregateAndProofsSsz(
+      final Bytes signedAggregateAndProofs) {
+    return postSsz(SEND_SIGNED_AGGREGATE_AND_PROOF, signedAggregateAndProofs);
+  }
+
   @Override
   public void subscribeToBeaconCommittee(List<CommitteeSubscriptionRequest> requests) {
     final BeaconCommitteeSubscriptionRequest[] body =
@@ -289,6 +332,12 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
             jsonProvider, PostDataFailureResponse.class));
   }
 
+  @Override
+  public Optional<PostDataFailureResponse> sendSyncCommitteeMessagesSsz(
+      final Bytes syncCommitteeMessages) {
+    return postSsz(SEND_SYNC_COMMITTEE_MESSAGES, syncCommitteeMessages);
+  }
+
   @Override
   public Optional<PostSyncDutiesResponse> getSyncCommitteeDuties(
       final UInt64 epoch, final Collection<Integer> validatorIndices) {
@@ -392,6 +441,55 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     return executeCall(request, responseHandler);
   }
 
+  private Optional<PostDataFailureResponse> postSsz(
+      final ValidatorApiMethod apiMethod, final Bytes requestBody) {
+    final Request request =
+        requestBuilder()
+            .url(urlBuilder(apiMethod, emptyMap()).build())
+            .post(RequestBody.create(requestBody.toArrayUnsafe(), APPLICATION_OCTET_STREAM))
+            .build();
+
+    return executeCall(
+        request,
+        ResponseHandler.createForEmptyOkAndContentInBadResponse(
+                jsonProvider, PostDataFailureResponse.class)
+            .withHandler(SC_BAD_REQUEST, this::handleSszBadRequest)
+            .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleSszNotSupported));
+  }
+
+  private Optional<Bytes> handleSszResponse(final Request request, final Response response)
+      throws IOException {
+    final MediaType contentType = response.body().contentType();
+    // Beacon nodes without SSZ support ignore the Accept header and respond with JSON
+    if (contentType == null
+        || !HEADER_ACCEPT_OCTET.equalsIgnoreCase(
+            contentType.type() + "/" + contentType.subtype())) {
+      throw new SszNotSupportedException(request.url().toString());
+    }
+    return Optional.of(Bytes.wrap(response.body().bytes()));
+  }
+
+  private Optional<PostDataFailureResponse> handleSszBadRequest(
+      final Request request, final Response response) throws IOException {
+    // Beacon nodes without SSZ support reject the body as invalid JSON instead of reporting
+    // which of the submitted items failed
+    final PostDataFailureResponse failureResponse;
+    try {
+      failureResponse =
+          jsonProvider.jsonToObject(response.body().string(), PostDataFailureResponse.class);
+    } catch (final JsonProcessingException e) {
+      throw new SszNotSupportedException(request.url().toString());
+    }
+    if (failureResponse.failures == null || failureResponse.failures.isEmpty()) {
+      throw new SszNotSupportedException(request.url().toString());
+    }
+    return Optional.of(failureResponse);
+  }
+
+  private <T> Optional<T> handleSszNotSupported(final Request request, final Response response) {
+    throw new SszNotSupportedException(request.url().toString());
+  }
+
   private Request.Builder requestBuilder() {
     final Request.Builder builder = new Request.Builder();
     if (!baseEndpoint.username().isEmpty()) {
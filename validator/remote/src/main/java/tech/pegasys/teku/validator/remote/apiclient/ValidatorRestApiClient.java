@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.response.v1.beacon.GetGenesisResponse;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
@@ -55,12 +56,23 @@ public interface ValidatorRestApiClient {
   Optional<BeaconBlock> createUnsignedBlock(
       UInt64 slot, BLSSignature randaoReveal, Optional<Bytes32> graffiti, boolean blinded);
 
+  /**
+   * Requests an unsigned block as SSZ.
+   *
+   * @throws SszNotSupportedException if the beacon node did not respond with SSZ
+   */
+  Optional<Bytes> createUnsignedBlockSsz(
+      UInt64 slot, BLSSignature randaoReveal, Optional<Bytes32> graffiti);
+
   SendSignedBlockResult sendSignedBlock(SignedBeaconBlock beaconBlock);
 
   Optional<AttestationData> createAttestationData(UInt64 slot, int committeeIndex);
 
   Optional<PostDataFailureResponse> sendSignedAttestations(List<Attestation> attestation);
 
+  /** @throws SszNotSupportedException if the beacon node did not accept the SSZ request */
+  Optional<PostDataFailureResponse> sendSignedAttestationsSsz(Bytes attestations);
+
   Optional<PostDataFailureResponse> sendVoluntaryExit(SignedVoluntaryExit voluntaryExit);
 
   Optional<Attestation> createAggregate(UInt64 slot, Bytes32 attestationHashTreeRoot);
@@ -68,6 +80,9 @@ public interface ValidatorRestApiClient {
   Optional<PostDataFailureResponse> sendAggregateAndProofs(
       List<SignedAggregateAndProof> signedAggregateAndProof);
 
+  /** @throws SszNotSupportedException if the beacon node did not accept the SSZ request */
+  Optional<PostDataFailureResponse> sendAggregateAndProofsSsz(Bytes signedAggregateAndProofs);
+
   void subscribeToBeaconCommittee(List<CommitteeSubscriptionRequest> requests);
 
   void subscribeToPersistentSubnets(Set<SubnetSubscription> subnetSubscriptions);
@@ -75,6 +90,9 @@ public interface ValidatorRestApiClient {
   Optional<PostDataFailureResponse> sendSyncCommitteeMessages(
       List<SyncCommitteeMessage> syncCommitteeMessages);
 
+  /** @throws SszNotSupportedException if the beacon node did not accept the SSZ request */
+  Optional<PostDataFailureResponse> sendSyncCommitteeMessagesSsz(Bytes syncCommitteeMessages);
+
   Optional<PostSyncDutiesResponse> getSyncCommitteeDuties(
       UInt64 epoch, Collection<Integer> validatorIndices);
 
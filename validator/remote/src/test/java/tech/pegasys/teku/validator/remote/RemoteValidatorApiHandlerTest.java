@@ -19,10 +19,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -74,8 +76,10 @@ import tech.pegasys.teku.validator.api.ProposerDuties;
 import tech.pegasys.teku.validator.api.ProposerDuty;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
 import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.api.ValidatorApiSszSchemas;
 import tech.pegasys.teku.validator.remote.apiclient.RateLimitedException;
 import tech.pegasys.teku.validator.remote.apiclient.SchemaObjectsTestFixture;
+import tech.pegasys.teku.validator.remote.apiclient.SszNotSupportedException;
 import tech.pegasys.teku.validator.remote.apiclient.ValidatorRestApiClient;
 
 class RemoteValidatorApiHandlerTest {
@@ -397,6 +401,46 @@ class RemoteValidatorApiHandlerTest {
     assertThatSszData(unwrapToValue(future)).isEqualByAllMeansTo(beaconBlock);
   }
 
+  @Test
+  public void createUnsignedBlock_WhenSszEnabled_DecodesSszBlock() {
+    apiHandler = new RemoteValidatorApiHandler(spec, apiClient, asyncRunner, true);
+    final BeaconBlock beaconBlock = dataStructureUtil.randomBeaconBlock(UInt64.ONE);
+    final BLSSignature blsSignature = dataStructureUtil.randomSignature();
+    final Optional<Bytes32> graffiti = Optional.of(Bytes32.random());
+
+    when(apiClient.createUnsignedBlockSsz(eq(beaconBlock.getSlot()), any(), eq(graffiti)))
+        .thenReturn(Optional.of(beaconBlock.sszSerialize()));
+
+    SafeFuture<Optional<BeaconBlock>> future =
+        apiHandler.createUnsignedBlock(UInt64.ONE, blsSignature, graffiti, false);
+
+    assertThatSszData(unwrapToValue(future)).isEqualByAllMeansTo(beaconBlock);
+    verify(apiClient, never()).createUnsignedBlock(any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  public void sendSignedAttestations_WhenSszNotSupported_FallsBackToJson() {
+    apiHandler = new RemoteValidatorApiHandler(spec, apiClient, asyncRunner, true);
+    final Attestation attestation = dataStructureUtil.randomAttestation();
+    when(apiClient.sendSignedAttestationsSsz(any()))
+        .thenThrow(new SszNotSupportedException("http://localhost"));
+    when(apiClient.sendSignedAttestations(any())).thenReturn(Optional.empty());
+
+    final SafeFuture<List<SubmitDataError>> result =
+        apiHandler.sendSignedAttestations(List.of(attestation));
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue(emptyList());
+
+    // Once the beacon node has rejected SSZ it is not attempted again
+    apiHandler.sendSignedAttestations(List.of(attestation));
+    asyncRunner.executeQueuedActions();
+
+    verify(apiClient)
+        .sendSignedAttestationsSsz(
+            new ValidatorApiSszSchemas(spec).serializeAttestations(List.of(attestation)));
+    verify(apiClient, times(2)).sendSignedAttestations(any());
+  }
+
   @Test
   public void sendSignedBlock_InvokeApiWithCorrectRequest() {
     final BeaconBlock beaconBlock = dataStructureUtil.randomBeaconBlock(UInt64.ONE);
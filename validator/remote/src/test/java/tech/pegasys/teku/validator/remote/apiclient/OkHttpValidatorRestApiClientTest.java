@@ -36,6 +36,8 @@ import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -287,6 +289,44 @@ class OkHttpValidatorRestApiClientTest {
     assertThat(beaconBlock.get()).usingRecursiveComparison().isEqualTo(expectedBeaconBlock);
   }
 
+  @Test
+  public void createUnsignedBlockSsz_WhenSszResponse_ReturnsBytes() throws Exception {
+    final UInt64 slot = UInt64.ONE;
+    final BLSSignature blsSignature = schemaObjects.blsSignature();
+    final Bytes ssz = Bytes.fromHexString("0x01020304");
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", "application/octet-stream")
+            .setBody(new Buffer().write(ssz.toArrayUnsafe())));
+
+    assertThat(apiClient.createUnsignedBlockSsz(slot, blsSignature, Optional.empty()))
+        .contains(ssz);
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getPath())
+        .contains(ValidatorApiMethod.GET_UNSIGNED_BLOCK_V2.getPath(Map.of("slot", "1")));
+    assertThat(request.getHeader("Accept")).isEqualTo("application/octet-stream");
+  }
+
+  @Test
+  public void createUnsignedBlockSsz_WhenJsonResponse_ThrowsSszNotSupportedException() {
+    final UInt64 slot = UInt64.ONE;
+    final BLSSignature blsSignature = schemaObjects.blsSignature();
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                asJson(
+                    new GetNewBlockResponseV2(SpecMilestone.PHASE0, schemaObjects.beaconBlock()))));
+
+    assertThatThrownBy(() -> apiClient.createUnsignedBlockSsz(slot, blsSignature, Optional.empty()))
+        .isInstanceOf(SszNotSupportedException.class);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   public void sendSignedBlock_MakesExpectedRequest(final boolean isBlindedBlocksEnabled)
@@ -477,6 +517,48 @@ class OkHttpValidatorRestApiClientTest {
         .hasMessageContaining("Unexpected response from Beacon Node API");
   }
 
+  @Test
+  public void sendSignedAttestationsSsz_MakesExpectedRequest() throws Exception {
+    final Bytes ssz = Bytes.fromHexString("0x01020304");
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    assertThat(apiClient.sendSignedAttestationsSsz(ssz)).isEmpty();
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("POST");
+    assertThat(request.getPath())
+        .contains(ValidatorApiMethod.SEND_SIGNED_ATTESTATION.getPath(emptyMap()));
+    assertThat(request.getHeader("Content-Type")).startsWith("application/octet-stream");
+    assertThat(Bytes.wrap(request.getBody().readByteArray())).isEqualTo(ssz);
+  }
+
+  @Test
+  public void sendSignedAttestationsSsz_WhenItemsFailed_ReturnsFailures() {
+    final PostDataFailureResponse response =
+        new PostDataFailureResponse(
+            SC_BAD_REQUEST, "Computer said no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
+    mockWebServer.enqueue(
+        new MockResponse().setResponseCode(SC_BAD_REQUEST).setBody(asJson(response)));
+
+    assertThat(apiClient.sendSignedAttestationsSsz(Bytes.fromHexString("0x01")))
+        .isPresent()
+        .get()
+        .usingRecursiveComparison()
+        .isEqualTo(response);
+  }
+
+  @Test
+  public void sendSignedAttestationsSsz_WhenBodyRejected_ThrowsSszNotSupportedException() {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_BAD_REQUEST)
+            .setBody("{\"code\":400,\"message\":\"Could read request body\"}"));
+
+    assertThatThrownBy(() -> apiClient.sendSignedAttestationsSsz(Bytes.fromHexString("0x01")))
+        .isInstanceOf(SszNotSupportedException.class);
+  }
+
   @Test
   public void createAggregate_MakesExpectedRequest() throws Exception {
     final UInt64 slot = UInt64.valueOf(323);